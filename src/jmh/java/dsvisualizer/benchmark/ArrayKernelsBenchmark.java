@@ -0,0 +1,83 @@
+package dsvisualizer.benchmark;
+
+import dsvisualizer.model.ArrayKernels;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the original DynamicArray search loop with the scalar and vector kernels.
+ * Searches use a value that is absent, so every kernel scans the whole array.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Xmx2g"})
+public class ArrayKernelsBenchmark {
+
+    @Param({"1000", "100000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    private int[] data;
+    private ArrayKernels kernels;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        data = new int[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = random.nextInt(1_000_000);
+        }
+        kernels = "vector".equals(kernel) ? ArrayKernels.get() : ArrayKernels.scalar();
+        if ("vector".equals(kernel) && !ArrayKernels.isVectorized()) {
+            throw new IllegalStateException("jdk.incubator.vector is not available");
+        }
+    }
+
+    @Benchmark
+    public int searchLoop() {
+        // The loop DynamicArray.search used before the kernels
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == -1) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int search() {
+        return kernels.indexOf(data, 0, data.length, -1);
+    }
+
+    @Benchmark
+    public int count() {
+        return kernels.count(data, 0, data.length, 7);
+    }
+
+    @Benchmark
+    public int min() {
+        return kernels.min(data, 0, data.length);
+    }
+
+    @Benchmark
+    public int max() {
+        return kernels.max(data, 0, data.length);
+    }
+
+    @Benchmark
+    public long sum() {
+        return kernels.sum(data, 0, data.length);
+    }
+
+    @Benchmark
+    public int indexOfFirstGreaterThan() {
+        return kernels.indexOfFirstGreaterThan(data, 0, data.length, 1_000_000);
+    }
+}
@@ -0,0 +1,46 @@
+package dsvisualizer.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stack and Queue operations against ArrayDeque baselines. The buffer is pre-filled to size;
+ * addThenRemove keeps it there, so FIFO engines pay for their front removal at every size.
+ * Filling and draining a fresh buffer is in BufferDrainBenchmark, with smaller sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class BufferBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"Stack", "Queue", "java.util.ArrayDeque/LIFO", "java.util.ArrayDeque/FIFO"})
+    public String engine;
+
+    private Engines.Buffer buffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        buffer = Engines.buffer(engine);
+        for (int i = 0; i < size; i++) {
+            buffer.add(i);
+        }
+    }
+
+    @Benchmark
+    public int addThenRemove() {
+        buffer.add(-1);
+        return buffer.remove();
+    }
+
+    @Benchmark
+    public int peek() {
+        return buffer.peek();
+    }
+}
@@ -0,0 +1,37 @@
+package dsvisualizer.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fill a fresh buffer to size, then drain it. Queue removes from the front of an ArrayList,
+ * so a drain is O(n^2); sizes stop at 100000, where one invocation already takes seconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class BufferDrainBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"Stack", "Queue", "java.util.ArrayDeque/LIFO", "java.util.ArrayDeque/FIFO"})
+    public String engine;
+
+    @Benchmark
+    public int fillThenDrain() {
+        Engines.Buffer fresh = Engines.buffer(engine);
+        for (int i = 0; i < size; i++) {
+            fresh.add(i);
+        }
+        int checksum = 0;
+        while (fresh.size() > 0) {
+            checksum += fresh.remove();
+        }
+        return checksum;
+    }
+}
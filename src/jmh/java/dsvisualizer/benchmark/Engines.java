@@ -0,0 +1,505 @@
+package dsvisualizer.benchmark;
+
+import dsvisualizer.model.BinarySearchTree;
+import dsvisualizer.model.CompactGraph;
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.Graph;
+import dsvisualizer.model.LinkedList;
+import dsvisualizer.model.OffHeapDynamicArray;
+import dsvisualizer.model.Queue;
+import dsvisualizer.model.Stack;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Pluggable implementations for the model benchmarks. Each benchmark takes an engine name
+ * as a @Param, so any registered engine can be compared in the same run
+ * (for example -p engine=DynamicArray,MyArray). To add one, implement the matching
+ * interface and register it below; JDK collections are registered as baselines.
+ */
+public final class Engines {
+
+    /**
+     * Index-addressed int sequence (DynamicArray, LinkedList, ...).
+     */
+    public interface Sequence extends AutoCloseable {
+        void insert(int index, int value);
+
+        int delete(int index);
+
+        int get(int index);
+
+        /**
+         * Index of the first occurrence, or -1.
+         */
+        int search(int value);
+
+        int size();
+
+        /**
+         * Append values in order to an empty sequence, the cheapest way the engine allows.
+         */
+        default void fill(int[] values) {
+            for (int value : values) {
+                insert(size(), value);
+            }
+        }
+
+        @Override
+        default void close() {
+        }
+    }
+
+    /**
+     * Single-ended buffer: Stack is LIFO, Queue is FIFO.
+     */
+    public interface Buffer {
+        void add(int value);
+
+        int remove();
+
+        int peek();
+
+        int size();
+    }
+
+    /**
+     * Set of distinct int keys.
+     */
+    public interface OrderedSet {
+        /**
+         * Insert a key (false if already present).
+         */
+        boolean insert(int key);
+
+        boolean delete(int key);
+
+        boolean contains(int key);
+
+        /**
+         * Visit every key in order and return a checksum.
+         */
+        long traverse();
+    }
+
+    /**
+     * Read-mostly graph over vertices 0..n-1.
+     */
+    public interface GraphStore {
+        /**
+         * Load the undirected edges (from[i], to[i]).
+         */
+        void build(int n, int[] from, int[] to, int edgeCount);
+
+        /**
+         * Breadth-first search from source; returns the number of vertices reached.
+         */
+        int bfs(int source);
+
+        long sumNeighbors(int vertex);
+
+        boolean hasEdge(int from, int to);
+    }
+
+    private static final Map<String, Supplier<Sequence>> SEQUENCES = new LinkedHashMap<>();
+    private static final Map<String, Supplier<Buffer>> BUFFERS = new LinkedHashMap<>();
+    private static final Map<String, Supplier<OrderedSet>> SETS = new LinkedHashMap<>();
+    private static final Map<String, Supplier<GraphStore>> GRAPHS = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put("DynamicArray", () -> new ArraySequence(DynamicArray.StorageMode.CONTIGUOUS, false));
+        SEQUENCES.put("DynamicArray/gap", () -> new ArraySequence(DynamicArray.StorageMode.GAP_BUFFER, false));
+        SEQUENCES.put("DynamicArray/indexed", () -> new ArraySequence(DynamicArray.StorageMode.CONTIGUOUS, true));
+        SEQUENCES.put("OffHeapDynamicArray", OffHeapSequence::new);
+        SEQUENCES.put("LinkedList", () -> new ListSequence(false));
+        SEQUENCES.put("LinkedList/indexed", () -> new ListSequence(true));
+        SEQUENCES.put("java.util.ArrayList", JdkSequence::new);
+
+        BUFFERS.put("Stack", StackBuffer::new);
+        BUFFERS.put("Queue", QueueBuffer::new);
+        BUFFERS.put("java.util.ArrayDeque/LIFO", () -> new DequeBuffer(true));
+        BUFFERS.put("java.util.ArrayDeque/FIFO", () -> new DequeBuffer(false));
+
+        SETS.put("BinarySearchTree", TreeSetEngine::new);
+        SETS.put("java.util.TreeSet", JdkTreeSet::new);
+        SETS.put("java.util.HashSet", JdkHashSet::new);
+
+        GRAPHS.put("Graph", MapGraph::new);
+        GRAPHS.put("CompactGraph", CsrGraph::new);
+    }
+
+    private Engines() {
+    }
+
+    public static Sequence sequence(String name) {
+        return lookup(SEQUENCES, name).get();
+    }
+
+    public static Buffer buffer(String name) {
+        return lookup(BUFFERS, name).get();
+    }
+
+    public static OrderedSet orderedSet(String name) {
+        return lookup(SETS, name).get();
+    }
+
+    public static GraphStore graph(String name) {
+        return lookup(GRAPHS, name).get();
+    }
+
+    private static <T> Supplier<T> lookup(Map<String, Supplier<T>> registry, String name) {
+        Supplier<T> factory = registry.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown engine " + name + "; registered: " + registry.keySet());
+        }
+        return factory;
+    }
+
+    private static class ArraySequence implements Sequence {
+        private final DynamicArray array = new DynamicArray(16);
+
+        ArraySequence(DynamicArray.StorageMode mode, boolean indexed) {
+            array.setStorageMode(mode);
+            array.setIndexEnabled(indexed);
+        }
+
+        public void insert(int index, int value) {
+            array.insert(index, value);
+        }
+
+        public int delete(int index) {
+            return array.delete(index);
+        }
+
+        public int get(int index) {
+            return array.get(index);
+        }
+
+        public int search(int value) {
+            return array.search(value);
+        }
+
+        public int size() {
+            return array.getSize();
+        }
+    }
+
+    private static class OffHeapSequence implements Sequence {
+        private final OffHeapDynamicArray array = new OffHeapDynamicArray();
+
+        public void insert(int index, int value) {
+            array.insert(index, value);
+        }
+
+        public int delete(int index) {
+            return array.delete(index);
+        }
+
+        public int get(int index) {
+            return array.get(index);
+        }
+
+        public int search(int value) {
+            return (int) array.search(value);
+        }
+
+        public int size() {
+            return (int) array.getSize();
+        }
+
+        @Override
+        public void close() {
+            array.close();
+        }
+    }
+
+    private static class ListSequence implements Sequence {
+        private final LinkedList list = new LinkedList();
+
+        ListSequence(boolean indexed) {
+            list.setIndexEnabled(indexed);
+        }
+
+        public void insert(int index, int value) {
+            if (index == list.getSize()) {
+                list.insertTail(value);
+            } else {
+                list.insertAt(index, value);
+            }
+        }
+
+        /**
+         * Prepend in reverse: insertTail walks the whole list, so appending n values is O(n^2).
+         */
+        @Override
+        public void fill(int[] values) {
+            for (int i = values.length - 1; i >= 0; i--) {
+                list.insertHead(values[i]);
+            }
+        }
+
+        public int delete(int index) {
+            return list.deleteAt(index);
+        }
+
+        public int get(int index) {
+            return list.get(index);
+        }
+
+        public int search(int value) {
+            return list.search(value);
+        }
+
+        public int size() {
+            return list.getSize();
+        }
+    }
+
+    private static class JdkSequence implements Sequence {
+        private final ArrayList<Integer> list = new ArrayList<>();
+
+        public void insert(int index, int value) {
+            list.add(index, value);
+        }
+
+        public int delete(int index) {
+            return list.remove(index);
+        }
+
+        public int get(int index) {
+            return list.get(index);
+        }
+
+        public int search(int value) {
+            return list.indexOf(value);
+        }
+
+        public int size() {
+            return list.size();
+        }
+    }
+
+    private static class StackBuffer implements Buffer {
+        private final Stack stack = new Stack(Integer.MAX_VALUE);
+
+        public void add(int value) {
+            stack.push(value);
+        }
+
+        public int remove() {
+            return stack.pop();
+        }
+
+        public int peek() {
+            return stack.peek();
+        }
+
+        public int size() {
+            return stack.getSize();
+        }
+    }
+
+    private static class QueueBuffer implements Buffer {
+        private final Queue queue = new Queue(Integer.MAX_VALUE);
+
+        public void add(int value) {
+            queue.enqueue(value);
+        }
+
+        public int remove() {
+            return queue.dequeue();
+        }
+
+        public int peek() {
+            return queue.peek();
+        }
+
+        public int size() {
+            return queue.getSize();
+        }
+    }
+
+    private static class DequeBuffer implements Buffer {
+        private final ArrayDeque<Integer> deque = new ArrayDeque<>();
+        private final boolean lifo;
+
+        DequeBuffer(boolean lifo) {
+            this.lifo = lifo;
+        }
+
+        public void add(int value) {
+            deque.addLast(value);
+        }
+
+        public int remove() {
+            return lifo ? deque.removeLast() : deque.removeFirst();
+        }
+
+        public int peek() {
+            return lifo ? deque.peekLast() : deque.peekFirst();
+        }
+
+        public int size() {
+            return deque.size();
+        }
+    }
+
+    private static class TreeSetEngine implements OrderedSet {
+        private final BinarySearchTree tree = new BinarySearchTree();
+
+        public boolean insert(int key) {
+            if (tree.search(key) != null) {
+                return false;
+            }
+            return tree.insert(key);
+        }
+
+        public boolean delete(int key) {
+            return tree.delete(key);
+        }
+
+        public boolean contains(int key) {
+            return tree.search(key) != null;
+        }
+
+        public long traverse() {
+            long checksum = 0;
+            for (int key : tree.inorderTraversal()) {
+                checksum += key;
+            }
+            return checksum;
+        }
+    }
+
+    private static class JdkTreeSet implements OrderedSet {
+        private final TreeSet<Integer> set = new TreeSet<>();
+
+        public boolean insert(int key) {
+            return set.add(key);
+        }
+
+        public boolean delete(int key) {
+            return set.remove(key);
+        }
+
+        public boolean contains(int key) {
+            return set.contains(key);
+        }
+
+        public long traverse() {
+            long checksum = 0;
+            for (int key : set) {
+                checksum += key;
+            }
+            return checksum;
+        }
+    }
+
+    private static class JdkHashSet implements OrderedSet {
+        private final HashSet<Integer> set = new HashSet<>();
+
+        public boolean insert(int key) {
+            return set.add(key);
+        }
+
+        public boolean delete(int key) {
+            return set.remove(key);
+        }
+
+        public boolean contains(int key) {
+            return set.contains(key);
+        }
+
+        public long traverse() {
+            // Unordered; included as the no-ordering baseline
+            long checksum = 0;
+            for (int key : set) {
+                checksum += key;
+            }
+            return checksum;
+        }
+    }
+
+    private static class MapGraph implements GraphStore {
+        private Graph graph;
+
+        public void build(int n, int[] from, int[] to, int edgeCount) {
+            graph = new Graph(false);
+            for (int v = 0; v < n; v++) {
+                graph.addVertex(v);
+            }
+            for (int e = 0; e < edgeCount; e++) {
+                graph.addEdge(from[e], to[e]);
+            }
+        }
+
+        public int bfs(int source) {
+            return graph.bfs(source).size();
+        }
+
+        public long sumNeighbors(int vertex) {
+            long[] sum = new long[1];
+            graph.forEachNeighbor(vertex, neighbor -> sum[0] += neighbor);
+            return sum[0];
+        }
+
+        public boolean hasEdge(int from, int to) {
+            return graph.hasEdge(from, to);
+        }
+    }
+
+    private static class CsrGraph implements GraphStore {
+        private CompactGraph graph;
+        private int[] queue;
+        private boolean[] visited;
+
+        public void build(int n, int[] from, int[] to, int edgeCount) {
+            graph = CompactGraph.fromEdges(n, from, to, null, edgeCount, false);
+            queue = new int[n];
+            visited = new boolean[n];
+        }
+
+        public int bfs(int source) {
+            Arrays.fill(visited, false);
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = source;
+            visited[source] = true;
+            while (head < tail) {
+                int v = queue[head++];
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    int w = graph.target(e);
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+            return tail;
+        }
+
+        public long sumNeighbors(int vertex) {
+            long sum = 0;
+            for (int e = graph.firstEdge(vertex); e < graph.endEdge(vertex); e++) {
+                sum += graph.target(e);
+            }
+            return sum;
+        }
+
+        public boolean hasEdge(int from, int to) {
+            for (int e = graph.firstEdge(from); e < graph.endEdge(from); e++) {
+                if (graph.target(e) == to) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package dsvisualizer.benchmark;
+
+import dsvisualizer.algorithm.FootprintAnalysis;
+import dsvisualizer.model.BinarySearchTree;
+import dsvisualizer.model.CompactGraph;
+import dsvisualizer.model.DaryHeap;
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.Graph;
+import dsvisualizer.model.IntHashTable;
+import dsvisualizer.model.LinkedList;
+import dsvisualizer.model.Queue;
+import dsvisualizer.model.Stack;
+import dsvisualizer.model.UnionFind;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+/**
+ * Checks the MemoryLayout-based footprint estimates against JOL's measured retained size.
+ *
+ * Builds every model, and the JDK collections FootprintAnalysis uses as alternatives, with
+ * the same shuffled keys, then compares estimate and JOL graph size. Keys start above the
+ * Integer cache so no boxes are shared. Exits with status 1 if any estimate is off by more
+ * than the tolerance (2% by default, or the first argument in percent).
+ */
+public final class FootprintValidation {
+    private static final int SIZE = 10_000;
+    private static final int KEY_OFFSET = 1_000;
+
+    private static double tolerance = 2.0;
+    private static boolean failed;
+
+    private FootprintValidation() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            tolerance = Double.parseDouble(args[0]);
+        }
+        int[] keys = shuffledKeys(SIZE);
+
+        DynamicArray array = new DynamicArray(16);
+        Stack stack = new Stack(SIZE);
+        Queue queue = new Queue(SIZE);
+        DaryHeap heap = new DaryHeap(2, true, 16);
+        IntHashTable table = new IntHashTable(IntHashTable.ProbingMode.ROBIN_HOOD, 16);
+        LinkedList list = new LinkedList();
+        BinarySearchTree tree = new BinarySearchTree();
+        UnionFind forest = new UnionFind();
+        Graph graph = new Graph(false);
+        ArrayList<Integer> arrayList = new ArrayList<>();
+        java.util.LinkedList<Integer> linkedList = new java.util.LinkedList<>();
+        TreeSet<Integer> treeSet = new TreeSet<>();
+        PriorityQueue<Integer> priorityQueue = new PriorityQueue<>();
+        HashMap<Integer, Integer> hashMap = new HashMap<>();
+        for (int key : keys) {
+            array.insert(array.getSize(), key);
+            stack.push(key);
+            queue.enqueue(key);
+            heap.insert(key);
+            table.put(key, key);
+            list.insertHead(key);
+            tree.insert(key);
+            forest.makeSet(key);
+            graph.addVertex(key);
+            arrayList.add(key);
+            linkedList.add(key);
+            treeSet.add(key);
+            priorityQueue.add(key);
+            hashMap.put(key, key);
+        }
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 2 * SIZE; i++) {
+            graph.addEdge(keys[random.nextInt(SIZE)], keys[random.nextInt(SIZE)], random.nextDouble());
+        }
+        CompactGraph compact = CompactGraph.fromGraph(graph);
+
+        System.out.printf(Locale.ROOT, "%-34s %12s %12s %8s%n", "Structure", "Estimate", "JOL", "Error");
+        check("DynamicArray", array.getMemoryFootprintBytes(), array);
+        check("Stack", stack.getMemoryFootprintBytes(), stack);
+        check("Queue", queue.getMemoryFootprintBytes(), queue);
+        check("DaryHeap", heap.getMemoryFootprintBytes(), heap);
+        check("IntHashTable", table.getMemoryFootprintBytes(), table);
+        check("LinkedList", list.getMemoryFootprintBytes(), list);
+        check("BinarySearchTree", tree.getMemoryFootprintBytes(), tree);
+        check("UnionFind", forest.getMemoryFootprintBytes(), forest);
+        check("Graph", graph.getMemoryFootprintBytes(), graph);
+        check("CompactGraph", compact.getMemoryFootprintBytes(), compact);
+        check("ArrayList<Integer>", alternative(FootprintAnalysis.of(array), "ArrayList<Integer>"), arrayList);
+        check("java.util.LinkedList<Integer>", alternative(FootprintAnalysis.of(list), "java.util.LinkedList<Integer>"), linkedList);
+        check("TreeSet<Integer>", alternative(FootprintAnalysis.of(tree), "TreeSet<Integer>"), treeSet);
+        check("PriorityQueue<Integer>", alternative(FootprintAnalysis.of(heap), "PriorityQueue<Integer>"), priorityQueue);
+        check("HashMap<Integer, Integer>", alternative(FootprintAnalysis.of(table), "HashMap<Integer, Integer>"), hashMap);
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    private static void check(String name, long estimate, Object root) {
+        long measured = GraphLayout.parseInstance(root).totalSize();
+        double error = 100.0 * (estimate - measured) / measured;
+        boolean ok = Math.abs(error) <= tolerance;
+        failed |= !ok;
+        System.out.printf(Locale.ROOT, "%-34s %12d %12d %7.2f%%%s%n", name, estimate, measured, error, ok ? "" : "  FAIL");
+    }
+
+    private static long alternative(FootprintAnalysis analysis, String engine) {
+        for (FootprintAnalysis.Engine candidate : analysis.getEngines()) {
+            if (candidate.getName().equals(engine)) {
+                return candidate.getBytes();
+            }
+        }
+        throw new IllegalArgumentException("No engine " + engine);
+    }
+
+    private static int[] shuffledKeys(int n) {
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = KEY_OFFSET + i;
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+        return keys;
+    }
+}
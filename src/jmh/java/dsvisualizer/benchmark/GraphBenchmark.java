@@ -0,0 +1,87 @@
+package dsvisualizer.benchmark;
+
+import dsvisualizer.generator.GraphGenerators;
+import dsvisualizer.model.CompactGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The editable Graph against the CompactGraph CSR layout on a seeded Erdős–Rényi graph
+ * with average degree 4: construction, full BFS, neighbor scans and edge lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class GraphBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int vertices;
+
+    @Param({"Graph", "CompactGraph"})
+    public String engine;
+
+    private int[] from;
+    private int[] to;
+    private int edgeCount;
+    private Engines.GraphStore graph;
+    private int[] probes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        double p = Math.min(1.0, 4.0 / Math.max(1, vertices - 1));
+        CompactGraph source = GraphGenerators.erdosRenyi(vertices, p, false, 42);
+        // Each undirected edge once (u < v)
+        from = new int[source.getEdgeCount() / 2];
+        to = new int[from.length];
+        for (int v = 0; v < vertices; v++) {
+            for (int e = source.firstEdge(v); e < source.endEdge(v); e++) {
+                if (v < source.target(e)) {
+                    from[edgeCount] = v;
+                    to[edgeCount] = source.target(e);
+                    edgeCount++;
+                }
+            }
+        }
+        graph = Engines.graph(engine);
+        graph.build(vertices, from, to, edgeCount);
+
+        SplittableRandom random = new SplittableRandom(7);
+        probes = new int[1024];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = random.nextInt(vertices);
+        }
+    }
+
+    private int probe() {
+        next = (next + 1) & (probes.length - 1);
+        return probes[next];
+    }
+
+    @Benchmark
+    public Engines.GraphStore build() {
+        Engines.GraphStore fresh = Engines.graph(engine);
+        fresh.build(vertices, from, to, edgeCount);
+        return fresh;
+    }
+
+    @Benchmark
+    public int bfs() {
+        return graph.bfs(0);
+    }
+
+    @Benchmark
+    public long sumNeighbors() {
+        return graph.sumNeighbors(probe());
+    }
+
+    @Benchmark
+    public boolean hasEdge() {
+        return graph.hasEdge(probe(), probe());
+    }
+}
@@ -0,0 +1,77 @@
+package dsvisualizer.benchmark;
+
+import dsvisualizer.model.DaryHeap;
+import dsvisualizer.model.IndexedHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares heap arity d = 2, 4 and 8: insert/extract cycles, bottom-up heapify,
+ * and a Dijkstra-like decrease-key workload on the indexed heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class HeapBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"2", "4", "8"})
+    public int arity;
+
+    private int[] values;
+    private double[] decreasedKeys;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        values = new int[size];
+        decreasedKeys = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+            decreasedKeys[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public long insertThenExtractAll() {
+        DaryHeap heap = new DaryHeap(arity, true, size);
+        for (int value : values) {
+            heap.insert(value);
+        }
+        long checksum = 0;
+        while (!heap.isEmpty()) {
+            checksum += heap.extract();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public int heapify() {
+        DaryHeap heap = new DaryHeap(arity, true, size);
+        heap.heapify(values);
+        return heap.peek();
+    }
+
+    @Benchmark
+    public long indexedDecreaseKey() {
+        IndexedHeap heap = new IndexedHeap(size, arity);
+        for (int i = 0; i < size; i++) {
+            heap.insert(i, 1.0 + decreasedKeys[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            heap.decreaseKey(i, decreasedKeys[i]);
+        }
+        long checksum = 0;
+        while (!heap.isEmpty()) {
+            checksum += heap.extractMin();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,56 @@
+package dsvisualizer.benchmark;
+
+import dsvisualizer.algorithm.MinimumSpanningTree;
+import dsvisualizer.algorithm.SpanningForest;
+import dsvisualizer.model.CompactGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kruskal vs Prim vs parallel Borůvka on random sparse graphs (average degree 20)
+ * with uniform random weights.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class MstBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int edges;
+
+    @Param({"KRUSKAL", "PRIM", "BORUVKA"})
+    public String algorithm;
+
+    private CompactGraph graph;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        int vertices = Math.max(2, edges / 10);
+        int[] from = new int[edges];
+        int[] to = new int[edges];
+        double[] weight = new double[edges];
+        for (int e = 0; e < edges; e++) {
+            from[e] = random.nextInt(vertices);
+            to[e] = random.nextInt(vertices);
+            weight[e] = random.nextDouble();
+        }
+        graph = CompactGraph.fromEdges(vertices, from, to, weight, edges, false);
+    }
+
+    @Benchmark
+    public double minimumSpanningForest() {
+        SpanningForest forest;
+        switch (algorithm) {
+            case "PRIM": forest = MinimumSpanningTree.prim(graph); break;
+            case "BORUVKA": forest = MinimumSpanningTree.boruvka(graph); break;
+            default: forest = MinimumSpanningTree.kruskal(graph);
+        }
+        return forest.getTotalWeight();
+    }
+}
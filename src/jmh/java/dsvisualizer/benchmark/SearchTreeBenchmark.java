@@ -0,0 +1,95 @@
+package dsvisualizer.benchmark;
+
+import dsvisualizer.generator.KeyDistribution;
+import dsvisualizer.generator.OperationMix;
+import dsvisualizer.generator.Workload;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BinarySearchTree operations against TreeSet and HashSet. The set holds the even keys
+ * 0, 2, ..., 2(size - 1) inserted in random order (a random-shaped tree); probes follow
+ * the lookup distribution, so ZIPF concentrates on a few hot keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-Xss64m"})
+public class SearchTreeBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"BinarySearchTree", "java.util.TreeSet", "java.util.HashSet"})
+    public String engine;
+
+    @Param({"UNIFORM", "ZIPF"})
+    public String lookup;
+
+    private Engines.OrderedSet set;
+    private int[] shuffled;
+    private int[] probes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        shuffled = new int[size];
+        for (int i = 0; i < size; i++) {
+            shuffled[i] = 2 * i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = tmp;
+        }
+        set = Engines.orderedSet(engine);
+        for (int key : shuffled) {
+            set.insert(key);
+        }
+        // Probe ranks map to even keys; a miss probes the odd key just above
+        probes = new Workload(KeyDistribution.valueOf(lookup), size, OperationMix.INSERT_ONLY, 7)
+            .keys(4096).map(rank -> 2 * rank).toArray();
+    }
+
+    private int probe() {
+        next = (next + 1) & (probes.length - 1);
+        return probes[next];
+    }
+
+    @Benchmark
+    public boolean searchHit() {
+        return set.contains(probe());
+    }
+
+    @Benchmark
+    public boolean searchMiss() {
+        return set.contains(probe() + 1);
+    }
+
+    @Benchmark
+    public boolean insertThenDelete() {
+        int key = probe() + 1;
+        set.insert(key);
+        return set.delete(key);
+    }
+
+    @Benchmark
+    public long inorderTraversal() {
+        return set.traverse();
+    }
+
+    @Benchmark
+    public Engines.OrderedSet buildRandomOrder() {
+        Engines.OrderedSet fresh = Engines.orderedSet(engine);
+        for (int key : shuffled) {
+            fresh.insert(key);
+        }
+        return fresh;
+    }
+}
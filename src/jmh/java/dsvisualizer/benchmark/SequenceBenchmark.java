@@ -0,0 +1,105 @@
+package dsvisualizer.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every Engines.Sequence operation on a pre-filled sequence. Mutating benchmarks insert and
+ * then delete, so the size stays fixed across invocations. buildByAppend measures a fresh
+ * sequence from empty, including growth and allocation (see the gc profiler columns).
+ * Both fill through Engines.Sequence.fill, so linked lists are built by prepending in
+ * reverse; appending to them walks the list and would not finish at 10M elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class SequenceBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"DynamicArray", "DynamicArray/gap", "DynamicArray/indexed", "OffHeapDynamicArray",
+        "LinkedList", "LinkedList/indexed", "java.util.ArrayList"})
+    public String engine;
+
+    private Engines.Sequence sequence;
+    private int[] ascending;
+    private int[] probes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sequence = Engines.sequence(engine);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = 2 * i;
+        }
+        // Even values are present, odd values are misses
+        sequence.fill(values);
+        SplittableRandom random = new SplittableRandom(42);
+        ascending = new int[size];
+        for (int i = 0; i < size; i++) {
+            ascending[i] = i;
+        }
+        probes = new int[1024];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = random.nextInt(size);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sequence.close();
+    }
+
+    private int probe() {
+        next = (next + 1) & (probes.length - 1);
+        return probes[next];
+    }
+
+    @Benchmark
+    public int appendThenRemoveLast() {
+        sequence.insert(size, -1);
+        return sequence.delete(size);
+    }
+
+    @Benchmark
+    public int insertThenDeleteFront() {
+        sequence.insert(0, -1);
+        return sequence.delete(0);
+    }
+
+    @Benchmark
+    public int insertThenDeleteMiddle() {
+        sequence.insert(size / 2, -1);
+        return sequence.delete(size / 2);
+    }
+
+    @Benchmark
+    public int getRandom() {
+        return sequence.get(probe());
+    }
+
+    @Benchmark
+    public int searchHit() {
+        return sequence.search(2 * probe());
+    }
+
+    @Benchmark
+    public int searchMiss() {
+        return sequence.search(2 * probe() + 1);
+    }
+
+    @Benchmark
+    public int buildByAppend() {
+        try (Engines.Sequence fresh = Engines.sequence(engine)) {
+            fresh.fill(ascending);
+            return fresh.size();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package dsvisualizer.benchmark;
+
+import dsvisualizer.algorithm.SortAlgorithm;
+import dsvisualizer.algorithm.SortEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the uninstrumented SortEngine paths with Arrays.sort and Arrays.parallelSort.
+ * Every invocation sorts a fresh copy of the same random input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class SortBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    // SortAlgorithm names, plus the JDK baselines
+    @Param({"DUAL_PIVOT_QUICK", "BOTTOM_UP_MERGE", "LSD_RADIX", "PARALLEL_MERGE",
+            "ARRAYS_SORT", "ARRAYS_PARALLEL_SORT"})
+    public String algorithm;
+
+    private int[] input;
+    private int[] work;
+    private SortAlgorithm sortAlgorithm;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        input = new int[size];
+        for (int i = 0; i < size; i++) {
+            input[i] = random.nextInt();
+        }
+        work = new int[size];
+        sortAlgorithm = algorithm.startsWith("ARRAYS_") ? null : SortAlgorithm.valueOf(algorithm);
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        System.arraycopy(input, 0, work, 0, size);
+    }
+
+    @Benchmark
+    public int[] sort() {
+        if (sortAlgorithm != null) {
+            SortEngine.sortFast(work, 0, size, sortAlgorithm);
+        } else if ("ARRAYS_SORT".equals(algorithm)) {
+            Arrays.sort(work);
+        } else {
+            Arrays.parallelSort(work);
+        }
+        return work;
+    }
+}
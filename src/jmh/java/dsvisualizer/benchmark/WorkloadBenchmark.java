@@ -0,0 +1,60 @@
+package dsvisualizer.benchmark;
+
+import dsvisualizer.generator.KeyDistribution;
+import dsvisualizer.generator.OperationMix;
+import dsvisualizer.generator.Workload;
+import dsvisualizer.generator.WorkloadDriver;
+import dsvisualizer.model.BinarySearchTree;
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.LinkedList;
+import dsvisualizer.model.Queue;
+import dsvisualizer.model.Stack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a seeded Workload of 4 x keySpace operations on a fresh structure per invocation,
+ * showing how key order and operation mix change cost (sorted and zig-zag keys degenerate
+ * the BST). Operations are generated once per trial and are not part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Xss64m"})
+public class WorkloadBenchmark {
+
+    @Param({"1000", "10000"})
+    public int keySpace;
+
+    @Param({"UNIFORM", "ZIPF", "SORTED", "REVERSE_SORTED", "SAWTOOTH", "BST_ADVERSARIAL"})
+    public String distribution;
+
+    @Param({"50/0/50", "45/45/10", "5/5/90"})
+    public String mix;
+
+    @Param({"BinarySearchTree", "DynamicArray", "LinkedList", "Stack", "Queue"})
+    public String structure;
+
+    private long[] operations;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Workload workload = new Workload(KeyDistribution.valueOf(distribution), keySpace, OperationMix.parse(mix), 42);
+        operations = workload.operations(4L * keySpace).toArray();
+    }
+
+    @Benchmark
+    public long replay() {
+        switch (structure) {
+            case "BinarySearchTree": return WorkloadDriver.run(new BinarySearchTree(), operations);
+            case "DynamicArray": return WorkloadDriver.run(new DynamicArray(16), operations);
+            case "LinkedList": return WorkloadDriver.run(new LinkedList(), operations);
+            case "Stack": return WorkloadDriver.run(new Stack(Integer.MAX_VALUE), operations);
+            case "Queue": return WorkloadDriver.run(new Queue(Integer.MAX_VALUE), operations);
+            default: throw new IllegalArgumentException("Unknown structure: " + structure);
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package dsvisualizer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.layout.*;
 import javafx.scene.control.ScrollPane;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import javafx.stage.Screen;
+import dsvisualizer.algorithm.FootprintAnalysis;
 import dsvisualizer.controller.*;
+import dsvisualizer.generator.LoadBurst;
+import dsvisualizer.metrics.FlightRecording;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.StructureMonitor;
+import dsvisualizer.model.CostCounters;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.LayoutUtil;
+import dsvisualizer.view.ComplexityView;
 import dsvisualizer.view.ControlPanel;
+import dsvisualizer.view.FootprintView;
 import dsvisualizer.view.StatusPanel;
 
+import java.io.File;
+import java.io.IOException;
+
 public class Main extends Application {
+    private Stage primaryStage;
     private ControlPanel controlPanel;
     private StatusPanel statusPanel;
     private ScrollPane scrollPane;
@@ -20,12 +34,19 @@ public class Main extends Application {
     private ArrayController arrayController;
     private StackController stackController;
     private QueueController queueController;
+    private HeapController heapController;
+    private HashTableController hashTableController;
     private LinkedListController linkedListController;
     private BSTController bstController;
     private GraphController graphController;
+    private UnionFindController unionFindController;
+    private Stage complexityStage;
+    private Stage footprintStage;
+    private FootprintView footprintView;
 
     @Override
     public void start(Stage primaryStage) {
+        this.primaryStage = primaryStage;
         try {
             controlPanel = new ControlPanel();
             statusPanel = new StatusPanel();
@@ -42,9 +63,12 @@ public class Main extends Application {
             arrayController = new ArrayController(visualizationArea, controlPanel, statusPanel);
             stackController = new StackController(visualizationArea, controlPanel, statusPanel);
             queueController = new QueueController(visualizationArea, controlPanel, statusPanel);
+            heapController = new HeapController(visualizationArea, controlPanel, statusPanel);
+            hashTableController = new HashTableController(visualizationArea, controlPanel, statusPanel);
             linkedListController = new LinkedListController(visualizationArea, controlPanel, statusPanel);
             bstController = new BSTController(visualizationArea, controlPanel, statusPanel);
             graphController = new GraphController(visualizationArea, controlPanel, statusPanel);
+            unionFindController = new UnionFindController(visualizationArea, controlPanel, statusPanel);
             BorderPane root = new BorderPane();
             root.setStyle("-fx-background-color: #FAFAFA;");
             root.setTop(controlPanel);
@@ -73,11 +97,35 @@ public class Main extends Application {
         controlPanel.getDeleteButton().setOnAction(e -> handleDeleteAction());
         controlPanel.getSearchButton().setOnAction(e -> handleSearchAction());
         controlPanel.getResetButton().setOnAction(e -> handleResetAction());
+        controlPanel.getSaveItem().setOnAction(e -> handleSaveAction());
+        controlPanel.getLoadItem().setOnAction(e -> handleLoadAction());
+        controlPanel.setOnOperation(this::handleOperation);
+        controlPanel.getComplexityItem().setOnAction(e -> handleComplexityAction());
+        controlPanel.getFootprintItem().setOnAction(e -> handleFootprintAction());
+        statusPanel.getExportMetricsButton().setOnAction(e -> handleExportMetricsAction());
+        statusPanel.getRecordingButton().setOnAction(e -> handleRecordingToggle());
+        statusPanel.getDumpRecordingButton().setOnAction(e -> handleDumpRecordingAction());
+        for (String ds : controlPanel.getDataStructureSelector().getItems()) {
+            StructureMonitor.of(ds).setLoadGenerator((operations, latency) ->
+                LoadBurst.run(ds, operations, System.nanoTime(), latency));
+            StructureMonitor.of(ds).setErrorListener(message ->
+                Platform.runLater(() -> statusPanel.setError(message)));
+        }
+        OperationMetrics.setActiveStructure(controlPanel.getSelectedDataStructure());
+        if (Boolean.getBoolean("dsvisualizer.jfr")) {
+            statusPanel.getRecordingButton().setSelected(true);
+            handleRecordingToggle();
+        }
+        updateOperations(controlPanel.getSelectedDataStructure());
+        updateStructureStats(controlPanel.getSelectedDataStructure());
     }
 
     private void switchDataStructure() {
         String selectedDS = controlPanel.getSelectedDataStructure();
         visualizationArea.getChildren().clear();
+        statusPanel.setMetrics("");
+        statusPanel.setCost("");
+        OperationMetrics.setActiveStructure(selectedDS);
         switch (selectedDS) {
             case "Array":
                 arrayController = new ArrayController(visualizationArea, controlPanel, statusPanel);
@@ -94,6 +142,16 @@ public class Main extends Application {
                 statusPanel.setOperationLabel("Queue");
                 statusPanel.setExplanation("Enqueue, Dequeue, Peek");
                 break;
+            case "Heap":
+                heapController = new HeapController(visualizationArea, controlPanel, statusPanel);
+                statusPanel.setOperationLabel("Heap");
+                statusPanel.setExplanation("Insert, Extract, Peek");
+                break;
+            case "Hash Table":
+                hashTableController = new HashTableController(visualizationArea, controlPanel, statusPanel);
+                statusPanel.setOperationLabel("Hash Table");
+                statusPanel.setExplanation("Insert, Delete, Search");
+                break;
             case "Linked List":
                 linkedListController = new LinkedListController(visualizationArea, controlPanel, statusPanel);
                 statusPanel.setOperationLabel("Linked List");
@@ -109,7 +167,14 @@ public class Main extends Application {
                 statusPanel.setOperationLabel("Graph");
                 statusPanel.setExplanation("Add Vertex, Add Edge, BFS, DFS");
                 break;
+            case "Union-Find":
+                unionFindController = new UnionFindController(visualizationArea, controlPanel, statusPanel);
+                statusPanel.setOperationLabel("Union-Find");
+                statusPanel.setExplanation("Make Set, Union, Find");
+                break;
         }
+        updateOperations(selectedDS);
+        updateStructureStats(selectedDS);
         controlPanel.setStatusMessage("Switched to " + selectedDS);
         controlPanel.clearInput();
     }
@@ -119,12 +184,15 @@ public class Main extends Application {
         String input = controlPanel.getInputValue();
         double speed = controlPanel.getSpeed();
         switch (ds) {
-            case "Array": arrayController.setAnimationSpeed(speed); arrayController.insert(input); break;
-            case "Stack": stackController.setAnimationSpeed(speed); stackController.push(input); break;
-            case "Queue": queueController.setAnimationSpeed(speed); queueController.enqueue(input); break;
-            case "Linked List": linkedListController.setAnimationSpeed(speed); linkedListController.insertHead(input); break;
-            case "BST": bstController.setAnimationSpeed(speed); bstController.insert(input); break;
-            case "Graph": graphController.setAnimationSpeed(speed); graphController.addVertex(input); break;
+            case "Array": arrayController.setAnimationSpeed(speed); measure(ds, "Insert", () -> arrayController.insert(input)); break;
+            case "Stack": stackController.setAnimationSpeed(speed); measure(ds, "Push", () -> stackController.push(input)); break;
+            case "Queue": queueController.setAnimationSpeed(speed); measure(ds, "Enqueue", () -> queueController.enqueue(input)); break;
+            case "Heap": heapController.setAnimationSpeed(speed); measure(ds, "Insert", () -> heapController.insert(input)); break;
+            case "Hash Table": hashTableController.setAnimationSpeed(speed); measure(ds, "Insert", () -> hashTableController.insert(input)); break;
+            case "Linked List": linkedListController.setAnimationSpeed(speed); measure(ds, "Insert Head", () -> linkedListController.insertHead(input)); break;
+            case "BST": bstController.setAnimationSpeed(speed); measure(ds, "Insert", () -> bstController.insert(input)); break;
+            case "Graph": graphController.setAnimationSpeed(speed); measure(ds, "Add Vertex", () -> graphController.addVertex(input)); break;
+            case "Union-Find": unionFindController.setAnimationSpeed(speed); measure(ds, "Make Set", () -> unionFindController.makeSet(input)); break;
         }
     }
 
@@ -133,12 +201,15 @@ public class Main extends Application {
         String input = controlPanel.getInputValue();
         double speed = controlPanel.getSpeed();
         switch (ds) {
-            case "Array": arrayController.setAnimationSpeed(speed); arrayController.delete(input); break;
-            case "Stack": stackController.setAnimationSpeed(speed); stackController.pop(); break;
-            case "Queue": queueController.setAnimationSpeed(speed); queueController.dequeue(); break;
-            case "Linked List": linkedListController.setAnimationSpeed(speed); linkedListController.deleteHead(); break;
-            case "BST": bstController.setAnimationSpeed(speed); bstController.delete(input); break;
-            case "Graph": graphController.setAnimationSpeed(speed); graphController.addEdge(input); break;
+            case "Array": arrayController.setAnimationSpeed(speed); measure(ds, "Delete", () -> arrayController.delete(input)); break;
+            case "Stack": stackController.setAnimationSpeed(speed); measure(ds, "Pop", stackController::pop); break;
+            case "Queue": queueController.setAnimationSpeed(speed); measure(ds, "Dequeue", queueController::dequeue); break;
+            case "Heap": heapController.setAnimationSpeed(speed); measure(ds, "Extract", heapController::extract); break;
+            case "Hash Table": hashTableController.setAnimationSpeed(speed); measure(ds, "Delete", () -> hashTableController.delete(input)); break;
+            case "Linked List": linkedListController.setAnimationSpeed(speed); measure(ds, "Delete Head", linkedListController::deleteHead); break;
+            case "BST": bstController.setAnimationSpeed(speed); measure(ds, "Delete", () -> bstController.delete(input)); break;
+            case "Graph": graphController.setAnimationSpeed(speed); measure(ds, "Add Edge", () -> graphController.addEdge(input)); break;
+            case "Union-Find": unionFindController.setAnimationSpeed(speed); measure(ds, "Union", () -> unionFindController.union(input)); break;
         }
     }
 
@@ -147,12 +218,215 @@ public class Main extends Application {
         String input = controlPanel.getInputValue();
         double speed = controlPanel.getSpeed();
         switch (ds) {
-            case "Array": arrayController.setAnimationSpeed(speed); arrayController.search(input); break;
-            case "Stack": stackController.setAnimationSpeed(speed); stackController.peek(); break;
-            case "Queue": queueController.setAnimationSpeed(speed); queueController.peek(); break;
-            case "Linked List": linkedListController.setAnimationSpeed(speed); linkedListController.search(input); break;
-            case "BST": bstController.setAnimationSpeed(speed); bstController.search(input); break;
-            case "Graph": graphController.setAnimationSpeed(speed); graphController.bfs(input); break;
+            case "Array": arrayController.setAnimationSpeed(speed); arrayController.setSearchIndexEnabled(controlPanel.isSearchIndexEnabled()); measure(ds, "Search", () -> arrayController.search(input)); break;
+            case "Stack": stackController.setAnimationSpeed(speed); measure(ds, "Peek", stackController::peek); break;
+            case "Queue": queueController.setAnimationSpeed(speed); measure(ds, "Peek", queueController::peek); break;
+            case "Heap": heapController.setAnimationSpeed(speed); measure(ds, "Peek", heapController::peek); break;
+            case "Hash Table": hashTableController.setAnimationSpeed(speed); measure(ds, "Search", () -> hashTableController.search(input)); break;
+            case "Linked List": linkedListController.setAnimationSpeed(speed); linkedListController.setSearchIndexEnabled(controlPanel.isSearchIndexEnabled()); measure(ds, "Search", () -> linkedListController.search(input)); break;
+            case "BST": bstController.setAnimationSpeed(speed); measure(ds, "Search", () -> bstController.search(input)); break;
+            case "Graph": graphController.setAnimationSpeed(speed); measure(ds, "BFS", () -> graphController.bfs(input)); break;
+            case "Union-Find": unionFindController.setAnimationSpeed(speed); measure(ds, "Find", () -> unionFindController.find(input)); break;
+        }
+    }
+
+    private void updateOperations(String ds) {
+        switch (ds) {
+            case "Array": controlPanel.setOperations(ArrayController.OPERATIONS); break;
+            case "Heap": controlPanel.setOperations(HeapController.OPERATIONS); break;
+            case "Hash Table": controlPanel.setOperations(HashTableController.OPERATIONS); break;
+            case "Graph": controlPanel.setOperations(GraphController.OPERATIONS); break;
+            case "Union-Find": controlPanel.setOperations(UnionFindController.OPERATIONS); break;
+            default: controlPanel.setOperations(); break;
+        }
+    }
+
+    private void handleOperation(String operation) {
+        String ds = controlPanel.getSelectedDataStructure();
+        String input = controlPanel.getInputValue();
+        double speed = controlPanel.getSpeed();
+        switch (ds) {
+            case "Array":
+                arrayController.setAnimationSpeed(speed);
+                if (operation.equals(ArrayController.OP_EXTERNAL_SORT)) {
+                    handleExternalSortAction();
+                } else {
+                    measure(ds, operation, () -> arrayController.runOperation(operation, input));
+                }
+                break;
+            case "Heap": heapController.setAnimationSpeed(speed); measure(ds, operation, () -> heapController.runOperation(operation, input)); break;
+            case "Hash Table": hashTableController.setAnimationSpeed(speed); measure(ds, operation, () -> hashTableController.runOperation(operation, input)); break;
+            case "Graph":
+                graphController.setAnimationSpeed(speed);
+                if (operation.equals(GraphController.OP_IMPORT)) {
+                    handleGraphImportAction();
+                } else {
+                    measure(ds, operation, () -> graphController.runOperation(operation, input));
+                }
+                break;
+            case "Union-Find": unionFindController.setAnimationSpeed(speed); measure(ds, operation, () -> unionFindController.runOperation(operation, input)); break;
+        }
+    }
+
+    private void handleExternalSortAction() {
+        File input = createFileChooser("Array file to sort").showOpenDialog(primaryStage);
+        if (input == null) {
+            return;
+        }
+        File output = createFileChooser("Save sorted array").showSaveDialog(primaryStage);
+        if (output == null) {
+            return;
+        }
+        if (output.equals(input)) {
+            controlPanel.setStatusMessageWarning("Choose a different output file");
+            return;
+        }
+        arrayController.externalSort(input, output);
+    }
+
+    private void handleGraphImportAction() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Import graph");
+        chooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("Graph files (*.txt, *.el, *.gr, *.mtx)", "*.txt", "*.el", "*.edges", "*.gr", "*.mtx"),
+            new FileChooser.ExtensionFilter("All files", "*.*")
+        );
+        File file = chooser.showOpenDialog(primaryStage);
+        if (file != null) {
+            graphController.importGraph(file);
+        }
+    }
+
+    /**
+     * Time a user operation into the latency histograms shown in the status panel.
+     */
+    private void measure(String ds, String operation, Runnable action) {
+        long[] costsBefore = CostCounters.ENABLED ? CostCounters.snapshot() : null;
+        OperationMetrics.measure(ds, operation, visualizationArea, () -> structureSize(ds), action);
+        if (costsBefore != null) {
+            statusPanel.setCost("Measured cost: " + CostCounters.describe(costsBefore, CostCounters.snapshot()));
+        }
+        updateStructureStats(ds);
+    }
+
+    /**
+     * Show the structure's estimated retained bytes per element, refresh the footprint window
+     * if open, and publish size and footprint to the structure's MBean.
+     */
+    private void updateStructureStats(String ds) {
+        FootprintAnalysis analysis = footprint(ds);
+        statusPanel.setFootprint("Memory: " + analysis.describe());
+        StructureMonitor.of(ds).setElementCount(structureSize(ds), analysis.getCurrent().getBytes());
+        if (footprintStage != null && footprintStage.isShowing()) {
+            footprintView.showCurrent(ds, analysis);
+        }
+    }
+
+    private FootprintAnalysis footprint(String ds) {
+        switch (ds) {
+            case "Array": return FootprintAnalysis.of(arrayController.getArray());
+            case "Stack": return FootprintAnalysis.of(stackController.getStack());
+            case "Queue": return FootprintAnalysis.of(queueController.getQueue());
+            case "Heap": return FootprintAnalysis.of(heapController.getHeap());
+            case "Hash Table": return FootprintAnalysis.of(hashTableController.getTable());
+            case "Linked List": return FootprintAnalysis.of(linkedListController.getLinkedList());
+            case "BST": return FootprintAnalysis.of(bstController.getBST());
+            case "Graph": return graphController.analyzeFootprint();
+            default: return FootprintAnalysis.of(unionFindController.getForest());
+        }
+    }
+
+    private long structureSize(String ds) {
+        switch (ds) {
+            case "Array": return arrayController.getArray().length();
+            case "Stack": return stackController.getStack().getSize();
+            case "Queue": return queueController.getQueue().getSize();
+            case "Heap": return heapController.getHeap().getSize();
+            case "Hash Table": return hashTableController.getTable().getSize();
+            case "Linked List": return linkedListController.getLinkedList().getSize();
+            case "BST": return bstController.getBST().getSize();
+            case "Graph": return graphController.getVertexCount();
+            case "Union-Find": return unionFindController.getForest().getSize();
+            default: return 0;
+        }
+    }
+
+    private void handleComplexityAction() {
+        if (complexityStage == null) {
+            ComplexityView view = new ComplexityView();
+            new ComplexityController(view);
+            complexityStage = new Stage();
+            complexityStage.initOwner(primaryStage);
+            complexityStage.setTitle("Complexity Plot");
+            complexityStage.setScene(new Scene(view, 900, 650));
+        }
+        complexityStage.show();
+        complexityStage.toFront();
+    }
+
+    private void handleFootprintAction() {
+        if (footprintStage == null) {
+            footprintView = new FootprintView();
+            FootprintController footprintController = new FootprintController(footprintView);
+            footprintView.getRefreshButton().setOnAction(e -> {
+                updateStructureStats(controlPanel.getSelectedDataStructure());
+                footprintController.measureReferenceSizes();
+            });
+            footprintController.measureReferenceSizes();
+            footprintStage = new Stage();
+            footprintStage.initOwner(primaryStage);
+            footprintStage.setTitle("Memory Footprint");
+            footprintStage.setScene(new Scene(footprintView, 900, 650));
+        }
+        footprintStage.show();
+        footprintStage.toFront();
+        updateStructureStats(controlPanel.getSelectedDataStructure());
+    }
+
+    private void handleExportMetricsAction() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export latency histograms");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV files (*.csv)", "*.csv"));
+        File file = chooser.showSaveDialog(primaryStage);
+        if (file == null) {
+            return;
+        }
+        try {
+            OperationMetrics.export(file);
+            controlPanel.setStatusMessageSuccess("Latency histograms exported to " + file.getName());
+        } catch (IOException e) {
+            controlPanel.setStatusMessageError("Export failed: " + e.getMessage());
+        }
+    }
+
+    private void handleRecordingToggle() {
+        if (!statusPanel.getRecordingButton().isSelected()) {
+            FlightRecording.stop();
+            controlPanel.setStatusMessage("Flight recording stopped");
+            return;
+        }
+        try {
+            FlightRecording.start();
+            controlPanel.setStatusMessageSuccess("Flight recording started");
+        } catch (IOException | RuntimeException e) {
+            statusPanel.getRecordingButton().setSelected(false);
+            controlPanel.setStatusMessageError("Cannot start flight recording: " + e.getMessage());
+        }
+    }
+
+    private void handleDumpRecordingAction() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Dump flight recording");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Flight recordings (*.jfr)", "*.jfr"));
+        File file = chooser.showSaveDialog(primaryStage);
+        if (file == null) {
+            return;
+        }
+        try {
+            FlightRecording.dump(file.toPath());
+            controlPanel.setStatusMessageSuccess("Flight recording dumped to " + file.getName());
+        } catch (IOException | RuntimeException e) {
+            controlPanel.setStatusMessageError("Dump failed: " + e.getMessage());
         }
     }
 
@@ -162,10 +436,63 @@ public class Main extends Application {
             case "Array": arrayController.reset(); break;
             case "Stack": stackController.reset(); break;
             case "Queue": queueController.reset(); break;
+            case "Heap": heapController.reset(); break;
+            case "Hash Table": hashTableController.reset(); break;
             case "Linked List": linkedListController.reset(); break;
             case "BST": bstController.reset(); break;
             case "Graph": graphController.reset(); break;
+            case "Union-Find": unionFindController.reset(); break;
+        }
+        updateStructureStats(ds);
+    }
+
+    private void handleSaveAction() {
+        String ds = controlPanel.getSelectedDataStructure();
+        if (!isPersistable(ds)) {
+            return;
         }
+        File file = createFileChooser("Save " + ds).showSaveDialog(primaryStage);
+        if (file == null) {
+            return;
+        }
+        switch (ds) {
+            case "Array": arrayController.save(file); break;
+            case "Graph": graphController.save(file); break;
+        }
+    }
+
+    private void handleLoadAction() {
+        String ds = controlPanel.getSelectedDataStructure();
+        if (!isPersistable(ds)) {
+            return;
+        }
+        File file = createFileChooser("Load " + ds).showOpenDialog(primaryStage);
+        if (file == null) {
+            return;
+        }
+        switch (ds) {
+            case "Array": arrayController.load(file); break;
+            case "Graph": graphController.load(file); break;
+        }
+        updateStructureStats(ds);
+    }
+
+    private boolean isPersistable(String ds) {
+        if (ds.equals("Array") || ds.equals("Graph")) {
+            return true;
+        }
+        controlPanel.setStatusMessageWarning("Save/Load is available for Array and Graph");
+        return false;
+    }
+
+    private FileChooser createFileChooser(String title) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(title);
+        chooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("Binary data (*.bin)", "*.bin"),
+            new FileChooser.ExtensionFilter("All files", "*.*")
+        );
+        return chooser;
     }
 
     public static void main(String[] args) {
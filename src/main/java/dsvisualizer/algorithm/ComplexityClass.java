@@ -0,0 +1,49 @@
+package dsvisualizer.algorithm;
+
+/**
+ * Growth curves that ComplexityFit compares measured costs against.
+ */
+public enum ComplexityClass {
+    CONSTANT("O(1)"),
+    LOGARITHMIC("O(log n)"),
+    LINEAR("O(n)"),
+    LINEARITHMIC("O(n log n)");
+
+    private final String displayName;
+
+    ComplexityClass(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Get name shown in charts and status messages.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * The curve's shape at size n (log base 2; scale is fitted separately).
+     */
+    public double shape(double n) {
+        double log = Math.log(Math.max(n, 1)) / Math.log(2);
+        switch (this) {
+            case CONSTANT: return 1;
+            case LOGARITHMIC: return log;
+            case LINEAR: return n;
+            default: return n * log;
+        }
+    }
+
+    /**
+     * Find class by display name (returns null if unknown).
+     */
+    public static ComplexityClass fromDisplayName(String name) {
+        for (ComplexityClass complexity : values()) {
+            if (complexity.displayName.equals(name)) {
+                return complexity;
+            }
+        }
+        return null;
+    }
+}
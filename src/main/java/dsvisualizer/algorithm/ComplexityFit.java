@@ -0,0 +1,112 @@
+package dsvisualizer.algorithm;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Least-squares fit of measured costs against every ComplexityClass.
+ *
+ * Each class is fitted as cost = intercept + scale * shape(n) with scale >= 0. Residuals are
+ * relative to the measured cost, so small sizes weigh as much as large ones. The best class
+ * is the simplest one whose error is within 10% (plus one point) of the lowest error, so flat
+ * data reads as O(1) rather than an O(log n) curve with a near-zero slope.
+ */
+public class ComplexityFit {
+    private static final double SIMPLER_TOLERANCE = 1.10;
+    private static final double SIMPLER_SLACK = 0.01;
+
+    private final double[] sizes;
+    private final double[] costs;
+    private final Map<ComplexityClass, double[]> fits = new EnumMap<>(ComplexityClass.class);
+    private final ComplexityClass best;
+
+    /**
+     * Fit costs measured at sizes (at least two points).
+     */
+    public ComplexityFit(double[] sizes, double[] costs) {
+        if (sizes.length != costs.length || sizes.length < 2) {
+            throw new IllegalArgumentException("Need at least two (size, cost) points");
+        }
+        this.sizes = sizes.clone();
+        this.costs = costs.clone();
+        double lowest = Double.MAX_VALUE;
+        for (ComplexityClass complexity : ComplexityClass.values()) {
+            double[] fit = fit(complexity);
+            fits.put(complexity, fit);
+            lowest = Math.min(lowest, fit[2]);
+        }
+        ComplexityClass chosen = ComplexityClass.LINEARITHMIC;
+        for (ComplexityClass complexity : ComplexityClass.values()) {
+            if (fits.get(complexity)[2] <= lowest * SIMPLER_TOLERANCE + SIMPLER_SLACK) {
+                chosen = complexity;
+                break;
+            }
+        }
+        this.best = chosen;
+    }
+
+    public ComplexityClass getBest() {
+        return best;
+    }
+
+    public double getIntercept(ComplexityClass complexity) {
+        return fits.get(complexity)[0];
+    }
+
+    public double getScale(ComplexityClass complexity) {
+        return fits.get(complexity)[1];
+    }
+
+    /**
+     * Root-mean-square relative error of the fitted curve (0.05 = 5%).
+     */
+    public double getError(ComplexityClass complexity) {
+        return fits.get(complexity)[2];
+    }
+
+    /**
+     * Fitted cost at size n.
+     */
+    public double predict(ComplexityClass complexity, double n) {
+        double[] fit = fits.get(complexity);
+        return fit[0] + fit[1] * complexity.shape(n);
+    }
+
+    /**
+     * Weighted least squares with weights 1 / cost^2: {intercept, scale, rms relative error}.
+     */
+    private double[] fit(ComplexityClass complexity) {
+        double sw = 0, swx = 0, swy = 0, swxx = 0, swxy = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            double w = weight(costs[i]);
+            double x = complexity.shape(sizes[i]);
+            sw += w;
+            swx += w * x;
+            swy += w * costs[i];
+            swxx += w * x * x;
+            swxy += w * x * costs[i];
+        }
+        double intercept = swy / sw;
+        double scale = 0;
+        double det = sw * swxx - swx * swx;
+        if (complexity != ComplexityClass.CONSTANT && det > 1e-12 * sw * swxx) {
+            double candidate = (sw * swxy - swx * swy) / det;
+            // A falling curve is not this class; keep the constant fit instead
+            if (candidate > 0) {
+                scale = candidate;
+                intercept = (swy - scale * swx) / sw;
+            }
+        }
+        double sum = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            double residual = costs[i] - intercept - scale * complexity.shape(sizes[i]);
+            sum += weight(costs[i]) * residual * residual;
+        }
+        return new double[]{intercept, scale, Math.sqrt(sum / sizes.length)};
+    }
+
+    private static double weight(double cost) {
+        double scale = Math.max(Math.abs(cost), 1);
+        return 1 / (scale * scale);
+    }
+}
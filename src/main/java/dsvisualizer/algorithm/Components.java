@@ -0,0 +1,61 @@
+package dsvisualizer.algorithm;
+
+/**
+ * Partition of dense vertex indices into numbered components.
+ */
+public class Components {
+    private final int[] componentOf;
+    private final int[] sizes;
+
+    Components(int[] componentOf, int count) {
+        this.componentOf = componentOf;
+        this.sizes = new int[count];
+        for (int component : componentOf) {
+            sizes[component]++;
+        }
+    }
+
+    /**
+     * Get the component number of a vertex.
+     */
+    public int componentOf(int vertex) {
+        return componentOf[vertex];
+    }
+
+    /**
+     * Get the component array (shared, do not modify).
+     */
+    public int[] getComponentArray() {
+        return componentOf;
+    }
+
+    /**
+     * Get number of components.
+     */
+    public int getCount() {
+        return sizes.length;
+    }
+
+    /**
+     * Get number of vertices in a component.
+     */
+    public int getSize(int component) {
+        return sizes[component];
+    }
+
+    /**
+     * Get size of the largest component (0 for an empty graph).
+     */
+    public int getLargestSize() {
+        int largest = 0;
+        for (int size : sizes) {
+            largest = Math.max(largest, size);
+        }
+        return largest;
+    }
+
+    @Override
+    public String toString() {
+        return "components=" + sizes.length + ", largest=" + getLargestSize();
+    }
+}
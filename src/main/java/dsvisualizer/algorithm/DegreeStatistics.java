@@ -0,0 +1,134 @@
+package dsvisualizer.algorithm;
+
+import dsvisualizer.model.CompactGraph;
+
+/**
+ * Degree distribution of a CompactGraph. For undirected graphs the in- and out-degree
+ * histograms are the same; a self-loop adds one to the degree.
+ */
+public class DegreeStatistics {
+    private final long[] outHistogram;
+    private final long[] inHistogram;
+    private final int vertexCount;
+    private final long edgeCount;
+    private final long wedgeCount;
+
+    private DegreeStatistics(long[] outHistogram, long[] inHistogram, int vertexCount, long edgeCount, long wedgeCount) {
+        this.outHistogram = outHistogram;
+        this.inHistogram = inHistogram;
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.wedgeCount = wedgeCount;
+    }
+
+    /**
+     * Compute degree histograms in one pass over the CSR arrays.
+     */
+    public static DegreeStatistics of(CompactGraph graph) {
+        int n = graph.getVertexCount();
+        int[] inDegree = new int[n];
+        int maxOut = 0;
+        for (int v = 0; v < n; v++) {
+            maxOut = Math.max(maxOut, graph.endEdge(v) - graph.firstEdge(v));
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                inDegree[graph.target(e)]++;
+            }
+        }
+        long[] outHistogram = new long[maxOut + 1];
+        long wedges = 0;
+        for (int v = 0; v < n; v++) {
+            long degree = graph.endEdge(v) - graph.firstEdge(v);
+            outHistogram[(int) degree]++;
+            wedges += degree * (degree - 1) / 2;
+        }
+        long[] inHistogram = outHistogram;
+        if (graph.isDirected()) {
+            int maxIn = 0;
+            for (int degree : inDegree) {
+                maxIn = Math.max(maxIn, degree);
+            }
+            inHistogram = new long[maxIn + 1];
+            for (int degree : inDegree) {
+                inHistogram[degree]++;
+            }
+        }
+        return new DegreeStatistics(outHistogram, inHistogram, n, graph.getEdgeCount(), wedges);
+    }
+
+    /**
+     * Get the number of vertices with each out-degree (index = degree).
+     */
+    public long[] getOutHistogram() {
+        return outHistogram;
+    }
+
+    /**
+     * Get the number of vertices with each in-degree (index = degree).
+     */
+    public long[] getInHistogram() {
+        return inHistogram;
+    }
+
+    public int getMaxOutDegree() {
+        return outHistogram.length - 1;
+    }
+
+    public int getMaxInDegree() {
+        return inHistogram.length - 1;
+    }
+
+    /**
+     * Get the smallest out-degree (0 for an empty graph).
+     */
+    public int getMinOutDegree() {
+        for (int degree = 0; degree < outHistogram.length; degree++) {
+            if (outHistogram[degree] > 0) {
+                return degree;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get the mean out-degree.
+     */
+    public double getMeanDegree() {
+        return vertexCount == 0 ? 0 : (double) edgeCount / vertexCount;
+    }
+
+    /**
+     * Get number of paths of length two (pairs of adjacency entries sharing a vertex).
+     */
+    public long getWedgeCount() {
+        return wedgeCount;
+    }
+
+    /**
+     * Format the non-empty histogram buckets as "degree:count" pairs, up to maxBuckets.
+     */
+    public static String format(long[] histogram, int maxBuckets) {
+        StringBuilder text = new StringBuilder();
+        int shown = 0;
+        for (int degree = 0; degree < histogram.length; degree++) {
+            if (histogram[degree] == 0) {
+                continue;
+            }
+            if (shown == maxBuckets) {
+                text.append(" ...");
+                break;
+            }
+            if (shown > 0) {
+                text.append(' ');
+            }
+            text.append(degree).append(':').append(histogram[degree]);
+            shown++;
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "min=" + getMinOutDegree() + ", max=" + getMaxOutDegree()
+            + ", mean=" + String.format("%.2f", getMeanDegree());
+    }
+}
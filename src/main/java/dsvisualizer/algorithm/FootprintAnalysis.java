@@ -0,0 +1,269 @@
+package dsvisualizer.algorithm;
+
+import dsvisualizer.model.BinarySearchTree;
+import dsvisualizer.model.CompactGraph;
+import dsvisualizer.model.DaryHeap;
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.Graph;
+import dsvisualizer.model.IntHashTable;
+import dsvisualizer.model.LinkedList;
+import dsvisualizer.model.MemoryLayout;
+import dsvisualizer.model.Queue;
+import dsvisualizer.model.Stack;
+import dsvisualizer.model.UnionFind;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Retained heap bytes of a structure's current engine next to boxed and primitive-backed
+ * alternatives holding the same elements. Current engines report their own estimate
+ * (getMemoryFootprintBytes); alternatives are estimated with MemoryLayout, growing their
+ * backing arrays by their usual policy. Estimates cover the structure only, not the view.
+ * Large arrays and tables estimate their boxing cost from an evenly spaced sample, so the
+ * analysis stays cheap enough to run after every operation.
+ */
+public class FootprintAnalysis {
+    private static final int PRIORITY_QUEUE_DEFAULT_CAPACITY = 11;
+    private static final int BOXING_SAMPLE_LIMIT = 1 << 16;
+
+    /**
+     * One engine's estimated footprint.
+     */
+    public static class Engine {
+        private final String name;
+        private final long bytes;
+        private final boolean current;
+
+        private Engine(String name, long bytes, boolean current) {
+            this.name = name;
+            this.bytes = bytes;
+            this.current = current;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Check if this is the engine the structure actually uses.
+         */
+        public boolean isCurrent() {
+            return current;
+        }
+    }
+
+    private final long elements;
+    private final List<Engine> engines = new ArrayList<>();
+
+    private FootprintAnalysis(long elements, String currentName, long currentBytes) {
+        this.elements = elements;
+        engines.add(new Engine(currentName, currentBytes, true));
+    }
+
+    private FootprintAnalysis alternative(String name, long bytes) {
+        engines.add(new Engine(name, bytes, false));
+        return this;
+    }
+
+    public static FootprintAnalysis of(DynamicArray array) {
+        int size = array.getSize();
+        long boxed = boxedIntegers(array::get, size);
+        return new FootprintAnalysis(size, "int[] " + (array.getStorageMode() == DynamicArray.StorageMode.GAP_BUFFER
+                ? "gap buffer" : "array"), array.getMemoryFootprintBytes())
+            .alternative("ArrayList<Integer>", MemoryLayout.arrayList(size) + boxed)
+            .alternative("int[] exact fit", MemoryLayout.object(1, 1, 0) + MemoryLayout.array(4, size));
+    }
+
+    public static FootprintAnalysis of(Stack stack) {
+        int size = stack.getSize();
+        return new FootprintAnalysis(size, "ArrayList<Integer>", stack.getMemoryFootprintBytes())
+            .alternative("int[] array stack", intArrayList(size, 1));
+    }
+
+    public static FootprintAnalysis of(Queue queue) {
+        int size = queue.getSize();
+        return new FootprintAnalysis(size, "ArrayList<Integer>", queue.getMemoryFootprintBytes())
+            .alternative("int[] ring buffer", intArrayList(size, 3));
+    }
+
+    public static FootprintAnalysis of(DaryHeap heap) {
+        int size = heap.getSize();
+        long boxed = boxedIntegers(heap::getElementAt, size);
+        long capacity = PRIORITY_QUEUE_DEFAULT_CAPACITY;
+        while (capacity < size) {
+            capacity += capacity < 64 ? capacity + 2 : capacity >> 1;
+        }
+        return new FootprintAnalysis(size, "int[] " + heap.getArity() + "-ary heap", heap.getMemoryFootprintBytes())
+            .alternative("PriorityQueue<Integer>", MemoryLayout.object(2, 2, 0) + MemoryLayout.referenceArray(capacity) + boxed);
+    }
+
+    public static FootprintAnalysis of(IntHashTable table) {
+        long boxed = boxedEntries(table, false) + (table.isResizing() ? boxedEntries(table, true) : 0);
+        return new FootprintAnalysis(table.getSize(), "IntHashTable (int[] slots)", table.getMemoryFootprintBytes())
+            .alternative("HashMap<Integer, Integer>", MemoryLayout.hashMap(table.getSize()) + boxed);
+    }
+
+    public static FootprintAnalysis of(LinkedList list) {
+        long boxed = 0;
+        for (LinkedList.Node node = list.getHead(); node != null; node = node.next) {
+            boxed += MemoryLayout.boxedInteger(node.data);
+        }
+        int size = list.getSize();
+        return new FootprintAnalysis(size, "Node per element", list.getMemoryFootprintBytes())
+            .alternative("java.util.LinkedList<Integer>", MemoryLayout.object(2, 2, 0) + size * MemoryLayout.object(3, 0, 0) + boxed)
+            .alternative("int[] dynamic array", MemoryLayout.object(1, 1, 0) + MemoryLayout.array(4, powerOfTwoCapacity(size)));
+    }
+
+    public static FootprintAnalysis of(BinarySearchTree tree) {
+        long boxed = 0;
+        ArrayDeque<BinarySearchTree.TreeNode> pending = new ArrayDeque<>();
+        if (tree.getRoot() != null) {
+            pending.push(tree.getRoot());
+        }
+        while (!pending.isEmpty()) {
+            BinarySearchTree.TreeNode node = pending.pop();
+            boxed += MemoryLayout.boxedInteger(node.data);
+            if (node.left != null) {
+                pending.push(node.left);
+            }
+            if (node.right != null) {
+                pending.push(node.right);
+            }
+        }
+        int size = tree.getSize();
+        // TreeSet wraps a TreeMap; each TreeMap.Entry holds key, value, left, right, parent and a colour
+        return new FootprintAnalysis(size, "TreeNode per element", tree.getMemoryFootprintBytes())
+            .alternative("TreeSet<Integer>", MemoryLayout.object(1, 0, 0) + MemoryLayout.object(7, 2, 0)
+                + size * MemoryLayout.object(5, 1, 0) + boxed)
+            .alternative("sorted int[]", MemoryLayout.object(1, 1, 0) + MemoryLayout.array(4, size));
+    }
+
+    public static FootprintAnalysis of(Graph graph) {
+        return new FootprintAnalysis(graph.getVertexCount(), "HashMap<Integer, List<Integer>>", graph.getMemoryFootprintBytes())
+            .alternative("CompactGraph (CSR)", CompactGraph.estimateFootprintBytes(graph.getVertexCount(),
+                graph.getAdjacencyEntryCount(), graph.isWeighted()));
+    }
+
+    /**
+     * Footprint of an imported graph, which only exists in CSR form.
+     */
+    public static FootprintAnalysis of(CompactGraph graph) {
+        return new FootprintAnalysis(graph.getVertexCount(), "CompactGraph (CSR)", graph.getMemoryFootprintBytes());
+    }
+
+    public static FootprintAnalysis of(UnionFind forest) {
+        int size = forest.getSize();
+        long boxed = 0;
+        for (int i = 0; i < size; i++) {
+            // parent.put(x, x) boxes key and value separately; ranks stay in the Integer cache
+            boxed += 3 * MemoryLayout.boxedInteger(forest.getLabel(i));
+        }
+        return new FootprintAnalysis(size, "int[] parent + byte[] rank", forest.getMemoryFootprintBytes())
+            .alternative("HashMap parent + rank", 2 * MemoryLayout.hashMap(size) + boxed);
+    }
+
+    /**
+     * Elements the estimate was taken at (vertices for graphs).
+     */
+    public long getElements() {
+        return elements;
+    }
+
+    /**
+     * Current engine first, then the alternatives.
+     */
+    public List<Engine> getEngines() {
+        return Collections.unmodifiableList(engines);
+    }
+
+    public Engine getCurrent() {
+        return engines.get(0);
+    }
+
+    /**
+     * The smallest engine, which may be the current one.
+     */
+    public Engine getSmallest() {
+        Engine smallest = engines.get(0);
+        for (Engine engine : engines) {
+            if (engine.bytes < smallest.bytes) {
+                smallest = engine;
+            }
+        }
+        return smallest;
+    }
+
+    public double bytesPerElement(Engine engine) {
+        return elements == 0 ? 0 : (double) engine.bytes / elements;
+    }
+
+    /**
+     * One-line summary for the status panel, e.g. "216.3 KB, 21.6 B/element (int[] array stack: 4.0 B/element)".
+     */
+    public String describe() {
+        Engine current = getCurrent();
+        StringBuilder text = new StringBuilder(MemoryLayout.formatBytes(current.bytes));
+        if (elements > 0) {
+            text.append(String.format(Locale.ROOT, ", %.1f B/element", bytesPerElement(current)));
+        }
+        Engine smallest = getSmallest();
+        if (smallest != current && elements > 0) {
+            text.append(String.format(Locale.ROOT, " (%s: %.1f B/element, %.1fx smaller)",
+                smallest.name, bytesPerElement(smallest), (double) current.bytes / smallest.bytes));
+        }
+        return text.toString();
+    }
+
+    /**
+     * An int[]-backed list shell with extra int fields, grown like ArrayList.
+     */
+    private static long intArrayList(int size, int intFields) {
+        return MemoryLayout.object(1, intFields, 0) + (size == 0 ? 0 : MemoryLayout.array(4, MemoryLayout.arrayListCapacity(size)));
+    }
+
+    private static long powerOfTwoCapacity(int size) {
+        return size <= 1 ? 1 : Long.highestOneBit(size - 1L) << 1;
+    }
+
+    /**
+     * Boxes needed for size values: exact up to the sample limit, else scaled from a sample.
+     */
+    private static long boxedIntegers(IntUnaryOperator valueAt, int size) {
+        int step = Math.max(1, size / BOXING_SAMPLE_LIMIT);
+        long boxed = 0;
+        long sampled = 0;
+        for (int i = 0; i < size; i += step) {
+            boxed += MemoryLayout.boxedInteger(valueAt.applyAsInt(i));
+            sampled++;
+        }
+        return sampled == 0 ? 0 : boxed * size / sampled;
+    }
+
+    /**
+     * Boxed keys and values of one table's entries, sampled like boxedIntegers.
+     */
+    private static long boxedEntries(IntHashTable table, boolean old) {
+        int capacity = old ? table.getOldCapacity() : table.getCapacity();
+        int step = Math.max(1, capacity / BOXING_SAMPLE_LIMIT);
+        long boxed = 0;
+        long sampled = 0;
+        long occupied = 0;
+        for (int slot = 0; slot < capacity; slot += step) {
+            sampled++;
+            if (table.isOccupied(old, slot)) {
+                occupied++;
+                boxed += MemoryLayout.boxedInteger(table.getKeyAt(old, slot)) + MemoryLayout.boxedInteger(table.getValueAt(old, slot));
+            }
+        }
+        return step == 1 || occupied == 0 ? boxed : boxed * capacity / sampled;
+    }
+}
@@ -0,0 +1,239 @@
+package dsvisualizer.algorithm;
+
+import dsvisualizer.model.CompactGraph;
+
+import java.util.Arrays;
+
+/**
+ * Strongly connected components, topological sort and cycle detection over a CompactGraph.
+ * Every traversal keeps its own explicit stack in primitive arrays, so graph depth is bounded
+ * by heap memory rather than the thread stack.
+ */
+public class GraphAnalysis {
+
+    /**
+     * Tarjan's SCC algorithm. Components are numbered in reverse topological order of the
+     * condensation (a component only has edges into lower-numbered components).
+     */
+    public static Components tarjan(CompactGraph graph) {
+        int n = graph.getVertexCount();
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] nextEdge = new int[n];
+        int[] component = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] sccStack = new int[n];
+        int[] callStack = new int[n];
+        Arrays.fill(index, -1);
+
+        int counter = 0;
+        int count = 0;
+        for (int root = 0; root < n; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int sccTop = 0;
+            int callTop = 0;
+            index[root] = low[root] = counter++;
+            nextEdge[root] = graph.firstEdge(root);
+            sccStack[sccTop++] = root;
+            onStack[root] = true;
+            callStack[callTop++] = root;
+
+            while (callTop > 0) {
+                int v = callStack[callTop - 1];
+                if (nextEdge[v] < graph.endEdge(v)) {
+                    int w = graph.target(nextEdge[v]++);
+                    if (index[w] == -1) {
+                        // Descend into w
+                        index[w] = low[w] = counter++;
+                        nextEdge[w] = graph.firstEdge(w);
+                        sccStack[sccTop++] = w;
+                        onStack[w] = true;
+                        callStack[callTop++] = w;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                // All edges of v done: return to the caller
+                callTop--;
+                if (callTop > 0) {
+                    int caller = callStack[callTop - 1];
+                    low[caller] = Math.min(low[caller], low[v]);
+                }
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = sccStack[--sccTop];
+                        onStack[w] = false;
+                        component[w] = count;
+                    } while (w != v);
+                    count++;
+                }
+            }
+        }
+        return new Components(component, count);
+    }
+
+    /**
+     * Kosaraju's SCC algorithm (finish order on the graph, then sweeps over the reverse).
+     * Components are numbered in topological order of the condensation.
+     */
+    public static Components kosaraju(CompactGraph graph, CompactGraph reverse) {
+        int n = graph.getVertexCount();
+        int[] finishOrder = new int[n];
+        int finished = 0;
+        int[] nextEdge = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] stack = new int[n];
+
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) {
+                continue;
+            }
+            int top = 0;
+            visited[root] = true;
+            nextEdge[root] = graph.firstEdge(root);
+            stack[top++] = root;
+            while (top > 0) {
+                int v = stack[top - 1];
+                if (nextEdge[v] < graph.endEdge(v)) {
+                    int w = graph.target(nextEdge[v]++);
+                    if (!visited[w]) {
+                        visited[w] = true;
+                        nextEdge[w] = graph.firstEdge(w);
+                        stack[top++] = w;
+                    }
+                } else {
+                    finishOrder[finished++] = v;
+                    top--;
+                }
+            }
+        }
+
+        int[] component = new int[n];
+        Arrays.fill(component, -1);
+        int count = 0;
+        for (int i = n - 1; i >= 0; i--) {
+            int root = finishOrder[i];
+            if (component[root] != -1) {
+                continue;
+            }
+            int top = 0;
+            component[root] = count;
+            stack[top++] = root;
+            while (top > 0) {
+                int v = stack[--top];
+                for (int e = reverse.firstEdge(v); e < reverse.endEdge(v); e++) {
+                    int w = reverse.target(e);
+                    if (component[w] == -1) {
+                        component[w] = count;
+                        stack[top++] = w;
+                    }
+                }
+            }
+            count++;
+        }
+        return new Components(component, count);
+    }
+
+    /**
+     * Kahn's topological sort of a directed graph (ties broken by lowest index).
+     * If the graph has a cycle, the result is shorter than the vertex count and omits every
+     * vertex on or reachable from a cycle.
+     */
+    public static int[] topologicalSort(CompactGraph graph) {
+        requireDirected(graph, "Topological sort");
+        int n = graph.getVertexCount();
+        int[] inDegree = new int[n];
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            inDegree[graph.target(e)]++;
+        }
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                order[tail++] = v;
+            }
+        }
+        while (head < tail) {
+            int v = order[head++];
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                int w = graph.target(e);
+                if (--inDegree[w] == 0) {
+                    order[tail++] = w;
+                }
+            }
+        }
+        return tail == n ? order : Arrays.copyOf(order, tail);
+    }
+
+    /**
+     * Find one cycle as a vertex sequence (the closing edge runs from the last vertex back to
+     * the first), or an empty array if the graph is acyclic. In an undirected graph the tree
+     * edge back to the DFS parent does not count as a cycle, but a parallel copy of it does.
+     */
+    public static int[] findCycle(CompactGraph graph) {
+        final byte white = 0, grey = 1, black = 2;
+        int n = graph.getVertexCount();
+        byte[] color = new byte[n];
+        int[] parent = new int[n];
+        // Undirected: slot of the arc back to the parent, which is the tree edge itself (-1 until seen)
+        int[] parentArc = new int[n];
+        int[] nextEdge = new int[n];
+        int[] stack = new int[n];
+        boolean directed = graph.isDirected();
+
+        for (int root = 0; root < n; root++) {
+            if (color[root] != white) {
+                continue;
+            }
+            int top = 0;
+            color[root] = grey;
+            parent[root] = -1;
+            parentArc[root] = -1;
+            nextEdge[root] = graph.firstEdge(root);
+            stack[top++] = root;
+            while (top > 0) {
+                int v = stack[top - 1];
+                if (nextEdge[v] == graph.endEdge(v)) {
+                    color[v] = black;
+                    top--;
+                    continue;
+                }
+                int edge = nextEdge[v]++;
+                int w = graph.target(edge);
+                if (color[w] == white) {
+                    color[w] = grey;
+                    parent[w] = v;
+                    parentArc[w] = -1;
+                    nextEdge[w] = graph.firstEdge(w);
+                    stack[top++] = w;
+                } else if (!directed && w == parent[v] && parentArc[v] == -1) {
+                    // Skip only the tree edge; a parallel edge to the parent is a cycle of length 2
+                    parentArc[v] = edge;
+                } else if (color[w] == grey) {
+                    // Back edge v -> w: the cycle is w .. v along the DFS stack
+                    int length = 1;
+                    for (int u = v; u != w; u = parent[u]) {
+                        length++;
+                    }
+                    int[] cycle = new int[length];
+                    for (int u = v, i = length - 1; i >= 0; u = parent[u], i--) {
+                        cycle[i] = u;
+                    }
+                    return cycle;
+                }
+            }
+        }
+        return new int[0];
+    }
+
+    private static void requireDirected(CompactGraph graph, String operation) {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException(operation + " requires a directed graph");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package dsvisualizer.algorithm;
+
+/**
+ * A* lower bound on the remaining distance between two dense vertex indices.
+ * Must never overestimate, or A* may return a longer path.
+ */
+@FunctionalInterface
+public interface Heuristic {
+    double estimate(int vertex, int target);
+
+    /**
+     * Euclidean distance between vertex positions, scaled so no edge is shorter than its
+     * straight-line length; this keeps the bound admissible for any weights.
+     */
+    static Heuristic euclidean(dsvisualizer.model.CompactGraph graph, double[] x, double[] y) {
+        double scale = Double.POSITIVE_INFINITY;
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                int w = graph.target(e);
+                double length = Math.hypot(x[v] - x[w], y[v] - y[w]);
+                if (length > 0) {
+                    scale = Math.min(scale, graph.weight(e) / length);
+                }
+            }
+        }
+        double factor = scale == Double.POSITIVE_INFINITY ? 0 : Math.max(0, scale);
+        return (vertex, target) -> factor * Math.hypot(x[vertex] - x[target], y[vertex] - y[target]);
+    }
+}
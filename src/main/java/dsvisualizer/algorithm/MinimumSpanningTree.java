@@ -0,0 +1,307 @@
+package dsvisualizer.algorithm;
+
+import dsvisualizer.model.CompactGraph;
+import dsvisualizer.model.IndexedHeap;
+import dsvisualizer.model.UnionFind;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Minimum spanning forests of an undirected CompactGraph: Kruskal (radix-sorted edge list and
+ * union-find), Prim (indexed heap) and a parallel Borůvka on a ForkJoinPool.
+ * Disconnected graphs yield one tree per component; self-loops are ignored.
+ */
+public class MinimumSpanningTree {
+    static final int HEAP_ARITY = 4;
+    static final int PARALLEL_THRESHOLD = 1 << 12;
+
+    /**
+     * Kruskal: take edges in ascending weight order, skipping those that close a cycle.
+     */
+    public static SpanningForest kruskal(CompactGraph graph) {
+        requireUndirected(graph);
+        int n = graph.getVertexCount();
+        // Each undirected edge once, as the slot whose source is the smaller endpoint
+        int m = 0;
+        for (int v = 0; v < n; v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                if (v < graph.target(e)) {
+                    m++;
+                }
+            }
+        }
+        int[] source = new int[m];
+        int[] slot = new int[m];
+        long[] keys = new long[m];
+        int k = 0;
+        for (int v = 0; v < n; v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                if (v < graph.target(e)) {
+                    source[k] = v;
+                    slot[k] = e;
+                    keys[k] = sortableBits(graph.weight(e));
+                    k++;
+                }
+            }
+        }
+        int[] order = radixSortIndices(keys);
+
+        UnionFind forest = UnionFind.ofSize(n);
+        int[] treeFrom = new int[Math.max(0, n - 1)];
+        int[] treeTo = new int[treeFrom.length];
+        double[] treeWeight = new double[treeFrom.length];
+        int selected = 0;
+        for (int i = 0; i < m && selected < n - 1; i++) {
+            int edge = order[i];
+            int target = graph.target(slot[edge]);
+            if (forest.unionElements(source[edge], target)) {
+                treeFrom[selected] = source[edge];
+                treeTo[selected] = target;
+                treeWeight[selected] = graph.weight(slot[edge]);
+                selected++;
+            }
+        }
+        return new SpanningForest(treeFrom, treeTo, treeWeight, selected, n, 1);
+    }
+
+    /**
+     * Prim: grow each tree from its lowest vertex, always adding the lightest edge leaving it.
+     */
+    public static SpanningForest prim(CompactGraph graph) {
+        requireUndirected(graph);
+        int n = graph.getVertexCount();
+        boolean[] inTree = new boolean[n];
+        int[] bestEdge = new int[n];
+        int[] bestFrom = new int[n];
+        IndexedHeap frontier = new IndexedHeap(n, HEAP_ARITY);
+        int[] treeFrom = new int[Math.max(0, n - 1)];
+        int[] treeTo = new int[treeFrom.length];
+        double[] treeWeight = new double[treeFrom.length];
+        int selected = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (inTree[root]) {
+                continue;
+            }
+            bestEdge[root] = -1;
+            frontier.insert(root, 0);
+            while (!frontier.isEmpty()) {
+                int v = frontier.extractMin();
+                inTree[v] = true;
+                if (bestEdge[v] >= 0) {
+                    treeFrom[selected] = bestFrom[v];
+                    treeTo[selected] = v;
+                    treeWeight[selected] = graph.weight(bestEdge[v]);
+                    selected++;
+                }
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    int w = graph.target(e);
+                    if (inTree[w]) {
+                        continue;
+                    }
+                    double weight = graph.weight(e);
+                    if (!frontier.contains(w)) {
+                        frontier.insert(w, weight);
+                    } else if (weight < frontier.keyOf(w)) {
+                        frontier.decreaseKey(w, weight);
+                    } else {
+                        continue;
+                    }
+                    bestEdge[w] = e;
+                    bestFrom[w] = v;
+                }
+            }
+        }
+        return new SpanningForest(treeFrom, treeTo, treeWeight, selected, n, 1);
+    }
+
+    /**
+     * Borůvka on the common pool.
+     */
+    public static SpanningForest boruvka(CompactGraph graph) {
+        return boruvka(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Borůvka: every round, each component picks its lightest outgoing edge in parallel and
+     * all picked edges are contracted. Ties are broken by (weight, lower endpoint, higher
+     * endpoint), so concurrent picks can never form a cycle.
+     */
+    public static SpanningForest boruvka(CompactGraph graph, ForkJoinPool pool) {
+        requireUndirected(graph);
+        int n = graph.getVertexCount();
+        int[] component = new int[n];
+        for (int v = 0; v < n; v++) {
+            component[v] = v;
+        }
+        UnionFind forest = UnionFind.ofSize(n);
+        int[] treeFrom = new int[Math.max(0, n - 1)];
+        int[] treeTo = new int[treeFrom.length];
+        double[] treeWeight = new double[treeFrom.length];
+        int selected = 0;
+        int rounds = 0;
+        AtomicIntegerArray cheapestFrom = new AtomicIntegerArray(n);
+        int[] cheapestSlot = new int[n];
+
+        while (true) {
+            for (int c = 0; c < n; c++) {
+                cheapestFrom.set(c, -1);
+            }
+            pool.invoke(new CheapestEdgeTask(graph, component, cheapestFrom, cheapestSlot, 0, n));
+
+            int merged = 0;
+            for (int c = 0; c < n; c++) {
+                int v = cheapestFrom.get(c);
+                if (v < 0) {
+                    continue;
+                }
+                int e = cheapestSlot[v];
+                int w = graph.target(e);
+                if (forest.unionElements(v, w)) {
+                    treeFrom[selected] = v;
+                    treeTo[selected] = w;
+                    treeWeight[selected] = graph.weight(e);
+                    selected++;
+                    merged++;
+                }
+            }
+            if (merged == 0) {
+                break;
+            }
+            rounds++;
+            for (int v = 0; v < n; v++) {
+                component[v] = forest.findRoot(v);
+            }
+        }
+        return new SpanningForest(treeFrom, treeTo, treeWeight, selected, n, Math.max(1, rounds));
+    }
+
+    /**
+     * Finds each vertex's lightest edge into another component, then offers it to the
+     * vertex's component with a compare-and-set loop.
+     */
+    private static class CheapestEdgeTask extends RecursiveAction {
+        private final CompactGraph graph;
+        private final int[] component;
+        private final AtomicIntegerArray cheapestFrom;
+        private final int[] cheapestSlot;
+        private final int from;
+        private final int to;
+
+        CheapestEdgeTask(CompactGraph graph, int[] component, AtomicIntegerArray cheapestFrom, int[] cheapestSlot,
+                         int from, int to) {
+            this.graph = graph;
+            this.component = component;
+            this.cheapestFrom = cheapestFrom;
+            this.cheapestSlot = cheapestSlot;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > PARALLEL_THRESHOLD
+                    && graph.endEdge(to - 1) - graph.firstEdge(from) > PARALLEL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new CheapestEdgeTask(graph, component, cheapestFrom, cheapestSlot, from, mid),
+                          new CheapestEdgeTask(graph, component, cheapestFrom, cheapestSlot, mid, to));
+                return;
+            }
+            for (int v = from; v < to; v++) {
+                int best = -1;
+                int c = component[v];
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    if (component[graph.target(e)] != c && (best < 0 || lighter(graph, v, e, v, best))) {
+                        best = e;
+                    }
+                }
+                if (best < 0) {
+                    continue;
+                }
+                // Each vertex owns its own cheapestSlot entry; publish it before the CAS
+                cheapestSlot[v] = best;
+                while (true) {
+                    int current = cheapestFrom.get(c);
+                    if (current >= 0 && !lighter(graph, v, best, current, cheapestSlot[current])) {
+                        break;
+                    }
+                    if (cheapestFrom.compareAndSet(c, current, v)) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Strict total order on undirected edges: weight, then lower endpoint, then higher endpoint.
+     */
+    private static boolean lighter(CompactGraph graph, int sourceA, int slotA, int sourceB, int slotB) {
+        double weightA = graph.weight(slotA);
+        double weightB = graph.weight(slotB);
+        if (weightA != weightB) {
+            return weightA < weightB;
+        }
+        int targetA = graph.target(slotA);
+        int targetB = graph.target(slotB);
+        int lowA = Math.min(sourceA, targetA);
+        int lowB = Math.min(sourceB, targetB);
+        if (lowA != lowB) {
+            return lowA < lowB;
+        }
+        return Math.max(sourceA, targetA) < Math.max(sourceB, targetB);
+    }
+
+    /**
+     * Map a double to a long whose signed order matches the double order.
+     */
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * LSD radix sort (16-bit digits) of keys, returning the permutation that sorts them.
+     * Digits on which every key agrees are skipped, which makes small integer weights cheap.
+     */
+    static int[] radixSortIndices(long[] keys) {
+        int m = keys.length;
+        int[] order = new int[m];
+        for (int i = 0; i < m; i++) {
+            order[i] = i;
+        }
+        int[] buffer = new int[m];
+        int[] count = new int[1 << 16];
+        for (int shift = 0; shift < 64; shift += 16) {
+            Arrays.fill(count, 0);
+            // Flip the sign bit on the top digit so negative keys sort first
+            long flip = shift == 48 ? 0x8000L : 0;
+            for (int i = 0; i < m; i++) {
+                count[(int) (((keys[i] >>> shift) & 0xFFFF) ^ flip)]++;
+            }
+            if (m == 0 || count[(int) (((keys[0] >>> shift) & 0xFFFF) ^ flip)] == m) {
+                continue;
+            }
+            for (int d = 1; d < count.length; d++) {
+                count[d] += count[d - 1];
+            }
+            for (int i = m - 1; i >= 0; i--) {
+                int index = order[i];
+                buffer[--count[(int) (((keys[index] >>> shift) & 0xFFFF) ^ flip)]] = index;
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    private static void requireUndirected(CompactGraph graph) {
+        if (graph.isDirected()) {
+            throw new IllegalArgumentException("Minimum spanning tree requires an undirected graph");
+        }
+    }
+}
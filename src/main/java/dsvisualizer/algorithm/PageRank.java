@@ -0,0 +1,218 @@
+package dsvisualizer.algorithm;
+
+import dsvisualizer.model.CompactGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * PageRank by pull-based power iteration over a CompactGraph, parallelized over vertex
+ * ranges on a ForkJoinPool. Rank held by vertices without out-edges is spread evenly over
+ * all vertices. Range splits depend only on the graph, so sums are reduced in a fixed order
+ * and results do not vary with thread timing.
+ */
+public class PageRank {
+    public static final double DEFAULT_DAMPING = 0.85;
+    public static final double DEFAULT_TOLERANCE = 1e-9;
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    static final int PARALLEL_THRESHOLD = 1 << 12;
+
+    /**
+     * Scores and convergence history of a PageRank run.
+     */
+    public static class Result {
+        private final double[] scores;
+        private final double[] residuals;
+        private final boolean converged;
+
+        Result(double[] scores, double[] residuals, boolean converged) {
+            this.scores = scores;
+            this.residuals = residuals;
+            this.converged = converged;
+        }
+
+        /**
+         * Get the score array (sums to 1; shared, do not modify).
+         */
+        public double[] getScores() {
+            return scores;
+        }
+
+        public double score(int vertex) {
+            return scores[vertex];
+        }
+
+        /**
+         * Get number of iterations run.
+         */
+        public int getIterations() {
+            return residuals.length;
+        }
+
+        /**
+         * Get L1 change of the score vector after each iteration.
+         */
+        public double[] getResiduals() {
+            return residuals;
+        }
+
+        /**
+         * Check if the last residual fell below the tolerance.
+         */
+        public boolean isConverged() {
+            return converged;
+        }
+
+        /**
+         * Get the highest score (0 for an empty graph).
+         */
+        public double getMaxScore() {
+            double max = 0;
+            for (double score : scores) {
+                max = Math.max(max, score);
+            }
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "iterations=" + residuals.length + ", converged=" + converged
+                + (residuals.length > 0 ? ", residual=" + residuals[residuals.length - 1] : "");
+        }
+    }
+
+    /**
+     * PageRank with the default damping, tolerance and iteration cap on the common pool.
+     */
+    public static Result compute(CompactGraph graph) {
+        return compute(graph, DEFAULT_DAMPING, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Iterate until the L1 change drops below tolerance or maxIterations is reached.
+     */
+    public static Result compute(CompactGraph graph, double damping, double tolerance, int maxIterations,
+                                 ForkJoinPool pool) {
+        if (damping < 0 || damping > 1) {
+            throw new IllegalArgumentException("Damping must be in [0, 1]: " + damping);
+        }
+        int n = graph.getVertexCount();
+        if (n == 0) {
+            return new Result(new double[0], new double[0], true);
+        }
+        CompactGraph incoming = graph.reverse();
+        int[] outDegree = new int[n];
+        for (int v = 0; v < n; v++) {
+            outDegree[v] = graph.endEdge(v) - graph.firstEdge(v);
+        }
+        double[] rank = new double[n];
+        double[] next = new double[n];
+        double[] contribution = new double[n];
+        Arrays.fill(rank, 1.0 / n);
+        double[] residuals = new double[maxIterations];
+        int iterations = 0;
+        boolean converged = false;
+
+        while (iterations < maxIterations && !converged) {
+            double dangling = pool.invoke(new ContributionTask(rank, outDegree, contribution, 0, n));
+            double base = (1 - damping) / n + damping * dangling / n;
+            double residual = pool.invoke(new PullTask(incoming, contribution, rank, next, base, damping, 0, n));
+            double[] swap = rank;
+            rank = next;
+            next = swap;
+            residuals[iterations++] = residual;
+            converged = residual < tolerance;
+        }
+        return new Result(rank, Arrays.copyOf(residuals, iterations), converged);
+    }
+
+    /**
+     * contribution[v] = rank[v] / outDegree[v]; returns the rank held by dangling vertices.
+     */
+    private static class ContributionTask extends RecursiveTask<Double> {
+        private final double[] rank;
+        private final int[] outDegree;
+        private final double[] contribution;
+        private final int from;
+        private final int to;
+
+        ContributionTask(double[] rank, int[] outDegree, double[] contribution, int from, int to) {
+            this.rank = rank;
+            this.outDegree = outDegree;
+            this.contribution = contribution;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Double compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                ContributionTask left = new ContributionTask(rank, outDegree, contribution, from, mid);
+                left.fork();
+                double right = new ContributionTask(rank, outDegree, contribution, mid, to).compute();
+                return left.join() + right;
+            }
+            double dangling = 0;
+            for (int v = from; v < to; v++) {
+                if (outDegree[v] == 0) {
+                    contribution[v] = 0;
+                    dangling += rank[v];
+                } else {
+                    contribution[v] = rank[v] / outDegree[v];
+                }
+            }
+            return dangling;
+        }
+    }
+
+    /**
+     * next[v] = base + damping * sum of contributions over in-edges; returns the L1 change.
+     */
+    private static class PullTask extends RecursiveTask<Double> {
+        private final CompactGraph incoming;
+        private final double[] contribution;
+        private final double[] rank;
+        private final double[] next;
+        private final double base;
+        private final double damping;
+        private final int from;
+        private final int to;
+
+        PullTask(CompactGraph incoming, double[] contribution, double[] rank, double[] next,
+                 double base, double damping, int from, int to) {
+            this.incoming = incoming;
+            this.contribution = contribution;
+            this.rank = rank;
+            this.next = next;
+            this.base = base;
+            this.damping = damping;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Double compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                PullTask left = new PullTask(incoming, contribution, rank, next, base, damping, from, mid);
+                left.fork();
+                double right = new PullTask(incoming, contribution, rank, next, base, damping, mid, to).compute();
+                return left.join() + right;
+            }
+            double residual = 0;
+            for (int v = from; v < to; v++) {
+                double sum = 0;
+                for (int e = incoming.firstEdge(v); e < incoming.endEdge(v); e++) {
+                    sum += contribution[incoming.target(e)];
+                }
+                double value = base + damping * sum;
+                residual += Math.abs(value - rank[v]);
+                next[v] = value;
+            }
+            return residual;
+        }
+    }
+}
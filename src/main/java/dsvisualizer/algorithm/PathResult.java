@@ -0,0 +1,90 @@
+package dsvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Distances and shortest-path tree from a shortest-path search, over dense vertex indices.
+ * Unreached vertices have distance +infinity and parent -1.
+ */
+public class PathResult {
+    private final int source;
+    private final int target;
+    private final double[] distance;
+    private final int[] parent;
+    private final int settledCount;
+    private final int relaxationCount;
+
+    PathResult(int source, int target, double[] distance, int[] parent, int settledCount, int relaxationCount) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+        this.parent = parent;
+        this.settledCount = settledCount;
+        this.relaxationCount = relaxationCount;
+    }
+
+    /**
+     * Get the path from the source to vertex as dense indices (empty if unreachable).
+     */
+    public int[] pathTo(int vertex) {
+        if (distance[vertex] == Double.POSITIVE_INFINITY) {
+            return new int[0];
+        }
+        int length = 1;
+        for (int v = vertex; v != source; v = parent[v]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int v = vertex, i = length - 1; i >= 0; v = parent[v], i--) {
+            path[i] = v;
+        }
+        return path;
+    }
+
+    /**
+     * Get distance from the source to a vertex.
+     */
+    public double distanceTo(int vertex) {
+        return distance[vertex];
+    }
+
+    /**
+     * Get the distance array (shared, do not modify).
+     */
+    public double[] getDistances() {
+        return distance;
+    }
+
+    /**
+     * Get the parent array (shared, do not modify).
+     */
+    public int[] getParents() {
+        return parent;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Get the target vertex, or -1 for a single-source search over the whole graph.
+     */
+    public int getTarget() {
+        return target;
+    }
+
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    public int getRelaxationCount() {
+        return relaxationCount;
+    }
+
+    @Override
+    public String toString() {
+        return "settled=" + settledCount + ", relaxations=" + relaxationCount
+            + (target >= 0 ? ", distance=" + distance[target] : ", reached="
+                + Arrays.stream(distance).filter(d -> d != Double.POSITIVE_INFINITY).count());
+    }
+}
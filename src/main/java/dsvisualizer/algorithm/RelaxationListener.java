@@ -0,0 +1,18 @@
+package dsvisualizer.algorithm;
+
+/**
+ * Receives shortest-path search events over dense vertex indices; every method is optional.
+ */
+public interface RelaxationListener {
+    /**
+     * A vertex's distance became final (backward marks the reverse search of a bidirectional run).
+     */
+    default void settled(int vertex, double distance, boolean backward) {
+    }
+
+    /**
+     * An edge lowered the tentative distance of to.
+     */
+    default void relaxed(int from, int to, double distance, boolean backward) {
+    }
+}
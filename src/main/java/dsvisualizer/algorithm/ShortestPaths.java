@@ -0,0 +1,146 @@
+package dsvisualizer.algorithm;
+
+import dsvisualizer.model.CompactGraph;
+import dsvisualizer.model.IndexedHeap;
+
+import java.util.Arrays;
+
+/**
+ * Single-pair and single-source shortest paths over a CompactGraph with non-negative weights.
+ * All searches use an indexed 4-ary heap with decrease-key, so the heap never holds
+ * stale duplicates.
+ */
+public class ShortestPaths {
+    static final int HEAP_ARITY = 4;
+
+    private static final RelaxationListener NO_EVENTS = new RelaxationListener() { };
+
+    /**
+     * Dijkstra from source; stops once target is settled (pass -1 to reach every vertex).
+     */
+    public static PathResult dijkstra(CompactGraph graph, int source, int target, RelaxationListener listener) {
+        return aStar(graph, source, target, null, listener);
+    }
+
+    /**
+     * A* from source to target; with a null heuristic this is plain Dijkstra.
+     * Vertices may be re-opened, so an admissible but inconsistent heuristic is still correct.
+     */
+    public static PathResult aStar(CompactGraph graph, int source, int target, Heuristic heuristic,
+                                   RelaxationListener listener) {
+        RelaxationListener events = listener != null ? listener : NO_EVENTS;
+        int n = graph.getVertexCount();
+        double[] distance = new double[n];
+        int[] parent = new int[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(parent, -1);
+        IndexedHeap open = new IndexedHeap(n, HEAP_ARITY);
+
+        distance[source] = 0;
+        open.insert(source, estimate(heuristic, source, target));
+        int settled = 0;
+        int relaxations = 0;
+        while (!open.isEmpty()) {
+            int u = open.extractMin();
+            settled++;
+            events.settled(u, distance[u], false);
+            if (u == target) {
+                break;
+            }
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                double candidate = distance[u] + checkedWeight(graph, e);
+                if (candidate < distance[v]) {
+                    distance[v] = candidate;
+                    parent[v] = u;
+                    relaxations++;
+                    open.insertOrDecrease(v, candidate + estimate(heuristic, v, target));
+                    events.relaxed(u, v, candidate, false);
+                }
+            }
+        }
+        return new PathResult(source, target, distance, parent, settled, relaxations);
+    }
+
+    /**
+     * Bidirectional Dijkstra: searches forward from source and backward from target
+     * (on the reversed graph) until the two frontiers prove the best meeting point.
+     * The returned arrays hold forward distances, with the best path completed through the
+     * backward half so pathTo(target) works.
+     */
+    public static PathResult bidirectionalDijkstra(CompactGraph graph, CompactGraph reverse, int source, int target,
+                                                   RelaxationListener listener) {
+        RelaxationListener events = listener != null ? listener : NO_EVENTS;
+        int n = graph.getVertexCount();
+        double[] forward = new double[n];
+        double[] backward = new double[n];
+        int[] forwardParent = new int[n];
+        int[] backwardParent = new int[n];
+        Arrays.fill(forward, Double.POSITIVE_INFINITY);
+        Arrays.fill(backward, Double.POSITIVE_INFINITY);
+        Arrays.fill(forwardParent, -1);
+        Arrays.fill(backwardParent, -1);
+        IndexedHeap forwardHeap = new IndexedHeap(n, HEAP_ARITY);
+        IndexedHeap backwardHeap = new IndexedHeap(n, HEAP_ARITY);
+
+        forward[source] = 0;
+        backward[target] = 0;
+        forwardHeap.insert(source, 0);
+        backwardHeap.insert(target, 0);
+        double best = source == target ? 0 : Double.POSITIVE_INFINITY;
+        int meeting = source == target ? source : -1;
+        int settled = 0;
+        int relaxations = 0;
+
+        while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()
+                && forwardHeap.peekKey() + backwardHeap.peekKey() < best) {
+            boolean isForward = forwardHeap.peekKey() <= backwardHeap.peekKey();
+            CompactGraph g = isForward ? graph : reverse;
+            IndexedHeap heap = isForward ? forwardHeap : backwardHeap;
+            double[] dist = isForward ? forward : backward;
+            double[] otherDist = isForward ? backward : forward;
+            int[] par = isForward ? forwardParent : backwardParent;
+
+            int u = heap.extractMin();
+            settled++;
+            events.settled(u, dist[u], !isForward);
+            for (int e = g.firstEdge(u); e < g.endEdge(u); e++) {
+                int v = g.target(e);
+                double candidate = dist[u] + checkedWeight(g, e);
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    par[v] = u;
+                    relaxations++;
+                    heap.insertOrDecrease(v, candidate);
+                    events.relaxed(u, v, candidate, !isForward);
+                }
+                if (otherDist[v] != Double.POSITIVE_INFINITY && dist[v] + otherDist[v] < best) {
+                    best = dist[v] + otherDist[v];
+                    meeting = v;
+                }
+            }
+        }
+
+        // Splice the backward half of the best path into the forward arrays
+        if (meeting >= 0) {
+            for (int v = meeting; v != target; v = backwardParent[v]) {
+                int next = backwardParent[v];
+                forwardParent[next] = v;
+                forward[next] = best - backward[next];
+            }
+        }
+        return new PathResult(source, target, forward, forwardParent, settled, relaxations);
+    }
+
+    private static double estimate(Heuristic heuristic, int vertex, int target) {
+        return heuristic == null || target < 0 ? 0 : heuristic.estimate(vertex, target);
+    }
+
+    private static double checkedWeight(CompactGraph graph, int edge) {
+        double weight = graph.weight(edge);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative edge weight: " + weight);
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,37 @@
+package dsvisualizer.algorithm;
+
+/**
+ * Sorting algorithms supported by SortEngine.
+ */
+public enum SortAlgorithm {
+    INSERTION("Insertion Sort"),
+    DUAL_PIVOT_QUICK("Dual-Pivot Quicksort"),
+    BOTTOM_UP_MERGE("Bottom-Up Merge Sort"),
+    LSD_RADIX("LSD Radix Sort"),
+    PARALLEL_MERGE("Parallel Merge Sort");
+
+    private final String displayName;
+
+    SortAlgorithm(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Get name shown in menus and status messages.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Find algorithm by display name (returns null if unknown).
+     */
+    public static SortAlgorithm fromDisplayName(String name) {
+        for (SortAlgorithm algorithm : values()) {
+            if (algorithm.displayName.equals(name)) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+}
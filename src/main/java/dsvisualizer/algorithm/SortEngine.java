@@ -0,0 +1,497 @@
+package dsvisualizer.algorithm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts int[] ranges [from, to) in place.
+ *
+ * sort() is instrumented: it counts comparisons, swaps and moves and reports each
+ * element event to a SortListener. sortFast() runs the same algorithms without any
+ * bookkeeping, for benchmarking against Arrays.sort / Arrays.parallelSort.
+ */
+public class SortEngine {
+    private static final int INSERTION_CUTOFF = 27;
+    private static final int MERGE_RUN = 32;
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_BUCKETS = 1 << RADIX_BITS;
+
+    private static final SortListener NO_LISTENER = new SortListener() { };
+
+    /**
+     * Sort with instrumentation; listener may be null.
+     */
+    public static SortStats sort(int[] a, int from, int to, SortAlgorithm algorithm, SortListener listener) {
+        checkRange(a, from, to);
+        SortStats stats = new SortStats(algorithm);
+        Instrumented sorter = new Instrumented(a, stats, listener == null ? NO_LISTENER : listener);
+        long start = System.nanoTime();
+        switch (algorithm) {
+            case INSERTION:
+                sorter.insertionSort(from, to);
+                break;
+            case DUAL_PIVOT_QUICK:
+                sorter.dualPivotQuicksort(from, to - 1);
+                break;
+            case BOTTOM_UP_MERGE:
+                sorter.bottomUpMergeSort(from, to, new int[to - from], from);
+                break;
+            case LSD_RADIX:
+                sorter.radixSort(from, to);
+                break;
+            case PARALLEL_MERGE:
+                ForkJoinPool.commonPool().invoke(sorter.new ParallelMergeTask(from, to, new int[to - from], from));
+                break;
+        }
+        stats.setElapsedNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * Sort without instrumentation.
+     */
+    public static void sortFast(int[] a, int from, int to, SortAlgorithm algorithm) {
+        checkRange(a, from, to);
+        switch (algorithm) {
+            case INSERTION:
+                insertionSort(a, from, to);
+                break;
+            case DUAL_PIVOT_QUICK:
+                dualPivotQuicksort(a, from, to - 1);
+                break;
+            case BOTTOM_UP_MERGE:
+                bottomUpMergeSort(a, from, to, new int[to - from], from);
+                break;
+            case LSD_RADIX:
+                radixSort(a, from, to);
+                break;
+            case PARALLEL_MERGE:
+                ForkJoinPool.commonPool().invoke(new ParallelMergeTask(a, from, to, new int[to - from], from));
+                break;
+        }
+    }
+
+    private static void checkRange(int[] a, int from, int to) {
+        if (from < 0 || to > a.length || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range: [" + from + ", " + to + ")");
+        }
+    }
+
+    // ---------------------------------------------------------------------------------
+    // Fast path
+
+    private static void insertionSort(int[] a, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = a[i];
+            int j = i - 1;
+            while (j >= from && a[j] > key) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+    }
+
+    /**
+     * Yaroslavskiy dual-pivot partitioning on the inclusive range [left, right].
+     */
+    private static void dualPivotQuicksort(int[] a, int left, int right) {
+        if (right - left < INSERTION_CUTOFF) {
+            insertionSort(a, left, right + 1);
+            return;
+        }
+        // Tertile pivots guard against sorted and reverse-sorted input
+        int third = (right - left) / 3;
+        swap(a, left, left + third);
+        swap(a, right, right - third);
+        if (a[left] > a[right]) {
+            swap(a, left, right);
+        }
+        int p = a[left];
+        int q = a[right];
+        if (p == q) {
+            threeWayPartitionSort(a, left, right);
+            return;
+        }
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; k++) {
+            if (a[k] < p) {
+                swap(a, k, less++);
+            } else if (a[k] > q) {
+                while (k < great && a[great] > q) {
+                    great--;
+                }
+                swap(a, k, great--);
+                if (a[k] < p) {
+                    swap(a, k, less++);
+                }
+            }
+        }
+        less--;
+        great++;
+        swap(a, left, less);
+        swap(a, right, great);
+        dualPivotQuicksort(a, left, less - 1);
+        dualPivotQuicksort(a, less + 1, great - 1);
+        dualPivotQuicksort(a, great + 1, right);
+    }
+
+    /**
+     * Equal pivots: partition into < p, == p, > p and recurse on the outer parts only.
+     */
+    private static void threeWayPartitionSort(int[] a, int left, int right) {
+        int p = a[left];
+        int lt = left;
+        int gt = right;
+        int k = left;
+        while (k <= gt) {
+            if (a[k] < p) {
+                swap(a, lt++, k++);
+            } else if (a[k] > p) {
+                swap(a, k, gt--);
+            } else {
+                k++;
+            }
+        }
+        dualPivotQuicksort(a, left, lt - 1);
+        dualPivotQuicksort(a, gt + 1, right);
+    }
+
+    /**
+     * Insertion-sorted runs, then merge passes that ping-pong between a and aux.
+     * aux[i - auxBase] is scratch space for a[i].
+     */
+    private static void bottomUpMergeSort(int[] a, int from, int to, int[] aux, int auxBase) {
+        int n = to - from;
+        for (int lo = 0; lo < n; lo += MERGE_RUN) {
+            insertionSort(a, from + lo, from + Math.min(lo + MERGE_RUN, n));
+        }
+        int[] src = a;
+        int[] dst = aux;
+        int srcOff = from;
+        int dstOff = from - auxBase;
+        for (int width = MERGE_RUN; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + 2 * width, n);
+                merge(src, srcOff, dst, dstOff, lo, mid, hi);
+            }
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpOff = srcOff;
+            srcOff = dstOff;
+            dstOff = tmpOff;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    private static void merge(int[] src, int srcOff, int[] dst, int dstOff, int lo, int mid, int hi) {
+        int i = lo;
+        int j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (i < mid && (j >= hi || src[srcOff + i] <= src[srcOff + j])) {
+                dst[dstOff + k] = src[srcOff + i++];
+            } else {
+                dst[dstOff + k] = src[srcOff + j++];
+            }
+        }
+    }
+
+    /**
+     * Four 8-bit counting passes on sign-flipped keys; passes where every key falls
+     * into one bucket are skipped.
+     */
+    private static void radixSort(int[] a, int from, int to) {
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        int[] src = a;
+        int[] dst = new int[n];
+        int srcOff = from;
+        int dstOff = 0;
+        int[] counts = new int[RADIX_BUCKETS];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            java.util.Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[radixDigit(src[srcOff + i], shift)]++;
+            }
+            if (counts[radixDigit(src[srcOff], shift)] == n) {
+                continue;
+            }
+            int sum = 0;
+            for (int b = 0; b < RADIX_BUCKETS; b++) {
+                int count = counts[b];
+                counts[b] = sum;
+                sum += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int value = src[srcOff + i];
+                dst[dstOff + counts[radixDigit(value, shift)]++] = value;
+            }
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpOff = srcOff;
+            srcOff = dstOff;
+            dstOff = tmpOff;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    private static int radixDigit(int value, int shift) {
+        return ((value ^ Integer.MIN_VALUE) >>> shift) & (RADIX_BUCKETS - 1);
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
+
+    /**
+     * Fork-join merge sort: halves are sorted in parallel down to PARALLEL_THRESHOLD,
+     * then merged through the shared aux buffer.
+     */
+    private static class ParallelMergeTask extends RecursiveAction {
+        private final int[] a;
+        private final int from;
+        private final int to;
+        private final int[] aux;
+        private final int auxBase;
+
+        ParallelMergeTask(int[] a, int from, int to, int[] aux, int auxBase) {
+            this.a = a;
+            this.from = from;
+            this.to = to;
+            this.aux = aux;
+            this.auxBase = auxBase;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                bottomUpMergeSort(a, from, to, aux, auxBase);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ParallelMergeTask(a, from, mid, aux, auxBase),
+                      new ParallelMergeTask(a, mid, to, aux, auxBase));
+            if (a[mid - 1] <= a[mid]) {
+                return;
+            }
+            System.arraycopy(a, from, aux, from - auxBase, to - from);
+            merge(aux, -auxBase, a, 0, from, mid, to);
+        }
+    }
+
+    // ---------------------------------------------------------------------------------
+    // Instrumented path: same algorithms, every element access goes through the probe
+
+    private static final class Instrumented {
+        private final int[] a;
+        private final SortStats stats;
+        private final SortListener listener;
+
+        Instrumented(int[] a, SortStats stats, SortListener listener) {
+            this.a = a;
+            this.stats = stats;
+            this.listener = listener;
+        }
+
+        private boolean greater(int i, int j) {
+            stats.addComparison();
+            listener.compare(i, j);
+            return a[i] > a[j];
+        }
+
+        private void swap(int i, int j) {
+            stats.addSwap();
+            listener.swap(i, j);
+            int tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+
+        private void write(int index, int value) {
+            stats.addMoves(1);
+            listener.write(index, value);
+            a[index] = value;
+        }
+
+        void insertionSort(int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                for (int j = i; j > from && greater(j - 1, j); j--) {
+                    swap(j - 1, j);
+                }
+            }
+        }
+
+        void dualPivotQuicksort(int left, int right) {
+            if (right - left < INSERTION_CUTOFF) {
+                insertionSort(left, right + 1);
+                return;
+            }
+            int third = (right - left) / 3;
+            swap(left, left + third);
+            swap(right, right - third);
+            if (greater(left, right)) {
+                swap(left, right);
+            }
+            // Pivots stay at a[left] and a[right] until the final swaps
+            int p = a[left];
+            int q = a[right];
+            if (p == q) {
+                threeWayPartitionSort(left, right);
+                return;
+            }
+            int less = left + 1;
+            int great = right - 1;
+            for (int k = less; k <= great; k++) {
+                if (greater(left, k)) {
+                    swap(k, less++);
+                } else if (greater(k, right)) {
+                    while (k < great && greater(great, right)) {
+                        great--;
+                    }
+                    swap(k, great--);
+                    if (greater(left, k)) {
+                        swap(k, less++);
+                    }
+                }
+            }
+            less--;
+            great++;
+            swap(left, less);
+            swap(right, great);
+            dualPivotQuicksort(left, less - 1);
+            dualPivotQuicksort(less + 1, great - 1);
+            dualPivotQuicksort(great + 1, right);
+        }
+
+        private void threeWayPartitionSort(int left, int right) {
+            int p = a[left];
+            int lt = left;
+            int gt = right;
+            int k = left;
+            while (k <= gt) {
+                stats.addComparison();
+                listener.compare(k, lt);
+                if (a[k] < p) {
+                    swap(lt++, k++);
+                } else if (a[k] > p) {
+                    swap(k, gt--);
+                } else {
+                    k++;
+                }
+            }
+            dualPivotQuicksort(left, lt - 1);
+            dualPivotQuicksort(gt + 1, right);
+        }
+
+        /**
+         * Merges always copy the run into aux and write back into a, so every
+         * write-back is visible to the listener.
+         */
+        void bottomUpMergeSort(int from, int to, int[] aux, int auxBase) {
+            int n = to - from;
+            for (int lo = from; lo < to; lo += MERGE_RUN) {
+                insertionSort(lo, Math.min(lo + MERGE_RUN, to));
+            }
+            for (int width = MERGE_RUN; width < n; width *= 2) {
+                for (int lo = from; lo < to; lo += 2 * width) {
+                    int mid = Math.min(lo + width, to);
+                    int hi = Math.min(lo + 2 * width, to);
+                    merge(lo, mid, hi, aux, auxBase);
+                }
+            }
+        }
+
+        void merge(int lo, int mid, int hi, int[] aux, int auxBase) {
+            if (mid >= hi) {
+                return;
+            }
+            System.arraycopy(a, lo, aux, lo - auxBase, hi - lo);
+            stats.addMoves(hi - lo);
+            int i = lo;
+            int j = mid;
+            for (int k = lo; k < hi; k++) {
+                if (i >= mid) {
+                    write(k, aux[j++ - auxBase]);
+                } else if (j >= hi) {
+                    write(k, aux[i++ - auxBase]);
+                } else {
+                    stats.addComparison();
+                    listener.compare(i, j);
+                    if (aux[i - auxBase] <= aux[j - auxBase]) {
+                        write(k, aux[i++ - auxBase]);
+                    } else {
+                        write(k, aux[j++ - auxBase]);
+                    }
+                }
+            }
+        }
+
+        void radixSort(int from, int to) {
+            int n = to - from;
+            int[] buffer = new int[n];
+            int[] counts = new int[RADIX_BUCKETS];
+            for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+                java.util.Arrays.fill(counts, 0);
+                for (int i = from; i < to; i++) {
+                    counts[radixDigit(a[i], shift)]++;
+                }
+                if (n == 0 || counts[radixDigit(a[from], shift)] == n) {
+                    continue;
+                }
+                int sum = 0;
+                for (int b = 0; b < RADIX_BUCKETS; b++) {
+                    int count = counts[b];
+                    counts[b] = sum;
+                    sum += count;
+                }
+                // Scatter into the buffer, then write back so each pass is visible
+                for (int i = from; i < to; i++) {
+                    buffer[counts[radixDigit(a[i], shift)]++] = a[i];
+                }
+                stats.addMoves(n);
+                for (int i = 0; i < n; i++) {
+                    write(from + i, buffer[i]);
+                }
+            }
+        }
+
+        private final class ParallelMergeTask extends RecursiveAction {
+            private final int from;
+            private final int to;
+            private final int[] aux;
+            private final int auxBase;
+
+            ParallelMergeTask(int from, int to, int[] aux, int auxBase) {
+                this.from = from;
+                this.to = to;
+                this.aux = aux;
+                this.auxBase = auxBase;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from <= PARALLEL_THRESHOLD) {
+                    bottomUpMergeSort(from, to, aux, auxBase);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new ParallelMergeTask(from, mid, aux, auxBase),
+                          new ParallelMergeTask(mid, to, aux, auxBase));
+                merge(from, mid, to, aux, auxBase);
+            }
+        }
+    }
+}
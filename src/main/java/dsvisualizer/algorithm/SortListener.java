@@ -0,0 +1,27 @@
+package dsvisualizer.algorithm;
+
+/**
+ * Receives element-level events from an instrumented sort.
+ * Indices refer to positions in the array being sorted. Parallel sorts call the
+ * listener from several threads, so implementations must be thread-safe.
+ */
+public interface SortListener {
+
+    /**
+     * Elements at i and j are being compared.
+     */
+    default void compare(int i, int j) {
+    }
+
+    /**
+     * Elements at i and j were swapped.
+     */
+    default void swap(int i, int j) {
+    }
+
+    /**
+     * Value was written to index (merge and radix passes).
+     */
+    default void write(int index, int value) {
+    }
+}
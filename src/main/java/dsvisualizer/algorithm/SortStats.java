@@ -0,0 +1,61 @@
+package dsvisualizer.algorithm;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Operation counts collected by an instrumented sort.
+ * Moves count every element copy, including copies into and out of scratch buffers.
+ */
+public class SortStats {
+    private final SortAlgorithm algorithm;
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private long elapsedNanos;
+
+    public SortStats(SortAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    void addComparison() {
+        comparisons.increment();
+    }
+
+    void addSwap() {
+        swaps.increment();
+    }
+
+    void addMoves(long count) {
+        moves.add(count);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public SortAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return algorithm.getDisplayName() + ": " + getComparisons() + " comparisons, "
+            + getSwaps() + " swaps, " + getMoves() + " moves";
+    }
+}
@@ -0,0 +1,76 @@
+package dsvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * SortListener that records events for later replay, up to a fixed number of events.
+ * Each event is stored as three ints: type, first index, second index or written value.
+ */
+public class SortTrace implements SortListener {
+    public static final int COMPARE = 0;
+    public static final int SWAP = 1;
+    public static final int WRITE = 2;
+
+    private final int maxEvents;
+    private int[] events;
+    private int eventCount;
+    private boolean truncated;
+
+    public SortTrace(int maxEvents) {
+        this.maxEvents = maxEvents;
+        this.events = new int[3 * Math.min(maxEvents, 1024)];
+    }
+
+    @Override
+    public synchronized void compare(int i, int j) {
+        record(COMPARE, i, j);
+    }
+
+    @Override
+    public synchronized void swap(int i, int j) {
+        record(SWAP, i, j);
+    }
+
+    @Override
+    public synchronized void write(int index, int value) {
+        record(WRITE, index, value);
+    }
+
+    private void record(int type, int a, int b) {
+        if (eventCount >= maxEvents) {
+            truncated = true;
+            return;
+        }
+        if (3 * eventCount + 3 > events.length) {
+            events = Arrays.copyOf(events, Math.min(events.length * 2, 3 * maxEvents));
+        }
+        int base = 3 * eventCount;
+        events[base] = type;
+        events[base + 1] = a;
+        events[base + 2] = b;
+        eventCount++;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public int getType(int event) {
+        return events[3 * event];
+    }
+
+    public int getFirst(int event) {
+        return events[3 * event + 1];
+    }
+
+    public int getSecond(int event) {
+        return events[3 * event + 2];
+    }
+
+    /**
+     * Check if events were dropped because the limit was reached.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,78 @@
+package dsvisualizer.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Minimum spanning forest as dense-index edges in the order they were selected.
+ */
+public class SpanningForest {
+    private final int[] from;
+    private final int[] to;
+    private final double[] weight;
+    private final int treeCount;
+    private final int rounds;
+    private final double totalWeight;
+
+    SpanningForest(int[] from, int[] to, double[] weight, int edgeCount, int vertexCount, int rounds) {
+        this.from = Arrays.copyOf(from, edgeCount);
+        this.to = Arrays.copyOf(to, edgeCount);
+        this.weight = Arrays.copyOf(weight, edgeCount);
+        this.treeCount = vertexCount - edgeCount;
+        this.rounds = rounds;
+        // Every minimum spanning forest has the same multiset of weights; summing them in
+        // sorted order makes the total bit-identical whichever algorithm built the forest.
+        double[] sorted = this.weight.clone();
+        Arrays.sort(sorted);
+        double total = 0;
+        for (double w : sorted) {
+            total += w;
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Get number of selected edges.
+     */
+    public int getEdgeCount() {
+        return from.length;
+    }
+
+    public int getFrom(int i) {
+        return from[i];
+    }
+
+    public int getTo(int i) {
+        return to[i];
+    }
+
+    public double getWeight(int i) {
+        return weight[i];
+    }
+
+    /**
+     * Get sum of selected edge weights.
+     */
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Get number of trees (1 for a connected graph).
+     */
+    public int getTreeCount() {
+        return treeCount;
+    }
+
+    /**
+     * Get number of contraction rounds (Borůvka) or 1 for the sequential algorithms.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    @Override
+    public String toString() {
+        return "edges=" + from.length + ", weight=" + totalWeight + ", trees=" + treeCount
+            + (rounds > 1 ? ", rounds=" + rounds : "");
+    }
+}
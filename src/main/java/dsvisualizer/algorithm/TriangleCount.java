@@ -0,0 +1,136 @@
+package dsvisualizer.algorithm;
+
+import dsvisualizer.model.CompactGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Triangle counting by sorted-adjacency intersection. Edges are oriented from lower to higher
+ * (degree, index) rank, so each triangle is counted exactly once and high-degree vertices keep
+ * short lists. Direction, self-loops and duplicate edges are ignored.
+ */
+public class TriangleCount {
+    static final int PARALLEL_THRESHOLD = 1 << 10;
+
+    /**
+     * Count triangles on the common pool.
+     */
+    public static long count(CompactGraph graph) {
+        return count(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Count triangles, intersecting oriented lists in parallel over vertex ranges.
+     */
+    public static long count(CompactGraph graph, ForkJoinPool pool) {
+        int n = graph.getVertexCount();
+        CompactGraph reverse = graph.isDirected() ? graph.reverse() : null;
+        int[] degree = new int[n];
+        for (int v = 0; v < n; v++) {
+            degree[v] = graph.endEdge(v) - graph.firstEdge(v)
+                + (reverse != null ? reverse.endEdge(v) - reverse.firstEdge(v) : 0);
+        }
+
+        // Oriented adjacency: v keeps only neighbors of higher rank, sorted and deduplicated
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v] + countHigher(graph, v, degree) + (reverse != null ? countHigher(reverse, v, degree) : 0);
+        }
+        int[] targets = new int[offsets[n]];
+        int[] compactOffsets = new int[n + 1];
+        int write = 0;
+        for (int v = 0; v < n; v++) {
+            int start = offsets[v];
+            int end = copyHigher(graph, v, degree, targets, start);
+            if (reverse != null) {
+                end = copyHigher(reverse, v, degree, targets, end);
+            }
+            Arrays.sort(targets, start, end);
+            compactOffsets[v] = write;
+            for (int i = start; i < end; i++) {
+                if (i == start || targets[i] != targets[i - 1]) {
+                    targets[write++] = targets[i];
+                }
+            }
+        }
+        compactOffsets[n] = write;
+        return pool.invoke(new IntersectTask(compactOffsets, targets, 0, n));
+    }
+
+    private static boolean higher(int v, int w, int[] degree) {
+        return degree[w] > degree[v] || (degree[w] == degree[v] && w > v);
+    }
+
+    private static int countHigher(CompactGraph graph, int v, int[] degree) {
+        int count = 0;
+        for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+            if (higher(v, graph.target(e), degree)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int copyHigher(CompactGraph graph, int v, int[] degree, int[] targets, int position) {
+        for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+            int w = graph.target(e);
+            if (higher(v, w, degree)) {
+                targets[position++] = w;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Sums |N+(v) ∩ N+(w)| over oriented edges (v, w) with v in [from, to).
+     */
+    private static class IntersectTask extends RecursiveTask<Long> {
+        private final int[] offsets;
+        private final int[] targets;
+        private final int from;
+        private final int to;
+
+        IntersectTask(int[] offsets, int[] targets, int from, int to) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > PARALLEL_THRESHOLD && offsets[to] - offsets[from] > PARALLEL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                IntersectTask left = new IntersectTask(offsets, targets, from, mid);
+                left.fork();
+                long right = new IntersectTask(offsets, targets, mid, to).compute();
+                return left.join() + right;
+            }
+            long triangles = 0;
+            for (int v = from; v < to; v++) {
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int w = targets[e];
+                    // Merge the two sorted lists
+                    int i = offsets[v];
+                    int j = offsets[w];
+                    while (i < offsets[v + 1] && j < offsets[w + 1]) {
+                        int a = targets[i];
+                        int b = targets[j];
+                        if (a == b) {
+                            triangles++;
+                            i++;
+                            j++;
+                        } else if (a < b) {
+                            i++;
+                        } else {
+                            j++;
+                        }
+                    }
+                }
+            }
+            return triangles;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import javafx.scene.Node;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Shape;
 import javafx.util.Duration;
+import dsvisualizer.metrics.OperationMetrics;
 import dsvisualizer.util.Constants;
 
 /**
@@ -31,7 +32,7 @@ public class AnimationFactory {
         );
         
         SequentialTransition sequence = new SequentialTransition(fillTransition, reverseTransition);
-        return sequence;
+        return OperationMetrics.track(sequence);
     }
 
     /**
@@ -51,7 +52,7 @@ public class AnimationFactory {
         scaleDown.setToY(1.0);
         
         SequentialTransition sequence = new SequentialTransition(scaleUp, scaleDown);
-        return sequence;
+        return OperationMetrics.track(sequence);
     }
 
     /**
@@ -78,7 +79,7 @@ public class AnimationFactory {
         );
         shakeTimeline.getKeyFrames().add(kfEnd);
         
-        return shakeTimeline;
+        return OperationMetrics.track(shakeTimeline);
     }
 
     /**
@@ -114,7 +115,7 @@ public class AnimationFactory {
         );
         
         SequentialTransition sequence = new SequentialTransition(flash1, flash2, flash3, flash4);
-        return sequence;
+        return OperationMetrics.track(sequence);
     }
 
     /**
@@ -124,7 +125,7 @@ public class AnimationFactory {
         TranslateTransition transition = new TranslateTransition(Duration.millis(durationMs), node);
         transition.setToX(toX);
         transition.setToY(toY);
-        return transition;
+        return OperationMetrics.track(transition);
     }
 
     /**
@@ -134,7 +135,7 @@ public class AnimationFactory {
         FadeTransition transition = new FadeTransition(Duration.millis(durationMs), node);
         transition.setFromValue(0.0);
         transition.setToValue(1.0);
-        return transition;
+        return OperationMetrics.track(transition);
     }
 
     /**
@@ -144,7 +145,7 @@ public class AnimationFactory {
         FadeTransition transition = new FadeTransition(Duration.millis(durationMs), node);
         transition.setFromValue(1.0);
         transition.setToValue(0.0);
-        return transition;
+        return OperationMetrics.track(transition);
     }
 
     /**
@@ -154,7 +155,7 @@ public class AnimationFactory {
         node.setTranslateY(startY - endY);
         TranslateTransition transition = new TranslateTransition(Duration.millis(durationMs), node);
         transition.setToY(0);
-        return transition;
+        return OperationMetrics.track(transition);
     }
 
     /**
@@ -162,7 +163,7 @@ public class AnimationFactory {
      */
     public static Transition changeColor(Shape node, Color fromColor, Color toColor, int durationMs) {
         FillTransition transition = new FillTransition(Duration.millis(durationMs), node, fromColor, toColor);
-        return transition;
+        return OperationMetrics.track(transition);
     }
 
     /**
@@ -170,7 +171,7 @@ public class AnimationFactory {
      */
     public static SequentialTransition sequence(Transition... transitions) {
         SequentialTransition sequential = new SequentialTransition(transitions);
-        return sequential;
+        return OperationMetrics.track(sequential);
     }
 
     /**
@@ -178,6 +179,6 @@ public class AnimationFactory {
      */
     public static ParallelTransition parallel(Transition... transitions) {
         ParallelTransition parallel = new ParallelTransition(transitions);
-        return parallel;
+        return OperationMetrics.track(parallel);
     }
 }
@@ -1,9 +1,20 @@
 package dsvisualizer.controller;
 
+import javafx.animation.KeyFrame;
+import javafx.application.Platform;
 import javafx.animation.SequentialTransition;
+import javafx.animation.Timeline;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
+import javafx.util.Duration;
+import dsvisualizer.algorithm.SortAlgorithm;
+import dsvisualizer.algorithm.SortStats;
+import dsvisualizer.algorithm.SortTrace;
 import dsvisualizer.animation.AnimationFactory;
+import dsvisualizer.io.BinaryStore;
+import dsvisualizer.io.ExternalSort;
+import dsvisualizer.io.MappedIntArray;
+import dsvisualizer.metrics.OperationMetrics;
 import dsvisualizer.model.DynamicArray;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.ValidationUtil;
@@ -11,10 +22,36 @@ import dsvisualizer.view.ArrayVisualizer;
 import dsvisualizer.view.ControlPanel;
 import dsvisualizer.view.StatusPanel;
 
+import java.io.File;
+import java.io.IOException;
+
 /**
  * Controller for Array operations.
  */
 public class ArrayController {
+    public static final String OP_GAP_BUFFER = "Gap Buffer Mode";
+    public static final String OP_CONTIGUOUS = "Contiguous Mode";
+    public static final String OP_EXTERNAL_SORT = "External Sort File...";
+    public static final String OP_NO_RANGE_INDEX = "Range Index: None";
+    public static final String OP_SEGMENT_TREE = "Range Index: Segment Tree";
+    public static final String OP_FENWICK_TREE = "Range Index: Fenwick Tree";
+    public static final String OP_RANGE_SUM = "Range Sum";
+    public static final String OP_RANGE_MIN = "Range Min";
+    public static final String OP_RANGE_MAX = "Range Max";
+    public static final String OP_RANGE_ADD = "Range Add";
+    public static final String OP_SET = "Set Element";
+    public static final String[] OPERATIONS = {
+        OP_GAP_BUFFER, OP_CONTIGUOUS,
+        SortAlgorithm.INSERTION.getDisplayName(),
+        SortAlgorithm.DUAL_PIVOT_QUICK.getDisplayName(),
+        SortAlgorithm.BOTTOM_UP_MERGE.getDisplayName(),
+        SortAlgorithm.LSD_RADIX.getDisplayName(),
+        SortAlgorithm.PARALLEL_MERGE.getDisplayName(),
+        OP_EXTERNAL_SORT,
+        OP_NO_RANGE_INDEX, OP_SEGMENT_TREE, OP_FENWICK_TREE,
+        OP_RANGE_SUM, OP_RANGE_MIN, OP_RANGE_MAX, OP_RANGE_ADD, OP_SET
+    };
+
     private DynamicArray array;
     private ArrayVisualizer visualizer;
     private ControlPanel controlPanel;
@@ -31,7 +68,7 @@ public class ArrayController {
     }
 
     /**
-     * Insert element at end of array.
+     * Insert element at end of array, or at a position (expects "value" or "index value").
      */
     public void insert(String input) {
         try {
@@ -39,19 +76,42 @@ public class ArrayController {
                 statusPanel.setError("Please enter a value");
                 return;
             }
-            if (!ValidationUtil.isValidInteger(input)) {
+
+            String[] parts = input.trim().split("\\s+");
+            if (parts.length > 2) {
+                statusPanel.setError("Invalid format. Use: value or index value");
+                return;
+            }
+            if (!ValidationUtil.isValidInteger(parts[parts.length - 1])) {
                 statusPanel.setError("Invalid integer input");
                 return;
             }
+            if (parts.length == 2 && !ValidationUtil.isValidIntegerInRange(parts[0], 0, array.getSize())) {
+                statusPanel.setError("Invalid index");
+                return;
+            }
 
-            int value = Integer.parseInt(input);
-            int insertIndex = array.getSize();
+            int value = Integer.parseInt(parts[parts.length - 1]);
+            int insertIndex = parts.length == 2 ? Integer.parseInt(parts[0]) : array.getSize();
             
             statusPanel.setOperationLabel("Inserting " + value);
-            statusPanel.setPseudocode("array[" + insertIndex + "] = " + value);
-            statusPanel.setExplanation("Adding element at end of array (index " + insertIndex + ")");
+            if (insertIndex == array.getSize()) {
+                statusPanel.setPseudocode("array[" + insertIndex + "] = " + value);
+                statusPanel.setExplanation("Adding element at end of array (index " + insertIndex + ")");
+            } else if (array.getStorageMode() == DynamicArray.StorageMode.GAP_BUFFER) {
+                statusPanel.setPseudocode("moveGap(" + insertIndex + "); array[gapStart++] = " + value);
+                statusPanel.setExplanation("Moving the gap from index " + array.getGapStart() + " to " + insertIndex
+                    + " and filling its first slot");
+            } else {
+                statusPanel.setPseudocode("shift array[" + insertIndex + "..size-1] right; array[" + insertIndex + "] = " + value);
+                statusPanel.setExplanation("Shifting " + (array.getSize() - insertIndex) + " elements right to open index " + insertIndex);
+            }
 
+            int moved = array.getStorageMode() == DynamicArray.StorageMode.GAP_BUFFER
+                ? Math.abs(array.getGapStart() - insertIndex)
+                : array.getSize() - insertIndex;
             array.insert(insertIndex, value);
+            OperationMetrics.addElementsTouched(moved + 1);
             
             visualizer.render();
             SequentialTransition animation = AnimationFactory.sequence(
@@ -83,25 +143,33 @@ public class ArrayController {
             }
 
             int index = Integer.parseInt(input);
+            int moved = array.getStorageMode() == DynamicArray.StorageMode.GAP_BUFFER
+                ? Math.abs(array.getGapStart() - index)
+                : array.getSize() - index - 1;
             int value = array.delete(index);
+            OperationMetrics.addElementsTouched(moved + 1);
             
             statusPanel.setOperationLabel("Deleting from index " + index);
             statusPanel.setPseudocode("remove(array[" + index + "])");
             statusPanel.setExplanation("Removing element at index " + index + " (value: " + value + ") and shifting remaining elements left");
 
-            visualizer.highlightCell(index, Constants.COLOR_ERROR);
-            
-            SequentialTransition animation = AnimationFactory.sequence(
-                AnimationFactory.flashNode(
-                    ((javafx.scene.shape.Rectangle) visualizer.getElementsGroup().getChildren().get(index * 2)),
-                    Constants.COLOR_ERROR,
-                    getAnimationDuration()
-                )
-            );
-            animation.setOnFinished(e -> {
+            if (index < Constants.ARRAY_MAX_RENDERED_CELLS) {
+                visualizer.highlightCell(index, Constants.COLOR_ERROR);
+                
+                SequentialTransition animation = AnimationFactory.sequence(
+                    AnimationFactory.flashNode(
+                        ((javafx.scene.shape.Rectangle) visualizer.getElementsGroup().getChildren().get(index * 2)),
+                        Constants.COLOR_ERROR,
+                        getAnimationDuration()
+                    )
+                );
+                animation.setOnFinished(e -> {
+                    visualizer.render();
+                });
+                animation.play();
+            } else {
                 visualizer.render();
-            });
-            animation.play();
+            }
             
             statusPanel.setOperationLabelSuccess("Deleted " + value);
             controlPanel.setStatusMessageSuccess("Element deleted successfully!");
@@ -128,17 +196,26 @@ public class ArrayController {
 
             int value = Integer.parseInt(input);
             int foundIndex = array.search(value);
+            if (array.isIndexEnabled()) {
+                OperationMetrics.addElementsTouched(foundIndex != -1 ? 1 : 0);
+            } else {
+                OperationMetrics.addElementsTouched(foundIndex != -1 ? foundIndex + 1 : array.getSize());
+            }
             
             statusPanel.setOperationLabel("Searching for " + value);
-            statusPanel.setPseudocode("for i = 0 to size-1: if array[i] == " + value);
+            if (array.isIndexEnabled()) {
+                statusPanel.setPseudocode("index.firstPosition(" + value + ")");
+            } else {
+                statusPanel.setPseudocode("for i = 0 to size-1: if array[i] == " + value);
+            }
             
             if (foundIndex != -1) {
                 visualizer.highlightCell(foundIndex, Constants.COLOR_SUCCESS);
-                statusPanel.setExplanation("Found " + value + " at index " + foundIndex);
+                statusPanel.setExplanation("Found " + value + " at index " + foundIndex + getIndexDescription());
                 statusPanel.setOperationLabelSuccess("Found at index " + foundIndex);
                 controlPanel.setStatusMessageSuccess("Element found at index " + foundIndex);
             } else {
-                statusPanel.setExplanation("Element not found in array");
+                statusPanel.setExplanation("Element not found in array" + getIndexDescription());
                 statusPanel.setOperationLabel("Element not found");
                 controlPanel.setStatusMessageWarning("Element not found in array");
             }
@@ -159,6 +236,391 @@ public class ArrayController {
         controlPanel.clearInput();
     }
 
+    /**
+     * Run an entry from the Operations menu.
+     */
+    public void runOperation(String operation, String input) {
+        switch (operation) {
+            case OP_GAP_BUFFER:
+                setStorageMode(DynamicArray.StorageMode.GAP_BUFFER);
+                break;
+            case OP_CONTIGUOUS:
+                setStorageMode(DynamicArray.StorageMode.CONTIGUOUS);
+                break;
+            case OP_NO_RANGE_INDEX:
+                setRangeIndex(DynamicArray.RangeIndexType.NONE);
+                break;
+            case OP_SEGMENT_TREE:
+                setRangeIndex(DynamicArray.RangeIndexType.SEGMENT_TREE);
+                break;
+            case OP_FENWICK_TREE:
+                setRangeIndex(DynamicArray.RangeIndexType.FENWICK_TREE);
+                break;
+            case OP_RANGE_SUM:
+            case OP_RANGE_MIN:
+            case OP_RANGE_MAX:
+                rangeQuery(operation, input);
+                break;
+            case OP_RANGE_ADD:
+                rangeAdd(input);
+                break;
+            case OP_SET:
+                set(input);
+                break;
+            default:
+                SortAlgorithm algorithm = SortAlgorithm.fromDisplayName(operation);
+                if (algorithm != null) {
+                    sort(algorithm);
+                } else {
+                    controlPanel.setStatusMessageWarning("Unknown operation: " + operation);
+                }
+        }
+    }
+
+    /**
+     * Attach or detach a range-query index.
+     */
+    private void setRangeIndex(DynamicArray.RangeIndexType type) {
+        array.setRangeIndex(type);
+        visualizer.render();
+        statusPanel.setOperationLabel(type == DynamicArray.RangeIndexType.NONE ? "No range index" : "Range index: " + type);
+        switch (type) {
+            case SEGMENT_TREE:
+                statusPanel.setPseudocode("node covers [lo, hi): sum, min, max, lazy add; query combines O(log n) nodes");
+                statusPanel.setExplanation("Sum, min and max in O(log n); range add is lazy, pushed down only when a query needs it");
+                break;
+            case FENWICK_TREE:
+                statusPanel.setPseudocode("tree[i] = sum of [i - lowbit(i), i); sum(l, r) = prefix(r) - prefix(l)");
+                statusPanel.setExplanation("Sums in O(log n) with one long per element; min/max fall back to a scan");
+                break;
+            default:
+                statusPanel.setPseudocode("for i = l to r: combine(array[i])");
+                statusPanel.setExplanation("Range queries scan every element in the range");
+        }
+        controlPanel.setStatusMessageSuccess("Range index: " + type);
+    }
+
+    /**
+     * Answer a sum/min/max query over an inclusive "l r" range and highlight the covered segments.
+     */
+    private void rangeQuery(String operation, String input) {
+        int[] range = parseInts(input, 2, "Use: l r (inclusive indices)");
+        if (range == null) {
+            return;
+        }
+        try {
+            int from = range[0];
+            int to = range[1] + 1;
+            long result;
+            switch (operation) {
+                case OP_RANGE_SUM:
+                    result = array.rangeSum(from, to);
+                    break;
+                case OP_RANGE_MIN:
+                    result = array.rangeMin(from, to);
+                    break;
+                default:
+                    result = array.rangeMax(from, to);
+            }
+            int[] segments = array.rangeSegments(from, to);
+            boolean indexed = segments.length > 0
+                && (operation.equals(OP_RANGE_SUM) || array.getRangeIndexType() == DynamicArray.RangeIndexType.SEGMENT_TREE);
+            OperationMetrics.addElementsTouched(indexed ? segments.length / 3 : to - from);
+
+            visualizer.render();
+            for (int i = from; i < to && i < Constants.ARRAY_MAX_RENDERED_CELLS; i++) {
+                visualizer.highlightCell(i, Constants.COLOR_SECONDARY);
+            }
+            if (indexed) {
+                visualizer.showSegments(segments);
+            }
+
+            statusPanel.setOperationLabelSuccess(operation + "[" + range[0] + ".." + range[1] + "] = " + result);
+            if (indexed) {
+                statusPanel.setPseudocode("combine " + segments.length / 3 + " stored segment(s) covering [" + range[0] + ".." + range[1] + "]");
+                statusPanel.setExplanation("Answered from " + segments.length / 3 + " precomputed segment(s) instead of "
+                    + (to - from) + " elements (" + array.getRangeIndexMemoryBytes() + " bytes of index)");
+            } else {
+                statusPanel.setPseudocode("for i = " + range[0] + " to " + range[1] + ": combine(array[i])");
+                statusPanel.setExplanation("Scanned " + (to - from) + " elements");
+            }
+            controlPanel.setStatusMessageSuccess(operation + " = " + result);
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Add a delta to every element of an inclusive "l r delta" range.
+     */
+    private void rangeAdd(String input) {
+        int[] args = parseInts(input, 3, "Use: l r delta (inclusive indices)");
+        if (args == null) {
+            return;
+        }
+        try {
+            array.rangeAdd(args[0], args[1] + 1, args[2]);
+            OperationMetrics.addElementsTouched(array.getRangeIndexType() == DynamicArray.RangeIndexType.SEGMENT_TREE
+                ? array.rangeSegments(args[0], args[1] + 1).length / 3
+                : args[1] - args[0] + 1);
+            visualizer.render();
+            for (int i = args[0]; i <= args[1] && i < Constants.ARRAY_MAX_RENDERED_CELLS; i++) {
+                visualizer.highlightCell(i, Constants.COLOR_SUCCESS);
+            }
+            statusPanel.setOperationLabelSuccess("Added " + args[2] + " to [" + args[0] + ".." + args[1] + "]");
+            if (array.getRangeIndexType() == DynamicArray.RangeIndexType.SEGMENT_TREE) {
+                visualizer.showSegments(array.rangeSegments(args[0], args[1] + 1));
+                statusPanel.setPseudocode("for each covering node: sum += delta * len; min += delta; max += delta; lazy += delta");
+                statusPanel.setExplanation("The segment tree tags covering nodes and defers the children until a query reaches them");
+            } else {
+                statusPanel.setPseudocode("for i = " + args[0] + " to " + args[1] + ": array[i] += " + args[2]);
+                statusPanel.setExplanation(array.getRangeIndexType() == DynamicArray.RangeIndexType.FENWICK_TREE
+                    ? "The Fenwick tree has no range update; it is rebuilt on the next query"
+                    : "Updated " + (args[1] - args[0] + 1) + " elements");
+            }
+            controlPanel.setStatusMessageSuccess("Range updated");
+            controlPanel.clearInput();
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Replace one element ("index value"), updating any attached index in place.
+     */
+    private void set(String input) {
+        int[] args = parseInts(input, 2, "Use: index value");
+        if (args == null) {
+            return;
+        }
+        try {
+            int old = array.set(args[0], args[1]);
+            OperationMetrics.addElementsTouched(1);
+            visualizer.render();
+            visualizer.highlightCell(args[0], Constants.COLOR_SUCCESS);
+            statusPanel.setOperationLabelSuccess("array[" + args[0] + "] = " + args[1]);
+            statusPanel.setPseudocode("array[" + args[0] + "] = " + args[1] + "; update index along the leaf-to-root path");
+            statusPanel.setExplanation("Replaced " + old + " with " + args[1] + getIndexDescription());
+            controlPanel.setStatusMessageSuccess("Element set");
+            controlPanel.clearInput();
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Parse exactly count space-separated integers (reports an error and returns null otherwise).
+     */
+    private int[] parseInts(String input, int count, String usage) {
+        if (!ValidationUtil.isNotEmpty(input)) {
+            statusPanel.setError(usage);
+            return null;
+        }
+        String[] parts = input.trim().split("\\s+");
+        if (parts.length != count) {
+            statusPanel.setError("Invalid format. " + usage);
+            return null;
+        }
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            if (!ValidationUtil.isValidInteger(parts[i])) {
+                statusPanel.setError("Invalid integer input");
+                return null;
+            }
+            values[i] = Integer.parseInt(parts[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Sort the array, then replay the recorded compare/swap/write events on the cells.
+     */
+    private void sort(SortAlgorithm algorithm) {
+        if (array.isEmpty()) {
+            statusPanel.setError("Array is empty");
+            controlPanel.setStatusMessageError("Nothing to sort");
+            return;
+        }
+        int[] shown = array.getElements();
+        visualizer.render();
+
+        SortTrace trace = new SortTrace(Constants.SORT_ANIMATION_MAX_EVENTS);
+        SortStats stats = array.sort(algorithm, trace);
+        OperationMetrics.addElementsTouched(stats.getComparisons() + stats.getMoves());
+
+        statusPanel.setOperationLabel(algorithm.getDisplayName());
+        statusPanel.setPseudocode(getSortPseudocode(algorithm));
+        statusPanel.setExplanation(stats + " in " + (stats.getElapsedNanos() / 1000) + " µs");
+
+        if (trace.isTruncated() || shown.length > Constants.ARRAY_MAX_RENDERED_CELLS) {
+            visualizer.render();
+            statusPanel.setOperationLabelSuccess(algorithm.getDisplayName() + " complete (too many steps to animate)");
+            controlPanel.setStatusMessageSuccess("Array sorted");
+            return;
+        }
+
+        int stepMs = Math.max(1, getAnimationDuration() / 4);
+        Timeline timeline = OperationMetrics.track(new Timeline());
+        int[] highlighted = {-1, -1};
+        for (int e = 0; e < trace.getEventCount(); e++) {
+            int event = e;
+            timeline.getKeyFrames().add(new KeyFrame(Duration.millis((e + 1) * (double) stepMs), ev -> {
+                visualizer.resetCellColor(highlighted[0], Constants.COLOR_PRIMARY);
+                visualizer.resetCellColor(highlighted[1], Constants.COLOR_PRIMARY);
+                int i = trace.getFirst(event);
+                int j = trace.getSecond(event);
+                switch (trace.getType(event)) {
+                    case SortTrace.COMPARE:
+                        visualizer.highlightCell(i, Constants.COLOR_SECONDARY);
+                        visualizer.highlightCell(j, Constants.COLOR_SECONDARY);
+                        highlighted[0] = i;
+                        highlighted[1] = j;
+                        break;
+                    case SortTrace.SWAP:
+                        int tmp = shown[i];
+                        shown[i] = shown[j];
+                        shown[j] = tmp;
+                        visualizer.setCellValue(i, shown[i]);
+                        visualizer.setCellValue(j, shown[j]);
+                        visualizer.highlightCell(i, Constants.COLOR_ERROR);
+                        visualizer.highlightCell(j, Constants.COLOR_ERROR);
+                        highlighted[0] = i;
+                        highlighted[1] = j;
+                        break;
+                    case SortTrace.WRITE:
+                        shown[i] = j;
+                        visualizer.setCellValue(i, j);
+                        visualizer.highlightCell(i, Constants.COLOR_VISITED);
+                        highlighted[0] = i;
+                        highlighted[1] = -1;
+                        break;
+                }
+            }));
+        }
+        timeline.setOnFinished(e -> {
+            visualizer.render();
+            statusPanel.setOperationLabelSuccess(algorithm.getDisplayName() + " complete");
+        });
+        timeline.play();
+        controlPanel.setStatusMessageSuccess("Sorting with " + algorithm.getDisplayName());
+    }
+
+    /**
+     * Get pseudocode summary for a sort algorithm.
+     */
+    private String getSortPseudocode(SortAlgorithm algorithm) {
+        switch (algorithm) {
+            case INSERTION:
+                return "for i = 1 to n-1: while j > 0 && a[j-1] > a[j]: swap(a[j-1], a[j]); j--";
+            case DUAL_PIVOT_QUICK:
+                return "pivots p <= q; partition into < p | p..q | > q; recurse on all three parts";
+            case BOTTOM_UP_MERGE:
+                return "sort runs of 32; for width = 32, 64, ...: merge adjacent runs of size width";
+            case LSD_RADIX:
+                return "for each byte from least significant: counting sort by that byte (stable)";
+            case PARALLEL_MERGE:
+                return "fork: sort left and right halves in parallel; join: merge halves";
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Switch the array between contiguous and gap-buffer storage.
+     */
+    private void setStorageMode(DynamicArray.StorageMode mode) {
+        array.setStorageMode(mode);
+        visualizer.render();
+        statusPanel.setOperationLabelSuccess("Storage mode: " + mode);
+        if (mode == DynamicArray.StorageMode.GAP_BUFFER) {
+            statusPanel.setPseudocode("insert(i, v): moveGap(i); data[gapStart++] = v");
+            statusPanel.setExplanation("Free space stays where the last edit happened, so nearby inserts and deletes move few elements");
+        } else {
+            statusPanel.setPseudocode("insert(i, v): shift data[i..size-1] right; data[i] = v");
+            statusPanel.setExplanation("Free space is kept at the end; positional edits shift every later element");
+        }
+        controlPanel.setStatusMessageSuccess("Switched to " + mode);
+    }
+
+    /**
+     * Save the array to a binary file.
+     */
+    public void save(File file) {
+        try {
+            long start = System.nanoTime();
+            BinaryStore.saveArray(array, file.toPath());
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            statusPanel.setOperationLabelSuccess("Saved " + array.getSize() + " elements");
+            statusPanel.setPseudocode("write header; stream elements into mapped file");
+            statusPanel.setExplanation("Wrote " + file.getName() + " in " + elapsedMs + " ms");
+            controlPanel.setStatusMessageSuccess("Array saved to " + file.getName());
+        } catch (IOException | RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError("Save failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replace the array with the contents of a binary file.
+     */
+    public void load(File file) {
+        try {
+            long start = System.nanoTime();
+            MappedIntArray mapped = BinaryStore.mapArray(file.toPath());
+            long mappedMs = (System.nanoTime() - start) / 1_000_000;
+            array.clear();
+            mapped.copyInto(array);
+            long totalMs = (System.nanoTime() - start) / 1_000_000;
+            visualizer.render();
+
+            statusPanel.setOperationLabelSuccess("Loaded " + mapped.length() + " elements");
+            statusPanel.setPseudocode("map file; copy mapped elements into array");
+            statusPanel.setExplanation("Mapped " + file.getName() + " in " + mappedMs + " ms, loaded in " + totalMs + " ms");
+            controlPanel.setStatusMessageSuccess("Array loaded from " + file.getName());
+        } catch (IOException | RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError("Load failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sort an array file that may not fit in the heap into output, on a background thread.
+     */
+    public void externalSort(File input, File output) {
+        statusPanel.setOperationLabel("External sort: " + input.getName());
+        statusPanel.setPseudocode("read runs -> sort each run -> spill to temp files; k-way merge runs with a min-heap");
+        statusPanel.setExplanation("Starting...");
+        controlPanel.setStatusMessage("Sorting " + input.getName() + " in the background");
+
+        Thread worker = new Thread(() -> {
+            long start = System.nanoTime();
+            try {
+                MappedIntArray sorted = ExternalSort.sort(input.toPath(), output.toPath(), (phase, done, total) ->
+                    Platform.runLater(() -> statusPanel.setExplanation(
+                        phase + ": " + done + " / " + total + " (" + (total == 0 ? 100 : done * 100 / total) + "%)")));
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                Platform.runLater(() -> {
+                    statusPanel.setOperationLabelSuccess("Sorted " + sorted.length() + " elements in " + elapsedMs + " ms");
+                    statusPanel.setExplanation("Output " + output.getName() + " is memory-mapped"
+                        + (sorted.length() > 0 ? "; min " + sorted.valueAt(0) + ", max " + sorted.valueAt(sorted.length() - 1) : "")
+                        + ". Use File > Load to open it");
+                    controlPanel.setStatusMessageSuccess("External sort complete");
+                });
+            } catch (IOException | RuntimeException e) {
+                Platform.runLater(() -> {
+                    statusPanel.setError(e.getMessage());
+                    controlPanel.setStatusMessageError("External sort failed: " + e.getMessage());
+                });
+            }
+        }, "external-sort");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
     /**
      * Set animation speed.
      */
@@ -166,6 +628,23 @@ public class ArrayController {
         this.animationSpeed = speed;
     }
 
+    /**
+     * Enable or disable the hash index used by search.
+     */
+    public void setSearchIndexEnabled(boolean enabled) {
+        array.setIndexEnabled(enabled);
+    }
+
+    /**
+     * Describe the search index memory overhead for the explanation panel.
+     */
+    private String getIndexDescription() {
+        if (!array.isIndexEnabled()) {
+            return "";
+        }
+        return " (hash index, " + array.getIndexMemoryBytes() + " bytes overhead)";
+    }
+
     /**
      * Get animation duration based on speed multiplier.
      */
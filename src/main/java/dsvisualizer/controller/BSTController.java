@@ -4,6 +4,7 @@ import javafx.animation.SequentialTransition;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import dsvisualizer.animation.AnimationFactory;
+import dsvisualizer.metrics.OperationMetrics;
 import dsvisualizer.model.BinarySearchTree;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.ValidationUtil;
@@ -51,6 +52,7 @@ public class BSTController {
             statusPanel.setExplanation("Traversing tree to find correct position for new value based on BST property");
 
             bst.insert(value);
+            OperationMetrics.addElementsTouched(bst.getLastVisitCount());
             visualizer.render();
             
             SequentialTransition animation = AnimationFactory.sequence(
@@ -92,6 +94,7 @@ public class BSTController {
             statusPanel.setExplanation("Removing node from tree while maintaining BST property");
 
             boolean deleted = bst.delete(value);
+            OperationMetrics.addElementsTouched(bst.getLastVisitCount());
             
             if (deleted) {
                 visualizer.render();
@@ -134,6 +137,7 @@ public class BSTController {
             statusPanel.setPseudocode("if value == current: found; else if value < current: go left; else: go right");
             
             BinarySearchTree.TreeNode found = bst.search(value);
+            OperationMetrics.addElementsTouched(bst.getLastVisitCount());
             
             if (found != null) {
                 visualizer.highlightNodeByValue(value, Constants.COLOR_SUCCESS);
@@ -156,6 +160,7 @@ public class BSTController {
     public void inorder() {
         statusPanel.setOperationLabel("Inorder Traversal");
         statusPanel.setPseudocode("Left -> Root -> Right");
+        OperationMetrics.addElementsTouched(bst.getSize());
         statusPanel.setExplanation("Visits nodes in ascending order: " + bst.inorderTraversal());
         controlPanel.setStatusMessageSuccess("Inorder: " + bst.inorderTraversal());
     }
@@ -0,0 +1,70 @@
+package dsvisualizer.controller;
+
+import javafx.application.Platform;
+import dsvisualizer.algorithm.ComplexityFit;
+import dsvisualizer.generator.ComplexityExperiment;
+import dsvisualizer.model.CostCounters;
+import dsvisualizer.view.ComplexityView;
+
+/**
+ * Controller for the complexity plot: runs a ComplexityExperiment across doubling sizes
+ * on a background thread and fits the counted costs against each complexity class.
+ */
+public class ComplexityController {
+    private static final int MIN_SIZE_LOG2 = 5;
+    private static final int MAX_SIZE_LOG2 = 14;
+    private static final long SEED = 42;
+    // Sorted inserts make the recursive BST as deep as it is large
+    private static final long WORKER_STACK_BYTES = 1L << 28;
+
+    private ComplexityView view;
+    private Thread worker;
+
+    public ComplexityController(ComplexityView view) {
+        this.view = view;
+        view.getRunButton().setOnAction(e -> run());
+        if (!CostCounters.ENABLED) {
+            view.getRunButton().setDisable(true);
+            view.setStatus("Cost counters are off: start with -Ddsvisualizer.costs=true");
+        }
+    }
+
+    /**
+     * Measure the selected experiment at n = 2^5 .. 2^14 and plot the fit.
+     */
+    public void run() {
+        ComplexityExperiment experiment = ComplexityExperiment.fromDisplayName(view.getExperimentSelector().getValue());
+        if (experiment == null || (worker != null && worker.isAlive())) {
+            return;
+        }
+        view.getRunButton().setDisable(true);
+        view.setStatus("Measuring...");
+        worker = new Thread(null, () -> {
+            try {
+                int points = MAX_SIZE_LOG2 - MIN_SIZE_LOG2 + 1;
+                double[] sizes = new double[points];
+                double[] costs = new double[points];
+                for (int i = 0; i < points; i++) {
+                    int size = 1 << (MIN_SIZE_LOG2 + i);
+                    sizes[i] = size;
+                    costs[i] = experiment.measure(size, SEED);
+                    int done = i + 1;
+                    Platform.runLater(() -> view.setStatus("Measured " + done + " of " + points + " sizes"));
+                }
+                ComplexityFit fit = new ComplexityFit(sizes, costs);
+                Platform.runLater(() -> {
+                    view.showResult(experiment.getDisplayName(), sizes, costs, fit);
+                    view.setStatus("Best fit: " + fit.getBest().getDisplayName());
+                    view.getRunButton().setDisable(false);
+                });
+            } catch (RuntimeException | StackOverflowError e) {
+                Platform.runLater(() -> {
+                    view.setStatus("Experiment failed: " + e);
+                    view.getRunButton().setDisable(false);
+                });
+            }
+        }, "complexity", WORKER_STACK_BYTES);
+        worker.setDaemon(true);
+        worker.start();
+    }
+}
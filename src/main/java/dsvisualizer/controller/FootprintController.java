@@ -0,0 +1,156 @@
+package dsvisualizer.controller;
+
+import javafx.application.Platform;
+import dsvisualizer.algorithm.FootprintAnalysis;
+import dsvisualizer.model.BinarySearchTree;
+import dsvisualizer.model.DaryHeap;
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.Graph;
+import dsvisualizer.model.IntHashTable;
+import dsvisualizer.model.LinkedList;
+import dsvisualizer.model.Queue;
+import dsvisualizer.model.Stack;
+import dsvisualizer.model.UnionFind;
+import dsvisualizer.view.FootprintView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Controller for the memory footprint window: builds every structure at reference sizes on
+ * a background thread and compares its current engine with the boxed and primitive ones.
+ */
+public class FootprintController {
+    public static final int[] REFERENCE_SIZES = {100, 10_000, 100_000};
+    private static final List<String> STRUCTURES = Arrays.asList(
+        "Array", "Stack", "Queue", "Heap", "Hash Table", "Linked List", "BST", "Graph", "Union-Find");
+    // Keys start above the Integer cache, so every boxed engine pays for its boxes
+    private static final int KEY_OFFSET = 1_000;
+    private static final int GRAPH_EDGES_PER_VERTEX = 2;
+    private static final long SEED = 42;
+
+    private FootprintView view;
+    private Thread worker;
+
+    public FootprintController(FootprintView view) {
+        this.view = view;
+    }
+
+    /**
+     * Rebuild the side-by-side table (no-op while a run is in progress).
+     */
+    public void measureReferenceSizes() {
+        if (worker != null && worker.isAlive()) {
+            return;
+        }
+        view.getRefreshButton().setDisable(true);
+        worker = new Thread(() -> {
+            try {
+                List<FootprintAnalysis[]> analyses = new ArrayList<>();
+                for (String structure : STRUCTURES) {
+                    FootprintAnalysis[] bySize = new FootprintAnalysis[REFERENCE_SIZES.length];
+                    for (int i = 0; i < REFERENCE_SIZES.length; i++) {
+                        bySize[i] = sample(structure, REFERENCE_SIZES[i]);
+                    }
+                    analyses.add(bySize);
+                }
+                Platform.runLater(() -> {
+                    view.showComparison(STRUCTURES, REFERENCE_SIZES, analyses);
+                    view.getRefreshButton().setDisable(false);
+                });
+            } catch (RuntimeException | OutOfMemoryError e) {
+                Platform.runLater(() -> {
+                    view.setStatus("Footprint comparison failed: " + e);
+                    view.getRefreshButton().setDisable(false);
+                });
+            }
+        }, "footprint");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Build a structure holding n distinct shuffled keys and analyze it.
+     */
+    private static FootprintAnalysis sample(String structure, int n) {
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = KEY_OFFSET + i;
+        }
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+        switch (structure) {
+            case "Array": {
+                DynamicArray array = new DynamicArray(16);
+                array.addAll(keys);
+                return FootprintAnalysis.of(array);
+            }
+            case "Stack": {
+                Stack stack = new Stack(n);
+                for (int key : keys) {
+                    stack.push(key);
+                }
+                return FootprintAnalysis.of(stack);
+            }
+            case "Queue": {
+                Queue queue = new Queue(n);
+                for (int key : keys) {
+                    queue.enqueue(key);
+                }
+                return FootprintAnalysis.of(queue);
+            }
+            case "Heap": {
+                DaryHeap heap = new DaryHeap(2, true, 16);
+                for (int key : keys) {
+                    heap.insert(key);
+                }
+                return FootprintAnalysis.of(heap);
+            }
+            case "Hash Table": {
+                IntHashTable table = new IntHashTable(IntHashTable.ProbingMode.ROBIN_HOOD, 16);
+                for (int key : keys) {
+                    table.put(key, key);
+                }
+                return FootprintAnalysis.of(table);
+            }
+            case "Linked List": {
+                LinkedList list = new LinkedList();
+                for (int key : keys) {
+                    list.insertHead(key);
+                }
+                return FootprintAnalysis.of(list);
+            }
+            case "BST": {
+                BinarySearchTree tree = new BinarySearchTree();
+                for (int key : keys) {
+                    tree.insert(key);
+                }
+                return FootprintAnalysis.of(tree);
+            }
+            case "Graph": {
+                Graph graph = new Graph(false);
+                for (int key : keys) {
+                    graph.addVertex(key);
+                }
+                for (int i = 0; i < n * GRAPH_EDGES_PER_VERTEX; i++) {
+                    graph.addEdge(keys[random.nextInt(n)], keys[random.nextInt(n)]);
+                }
+                return FootprintAnalysis.of(graph);
+            }
+            default: {
+                UnionFind forest = new UnionFind();
+                for (int key : keys) {
+                    forest.makeSet(key);
+                }
+                return FootprintAnalysis.of(forest);
+            }
+        }
+    }
+}
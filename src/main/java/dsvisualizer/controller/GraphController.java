@@ -1,23 +1,74 @@
 package dsvisualizer.controller;
 
+import javafx.animation.KeyFrame;
 import javafx.animation.SequentialTransition;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
+import javafx.util.Duration;
+import dsvisualizer.algorithm.Components;
+import dsvisualizer.algorithm.DegreeStatistics;
+import dsvisualizer.algorithm.FootprintAnalysis;
+import dsvisualizer.algorithm.GraphAnalysis;
+import dsvisualizer.algorithm.Heuristic;
+import dsvisualizer.algorithm.MinimumSpanningTree;
+import dsvisualizer.algorithm.PageRank;
+import dsvisualizer.algorithm.PathResult;
+import dsvisualizer.algorithm.RelaxationListener;
+import dsvisualizer.algorithm.ShortestPaths;
+import dsvisualizer.algorithm.SpanningForest;
+import dsvisualizer.algorithm.TriangleCount;
 import dsvisualizer.animation.AnimationFactory;
+import dsvisualizer.generator.GraphGenerators;
+import dsvisualizer.io.BinaryStore;
+import dsvisualizer.io.GraphImporter;
+import dsvisualizer.io.MappedGraph;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.model.CompactGraph;
 import dsvisualizer.model.Graph;
+import dsvisualizer.model.UnionFind;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.ValidationUtil;
 import dsvisualizer.view.ControlPanel;
 import dsvisualizer.view.GraphVisualizer;
 import dsvisualizer.view.StatusPanel;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Controller for Graph operations.
  */
 public class GraphController {
+    public static final String OP_DIJKSTRA = "Dijkstra";
+    public static final String OP_BIDIRECTIONAL = "Bidirectional Dijkstra";
+    public static final String OP_ASTAR = "A* Search";
+    public static final String OP_DIRECTED = "Directed Graph";
+    public static final String OP_UNDIRECTED = "Undirected Graph";
+    public static final String OP_SCC_TARJAN = "SCC (Tarjan)";
+    public static final String OP_SCC_KOSARAJU = "SCC (Kosaraju)";
+    public static final String OP_TOPOLOGICAL_SORT = "Topological Sort";
+    public static final String OP_DETECT_CYCLE = "Detect Cycle";
+    public static final String OP_CONNECTED = "Connected?";
+    public static final String OP_COMPONENTS = "Connected Components";
+    public static final String OP_MST_KRUSKAL = "MST (Kruskal)";
+    public static final String OP_MST_PRIM = "MST (Prim)";
+    public static final String OP_MST_BORUVKA = "MST (Borůvka)";
+    public static final String OP_PAGERANK = "PageRank";
+    public static final String OP_DEGREES = "Degree Histogram";
+    public static final String OP_TRIANGLES = "Count Triangles";
+    public static final String OP_IMPORT = "Import Graph File...";
+    public static final String OP_GENERATE = "Generate Graph";
+    public static final String[] OPERATIONS = {OP_IMPORT, OP_GENERATE, OP_DIJKSTRA, OP_BIDIRECTIONAL, OP_ASTAR,
+        OP_DIRECTED, OP_UNDIRECTED, OP_SCC_TARJAN, OP_SCC_KOSARAJU, OP_TOPOLOGICAL_SORT, OP_DETECT_CYCLE,
+        OP_CONNECTED, OP_COMPONENTS, OP_MST_KRUSKAL, OP_MST_PRIM, OP_MST_BORUVKA,
+        OP_PAGERANK, OP_DEGREES, OP_TRIANGLES};
+
     private Graph graph;
+    private CompactGraph imported; // set while an import too large to draw replaces the editable graph
     private GraphVisualizer visualizer;
     private ControlPanel controlPanel;
     private StatusPanel statusPanel;
@@ -52,7 +103,9 @@ public class GraphController {
             statusPanel.setPseudocode("graph.addVertex(" + vertex + ")");
             statusPanel.setExplanation("Creating new vertex in graph");
 
+            imported = null;
             graph.addVertex(vertex);
+            OperationMetrics.addElementsTouched(1);
             visualizer.render();
             
             SequentialTransition animation = AnimationFactory.sequence(
@@ -71,7 +124,7 @@ public class GraphController {
     }
 
     /**
-     * Add edge between two vertices (expects format: "from to").
+     * Add edge between two vertices (expects format: "from to" or "from to weight").
      */
     public void addEdge(String input) {
         try {
@@ -81,8 +134,8 @@ public class GraphController {
             }
 
             String[] parts = input.split("\\s+");
-            if (parts.length != 2) {
-                statusPanel.setError("Invalid format. Use: from to");
+            if (parts.length != 2 && parts.length != 3) {
+                statusPanel.setError("Invalid format. Use: from to [weight]");
                 return;
             }
 
@@ -93,12 +146,24 @@ public class GraphController {
 
             int from = Integer.parseInt(parts[0]);
             int to = Integer.parseInt(parts[1]);
+            double weight = Graph.DEFAULT_WEIGHT;
+            if (parts.length == 3) {
+                try {
+                    weight = Double.parseDouble(parts[2]);
+                } catch (NumberFormatException e) {
+                    statusPanel.setError("Weight must be a number");
+                    return;
+                }
+            }
             
             statusPanel.setOperationLabel("Adding edge " + from + " -> " + to);
-            statusPanel.setPseudocode("graph.addEdge(" + from + ", " + to + ")");
-            statusPanel.setExplanation("Creating connection between vertices " + from + " and " + to);
+            statusPanel.setPseudocode("graph.addEdge(" + from + ", " + to + (parts.length == 3 ? ", " + parts[2] : "") + ")");
+            statusPanel.setExplanation("Creating connection between vertices " + from + " and " + to
+                + (parts.length == 3 ? " with weight " + parts[2] : ""));
 
-            graph.addEdge(from, to);
+            imported = null;
+            graph.addEdge(from, to, weight);
+            OperationMetrics.addElementsTouched(2);
             visualizer.render();
             
             SequentialTransition animation = AnimationFactory.sequence(
@@ -135,6 +200,7 @@ public class GraphController {
             statusPanel.setPseudocode("queue = [start]; while queue not empty: process vertex, add neighbors");
             
             List<Integer> result = graph.bfs(start);
+            OperationMetrics.addElementsTouched(result.size());
             
             if (result.isEmpty()) {
                 statusPanel.setError("Vertex not found!");
@@ -169,6 +235,7 @@ public class GraphController {
             statusPanel.setPseudocode("stack = [start]; while stack not empty: process vertex, add neighbors");
             
             List<Integer> result = graph.dfs(start);
+            OperationMetrics.addElementsTouched(result.size());
             
             if (result.isEmpty()) {
                 statusPanel.setError("Vertex not found!");
@@ -183,10 +250,730 @@ public class GraphController {
         }
     }
 
+    /**
+     * Run an entry from the Operations menu.
+     */
+    public void runOperation(String operation, String input) {
+        switch (operation) {
+            case OP_DIJKSTRA:
+            case OP_BIDIRECTIONAL:
+            case OP_ASTAR:
+                shortestPath(operation, input);
+                break;
+            case OP_DIRECTED:
+            case OP_UNDIRECTED:
+                setDirected(operation.equals(OP_DIRECTED));
+                break;
+            case OP_SCC_TARJAN:
+            case OP_SCC_KOSARAJU:
+                stronglyConnectedComponents(operation);
+                break;
+            case OP_TOPOLOGICAL_SORT:
+                topologicalSort();
+                break;
+            case OP_DETECT_CYCLE:
+                detectCycle();
+                break;
+            case OP_CONNECTED:
+                connected(input);
+                break;
+            case OP_COMPONENTS:
+                connectedComponents();
+                break;
+            case OP_MST_KRUSKAL:
+            case OP_MST_PRIM:
+            case OP_MST_BORUVKA:
+                minimumSpanningTree(operation);
+                break;
+            case OP_PAGERANK:
+                pageRank();
+                break;
+            case OP_DEGREES:
+                degreeHistogram();
+                break;
+            case OP_TRIANGLES:
+                countTriangles();
+                break;
+            case OP_GENERATE:
+                generate(input);
+                break;
+            default:
+                controlPanel.setStatusMessageWarning("Unknown operation: " + operation);
+        }
+    }
+
+    /**
+     * Import an edge-list, DIMACS or Matrix Market file on a background thread.
+     * Small graphs replace the editable graph; larger ones are kept as a snapshot that
+     * the analysis operations run on without drawing it.
+     */
+    public void importGraph(File file) {
+        GraphImporter.Format format = GraphImporter.Format.fromFileName(file.getName());
+        boolean directed = graph.isDirected();
+        statusPanel.setOperationLabel("Importing " + file.getName() + " (" + format + ")");
+        statusPanel.setPseudocode("pass 1: count degrees; offsets = prefix sums; pass 2: write targets into CSR slots");
+        statusPanel.setExplanation("Starting...");
+        controlPanel.setStatusMessage("Importing " + file.getName() + " in the background");
+
+        Thread worker = new Thread(() -> {
+            long start = System.nanoTime();
+            try {
+                CompactGraph compact = GraphImporter.importGraph(file.toPath(), format, directed, (phase, done, total) ->
+                    Platform.runLater(() -> statusPanel.setExplanation(
+                        phase + ": " + (done >> 20) + " / " + (total >> 20) + " MB (" + (total == 0 ? 100 : done * 100 / total) + "%)")));
+                long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+                long edges = compact.isDirected() ? compact.getEdgeCount() : compact.getEdgeCount() / 2;
+                Platform.runLater(() -> showSnapshot(compact, "Imported",
+                    "Read " + file.getName() + " in " + elapsedMs + " ms ("
+                        + String.format("%.1f", edges / 1000.0 / elapsedMs) + "M edges/s)"));
+            } catch (IOException | RuntimeException e) {
+                Platform.runLater(() -> {
+                    statusPanel.setError(e.getMessage());
+                    controlPanel.setStatusMessageError("Import failed: " + e.getMessage());
+                });
+            } catch (OutOfMemoryError e) {
+                Platform.runLater(() -> {
+                    statusPanel.setError("Not enough memory to import " + file.getName());
+                    controlPanel.setStatusMessageError("Import failed: out of memory");
+                });
+            }
+        }, "graph-import");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Generate a seeded synthetic graph on a background thread. Input is
+     * "er n p", "ba n m", "grid rows cols", "regular n d" or "rmat scale edgeFactor",
+     * optionally followed by a seed. Edges get random weights in [1, 10).
+     */
+    private void generate(String input) {
+        String[] parts = ValidationUtil.isNotEmpty(input) ? input.trim().split("\\s+") : new String[0];
+        String model = parts.length > 0 ? parts[0].toLowerCase() : "";
+        boolean directed = graph.isDirected();
+        long seed;
+        int n;
+        double parameter;
+        try {
+            if (parts.length != 3 && parts.length != 4) {
+                throw new IllegalArgumentException();
+            }
+            n = Integer.parseInt(parts[1]);
+            parameter = Double.parseDouble(parts[2]);
+            seed = parts.length == 4 ? Long.parseLong(parts[3]) : Constants.GRAPH_GENERATOR_SEED;
+        } catch (IllegalArgumentException e) {
+            statusPanel.setError("Use: er n p | ba n m | grid rows cols | regular n d | rmat scale edgeFactor [seed]");
+            return;
+        }
+        String pseudocode;
+        switch (model) {
+            case "er": pseudocode = "for each row u: skip ahead by Geometric(p) gaps, emit (u, v)"; break;
+            case "ba": pseudocode = "new vertex v: pick m distinct endpoints of existing edges (degree-proportional)"; break;
+            case "grid": pseudocode = "v = r * cols + c; neighbours up, left, right, down"; break;
+            case "regular": pseudocode = "shuffle n * d stubs, pair them, swap away loops and repeats"; break;
+            case "rmat": pseudocode = "each edge: choose a quadrant (a, b, c, d) per bit of the vertex ids"; break;
+            default:
+                statusPanel.setError("Unknown model: " + model + " (er, ba, grid, regular, rmat)");
+                return;
+        }
+        statusPanel.setOperationLabel("Generating " + input.trim());
+        statusPanel.setPseudocode(pseudocode);
+        statusPanel.setExplanation("Seed " + seed + "; running in the background...");
+        controlPanel.setStatusMessage("Generating graph");
+
+        Thread worker = new Thread(() -> {
+            long start = System.nanoTime();
+            try {
+                int m = (int) parameter;
+                CompactGraph generated;
+                switch (model) {
+                    case "er": generated = GraphGenerators.erdosRenyi(n, parameter, directed, seed); break;
+                    case "ba": generated = GraphGenerators.barabasiAlbert(n, m, seed); break;
+                    case "grid": generated = GraphGenerators.grid(n, m); break;
+                    case "regular": generated = GraphGenerators.randomRegular(n, m, seed); break;
+                    default: generated = GraphGenerators.rmat(n, m, directed, seed);
+                }
+                CompactGraph weighted = GraphGenerators.randomWeights(generated, 1, 10, seed);
+                long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+                Platform.runLater(() -> showSnapshot(weighted, "Generated",
+                    "Built in " + elapsedMs + " ms from seed " + seed + " (same seed, same graph)"));
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> {
+                    statusPanel.setError(e.getMessage());
+                    controlPanel.setStatusMessageError("Generation failed");
+                });
+            } catch (OutOfMemoryError e) {
+                Platform.runLater(() -> {
+                    statusPanel.setError("Not enough memory to generate " + input.trim());
+                    controlPanel.setStatusMessageError("Generation failed: out of memory");
+                });
+            }
+        }, "graph-generator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Show a CSR graph: copy it into the editable graph when small enough to draw,
+     * otherwise keep it as the snapshot for the analysis operations.
+     */
+    private void showSnapshot(CompactGraph compact, String verb, String detail) {
+        graph.clear();
+        graph.setDirected(compact.isDirected());
+        if (compact.getEdgeCount() <= Constants.GRAPH_MAX_IMPORT_RENDER_EDGES) {
+            imported = null;
+            for (int v = 0; v < compact.getVertexCount(); v++) {
+                graph.addVertex(compact.getVertexId(v));
+            }
+            for (int v = 0; v < compact.getVertexCount(); v++) {
+                for (int e = compact.firstEdge(v); e < compact.endEdge(v); e++) {
+                    // Undirected CSR stores both directions; add each edge once
+                    if (compact.isDirected() || v <= compact.target(e)) {
+                        graph.addEdge(compact.getVertexId(v), compact.getVertexId(compact.target(e)), compact.weight(e));
+                    }
+                }
+            }
+        } else {
+            imported = compact;
+        }
+        visualizer.render();
+        long edges = compact.isDirected() ? compact.getEdgeCount() : compact.getEdgeCount() / 2;
+        statusPanel.setOperationLabelSuccess(verb + " " + compact.getVertexCount() + " vertices, " + edges + " edges");
+        statusPanel.setExplanation(detail
+            + (imported != null ? ". Too large to draw: analysis operations run on the CSR arrays" : ""));
+        controlPanel.setStatusMessageSuccess(verb + " graph ready");
+    }
+
+    /**
+     * Report a whole-graph pass as touching every vertex and arc once.
+     */
+    private static void touchAll(CompactGraph compact) {
+        OperationMetrics.addElementsTouched(compact.getVertexCount() + (long) compact.getEdgeCount());
+    }
+
+    /**
+     * CSR view of the current graph: the imported snapshot if one is active.
+     */
+    private CompactGraph snapshot() {
+        return imported != null ? imported : CompactGraph.fromGraph(graph);
+    }
+
+    /**
+     * Switch the graph between directed and undirected edges.
+     */
+    private void setDirected(boolean directed) {
+        if (imported != null) {
+            statusPanel.setError("Edge direction of an imported file is fixed; re-import it instead");
+            return;
+        }
+        graph.setDirected(directed);
+        visualizer.render();
+        String mode = directed ? "directed" : "undirected";
+        statusPanel.setOperationLabelSuccess("Graph is now " + mode);
+        statusPanel.setPseudocode("graph.setDirected(" + directed + ")");
+        statusPanel.setExplanation(directed
+            ? "Each undirected edge keeps the direction it was added in"
+            : "Opposite directed edges merge into one undirected edge");
+        controlPanel.setStatusMessageSuccess("Graph is " + mode + " (" + graph.getEdgeCount() + " edges)");
+    }
+
+    /**
+     * Color the strongly connected components (connected components if undirected).
+     */
+    private void stronglyConnectedComponents(String operation) {
+        try {
+            CompactGraph compact = snapshot();
+            long start = System.nanoTime();
+            Components components;
+            if (operation.equals(OP_SCC_TARJAN)) {
+                components = GraphAnalysis.tarjan(compact);
+                statusPanel.setPseudocode("dfs(v): index[v] = low[v] = counter++; push v; low[v] = min(low[v], low[w] or index[w] on stack); "
+                    + "if low[v] == index[v]: pop component");
+            } else {
+                components = GraphAnalysis.kosaraju(compact, compact.reverse());
+                statusPanel.setPseudocode("dfs on G records finish order; dfs on reverse(G) in reverse finish order collects components");
+            }
+            long elapsedMicros = (System.nanoTime() - start) / 1_000;
+            touchAll(compact);
+
+            visualizer.render();
+            visualizer.colorComponents(compact, components.getComponentArray());
+            statusPanel.setOperationLabelSuccess(components.getCount() + " strongly connected components");
+            statusPanel.setExplanation(components + (graph.isDirected() ? "" : " (undirected: connected components)")
+                + " in " + elapsedMicros + " µs");
+            controlPanel.setStatusMessageSuccess(operation + ": " + components.getCount() + " components");
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Show a Kahn topological order as vertex labels.
+     */
+    private void topologicalSort() {
+        try {
+            CompactGraph compact = snapshot();
+            int[] order = GraphAnalysis.topologicalSort(compact);
+            touchAll(compact);
+            statusPanel.setOperationLabel("Topological Sort");
+            statusPanel.setPseudocode("queue = vertices with in-degree 0; pop v, emit v, decrement in-degree of successors");
+
+            visualizer.render();
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < order.length; i++) {
+                int vertex = compact.getVertexId(order[i]);
+                if (i < Constants.GRAPH_MAX_LISTED_VERTICES) {
+                    ids.add(vertex);
+                }
+                if (imported == null) {
+                    visualizer.highlightVertex(vertex, Constants.COLOR_SUCCESS);
+                    visualizer.setVertexLabel(vertex, "#" + (i + 1));
+                }
+            }
+            if (order.length < compact.getVertexCount()) {
+                statusPanel.setOperationLabelError("Graph has a cycle");
+                statusPanel.setExplanation("Only " + order.length + " of " + compact.getVertexCount()
+                    + " vertices can be ordered: " + ids);
+                controlPanel.setStatusMessageWarning("Not a DAG");
+            } else {
+                statusPanel.setOperationLabelSuccess("Topological order found");
+                statusPanel.setExplanation("Order: " + ids);
+                controlPanel.setStatusMessageSuccess("Topological order: " + ids);
+            }
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Highlight one cycle if the graph has any.
+     */
+    private void detectCycle() {
+        try {
+            CompactGraph compact = snapshot();
+            int[] cycle = GraphAnalysis.findCycle(compact);
+            touchAll(compact);
+            statusPanel.setOperationLabel("Detect Cycle");
+            statusPanel.setPseudocode("dfs with white/grey/black colors; an edge to a grey vertex closes a cycle");
+
+            visualizer.render();
+            if (cycle.length == 0) {
+                statusPanel.setOperationLabelSuccess("No cycle");
+                statusPanel.setExplanation(graph.isDirected() ? "The graph is a DAG" : "The graph is a forest");
+                controlPanel.setStatusMessageSuccess("Graph is acyclic");
+                return;
+            }
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < cycle.length; i++) {
+                int vertex = compact.getVertexId(cycle[i]);
+                int next = compact.getVertexId(cycle[(i + 1) % cycle.length]);
+                ids.add(vertex);
+                visualizer.highlightVertex(vertex, Constants.COLOR_ERROR);
+                visualizer.highlightEdge(vertex, next, Constants.COLOR_ERROR);
+            }
+            statusPanel.setOperationLabelError("Cycle of length " + cycle.length);
+            statusPanel.setExplanation("Cycle: " + ids + " -> " + ids.get(0));
+            controlPanel.setStatusMessageWarning("Cycle found: " + ids);
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Answer a connectivity query ("u v") from the union-find forest kept by the graph.
+     */
+    private void connected(String input) {
+        String[] parts = ValidationUtil.isNotEmpty(input) ? input.trim().split("\\s+") : new String[0];
+        if (parts.length != 2 || !ValidationUtil.isValidInteger(parts[0]) || !ValidationUtil.isValidInteger(parts[1])) {
+            statusPanel.setError("Use: u v");
+            return;
+        }
+        int u = Integer.parseInt(parts[0]);
+        int v = Integer.parseInt(parts[1]);
+        boolean known = imported != null
+            ? imported.indexOf(u) >= 0 && imported.indexOf(v) >= 0
+            : graph.hasVertex(u) && graph.hasVertex(v);
+        if (!known) {
+            statusPanel.setError("Vertex not found!");
+            return;
+        }
+        boolean rebuilt = imported != null || graph.isComponentForestStale();
+        OperationMetrics.addElementsTouched(2);
+        long start = System.nanoTime();
+        boolean connected;
+        if (imported != null) {
+            UnionFind forest = importedForest();
+            connected = forest.findRoot(imported.indexOf(u)) == forest.findRoot(imported.indexOf(v));
+        } else {
+            connected = graph.connected(u, v);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        statusPanel.setOperationLabel("Connected " + u + ", " + v + "?");
+        statusPanel.setPseudocode("find(u) == find(v)");
+        statusPanel.setExplanation((rebuilt ? "Forest rebuilt from the edge arrays; " : "Forest maintained by addEdge; ")
+            + "answered in " + elapsedNanos + " ns");
+        visualizer.render();
+        Color color = connected ? Constants.COLOR_SUCCESS : Constants.COLOR_ERROR;
+        visualizer.highlightVertex(u, color);
+        visualizer.highlightVertex(v, color);
+        if (connected) {
+            statusPanel.setOperationLabelSuccess(u + " and " + v + " are connected");
+            controlPanel.setStatusMessageSuccess("Connected");
+        } else {
+            statusPanel.setOperationLabelError(u + " and " + v + " are not connected");
+            controlPanel.setStatusMessageWarning("Not connected");
+        }
+    }
+
+    /**
+     * Color vertices by their union-find root.
+     */
+    private void connectedComponents() {
+        CompactGraph compact = snapshot();
+        UnionFind forest = imported != null ? importedForest() : graph.getComponentForest();
+        int[] componentOf = new int[compact.getVertexCount()];
+        for (int v = 0; v < componentOf.length; v++) {
+            componentOf[v] = forest.findRoot(imported != null ? v : forest.indexOf(compact.getVertexId(v)));
+        }
+        int count = forest.getSetCount();
+        OperationMetrics.addElementsTouched(componentOf.length);
+        visualizer.render();
+        visualizer.colorComponents(compact, componentOf);
+        statusPanel.setOperationLabelSuccess(count + " connected component(s)");
+        statusPanel.setPseudocode("addEdge(u, v): union(u, v); removals mark the forest stale for a lazy rebuild");
+        statusPanel.setExplanation(graph.isDirected()
+            ? "Directed edges are treated as undirected (weakly connected components)"
+            : "Each color is one union-find tree");
+        controlPanel.setStatusMessageSuccess(count + " component(s)");
+    }
+
+    /**
+     * Union-find forest over the imported snapshot, indexed by dense vertex index.
+     */
+    private UnionFind importedForest() {
+        UnionFind forest = UnionFind.ofSize(imported.getVertexCount());
+        for (int v = 0; v < imported.getVertexCount(); v++) {
+            for (int e = imported.firstEdge(v); e < imported.endEdge(v); e++) {
+                forest.unionElements(v, imported.target(e));
+            }
+        }
+        return forest;
+    }
+
+    /**
+     * Build a minimum spanning forest and animate its edges in selection order.
+     */
+    private void minimumSpanningTree(String operation) {
+        try {
+            CompactGraph compact = snapshot();
+            long start = System.nanoTime();
+            SpanningForest forest;
+            switch (operation) {
+                case OP_MST_PRIM:
+                    forest = MinimumSpanningTree.prim(compact);
+                    statusPanel.setPseudocode("heap of fringe vertices keyed by lightest edge to the tree; extract min, decrease-key neighbors");
+                    break;
+                case OP_MST_BORUVKA:
+                    forest = MinimumSpanningTree.boruvka(compact);
+                    statusPanel.setPseudocode("repeat: every component picks its lightest outgoing edge (in parallel); contract all picks");
+                    break;
+                default:
+                    forest = MinimumSpanningTree.kruskal(compact);
+                    statusPanel.setPseudocode("radix-sort edges by weight; add edge if union(u, v) joins two components");
+            }
+            long elapsedMicros = (System.nanoTime() - start) / 1_000;
+            touchAll(compact);
+            statusPanel.setOperationLabel(operation);
+            statusPanel.setExplanation("Selecting " + forest.getEdgeCount() + " edges...");
+
+            visualizer.render();
+            for (int v = 0; imported == null && v < compact.getVertexCount(); v++) {
+                for (int e = compact.firstEdge(v); e < compact.endEdge(v); e++) {
+                    visualizer.highlightEdge(compact.getVertexId(v), compact.getVertexId(compact.target(e)), Constants.COLOR_NEUTRAL);
+                }
+            }
+            int stepMs = Math.max(1, getAnimationDuration() / 2);
+            int steps = Math.min(forest.getEdgeCount(), Constants.GRAPH_ANIMATION_MAX_EVENTS);
+            Timeline timeline = OperationMetrics.track(new Timeline());
+            for (int i = 0; i < steps; i++) {
+                int from = compact.getVertexId(forest.getFrom(i));
+                int to = compact.getVertexId(forest.getTo(i));
+                timeline.getKeyFrames().add(new KeyFrame(Duration.millis((i + 1) * (double) stepMs), e -> {
+                    visualizer.highlightEdge(from, to, Constants.COLOR_SUCCESS);
+                    visualizer.highlightVertex(from, Constants.COLOR_SUCCESS);
+                    visualizer.highlightVertex(to, Constants.COLOR_SUCCESS);
+                }));
+            }
+            timeline.setOnFinished(e -> {
+                statusPanel.setOperationLabelSuccess("Total weight " + GraphVisualizer.formatNumber(forest.getTotalWeight()));
+                statusPanel.setExplanation(forest.getEdgeCount() + " edges, " + forest.getTreeCount() + " tree(s)"
+                    + (operation.equals(OP_MST_BORUVKA) ? ", " + forest.getRounds() + " round(s)" : "")
+                    + "; computed in " + elapsedMicros + " µs");
+                controlPanel.setStatusMessageSuccess(operation + " complete");
+            });
+            timeline.play();
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Run PageRank and size vertices by score.
+     */
+    private void pageRank() {
+        try {
+            CompactGraph compact = snapshot();
+            long start = System.nanoTime();
+            PageRank.Result result = PageRank.compute(compact);
+            long elapsedMicros = (System.nanoTime() - start) / 1_000;
+            OperationMetrics.addElementsTouched(result.getIterations() * (compact.getVertexCount() + (long) compact.getEdgeCount()));
+
+            visualizer.render();
+            visualizer.scaleVerticesByScore(compact, result.getScores());
+            int best = -1;
+            for (int v = 0; v < compact.getVertexCount(); v++) {
+                if (imported == null) {
+                    visualizer.setVertexLabel(compact.getVertexId(v), String.format("%.3f", result.score(v)));
+                }
+                if (best < 0 || result.score(v) > result.score(best)) {
+                    best = v;
+                }
+            }
+            statusPanel.setOperationLabel("PageRank");
+            statusPanel.setPseudocode("repeat: rank'[v] = (1 - d) / n + d * (dangling / n + sum rank[u] / outDeg[u] over in-edges)");
+            if (best < 0) {
+                statusPanel.setExplanation("Graph is empty");
+                return;
+            }
+            visualizer.highlightVertex(compact.getVertexId(best), Constants.COLOR_SECONDARY);
+            statusPanel.setOperationLabelSuccess("Top vertex " + compact.getVertexId(best));
+            statusPanel.setExplanation(result + " in " + elapsedMicros + " µs (d = " + PageRank.DEFAULT_DAMPING + ")");
+            controlPanel.setStatusMessageSuccess("PageRank: " + result.getIterations() + " iterations");
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Show the degree distribution and label vertices with their degree.
+     */
+    private void degreeHistogram() {
+        try {
+            CompactGraph compact = snapshot();
+            DegreeStatistics stats = DegreeStatistics.of(compact);
+            touchAll(compact);
+            visualizer.render();
+            for (int v = 0; imported == null && v < compact.getVertexCount(); v++) {
+                visualizer.setVertexLabel(compact.getVertexId(v), "d" + (compact.endEdge(v) - compact.firstEdge(v)));
+            }
+            statusPanel.setOperationLabelSuccess("Degrees: " + stats);
+            statusPanel.setPseudocode("histogram[endEdge(v) - firstEdge(v)]++ for every vertex");
+            String text = (graph.isDirected() ? "Out " : "") + DegreeStatistics.format(stats.getOutHistogram(), 12);
+            if (graph.isDirected()) {
+                text += " | In " + DegreeStatistics.format(stats.getInHistogram(), 12);
+            }
+            statusPanel.setExplanation("degree:count " + text);
+            controlPanel.setStatusMessageSuccess("Max degree " + stats.getMaxOutDegree());
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Count triangles and report the global clustering coefficient.
+     */
+    private void countTriangles() {
+        try {
+            CompactGraph compact = snapshot();
+            long start = System.nanoTime();
+            long triangles = TriangleCount.count(compact);
+            long elapsedMicros = (System.nanoTime() - start) / 1_000;
+            touchAll(compact);
+
+            statusPanel.setOperationLabelSuccess(triangles + " triangle(s)");
+            statusPanel.setPseudocode("orient edges low -> high (degree, id); for each (v, w): count |N+(v) ∩ N+(w)| by merging sorted lists");
+            String explanation = "Counted in " + elapsedMicros + " µs";
+            if (!graph.isDirected()) {
+                long wedges = DegreeStatistics.of(compact).getWedgeCount();
+                if (wedges > 0) {
+                    explanation += "; global clustering coefficient " + String.format("%.3f", 3.0 * triangles / wedges);
+                }
+            } else {
+                explanation += " (edge directions ignored)";
+            }
+            statusPanel.setExplanation(explanation);
+            controlPanel.setStatusMessageSuccess("Triangles: " + triangles);
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Run a shortest-path search ("source target", or "source" for Dijkstra to all vertices)
+     * and animate its settle and relax events.
+     */
+    private void shortestPath(String operation, String input) {
+        try {
+            String[] parts = ValidationUtil.isNotEmpty(input) ? input.trim().split("\\s+") : new String[0];
+            boolean allTargets = operation.equals(OP_DIJKSTRA) && parts.length == 1;
+            if ((parts.length != 2 && !allTargets)
+                    || !ValidationUtil.isValidInteger(parts[0])
+                    || (!allTargets && !ValidationUtil.isValidInteger(parts[1]))) {
+                statusPanel.setError(operation.equals(OP_DIJKSTRA) ? "Use: source [target]" : "Use: source target");
+                return;
+            }
+            CompactGraph compact = snapshot();
+            int source = compact.indexOf(Integer.parseInt(parts[0]));
+            int target = allTargets ? -1 : compact.indexOf(Integer.parseInt(parts[1]));
+            if (source < 0 || (!allTargets && target < 0)) {
+                statusPanel.setError("Vertex not found!");
+                return;
+            }
+
+            List<double[]> events = new ArrayList<>();
+            RelaxationListener recorder = new RelaxationListener() {
+                @Override
+                public void settled(int vertex, double distance, boolean backward) {
+                    if (events.size() < Constants.GRAPH_ANIMATION_MAX_EVENTS) {
+                        events.add(new double[]{0, vertex, -1, distance, backward ? 1 : 0});
+                    }
+                }
+
+                @Override
+                public void relaxed(int from, int to, double distance, boolean backward) {
+                    if (events.size() < Constants.GRAPH_ANIMATION_MAX_EVENTS) {
+                        events.add(new double[]{1, to, from, distance, backward ? 1 : 0});
+                    }
+                }
+            };
+
+            PathResult result;
+            switch (operation) {
+                case OP_BIDIRECTIONAL:
+                    result = ShortestPaths.bidirectionalDijkstra(compact, compact.reverse(), source, target, recorder);
+                    statusPanel.setPseudocode("alternate forward/backward Dijkstra; stop when topF + topB >= best meeting distance");
+                    break;
+                case OP_ASTAR:
+                    result = ShortestPaths.aStar(compact, source, target, createHeuristic(compact), recorder);
+                    statusPanel.setPseudocode("pop v with least dist[v] + h(v); relax: dist[w] = dist[v] + weight(v, w)");
+                    break;
+                default:
+                    result = ShortestPaths.dijkstra(compact, source, target, recorder);
+                    statusPanel.setPseudocode("pop v with least dist[v]; for each edge (v, w): if dist[v] + weight < dist[w]: decreaseKey(w)");
+            }
+            OperationMetrics.addElementsTouched(result.getSettledCount() + (long) result.getRelaxationCount());
+            statusPanel.setOperationLabel(operation + " from " + parts[0] + (allTargets ? "" : " to " + parts[1]));
+            statusPanel.setExplanation("Running... " + result);
+            animateSearch(compact, events, result, operation);
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * A* heuristic from the rendered vertex positions.
+     */
+    private Heuristic createHeuristic(CompactGraph compact) {
+        int n = compact.getVertexCount();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int v = 0; v < n; v++) {
+            double[] position = visualizer.getVertexPosition(compact.getVertexId(v));
+            if (position == null) {
+                return (vertex, target) -> 0;
+            }
+            x[v] = position[0];
+            y[v] = position[1];
+        }
+        return Heuristic.euclidean(compact, x, y);
+    }
+
+    /**
+     * Replay settle/relax events, then highlight the resulting path or tree.
+     */
+    private void animateSearch(CompactGraph compact, List<double[]> events, PathResult result, String operation) {
+        visualizer.render();
+        int stepMs = Math.max(1, getAnimationDuration() / 2);
+        Timeline timeline = OperationMetrics.track(new Timeline());
+        for (int i = 0; i < events.size(); i++) {
+            double[] event = events.get(i);
+            timeline.getKeyFrames().add(new KeyFrame(Duration.millis((i + 1) * (double) stepMs), e -> {
+                int vertex = compact.getVertexId((int) event[1]);
+                boolean backward = event[4] == 1;
+                if (event[0] == 0) {
+                    visualizer.highlightVertex(vertex, backward ? Constants.COLOR_WARNING : Constants.COLOR_VISITED);
+                } else {
+                    int from = compact.getVertexId((int) event[2]);
+                    visualizer.highlightEdge(from, vertex, Constants.COLOR_SECONDARY);
+                    visualizer.highlightVertex(vertex, Constants.COLOR_SECONDARY);
+                }
+                visualizer.setVertexLabel(vertex, (backward ? "b " : "") + GraphVisualizer.formatNumber(event[3]));
+            }));
+        }
+        timeline.setOnFinished(e -> showPathResult(compact, result, operation));
+        timeline.play();
+        controlPanel.setStatusMessageSuccess(operation + " running");
+    }
+
+    private void showPathResult(CompactGraph compact, PathResult result, String operation) {
+        if (result.getTarget() < 0) {
+            // Single-source: show the shortest-path tree and the first distances
+            StringBuilder distances = new StringBuilder();
+            for (int v = 0; v < compact.getVertexCount(); v++) {
+                int parent = result.getParents()[v];
+                if (parent >= 0 && imported == null) {
+                    visualizer.highlightEdge(compact.getVertexId(parent), compact.getVertexId(v), Constants.COLOR_SUCCESS);
+                }
+                if (v < Constants.GRAPH_MAX_LISTED_VERTICES) {
+                    distances.append(compact.getVertexId(v)).append('=')
+                        .append(GraphVisualizer.formatNumber(result.distanceTo(v))).append(' ');
+                }
+            }
+            if (compact.getVertexCount() > Constants.GRAPH_MAX_LISTED_VERTICES) {
+                distances.append("...");
+            }
+            statusPanel.setOperationLabelSuccess(operation + " complete");
+            statusPanel.setExplanation("Distances: " + distances.toString().trim() + " (" + result + ")");
+            controlPanel.setStatusMessageSuccess(operation + " complete");
+            return;
+        }
+        int[] path = result.pathTo(result.getTarget());
+        if (path.length == 0) {
+            statusPanel.setOperationLabelError("No path");
+            statusPanel.setExplanation("Target is unreachable (" + result + ")");
+            controlPanel.setStatusMessageWarning("No path");
+            return;
+        }
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < path.length; i++) {
+            int vertex = compact.getVertexId(path[i]);
+            ids.add(vertex);
+            visualizer.highlightVertex(vertex, Constants.COLOR_SUCCESS);
+            if (i > 0) {
+                visualizer.highlightEdge(compact.getVertexId(path[i - 1]), vertex, Constants.COLOR_SUCCESS);
+            }
+        }
+        String distance = GraphVisualizer.formatNumber(result.distanceTo(result.getTarget()));
+        statusPanel.setOperationLabelSuccess("Shortest path length " + distance);
+        statusPanel.setExplanation("Path " + ids + "; settled " + result.getSettledCount() + " vertices, "
+            + result.getRelaxationCount() + " relaxations");
+        controlPanel.setStatusMessageSuccess(operation + ": " + ids);
+    }
+
     /**
      * Reset the graph.
      */
     public void reset() {
+        imported = null;
         graph.clear();
         visualizer.render();
         statusPanel.clearStatus();
@@ -194,6 +981,60 @@ public class GraphController {
         controlPanel.clearInput();
     }
 
+    /**
+     * Save the graph to a binary file: the imported or generated snapshot if one is shown,
+     * otherwise the editable graph.
+     */
+    public void save(File file) {
+        try {
+            long start = System.nanoTime();
+            if (imported != null) {
+                BinaryStore.saveGraph(imported, file.toPath());
+                statusPanel.setPseudocode("write header; bulk-write the snapshot's CSR arrays into mapped file");
+            } else {
+                BinaryStore.saveGraph(graph, file.toPath());
+                statusPanel.setPseudocode("write header; stream adjacency lists into mapped file");
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            statusPanel.setOperationLabelSuccess("Saved " + getVertexCount() + " vertices");
+            statusPanel.setExplanation("Wrote " + file.getName() + " in " + elapsedMs + " ms");
+            controlPanel.setStatusMessageSuccess("Graph saved to " + file.getName());
+        } catch (IOException | RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError("Save failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replace the graph with the contents of a binary file.
+     */
+    public void load(File file) {
+        try {
+            long start = System.nanoTime();
+            MappedGraph mapped = BinaryStore.mapGraph(file.toPath());
+            long mappedMs = (System.nanoTime() - start) / 1_000_000;
+            imported = null;
+            graph.clear();
+            mapped.copyInto(graph);
+            long totalMs = (System.nanoTime() - start) / 1_000_000;
+            visualizer.render();
+
+            statusPanel.setOperationLabelSuccess("Loaded " + mapped.getVertexCount() + " vertices");
+            statusPanel.setPseudocode("map file; copy mapped edges into graph");
+            statusPanel.setExplanation("Mapped " + file.getName() + " in " + mappedMs + " ms, loaded in " + totalMs + " ms");
+            controlPanel.setStatusMessageSuccess("Graph loaded from " + file.getName());
+        } catch (IOException | RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError("Load failed: " + e.getMessage());
+        } catch (OutOfMemoryError e) {
+            graph.clear();
+            visualizer.render();
+            statusPanel.setError("Not enough memory to load " + file.getName());
+            controlPanel.setStatusMessageError("Load failed: out of memory");
+        }
+    }
+
     /**
      * Set animation speed.
      */
@@ -214,4 +1055,18 @@ public class GraphController {
     public Graph getGraph() {
         return graph;
     }
+
+    /**
+     * Vertices in the graph being analyzed, including an imported graph that is not drawn.
+     */
+    public int getVertexCount() {
+        return imported != null ? imported.getVertexCount() : graph.getVertexCount();
+    }
+
+    /**
+     * Memory footprint of the graph being analyzed, including an imported graph that is not drawn.
+     */
+    public FootprintAnalysis analyzeFootprint() {
+        return imported != null ? FootprintAnalysis.of(imported) : FootprintAnalysis.of(graph);
+    }
 }
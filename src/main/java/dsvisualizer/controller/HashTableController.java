@@ -0,0 +1,286 @@
+package dsvisualizer.controller;
+
+import javafx.scene.layout.Pane;
+import dsvisualizer.animation.AnimationFactory;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.model.IntHashTable;
+import dsvisualizer.util.Constants;
+import dsvisualizer.util.ValidationUtil;
+import dsvisualizer.view.ControlPanel;
+import dsvisualizer.view.HashTableVisualizer;
+import dsvisualizer.view.StatusPanel;
+
+import java.util.Random;
+
+/**
+ * Controller for Hash Table operations.
+ */
+public class HashTableController {
+    public static final String OP_LINEAR = "Linear Probing";
+    public static final String OP_ROBIN_HOOD = "Robin Hood Hashing";
+    public static final String OP_INSERT_RANDOM = "Insert Random Keys";
+    public static final String[] OPERATIONS = {OP_LINEAR, OP_ROBIN_HOOD, OP_INSERT_RANDOM};
+
+    private IntHashTable table;
+    private HashTableVisualizer visualizer;
+    private ControlPanel controlPanel;
+    private StatusPanel statusPanel;
+    private double animationSpeed;
+    private Random random;
+
+    public HashTableController(Pane canvas, ControlPanel controlPanel, StatusPanel statusPanel) {
+        this.table = new IntHashTable(IntHashTable.ProbingMode.LINEAR, Constants.DEFAULT_HASH_CAPACITY);
+        this.visualizer = new HashTableVisualizer(canvas, table);
+        this.controlPanel = controlPanel;
+        this.statusPanel = statusPanel;
+        this.animationSpeed = Constants.SPEED_DEFAULT;
+        this.random = new Random();
+        visualizer.render();
+    }
+
+    /**
+     * Insert or update a key (expects "key" or "key value").
+     */
+    public void insert(String input) {
+        try {
+            if (!ValidationUtil.isNotEmpty(input)) {
+                statusPanel.setError("Please enter a key");
+                return;
+            }
+            String[] parts = input.trim().split("\\s+");
+            if (parts.length > 2) {
+                statusPanel.setError("Invalid format. Use: key or key value");
+                return;
+            }
+            for (String part : parts) {
+                if (!ValidationUtil.isValidInteger(part)) {
+                    statusPanel.setError("Invalid integer input");
+                    return;
+                }
+            }
+            int key = Integer.parseInt(parts[0]);
+            int value = parts.length == 2 ? Integer.parseInt(parts[1]) : key;
+
+            int resizesBefore = table.getResizeCount();
+            boolean added = table.put(key, value);
+            OperationMetrics.addElementsTouched(table.getLastProbeCount());
+
+            statusPanel.setOperationLabel((added ? "Inserting " : "Updating ") + key);
+            statusPanel.setPseudocode(getProbePseudocode() + "; place or update key");
+            String explanation = "Probed " + table.getLastProbeCount() + " slot(s)";
+            if (table.getResizeCount() > resizesBefore) {
+                explanation += ". Load factor passed " + IntHashTable.MAX_LOAD_FACTOR
+                    + ": resize started to " + table.getCapacity() + " slots; old slots migrate a few per operation";
+            }
+            statusPanel.setExplanation(explanation);
+
+            visualizer.render();
+            highlightKey(key, Constants.COLOR_TEXT_DARK);
+            AnimationFactory.fadeIn(visualizer.getBucketGroup(), getAnimationDuration()).play();
+
+            statusPanel.setOperationLabelSuccess((added ? "Inserted " : "Updated ") + key + " -> " + value);
+            controlPanel.setStatusMessageSuccess(added ? "Key inserted successfully!" : "Key updated");
+            controlPanel.clearInput();
+            updateMetrics();
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Delete a key, shifting later entries of its probe run back.
+     */
+    public void delete(String input) {
+        try {
+            if (!ValidationUtil.isNotEmpty(input) || !ValidationUtil.isValidInteger(input)) {
+                statusPanel.setError("Please enter a key");
+                return;
+            }
+            int key = Integer.parseInt(input.trim());
+
+            statusPanel.setOperationLabel("Deleting " + key);
+            statusPanel.setPseudocode(getProbePseudocode() + "; empty slot; shift later run entries back while they are not before their home");
+            boolean removed = table.remove(key);
+            OperationMetrics.addElementsTouched(table.getLastProbeCount());
+            if (!removed) {
+                statusPanel.setOperationLabelError("Key " + key + " not found");
+                statusPanel.setExplanation("Probed " + table.getLastProbeCount() + " slot(s) without finding the key");
+                controlPanel.setStatusMessageError("Key not found");
+                updateMetrics();
+                return;
+            }
+            statusPanel.setExplanation("Removed after probing " + table.getLastProbeCount()
+                + " slot(s); backward shift leaves no tombstone");
+            visualizer.render();
+
+            statusPanel.setOperationLabelSuccess("Deleted " + key);
+            controlPanel.setStatusMessageSuccess("Key deleted: " + key);
+            controlPanel.clearInput();
+            updateMetrics();
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Look up a key and highlight its bucket.
+     */
+    public void search(String input) {
+        try {
+            if (!ValidationUtil.isNotEmpty(input) || !ValidationUtil.isValidInteger(input)) {
+                statusPanel.setError("Please enter a key to search");
+                return;
+            }
+            int key = Integer.parseInt(input.trim());
+
+            statusPanel.setOperationLabel("Searching for " + key);
+            statusPanel.setPseudocode(getProbePseudocode());
+            visualizer.render();
+            boolean found = table.containsKey(key);
+            OperationMetrics.addElementsTouched(table.getLastProbeCount());
+            if (found) {
+                highlightKey(key, Constants.COLOR_SUCCESS);
+                statusPanel.setExplanation("Found " + key + " -> " + table.get(key) + " after probing "
+                    + probeLengthOf(key) + " slot(s)");
+                statusPanel.setOperationLabelSuccess("Found " + key);
+                controlPanel.setStatusMessageSuccess("Key found");
+            } else {
+                statusPanel.setExplanation("Key not found");
+                statusPanel.setOperationLabel("Key not found");
+                controlPanel.setStatusMessageWarning("Key not found");
+            }
+            updateMetrics();
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Reset the hash table.
+     */
+    public void reset() {
+        table.clear();
+        visualizer.render();
+        statusPanel.clearStatus();
+        updateMetrics();
+        controlPanel.setStatusMessage("Hash table cleared");
+        controlPanel.clearInput();
+    }
+
+    /**
+     * Run an entry from the Operations menu.
+     */
+    public void runOperation(String operation, String input) {
+        switch (operation) {
+            case OP_LINEAR:
+                setProbingMode(IntHashTable.ProbingMode.LINEAR);
+                break;
+            case OP_ROBIN_HOOD:
+                setProbingMode(IntHashTable.ProbingMode.ROBIN_HOOD);
+                break;
+            case OP_INSERT_RANDOM:
+                insertRandom(input);
+                break;
+            default:
+                controlPanel.setStatusMessageWarning("Unknown operation: " + operation);
+        }
+    }
+
+    private void setProbingMode(IntHashTable.ProbingMode mode) {
+        table.setProbingMode(mode);
+        visualizer.render();
+        statusPanel.setOperationLabel(mode == IntHashTable.ProbingMode.LINEAR ? OP_LINEAR : OP_ROBIN_HOOD);
+        statusPanel.setPseudocode(getProbePseudocode());
+        statusPanel.setExplanation(mode == IntHashTable.ProbingMode.LINEAR
+            ? "Each key takes the first free slot after its home slot"
+            : "A key displaces residents closer to their home slot, evening out probe lengths");
+        controlPanel.setStatusMessageSuccess("Rehashed with " + mode);
+        updateMetrics();
+    }
+
+    /**
+     * Insert a batch of random keys (count from input, default 10).
+     */
+    private void insertRandom(String input) {
+        int count = 10;
+        if (ValidationUtil.isNotEmpty(input)) {
+            if (!ValidationUtil.isValidInteger(input) || Integer.parseInt(input.trim()) <= 0) {
+                statusPanel.setError("Enter a positive count");
+                return;
+            }
+            count = Integer.parseInt(input.trim());
+        }
+        int resizesBefore = table.getResizeCount();
+        long probes = 0;
+        for (int i = 0; i < count; i++) {
+            int key = random.nextInt(1000);
+            table.put(key, key);
+            probes += table.getLastProbeCount();
+        }
+        OperationMetrics.addElementsTouched(probes);
+        visualizer.render();
+        statusPanel.setOperationLabelSuccess("Inserted " + count + " random keys");
+        statusPanel.setPseudocode("repeat " + count + ": put(random key)");
+        statusPanel.setExplanation((table.getResizeCount() - resizesBefore) + " resize(s) started during the batch");
+        controlPanel.setStatusMessageSuccess("Random keys inserted");
+        controlPanel.clearInput();
+        updateMetrics();
+    }
+
+    private void highlightKey(int key, javafx.scene.paint.Color color) {
+        int slot = table.slotOf(key);
+        if (slot >= 0) {
+            visualizer.highlightBucket(slot, false, color);
+        } else {
+            visualizer.highlightBucket(table.oldSlotOf(key), true, color);
+        }
+    }
+
+    private int probeLengthOf(int key) {
+        int slot = table.slotOf(key);
+        return slot >= 0 ? table.getProbeLengthAt(false, slot) : table.getProbeLengthAt(true, table.oldSlotOf(key));
+    }
+
+    private String getProbePseudocode() {
+        if (table.getProbingMode() == IntHashTable.ProbingMode.ROBIN_HOOD) {
+            return "i = hash(key) & mask; while slot[i] used and probe(slot[i]) >= probe(key): i++";
+        }
+        return "i = hash(key) & mask; while slot[i] used and slot[i].key != key: i++";
+    }
+
+    /**
+     * Show load factor, maximum probe length and resize state.
+     */
+    private void updateMetrics() {
+        String metrics = String.format("Size %d | Capacity %d | Load factor %.2f | Max probe length %d | Resizes %d",
+            table.getSize(), table.getCapacity(), table.getLoadFactor(), table.getMaxProbeLength(), table.getResizeCount());
+        if (table.isResizing()) {
+            metrics += " | Resizing: " + table.getMigratedSlots() + " / " + table.getOldCapacity() + " old slots migrated";
+        }
+        statusPanel.setMetrics(metrics);
+    }
+
+    /**
+     * Set animation speed.
+     */
+    public void setAnimationSpeed(double speed) {
+        this.animationSpeed = speed;
+    }
+
+    /**
+     * Get animation duration.
+     */
+    private int getAnimationDuration() {
+        return (int) (Constants.ANIMATION_DURATION_NORMAL / animationSpeed);
+    }
+
+    /**
+     * Get the current hash table.
+     */
+    public IntHashTable getTable() {
+        return table;
+    }
+}
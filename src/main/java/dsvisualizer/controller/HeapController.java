@@ -0,0 +1,265 @@
+package dsvisualizer.controller;
+
+import javafx.animation.SequentialTransition;
+import javafx.scene.layout.Pane;
+import dsvisualizer.animation.AnimationFactory;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.model.DaryHeap;
+import dsvisualizer.util.Constants;
+import dsvisualizer.util.ValidationUtil;
+import dsvisualizer.view.ControlPanel;
+import dsvisualizer.view.HeapVisualizer;
+import dsvisualizer.view.StatusPanel;
+
+/**
+ * Controller for Heap (d-ary priority queue) operations.
+ */
+public class HeapController {
+    public static final String OP_MIN_HEAP = "Min-Heap";
+    public static final String OP_MAX_HEAP = "Max-Heap";
+    public static final String OP_ARITY_2 = "Binary (d = 2)";
+    public static final String OP_ARITY_4 = "4-ary (d = 4)";
+    public static final String OP_ARITY_8 = "8-ary (d = 8)";
+    public static final String OP_HEAPIFY = "Heapify Input";
+    public static final String[] OPERATIONS = {
+        OP_MIN_HEAP, OP_MAX_HEAP, OP_ARITY_2, OP_ARITY_4, OP_ARITY_8, OP_HEAPIFY
+    };
+
+    private DaryHeap heap;
+    private HeapVisualizer visualizer;
+    private ControlPanel controlPanel;
+    private StatusPanel statusPanel;
+    private double animationSpeed;
+
+    public HeapController(Pane canvas, ControlPanel controlPanel, StatusPanel statusPanel) {
+        this.heap = new DaryHeap(Constants.DEFAULT_HEAP_ARITY, true, Constants.DEFAULT_HEAP_CAPACITY);
+        this.visualizer = new HeapVisualizer(canvas, heap);
+        this.controlPanel = controlPanel;
+        this.statusPanel = statusPanel;
+        this.animationSpeed = Constants.SPEED_DEFAULT;
+        visualizer.render();
+    }
+
+    /**
+     * Insert element and sift it up.
+     */
+    public void insert(String input) {
+        try {
+            if (!ValidationUtil.isNotEmpty(input)) {
+                statusPanel.setError("Please enter a value");
+                return;
+            }
+            if (!ValidationUtil.isValidInteger(input)) {
+                statusPanel.setError("Invalid integer input");
+                return;
+            }
+
+            int value = Integer.parseInt(input);
+
+            statusPanel.setOperationLabel("Inserting " + value);
+            statusPanel.setPseudocode("heap[size] = " + value + "; while parent " + (heap.isMinHeap() ? ">" : "<")
+                + " value: swap with parent (parent = (i - 1) / " + heap.getArity() + ")");
+
+            int startIndex = heap.getSize();
+            int finalIndex = heap.insert(value);
+            OperationMetrics.addElementsTouched(heap.getLastVisitCount() + 1);
+            statusPanel.setExplanation("Appended at index " + startIndex + " and sifted up to index " + finalIndex
+                + " (" + siftDistance(startIndex, finalIndex) + " levels)");
+            visualizer.render();
+            visualizer.highlightIndex(finalIndex, Constants.COLOR_SECONDARY);
+
+            SequentialTransition animation = AnimationFactory.sequence(
+                AnimationFactory.fadeIn(visualizer.getNodeGroup(), getAnimationDuration())
+            );
+            animation.play();
+
+            statusPanel.setOperationLabelSuccess("Inserted " + value + " at index " + finalIndex);
+            controlPanel.setStatusMessageSuccess("Element inserted successfully!");
+            controlPanel.clearInput();
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Remove the top element and sift the last element down from the root.
+     */
+    public void extract() {
+        try {
+            if (heap.isEmpty()) {
+                statusPanel.setError("Heap is empty!");
+                controlPanel.setStatusMessageError("Heap is empty!");
+                return;
+            }
+
+            visualizer.highlightIndex(0, Constants.COLOR_ERROR);
+            int value = heap.extract();
+            OperationMetrics.addElementsTouched(heap.getLastVisitCount() + 1);
+
+            statusPanel.setOperationLabel("Extracting " + (heap.isMinHeap() ? "min " : "max ") + value);
+            statusPanel.setPseudocode("top = heap[0]; heap[0] = heap[--size]; sift down: swap with best of "
+                + heap.getArity() + " children while out of order");
+            statusPanel.setExplanation("Removed root (value: " + value + "), moved last element to the root and sifted it down");
+
+            SequentialTransition animation = AnimationFactory.sequence(
+                AnimationFactory.fadeOut(visualizer.getNodeGroup(), getAnimationDuration())
+            );
+            animation.setOnFinished(e -> {
+                visualizer.render();
+                visualizer.getNodeGroup().setOpacity(1.0);
+            });
+            animation.play();
+
+            statusPanel.setOperationLabelSuccess("Extracted " + value);
+            controlPanel.setStatusMessageSuccess("Element extracted: " + value);
+            controlPanel.clearInput();
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Peek at the top element.
+     */
+    public void peek() {
+        try {
+            int value = heap.peek();
+            OperationMetrics.addElementsTouched(1);
+
+            statusPanel.setOperationLabel("Peeking");
+            statusPanel.setPseudocode("element = heap[0]");
+            statusPanel.setExplanation("The " + (heap.isMinHeap() ? "minimum" : "maximum") + " is always at the root: " + value);
+
+            visualizer.highlightIndex(0, Constants.COLOR_SUCCESS);
+
+            javafx.animation.Transition animation = AnimationFactory.pulseNode(visualizer.getNodeGroup(), getAnimationDuration());
+            animation.play();
+
+            statusPanel.setOperationLabelSuccess("Top element: " + value);
+            controlPanel.setStatusMessageSuccess("Top element: " + value);
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Run an entry from the Operations menu.
+     */
+    public void runOperation(String operation, String input) {
+        switch (operation) {
+            case OP_MIN_HEAP:
+                heap.setMinHeap(true);
+                reorder("Min-heap: every parent <= its children");
+                break;
+            case OP_MAX_HEAP:
+                heap.setMinHeap(false);
+                reorder("Max-heap: every parent >= its children");
+                break;
+            case OP_ARITY_2:
+                heap.setArity(2);
+                reorder("Each node has up to 2 children");
+                break;
+            case OP_ARITY_4:
+                heap.setArity(4);
+                reorder("Each node has up to 4 children: shallower tree, more comparisons per level");
+                break;
+            case OP_ARITY_8:
+                heap.setArity(8);
+                reorder("Each node has up to 8 children: shallower tree, more comparisons per level");
+                break;
+            case OP_HEAPIFY:
+                heapify(input);
+                break;
+            default:
+                controlPanel.setStatusMessageWarning("Unknown operation: " + operation);
+        }
+    }
+
+    /**
+     * Replace the heap with space-separated values using bottom-up heapify.
+     */
+    private void heapify(String input) {
+        if (!ValidationUtil.isNotEmpty(input)) {
+            statusPanel.setError("Enter space-separated values to heapify");
+            return;
+        }
+        String[] parts = input.trim().split("[\\s,]+");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            if (!ValidationUtil.isValidInteger(parts[i])) {
+                statusPanel.setError("Invalid integer input: " + parts[i]);
+                return;
+            }
+            values[i] = Integer.parseInt(parts[i]);
+        }
+        heap.heapify(values);
+        OperationMetrics.addElementsTouched(heap.getLastVisitCount());
+        statusPanel.setOperationLabel("Heapify " + values.length + " values");
+        statusPanel.setPseudocode("for i = lastParent down to 0: siftDown(i)");
+        statusPanel.setExplanation("Bottom-up construction runs in O(n): most nodes are near the leaves and sift down only a few levels");
+        visualizer.render();
+        statusPanel.setOperationLabelSuccess("Heap built from " + values.length + " values");
+        controlPanel.setStatusMessageSuccess("Heapified " + values.length + " values");
+        controlPanel.clearInput();
+    }
+
+    /**
+     * Re-render after the heap order or arity changed.
+     */
+    private void reorder(String explanation) {
+        OperationMetrics.addElementsTouched(heap.getLastVisitCount());
+        statusPanel.setOperationLabel((heap.isMinHeap() ? "Min" : "Max") + "-heap, d = " + heap.getArity());
+        statusPanel.setPseudocode("children(i) = " + heap.getArity() + "i + 1 .. " + heap.getArity() + "i + "
+            + heap.getArity() + "; rebuild with bottom-up heapify");
+        statusPanel.setExplanation(explanation);
+        visualizer.render();
+        controlPanel.setStatusMessageSuccess("Heap rebuilt");
+    }
+
+    /**
+     * Number of levels between two indices on the same root path.
+     */
+    private int siftDistance(int from, int to) {
+        int levels = 0;
+        while (from > to) {
+            from = heap.parentOf(from);
+            levels++;
+        }
+        return levels;
+    }
+
+    /**
+     * Reset the heap.
+     */
+    public void reset() {
+        heap.clear();
+        visualizer.render();
+        statusPanel.clearStatus();
+        controlPanel.setStatusMessage("Heap cleared");
+        controlPanel.clearInput();
+    }
+
+    /**
+     * Set animation speed.
+     */
+    public void setAnimationSpeed(double speed) {
+        this.animationSpeed = speed;
+    }
+
+    /**
+     * Get animation duration.
+     */
+    private int getAnimationDuration() {
+        return (int) (Constants.ANIMATION_DURATION_NORMAL / animationSpeed);
+    }
+
+    /**
+     * Get the current heap.
+     */
+    public DaryHeap getHeap() {
+        return heap;
+    }
+}
@@ -4,6 +4,7 @@ import javafx.animation.SequentialTransition;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import dsvisualizer.animation.AnimationFactory;
+import dsvisualizer.metrics.OperationMetrics;
 import dsvisualizer.model.LinkedList;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.ValidationUtil;
@@ -51,6 +52,7 @@ public class LinkedListController {
             statusPanel.setExplanation("Creating new node and inserting at front of list");
 
             linkedList.insertHead(value);
+            OperationMetrics.addElementsTouched(1);
             visualizer.render();
             
             SequentialTransition animation = AnimationFactory.sequence(
@@ -89,6 +91,7 @@ public class LinkedListController {
             statusPanel.setExplanation("Traversing to end of list and appending new node");
 
             linkedList.insertTail(value);
+            OperationMetrics.addElementsTouched(linkedList.getSize());
             visualizer.render();
             
             SequentialTransition animation = AnimationFactory.sequence(
@@ -118,6 +121,7 @@ public class LinkedListController {
             }
 
             int value = linkedList.deleteHead();
+            OperationMetrics.addElementsTouched(1);
             
             statusPanel.setOperationLabel("Deleting head");
             statusPanel.setPseudocode("temp = head; head = head.next; free(temp)");
@@ -153,17 +157,26 @@ public class LinkedListController {
 
             int value = Integer.parseInt(input);
             int foundIndex = linkedList.search(value);
+            if (linkedList.isIndexEnabled()) {
+                OperationMetrics.addElementsTouched(foundIndex != -1 ? 1 : 0);
+            } else {
+                OperationMetrics.addElementsTouched(foundIndex != -1 ? foundIndex + 1 : linkedList.getSize());
+            }
             
             statusPanel.setOperationLabel("Searching for " + value);
-            statusPanel.setPseudocode("current = head; while(current != null && current.data != " + value + ") current = current.next");
+            if (linkedList.isIndexEnabled()) {
+                statusPanel.setPseudocode("index.firstPosition(" + value + ")");
+            } else {
+                statusPanel.setPseudocode("current = head; while(current != null && current.data != " + value + ") current = current.next");
+            }
             
             if (foundIndex != -1) {
                 visualizer.highlightNode(foundIndex, Constants.COLOR_SUCCESS);
-                statusPanel.setExplanation("Found " + value + " at position " + foundIndex);
+                statusPanel.setExplanation("Found " + value + " at position " + foundIndex + getIndexDescription());
                 statusPanel.setOperationLabelSuccess("Found at position " + foundIndex);
                 controlPanel.setStatusMessageSuccess("Element found at position " + foundIndex);
             } else {
-                statusPanel.setExplanation("Element not found in list");
+                statusPanel.setExplanation("Element not found in list" + getIndexDescription());
                 controlPanel.setStatusMessageWarning("Element not found");
             }
         } catch (Exception e) {
@@ -190,6 +203,23 @@ public class LinkedListController {
         this.animationSpeed = speed;
     }
 
+    /**
+     * Enable or disable the hash index used by search.
+     */
+    public void setSearchIndexEnabled(boolean enabled) {
+        linkedList.setIndexEnabled(enabled);
+    }
+
+    /**
+     * Describe the search index memory overhead for the explanation panel.
+     */
+    private String getIndexDescription() {
+        if (!linkedList.isIndexEnabled()) {
+            return "";
+        }
+        return " (hash index, " + linkedList.getIndexMemoryBytes() + " bytes overhead)";
+    }
+
     /**
      * Get animation duration.
      */
@@ -4,6 +4,7 @@ import javafx.animation.SequentialTransition;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import dsvisualizer.animation.AnimationFactory;
+import dsvisualizer.metrics.OperationMetrics;
 import dsvisualizer.model.Queue;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.ValidationUtil;
@@ -51,6 +52,7 @@ public class QueueController {
             statusPanel.setExplanation("Adding element to rear of queue and incrementing rear pointer");
 
             queue.enqueue(value);
+            OperationMetrics.addElementsTouched(1);
             visualizer.render();
             
             SequentialTransition animation = AnimationFactory.sequence(
@@ -80,6 +82,7 @@ public class QueueController {
             }
 
             int value = queue.dequeue();
+            OperationMetrics.addElementsTouched(1);
             
             statusPanel.setOperationLabel("Dequeueing " + value);
             statusPanel.setPseudocode("element = queue.dequeue(); front++");
@@ -106,6 +109,7 @@ public class QueueController {
     public void peek() {
         try {
             int value = queue.peek();
+            OperationMetrics.addElementsTouched(1);
             
             statusPanel.setOperationLabel("Peeking");
             statusPanel.setPseudocode("element = queue.peek()");
@@ -4,6 +4,7 @@ import javafx.animation.SequentialTransition;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import dsvisualizer.animation.AnimationFactory;
+import dsvisualizer.metrics.OperationMetrics;
 import dsvisualizer.model.Stack;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.ValidationUtil;
@@ -51,6 +52,7 @@ public class StackController {
             statusPanel.setExplanation("Adding element to top of stack and incrementing top pointer");
 
             stack.push(value);
+            OperationMetrics.addElementsTouched(1);
             visualizer.render();
             
             SequentialTransition animation = AnimationFactory.sequence(
@@ -86,6 +88,7 @@ public class StackController {
             }
 
             int value = stack.pop();
+            OperationMetrics.addElementsTouched(1);
             
             statusPanel.setOperationLabel("Popping " + value);
             statusPanel.setPseudocode("element = stack.pop(); top--");
@@ -112,6 +115,7 @@ public class StackController {
     public void peek() {
         try {
             int value = stack.peek();
+            OperationMetrics.addElementsTouched(1);
             
             statusPanel.setOperationLabel("Peeking");
             statusPanel.setPseudocode("element = stack.peek()");
@@ -0,0 +1,287 @@
+package dsvisualizer.controller;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.scene.layout.Pane;
+import javafx.util.Duration;
+import dsvisualizer.animation.AnimationFactory;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.model.UnionFind;
+import dsvisualizer.util.Constants;
+import dsvisualizer.util.ValidationUtil;
+import dsvisualizer.view.ControlPanel;
+import dsvisualizer.view.StatusPanel;
+import dsvisualizer.view.UnionFindVisualizer;
+
+import java.util.Random;
+
+/**
+ * Controller for Union-Find (disjoint set) operations.
+ */
+public class UnionFindController {
+    public static final String OP_RANDOM_UNIONS = "Union Random Pairs";
+    public static final String[] OPERATIONS = {OP_RANDOM_UNIONS};
+
+    private UnionFind forest;
+    private UnionFindVisualizer visualizer;
+    private ControlPanel controlPanel;
+    private StatusPanel statusPanel;
+    private double animationSpeed;
+    private Random random;
+
+    public UnionFindController(Pane canvas, ControlPanel controlPanel, StatusPanel statusPanel) {
+        this.forest = new UnionFind();
+        this.visualizer = new UnionFindVisualizer(canvas, forest);
+        this.controlPanel = controlPanel;
+        this.statusPanel = statusPanel;
+        this.animationSpeed = Constants.SPEED_DEFAULT;
+        this.random = new Random();
+        visualizer.render();
+    }
+
+    /**
+     * Add singleton sets (expects one or more values).
+     */
+    public void makeSet(String input) {
+        try {
+            int[] labels = parseInts(input);
+            if (labels == null || labels.length == 0) {
+                statusPanel.setError("Enter one or more integers");
+                return;
+            }
+            int added = 0;
+            for (int label : labels) {
+                if (forest.makeSet(label)) {
+                    added++;
+                }
+            }
+            statusPanel.setOperationLabel("Make set");
+            statusPanel.setPseudocode("parent[x] = x; rank[x] = 0");
+            OperationMetrics.addElementsTouched(labels.length);
+            statusPanel.setExplanation(added + " new singleton set(s); " + (labels.length - added) + " already present");
+
+            visualizer.render();
+            AnimationFactory.fadeIn(visualizer.getNodeGroup(), getAnimationDuration()).play();
+            statusPanel.setOperationLabelSuccess("Added " + added + " element(s)");
+            controlPanel.setStatusMessageSuccess(forest.getSetCount() + " set(s)");
+            controlPanel.clearInput();
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Merge the sets of two values (expects "a b").
+     */
+    public void union(String input) {
+        try {
+            int[] labels = parseInts(input);
+            if (labels == null || labels.length != 2) {
+                statusPanel.setError("Invalid format. Use: a b");
+                return;
+            }
+            int a = labels[0];
+            int b = labels[1];
+            statusPanel.setOperationLabel("Union " + a + ", " + b);
+            statusPanel.setPseudocode("ra = find(a); rb = find(b); attach lower-rank root under higher; tie: rank++");
+            forest.makeSet(a);
+            forest.makeSet(b);
+            visualizer.render();
+            int[] pathA = forest.pathOf(a);
+            int[] pathB = forest.pathOf(b);
+            OperationMetrics.addElementsTouched(pathA.length + pathB.length);
+
+            animatePaths(pathA, pathB, () -> {
+                boolean merged = forest.union(a, b);
+                visualizer.render();
+                visualizer.highlightElement(forest.indexOf(forest.find(a)), Constants.COLOR_SECONDARY);
+                statusPanel.setExplanation(merged
+                    ? "Roots " + forest.getLabel(pathA[pathA.length - 1]) + " and " + forest.getLabel(pathB[pathB.length - 1])
+                        + " joined under " + forest.find(a) + "; both paths compressed"
+                    : a + " and " + b + " already share root " + forest.find(a));
+                statusPanel.setOperationLabelSuccess(merged ? "Sets merged" : "Already in the same set");
+                controlPanel.setStatusMessageSuccess(forest.getSetCount() + " set(s)");
+            });
+            controlPanel.clearInput();
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Find the root of a value ("x"), or check whether two values are connected ("a b").
+     */
+    public void find(String input) {
+        try {
+            int[] labels = parseInts(input);
+            if (labels == null || labels.length < 1 || labels.length > 2) {
+                statusPanel.setError("Use: x or a b");
+                return;
+            }
+            for (int label : labels) {
+                if (forest.indexOf(label) < 0) {
+                    statusPanel.setError("Element not found: " + label);
+                    return;
+                }
+            }
+            visualizer.render();
+            int[] pathA = forest.pathOf(labels[0]);
+            int[] pathB = labels.length == 2 ? forest.pathOf(labels[1]) : new int[0];
+            OperationMetrics.addElementsTouched(pathA.length + pathB.length);
+            if (labels.length == 1) {
+                statusPanel.setOperationLabel("Find " + labels[0]);
+                statusPanel.setPseudocode("root = x; while parent[root] != root: root = parent[root]; point path at root");
+            } else {
+                statusPanel.setOperationLabel("Connected " + labels[0] + ", " + labels[1] + "?");
+                statusPanel.setPseudocode("find(a) == find(b)");
+            }
+
+            animatePaths(pathA, pathB, () -> {
+                int root = forest.find(labels[0]);
+                int pathLength = pathA.length - 1;
+                visualizer.render();
+                visualizer.highlightElement(forest.indexOf(root), Constants.COLOR_SECONDARY);
+                if (labels.length == 1) {
+                    statusPanel.setExplanation("Followed " + pathLength + " parent link(s); path now points directly at the root");
+                    statusPanel.setOperationLabelSuccess("Root of " + labels[0] + " is " + root);
+                    controlPanel.setStatusMessageSuccess("Root: " + root);
+                } else if (forest.connected(labels[0], labels[1])) {
+                    statusPanel.setExplanation("Both reach root " + root);
+                    statusPanel.setOperationLabelSuccess("Connected");
+                    controlPanel.setStatusMessageSuccess(labels[0] + " and " + labels[1] + " are connected");
+                } else {
+                    statusPanel.setExplanation("Roots differ: " + root + " and " + forest.find(labels[1]));
+                    statusPanel.setOperationLabel("Not connected");
+                    controlPanel.setStatusMessageWarning(labels[0] + " and " + labels[1] + " are not connected");
+                }
+            });
+        } catch (RuntimeException e) {
+            statusPanel.setError(e.getMessage());
+            controlPanel.setStatusMessageError(e.getMessage());
+        }
+    }
+
+    /**
+     * Reset the forest.
+     */
+    public void reset() {
+        forest.clear();
+        visualizer.render();
+        statusPanel.clearStatus();
+        controlPanel.setStatusMessage("Union-find cleared");
+        controlPanel.clearInput();
+    }
+
+    /**
+     * Run an entry from the Operations menu.
+     */
+    public void runOperation(String operation, String input) {
+        switch (operation) {
+            case OP_RANDOM_UNIONS:
+                unionRandom(input);
+                break;
+            default:
+                controlPanel.setStatusMessageWarning("Unknown operation: " + operation);
+        }
+    }
+
+    /**
+     * Union random pairs of existing elements (count from input, default 5).
+     */
+    private void unionRandom(String input) {
+        int count = 5;
+        if (ValidationUtil.isNotEmpty(input)) {
+            if (!ValidationUtil.isValidInteger(input) || Integer.parseInt(input.trim()) <= 0) {
+                statusPanel.setError("Enter a positive count");
+                return;
+            }
+            count = Integer.parseInt(input.trim());
+        }
+        if (forest.getSize() < 2) {
+            statusPanel.setError("Add at least two elements first");
+            return;
+        }
+        int merged = 0;
+        long touched = 0;
+        for (int i = 0; i < count; i++) {
+            int a = random.nextInt(forest.getSize());
+            int b = random.nextInt(forest.getSize());
+            // Find both roots first so the path lengths can be reported; the union's own finds are then O(1)
+            forest.findRoot(a);
+            touched += forest.getLastPathLength() + 1;
+            forest.findRoot(b);
+            touched += forest.getLastPathLength() + 1;
+            if (forest.unionElements(a, b)) {
+                merged++;
+            }
+        }
+        OperationMetrics.addElementsTouched(touched);
+        visualizer.render();
+        statusPanel.setOperationLabelSuccess("Ran " + count + " random unions");
+        statusPanel.setPseudocode("repeat " + count + ": union(random a, random b)");
+        statusPanel.setExplanation(merged + " merged two sets; " + forest.getSetCount() + " set(s) remain");
+        controlPanel.setStatusMessageSuccess("Random unions done");
+        controlPanel.clearInput();
+    }
+
+    /**
+     * Highlight the find paths one link at a time, then run the action.
+     */
+    private void animatePaths(int[] pathA, int[] pathB, Runnable onFinished) {
+        Timeline timeline = OperationMetrics.track(new Timeline());
+        int stepMs = Math.max(1, getAnimationDuration() / 2);
+        int steps = Math.max(pathA.length, pathB.length);
+        for (int i = 0; i < steps; i++) {
+            int step = i;
+            timeline.getKeyFrames().add(new KeyFrame(Duration.millis((i + 1) * (double) stepMs), e -> {
+                if (step < pathA.length) {
+                    visualizer.highlightElement(pathA[step], Constants.COLOR_WARNING);
+                }
+                if (step < pathB.length) {
+                    visualizer.highlightElement(pathB[step], Constants.COLOR_VISITED);
+                }
+            }));
+        }
+        timeline.getKeyFrames().add(new KeyFrame(Duration.millis((steps + 1) * (double) stepMs)));
+        timeline.setOnFinished(e -> onFinished.run());
+        timeline.play();
+    }
+
+    private static int[] parseInts(String input) {
+        if (!ValidationUtil.isNotEmpty(input)) {
+            return null;
+        }
+        String[] parts = input.trim().split("\\s+");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            if (!ValidationUtil.isValidInteger(parts[i])) {
+                return null;
+            }
+            values[i] = Integer.parseInt(parts[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Set animation speed.
+     */
+    public void setAnimationSpeed(double speed) {
+        this.animationSpeed = speed;
+    }
+
+    /**
+     * Get animation duration.
+     */
+    private int getAnimationDuration() {
+        return (int) (Constants.ANIMATION_DURATION_NORMAL / animationSpeed);
+    }
+
+    /**
+     * Get the current forest.
+     */
+    public UnionFind getForest() {
+        return forest;
+    }
+}
@@ -0,0 +1,208 @@
+package dsvisualizer.generator;
+
+import dsvisualizer.model.BinarySearchTree;
+import dsvisualizer.model.CostCounters;
+import dsvisualizer.model.DaryHeap;
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.IntHashTable;
+import dsvisualizer.model.LinkedList;
+import dsvisualizer.model.Queue;
+import dsvisualizer.model.Stack;
+
+import java.util.SplittableRandom;
+
+/**
+ * Cost experiments behind the complexity plot. Each one builds a structure of size n
+ * (uncounted), then runs a batch of operations and reports the counted cost per operation,
+ * so the result can be fitted against ComplexityClass curves. Requires CostCounters.ENABLED.
+ */
+public enum ComplexityExperiment {
+    BST_SEARCH_RANDOM("BST search (random inserts)"),
+    BST_SEARCH_SORTED("BST search (sorted inserts)"),
+    BST_BUILD("BST build (total cost)"),
+    ARRAY_INSERT_FRONT("Array insert at front"),
+    ARRAY_APPEND("Array append (amortized)"),
+    ARRAY_SEARCH("Array linear search"),
+    LIST_SEARCH("Linked list search"),
+    HEAP_EXTRACT_INSERT("Heap extract + insert"),
+    HASH_SEARCH("Hash table search"),
+    QUEUE_DEQUEUE("Queue dequeue"),
+    STACK_PUSH_POP("Stack push + pop");
+
+    public static final int OPERATIONS_PER_SIZE = 512;
+
+    private final String displayName;
+
+    ComplexityExperiment(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Get name shown in menus and charts.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Find experiment by display name (returns null if unknown).
+     */
+    public static ComplexityExperiment fromDisplayName(String name) {
+        for (ComplexityExperiment experiment : values()) {
+            if (experiment.displayName.equals(name)) {
+                return experiment;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Counted cost per operation at size n (summed over all cost kinds).
+     */
+    public double measure(int n, long seed) {
+        if (!CostCounters.ENABLED) {
+            throw new IllegalStateException("Cost counters are off; start with -Ddsvisualizer.costs=true");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] probes = new Workload(KeyDistribution.UNIFORM, n, OperationMix.INSERT_ONLY, seed)
+            .keys(OPERATIONS_PER_SIZE).toArray();
+        long before;
+        switch (this) {
+            case BST_SEARCH_RANDOM:
+            case BST_SEARCH_SORTED: {
+                BinarySearchTree tree = new BinarySearchTree();
+                for (int key : this == BST_SEARCH_RANDOM ? shuffled(n, random) : sorted(n)) {
+                    tree.insert(key);
+                }
+                before = CostCounters.total();
+                for (int key : probes) {
+                    tree.search(key);
+                }
+                return perOperation(before, probes.length);
+            }
+            case BST_BUILD: {
+                int[] keys = shuffled(n, random);
+                before = CostCounters.total();
+                BinarySearchTree tree = new BinarySearchTree();
+                for (int key : keys) {
+                    tree.insert(key);
+                }
+                return perOperation(before, 1);
+            }
+            case ARRAY_INSERT_FRONT: {
+                DynamicArray array = filledArray(n);
+                before = CostCounters.total();
+                for (int key : probes) {
+                    array.insert(0, key);
+                    long afterInsert = CostCounters.total();
+                    array.delete(array.getSize() - 1);
+                    // Only the insert is measured; the tail delete just restores the size
+                    before += CostCounters.total() - afterInsert;
+                }
+                return perOperation(before, probes.length);
+            }
+            case ARRAY_APPEND: {
+                before = CostCounters.total();
+                filledArray(n);
+                return perOperation(before, n);
+            }
+            case ARRAY_SEARCH: {
+                DynamicArray array = filledArray(n);
+                before = CostCounters.total();
+                for (int key : probes) {
+                    array.search(key);
+                }
+                return perOperation(before, probes.length);
+            }
+            case LIST_SEARCH: {
+                LinkedList list = new LinkedList();
+                for (int i = n - 1; i >= 0; i--) {
+                    list.insertHead(i);
+                }
+                before = CostCounters.total();
+                for (int key : probes) {
+                    list.search(key);
+                }
+                return perOperation(before, probes.length);
+            }
+            case HEAP_EXTRACT_INSERT: {
+                DaryHeap heap = new DaryHeap(2, true, n);
+                heap.heapify(shuffled(n, random));
+                before = CostCounters.total();
+                for (int key : probes) {
+                    heap.extract();
+                    heap.insert(key);
+                }
+                return perOperation(before, probes.length);
+            }
+            case HASH_SEARCH: {
+                IntHashTable table = new IntHashTable(IntHashTable.ProbingMode.ROBIN_HOOD, 16);
+                for (int key : shuffled(n, random)) {
+                    table.put(key, key);
+                }
+                before = CostCounters.total();
+                for (int key : probes) {
+                    table.containsKey(key);
+                }
+                return perOperation(before, probes.length);
+            }
+            case QUEUE_DEQUEUE: {
+                Queue queue = new Queue(n + 1);
+                for (int i = 0; i < n; i++) {
+                    queue.enqueue(i);
+                }
+                before = CostCounters.total();
+                for (int key : probes) {
+                    queue.dequeue();
+                    long afterDequeue = CostCounters.total();
+                    queue.enqueue(key);
+                    before += CostCounters.total() - afterDequeue;
+                }
+                return perOperation(before, probes.length);
+            }
+            default: {
+                Stack stack = new Stack(n + 1);
+                for (int i = 0; i < n; i++) {
+                    stack.push(i);
+                }
+                before = CostCounters.total();
+                for (int key : probes) {
+                    stack.push(key);
+                    stack.pop();
+                }
+                return perOperation(before, probes.length);
+            }
+        }
+    }
+
+    private static double perOperation(long before, int operations) {
+        return (double) (CostCounters.total() - before) / operations;
+    }
+
+    private static DynamicArray filledArray(int n) {
+        DynamicArray array = new DynamicArray(1);
+        for (int i = 0; i < n; i++) {
+            array.insert(i, i);
+        }
+        return array;
+    }
+
+    private static int[] sorted(int n) {
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = i;
+        }
+        return keys;
+    }
+
+    private static int[] shuffled(int n, SplittableRandom random) {
+        int[] keys = sorted(n);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+        return keys;
+    }
+}
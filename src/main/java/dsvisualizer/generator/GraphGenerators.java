@@ -0,0 +1,600 @@
+package dsvisualizer.generator;
+
+import dsvisualizer.model.CompactGraph;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Seeded synthetic graph generators that write straight into CSR arrays.
+ * Parallel generators draw from one random stream per vertex row or per fixed block of
+ * edges, so the output depends only on the parameters and the seed, never on the
+ * number of threads. Generated graphs are unweighted; see randomWeights.
+ */
+public class GraphGenerators {
+    static final int PARALLEL_THRESHOLD = 1 << 12;
+    static final int EDGE_BLOCK = 1 << 16;
+
+    private static final int MAX_ADJACENCY = Integer.MAX_VALUE - 8;
+
+    /**
+     * G(n, p) on the common pool.
+     */
+    public static CompactGraph erdosRenyi(int n, double p, boolean directed, long seed) {
+        return erdosRenyi(n, p, directed, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * G(n, p): every pair (ordered if directed) is an edge with probability p, no self-loops.
+     * Each row skips ahead by geometric gaps, so the cost is O(n + m) rather than O(n²).
+     * Rows are generated twice (count, then fill) to avoid an intermediate edge list.
+     */
+    public static CompactGraph erdosRenyi(int n, double p, boolean directed, long seed, ForkJoinPool pool) {
+        checkVertexCount(n);
+        if (!(p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException("Edge probability must be in [0, 1]: " + p);
+        }
+        double expected = p * n * (n - 1.0) * (directed ? 1 : 0.5);
+        if (expected > MAX_ADJACENCY / (directed ? 1.0 : 2.0)) {
+            throw new IllegalArgumentException("Too many expected edges: " + (long) expected);
+        }
+        double logQ = Math.log1p(-p);
+
+        // Row u draws columns v > u (undirected) or v != u (directed)
+        int[] offsets = new int[n + 1];
+        pool.invoke(new RowTask(0, n, PARALLEL_THRESHOLD, (from, to) -> {
+            for (int u = from; u < to; u++) {
+                offsets[u + 1] = sampleRow(u, n, p, logQ, directed, seed, null, 0);
+            }
+        }));
+        long total = 0;
+        for (int u = 0; u < n; u++) {
+            total += offsets[u + 1];
+            if (total > MAX_ADJACENCY) {
+                throw new IllegalArgumentException("Too many edges: " + total);
+            }
+            offsets[u + 1] = (int) total;
+        }
+        int[] targets = new int[offsets[n]];
+        pool.invoke(new RowTask(0, n, PARALLEL_THRESHOLD, (from, to) -> {
+            for (int u = from; u < to; u++) {
+                sampleRow(u, n, p, logQ, directed, seed, targets, offsets[u]);
+            }
+        }));
+        CompactGraph upper = CompactGraph.fromCsr(identity(n), offsets, targets, null, true);
+        return directed ? upper : symmetrize(upper, pool);
+    }
+
+    /**
+     * Barabási–Albert preferential attachment: each new vertex links to m distinct earlier
+     * vertices chosen with probability proportional to degree. Attachment depends on every
+     * earlier choice, so this generator is sequential.
+     */
+    public static CompactGraph barabasiAlbert(int n, int m, long seed) {
+        checkVertexCount(n);
+        if (m < 1 || m >= n) {
+            throw new IllegalArgumentException("Need 1 <= m < n, got m = " + m);
+        }
+        long edges = (long) m * (n - m);
+        if (2 * edges > MAX_ADJACENCY) {
+            throw new IllegalArgumentException("Too many edges: " + edges);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] from = new int[(int) edges];
+        int[] to = new int[(int) edges];
+        // Every edge endpoint once: sampling a slot uniformly is sampling by degree
+        int[] endpoints = new int[(int) (2 * edges)];
+        int[] chosen = new int[m];
+        int edgeCount = 0;
+        int endpointCount = 0;
+        for (int v = m; v < n; v++) {
+            int picked = 0;
+            while (picked < m) {
+                // The first new vertex has nothing to prefer and links to the m seed vertices
+                int candidate = endpointCount == 0 ? picked : endpoints[random.nextInt(endpointCount)];
+                if (!contains(chosen, picked, candidate)) {
+                    chosen[picked++] = candidate;
+                }
+            }
+            for (int i = 0; i < m; i++) {
+                from[edgeCount] = v;
+                to[edgeCount] = chosen[i];
+                edgeCount++;
+                endpoints[endpointCount++] = v;
+                endpoints[endpointCount++] = chosen[i];
+            }
+        }
+        return sortAdjacency(CompactGraph.fromEdges(n, from, to, null, edgeCount, false), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * rows x cols 4-neighbour grid on the common pool.
+     */
+    public static CompactGraph grid(int rows, int cols) {
+        return grid(rows, cols, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * rows x cols 4-neighbour grid; vertex r * cols + c. Degrees are known in closed form,
+     * so offsets and targets are filled in parallel over row ranges.
+     */
+    public static CompactGraph grid(int rows, int cols, ForkJoinPool pool) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Grid needs at least one row and column");
+        }
+        long n = (long) rows * cols;
+        long adjacency = 2L * ((long) rows * (cols - 1) + (long) (rows - 1) * cols);
+        if (n > MAX_ADJACENCY || adjacency > MAX_ADJACENCY) {
+            throw new IllegalArgumentException("Grid too large: " + rows + "x" + cols);
+        }
+        int vertices = (int) n;
+        int[] offsets = new int[vertices + 1];
+        int[] targets = new int[(int) adjacency];
+        pool.invoke(new RowTask(0, rows, 1, (from, to) -> {
+            for (int r = from; r < to; r++) {
+                // Adjacency entries before row r: full rows of interior + boundary degrees
+                int slot = r == 0 ? 0 : (int) (2L * ((long) r * (cols - 1) + (long) r * cols) - cols);
+                for (int c = 0; c < cols; c++) {
+                    int v = r * cols + c;
+                    offsets[v] = slot;
+                    if (r > 0) {
+                        targets[slot++] = v - cols;
+                    }
+                    if (c > 0) {
+                        targets[slot++] = v - 1;
+                    }
+                    if (c < cols - 1) {
+                        targets[slot++] = v + 1;
+                    }
+                    if (r < rows - 1) {
+                        targets[slot++] = v + cols;
+                    }
+                }
+            }
+        }));
+        offsets[vertices] = targets.length;
+        return CompactGraph.fromCsr(identity(vertices), offsets, targets, null, false);
+    }
+
+    /**
+     * Random simple d-regular graph by the configuration model: stubs are shuffled and paired,
+     * then self-loops and repeated edges are repaired by random edge swaps. Sequential.
+     * Dense degrees (d > (n - 1) / 2) are built as the complement of a sparse regular graph,
+     * where swaps would rarely find room.
+     */
+    public static CompactGraph randomRegular(int n, int d, long seed) {
+        checkVertexCount(n);
+        if (d < 0 || d >= n || ((long) n * d) % 2 != 0) {
+            throw new IllegalArgumentException("Need 0 <= d < n and n * d even, got n = " + n + ", d = " + d);
+        }
+        if ((long) n * d > MAX_ADJACENCY) {
+            throw new IllegalArgumentException("Too many edges: " + (long) n * d / 2);
+        }
+        if (d > (n - 1) / 2) {
+            return complement(randomRegular(n, n - 1 - d, seed), d);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] stubs = new int[n * d];
+        for (int i = 0; i < stubs.length; i++) {
+            stubs[i] = i / d;
+        }
+        for (int i = stubs.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = stubs[i];
+            stubs[i] = stubs[j];
+            stubs[j] = tmp;
+        }
+
+        int edges = stubs.length / 2;
+        int[] from = new int[edges];
+        int[] to = new int[edges];
+        LongSet present = new LongSet(edges);
+        int[] bad = new int[edges];
+        boolean[] pending = new boolean[edges];
+        int badCount = 0;
+        for (int e = 0; e < edges; e++) {
+            from[e] = stubs[2 * e];
+            to[e] = stubs[2 * e + 1];
+            if (from[e] == to[e] || !present.add(edgeKey(from[e], to[e]))) {
+                bad[badCount++] = e;
+                pending[e] = true;
+            }
+        }
+
+        // Swap (a, b), (c, x) -> (a, c), (b, x) until every bad pair is a fresh simple edge
+        long attempts = 0;
+        long maxAttempts = 1000L * edges + 1000;
+        for (int i = 0; i < badCount; i++) {
+            int e = bad[i];
+            pending[e] = false;
+            boolean fixed = false;
+            while (!fixed) {
+                if (++attempts > maxAttempts) {
+                    throw new IllegalStateException("Could not repair a simple " + d + "-regular graph on " + n + " vertices");
+                }
+                int f = random.nextInt(edges);
+                if (f == e || pending[f]) {
+                    continue;
+                }
+                int a = from[e];
+                int b = to[e];
+                int c = from[f];
+                int x = to[f];
+                if (random.nextBoolean()) {
+                    c = to[f];
+                    x = from[f];
+                }
+                long first = edgeKey(a, c);
+                long second = edgeKey(b, x);
+                if (a == c || b == x || first == second || present.contains(first) || present.contains(second)) {
+                    continue;
+                }
+                present.remove(edgeKey(c, x));
+                present.add(first);
+                present.add(second);
+                from[e] = a;
+                to[e] = c;
+                from[f] = b;
+                to[f] = x;
+                fixed = true;
+            }
+        }
+        return sortAdjacency(CompactGraph.fromEdges(n, from, to, null, edges, false), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * R-MAT on the common pool with the Graph500 quadrant probabilities.
+     */
+    public static CompactGraph rmat(int scale, int edgeFactor, boolean directed, long seed) {
+        return rmat(scale, edgeFactor, 0.57, 0.19, 0.19, directed, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * R-MAT: 2^scale vertices and edgeFactor * 2^scale edges, each placed by recursively
+     * choosing an adjacency-matrix quadrant with probabilities a, b, c and 1 - a - b - c.
+     * Edges are drawn in parallel in fixed blocks; self-loops and duplicates are kept.
+     */
+    public static CompactGraph rmat(int scale, int edgeFactor, double a, double b, double c,
+                                    boolean directed, long seed, ForkJoinPool pool) {
+        if (scale < 1 || scale > 30 || edgeFactor < 1) {
+            throw new IllegalArgumentException("Need 1 <= scale <= 30 and edgeFactor >= 1");
+        }
+        if (a < 0 || b < 0 || c < 0 || a + b + c > 1) {
+            throw new IllegalArgumentException("Quadrant probabilities must be non-negative and sum to at most 1");
+        }
+        int n = 1 << scale;
+        long edges = (long) edgeFactor * n;
+        if (edges * (directed ? 1 : 2) > MAX_ADJACENCY) {
+            throw new IllegalArgumentException("Too many edges: " + edges);
+        }
+        int m = (int) edges;
+        int[] from = new int[m];
+        int[] to = new int[m];
+        // Quadrant thresholds as 32-bit fractions: one nextLong decides two levels
+        long ta = (long) (a * 0x1.0p32);
+        long tab = (long) ((a + b) * 0x1.0p32);
+        long tabc = (long) ((a + b + c) * 0x1.0p32);
+        int blocks = (m + EDGE_BLOCK - 1) / EDGE_BLOCK;
+        pool.invoke(new RowTask(0, blocks, 1, (firstBlock, endBlock) -> {
+            for (int block = firstBlock; block < endBlock; block++) {
+                SplittableRandom random = new SplittableRandom(streamSeed(seed, block));
+                int end = (int) Math.min(m, (long) (block + 1) * EDGE_BLOCK);
+                for (int e = block * EDGE_BLOCK; e < end; e++) {
+                    int u = 0;
+                    int v = 0;
+                    long bits = 0;
+                    for (int bit = scale - 1; bit >= 0; bit--) {
+                        long r;
+                        if (((scale - 1 - bit) & 1) == 0) {
+                            bits = random.nextLong();
+                            r = bits >>> 32;
+                        } else {
+                            r = bits & 0xFFFFFFFFL;
+                        }
+                        if (r >= tabc) {
+                            u |= 1 << bit;
+                            v |= 1 << bit;
+                        } else if (r >= tab) {
+                            u |= 1 << bit;
+                        } else if (r >= ta) {
+                            v |= 1 << bit;
+                        }
+                    }
+                    from[e] = u;
+                    to[e] = v;
+                }
+            }
+        }));
+        return CompactGraph.fromEdges(n, from, to, null, m, directed);
+    }
+
+    /**
+     * Attach uniform random weights in [min, max). An edge's weight is a hash of the seed and
+     * its endpoints, so both directions of an undirected edge agree and slots fill in parallel.
+     */
+    public static CompactGraph randomWeights(CompactGraph graph, double min, double max, long seed) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("Invalid weight range: [" + min + ", " + max + ")");
+        }
+        double[] weights = new double[graph.getEdgeCount()];
+        boolean directed = graph.isDirected();
+        ForkJoinPool.commonPool().invoke(new RowTask(0, graph.getVertexCount(), PARALLEL_THRESHOLD, (from, to) -> {
+            for (int u = from; u < to; u++) {
+                for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                    int v = graph.target(e);
+                    long key = directed ? ((long) u << 32) | (v & 0xFFFFFFFFL) : edgeKey(u, v);
+                    double unit = (mix64(seed ^ mix64(key)) >>> 11) * 0x1.0p-53;
+                    weights[e] = min + unit * (max - min);
+                }
+            }
+        }));
+        return graph.withWeights(weights);
+    }
+
+    /**
+     * Sample one G(n, p) row; writes targets from position when targets is non-null.
+     * Returns the number of edges in the row.
+     */
+    private static int sampleRow(int u, int n, double p, double logQ, boolean directed,
+                                 long seed, int[] targets, int position) {
+        int first = directed ? 0 : u + 1;
+        int columns = n - first - (directed ? 1 : 0);
+        if (p == 0 || columns <= 0) {
+            return 0;
+        }
+        int count = 0;
+        if (p == 1) {
+            for (int v = first; v < n; v++) {
+                if (v != u) {
+                    if (targets != null) {
+                        targets[position + count] = v;
+                    }
+                    count++;
+                }
+            }
+            return count;
+        }
+        SplittableRandom random = new SplittableRandom(streamSeed(seed, u));
+        // Walk the row's candidate columns (u itself is skipped when directed)
+        long k = -1;
+        while (true) {
+            // Number of non-edges before the next edge is geometric with success probability p
+            double skip = Math.floor(Math.log(1.0 - random.nextDouble()) / logQ);
+            if (skip >= columns - k - 1) {
+                return count;
+            }
+            k += 1 + (long) skip;
+            if (targets != null) {
+                int v = (int) (first + k);
+                targets[position + count] = directed && v >= u ? v + 1 : v;
+            }
+            count++;
+        }
+    }
+
+    /**
+     * Merge an upper-triangle graph (edges u -> v with u < v, sorted) with its transpose
+     * into a symmetric CSR whose lists stay sorted.
+     */
+    private static CompactGraph symmetrize(CompactGraph upper, ForkJoinPool pool) {
+        CompactGraph lower = upper.reverse();
+        int n = upper.getVertexCount();
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v] + (lower.endEdge(v) - lower.firstEdge(v)) + (upper.endEdge(v) - upper.firstEdge(v));
+        }
+        int[] targets = new int[offsets[n]];
+        pool.invoke(new RowTask(0, n, PARALLEL_THRESHOLD, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                int slot = offsets[v];
+                for (int e = lower.firstEdge(v); e < lower.endEdge(v); e++) {
+                    targets[slot++] = lower.target(e);
+                }
+                for (int e = upper.firstEdge(v); e < upper.endEdge(v); e++) {
+                    targets[slot++] = upper.target(e);
+                }
+            }
+        }));
+        return CompactGraph.fromCsr(identity(n), offsets, targets, null, false);
+    }
+
+    /**
+     * Complement of a simple undirected regular graph with sorted lists; every vertex gets
+     * the given degree, so offsets are v * degree and rows fill in parallel.
+     */
+    private static CompactGraph complement(CompactGraph graph, int degree) {
+        int n = graph.getVertexCount();
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v <= n; v++) {
+            offsets[v] = v * degree;
+        }
+        int[] targets = new int[n * degree];
+        ForkJoinPool.commonPool().invoke(new RowTask(0, n, PARALLEL_THRESHOLD / 16, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                int slot = offsets[v];
+                int e = graph.firstEdge(v);
+                for (int w = 0; w < n; w++) {
+                    if (e < graph.endEdge(v) && graph.target(e) == w) {
+                        e++;
+                    } else if (w != v) {
+                        targets[slot++] = w;
+                    }
+                }
+            }
+        }));
+        return CompactGraph.fromCsr(identity(n), offsets, targets, null, false);
+    }
+
+    /**
+     * Copy of an unweighted graph with every adjacency list sorted ascending.
+     */
+    private static CompactGraph sortAdjacency(CompactGraph graph, ForkJoinPool pool) {
+        int n = graph.getVertexCount();
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = graph.endEdge(v);
+        }
+        int[] targets = new int[graph.getEdgeCount()];
+        pool.invoke(new RowTask(0, n, PARALLEL_THRESHOLD, (from, to) -> {
+            for (int v = from; v < to; v++) {
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    targets[e] = graph.target(e);
+                }
+                Arrays.sort(targets, offsets[v], offsets[v + 1]);
+            }
+        }));
+        return CompactGraph.fromCsr(identity(n), offsets, targets, null, graph.isDirected());
+    }
+
+    private static int[] identity(int n) {
+        int[] ids = new int[n];
+        for (int v = 0; v < n; v++) {
+            ids[v] = v;
+        }
+        return ids;
+    }
+
+    private static void checkVertexCount(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Need at least one vertex, got " + n);
+        }
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Key of an undirected edge, independent of endpoint order.
+     */
+    private static long edgeKey(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | (Math.max(u, v) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Independent stream seed for a row or block of a seeded run.
+     */
+    static long streamSeed(long seed, long stream) {
+        return mix64(seed + mix64(stream + 0x9E3779B97F4A7C15L));
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Body of a parallel loop over [from, to).
+     */
+    interface RangeBody {
+        void run(int from, int to);
+    }
+
+    /**
+     * Splits [from, to) in halves until at most grain rows remain.
+     */
+    static class RowTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeBody body;
+
+        RowTask(int from, int to, int grain, RangeBody body) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > grain) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RowTask(from, mid, grain, body), new RowTask(mid, to, grain, body));
+            } else {
+                body.run(from, to);
+            }
+        }
+    }
+
+    /**
+     * Open-addressing set of non-negative long keys with backward-shift deletion.
+     */
+    private static class LongSet {
+        private static final long EMPTY = -1;
+
+        private final long[] keys;
+        private final int mask;
+
+        LongSet(int expected) {
+            int capacity = 16;
+            while (capacity < expected * 2L) {
+                capacity <<= 1;
+            }
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            mask = capacity - 1;
+        }
+
+        boolean add(long key) {
+            int slot = slot(key);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            return true;
+        }
+
+        boolean contains(long key) {
+            int slot = slot(key);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        void remove(long key) {
+            int hole = slot(key);
+            while (keys[hole] != key) {
+                if (keys[hole] == EMPTY) {
+                    return;
+                }
+                hole = (hole + 1) & mask;
+            }
+            int slot = hole;
+            while (true) {
+                slot = (slot + 1) & mask;
+                if (keys[slot] == EMPTY) {
+                    break;
+                }
+                int ideal = slot(keys[slot]);
+                boolean movable = hole <= slot
+                    ? (ideal <= hole || ideal > slot)
+                    : (ideal <= hole && ideal > slot);
+                if (movable) {
+                    keys[hole] = keys[slot];
+                    hole = slot;
+                }
+            }
+            keys[hole] = EMPTY;
+        }
+
+        private int slot(long key) {
+            return (int) mix64(key) & mask;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package dsvisualizer.generator;
+
+/**
+ * Key orders produced by Workload. Ordered distributions walk a fixed permutation of
+ * 0..keySpace-1 (repeating once exhausted); UNIFORM and ZIPF draw independent keys.
+ */
+public enum KeyDistribution {
+    UNIFORM("Uniform", false),
+    ZIPF("Zipfian", false),
+    SORTED("Sorted", true),
+    REVERSE_SORTED("Reverse Sorted", true),
+    SAWTOOTH("Sawtooth", true),
+    BST_ADVERSARIAL("Zig-Zag (BST Adversarial)", true);
+
+    private final String displayName;
+    private final boolean ordered;
+
+    KeyDistribution(String displayName, boolean ordered) {
+        this.displayName = displayName;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Get name shown in menus and status messages.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Check if keys follow a fixed sequence rather than random draws.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Key at a position of an ordered sequence (undefined for random distributions).
+     * SAWTOOTH emits ascending runs of period keys, highest run first; BST_ADVERSARIAL
+     * alternates between the smallest and largest unused keys, so every insert lands at
+     * the bottom of a single-path tree.
+     */
+    int keyAt(long position, int keySpace, int period) {
+        int j = (int) (position % keySpace);
+        switch (this) {
+            case SORTED:
+                return j;
+            case REVERSE_SORTED:
+                return keySpace - 1 - j;
+            case SAWTOOTH: {
+                int tooth = j / period;
+                int low = keySpace - (tooth + 1) * period;
+                return Math.max(low, 0) + j % period;
+            }
+            case BST_ADVERSARIAL:
+                return (j & 1) == 0 ? j >>> 1 : keySpace - 1 - (j >>> 1);
+            default:
+                throw new IllegalStateException(displayName + " has no fixed key order");
+        }
+    }
+
+    /**
+     * Find distribution by display name (returns null if unknown).
+     */
+    public static KeyDistribution fromDisplayName(String name) {
+        for (KeyDistribution distribution : values()) {
+            if (distribution.displayName.equals(name)) {
+                return distribution;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,93 @@
+package dsvisualizer.generator;
+
+import dsvisualizer.model.BinarySearchTree;
+import dsvisualizer.model.DaryHeap;
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.Graph;
+import dsvisualizer.model.IntHashTable;
+import dsvisualizer.model.LinkedList;
+import dsvisualizer.model.Queue;
+import dsvisualizer.model.Stack;
+import dsvisualizer.model.UnionFind;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Synthetic load for monitoring: a balanced uniform Workload applied to a scratch model of
+ * the named structure, timing every operation. The structure on screen is never touched,
+ * so a burst can run on any thread while the UI keeps working.
+ */
+public class LoadBurst {
+    public static final int MAX_OPERATIONS = 10_000_000;
+    private static final int KEY_SPACE = 4096;
+
+    private LoadBurst() {
+    }
+
+    /**
+     * Run operations against a fresh model of structure (a display name such as "Hash Table");
+     * returns the number of hits, reporting each operation's latency.
+     */
+    public static long run(String structure, int operations, long seed, LongConsumer latencyNanos) {
+        if (operations < 1 || operations > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("Operations must be between 1 and " + MAX_OPERATIONS);
+        }
+        ToLongFunction<long[]> driver = driverFor(structure, operations);
+        Workload workload = new Workload(KeyDistribution.UNIFORM, KEY_SPACE, OperationMix.BALANCED, seed);
+        long[] single = new long[1];
+        long hits = 0;
+        PrimitiveIterator.OfLong stream = workload.operations(operations).iterator();
+        while (stream.hasNext()) {
+            single[0] = stream.nextLong();
+            long start = System.nanoTime();
+            hits += driver.applyAsLong(single);
+            latencyNanos.accept(System.nanoTime() - start);
+        }
+        return hits;
+    }
+
+    private static ToLongFunction<long[]> driverFor(String structure, int operations) {
+        switch (structure) {
+            case "Array": {
+                DynamicArray array = new DynamicArray(16);
+                return ops -> WorkloadDriver.run(array, ops);
+            }
+            case "Stack": {
+                Stack stack = new Stack(operations);
+                return ops -> WorkloadDriver.run(stack, ops);
+            }
+            case "Queue": {
+                Queue queue = new Queue(operations);
+                return ops -> WorkloadDriver.run(queue, ops);
+            }
+            case "Heap": {
+                DaryHeap heap = new DaryHeap(2, true, 16);
+                return ops -> WorkloadDriver.run(heap, ops);
+            }
+            case "Hash Table": {
+                IntHashTable table = new IntHashTable(IntHashTable.ProbingMode.ROBIN_HOOD, 16);
+                return ops -> WorkloadDriver.run(table, ops);
+            }
+            case "Linked List": {
+                LinkedList list = new LinkedList();
+                return ops -> WorkloadDriver.run(list, ops);
+            }
+            case "BST": {
+                BinarySearchTree tree = new BinarySearchTree();
+                return ops -> WorkloadDriver.run(tree, ops);
+            }
+            case "Graph": {
+                Graph graph = new Graph(false);
+                return ops -> WorkloadDriver.run(graph, ops);
+            }
+            case "Union-Find": {
+                UnionFind forest = new UnionFind();
+                return ops -> WorkloadDriver.run(forest, ops);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown structure: " + structure);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dsvisualizer.generator;
+
+/**
+ * Relative frequencies of insert, delete and search operations in a Workload.
+ */
+public class OperationMix {
+    public static final OperationMix INSERT_ONLY = new OperationMix(1, 0, 0);
+    public static final OperationMix BALANCED = new OperationMix(1, 1, 1);
+    public static final OperationMix UPDATE_HEAVY = new OperationMix(45, 45, 10);
+    public static final OperationMix READ_MOSTLY = new OperationMix(5, 5, 90);
+
+    private final double insert;
+    private final double delete;
+    private final double search;
+
+    /**
+     * Create a mix from non-negative weights (normalized, so 50/25/25 and 2/1/1 are equal).
+     */
+    public OperationMix(double insert, double delete, double search) {
+        if (!(insert >= 0 && delete >= 0 && search >= 0) || insert + delete + search <= 0) {
+            throw new IllegalArgumentException("Operation weights must be non-negative with a positive sum");
+        }
+        double total = insert + delete + search;
+        this.insert = insert / total;
+        this.delete = delete / total;
+        this.search = search / total;
+    }
+
+    /**
+     * Parse "insert/delete/search" weights, e.g. "50/25/25".
+     */
+    public static OperationMix parse(String text) {
+        String[] parts = text.trim().split("/");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Use insert/delete/search weights, e.g. 50/25/25");
+        }
+        return new OperationMix(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+    }
+
+    /**
+     * Map a uniform draw in [0, 1) to an operation.
+     */
+    Workload.Operation pick(double u) {
+        if (u < insert) {
+            return Workload.Operation.INSERT;
+        }
+        return u < insert + delete ? Workload.Operation.DELETE : Workload.Operation.SEARCH;
+    }
+
+    public double getInsert() {
+        return insert;
+    }
+
+    public double getDelete() {
+        return delete;
+    }
+
+    public double getSearch() {
+        return search;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.0f/%.0f/%.0f", insert * 100, delete * 100, search * 100);
+    }
+}
@@ -0,0 +1,213 @@
+package dsvisualizer.generator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Seeded, lazily generated key and operation streams for benchmarking the data structures.
+ * Every call to keys or operations restarts from the seed, so the same Workload always
+ * yields the same stream. Operations are packed into longs (see encode) to stay primitive.
+ *
+ * With an ordered distribution, inserts walk the key sequence, deletes remove keys in
+ * the order they were inserted and searches pick a live key; with UNIFORM or ZIPF every
+ * operation draws its key independently.
+ */
+public class Workload {
+    public static final double DEFAULT_ZIPF_EXPONENT = 0.99;
+
+    /**
+     * Abstract operations; WorkloadDriver maps them onto each structure.
+     */
+    public enum Operation {
+        INSERT, DELETE, SEARCH
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final int CHARACTERISTICS =
+        Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+    private final KeyDistribution distribution;
+    private final int keySpace;
+    private final OperationMix mix;
+    private final long seed;
+    private final double zipfExponent;
+    private final int sawtoothPeriod;
+
+    public Workload(KeyDistribution distribution, int keySpace, OperationMix mix, long seed) {
+        this(distribution, keySpace, mix, seed, DEFAULT_ZIPF_EXPONENT, defaultPeriod(keySpace));
+    }
+
+    private Workload(KeyDistribution distribution, int keySpace, OperationMix mix, long seed,
+                     double zipfExponent, int sawtoothPeriod) {
+        if (keySpace < 1) {
+            throw new IllegalArgumentException("Key space must be positive: " + keySpace);
+        }
+        if (!(zipfExponent > 0) || sawtoothPeriod < 1) {
+            throw new IllegalArgumentException("Zipf exponent and sawtooth period must be positive");
+        }
+        this.distribution = distribution;
+        this.keySpace = keySpace;
+        this.mix = mix;
+        this.seed = seed;
+        this.zipfExponent = zipfExponent;
+        this.sawtoothPeriod = sawtoothPeriod;
+    }
+
+    /**
+     * Same workload with a different Zipf exponent (larger means more skew).
+     */
+    public Workload withZipfExponent(double exponent) {
+        return new Workload(distribution, keySpace, mix, seed, exponent, sawtoothPeriod);
+    }
+
+    /**
+     * Same workload with a different sawtooth run length.
+     */
+    public Workload withSawtoothPeriod(int period) {
+        return new Workload(distribution, keySpace, mix, seed, zipfExponent, period);
+    }
+
+    /**
+     * Lazy stream of count keys in [0, keySpace), ignoring the operation mix.
+     */
+    public IntStream keys(long count) {
+        KeySource source = new KeySource();
+        PrimitiveIterator.OfInt iterator = new PrimitiveIterator.OfInt() {
+            private long position;
+
+            @Override
+            public boolean hasNext() {
+                return position < count;
+            }
+
+            @Override
+            public int nextInt() {
+                if (position >= count) {
+                    throw new NoSuchElementException();
+                }
+                return source.next(position++);
+            }
+        };
+        return StreamSupport.intStream(Spliterators.spliterator(iterator, count, CHARACTERISTICS), false);
+    }
+
+    /**
+     * Lazy stream of count encoded operations drawn according to the mix.
+     */
+    public LongStream operations(long count) {
+        return StreamSupport.longStream(Spliterators.spliterator(new OperationIterator(count), count, CHARACTERISTICS), false);
+    }
+
+    /**
+     * Pack an operation and key into one long.
+     */
+    public static long encode(Operation operation, int key) {
+        return ((long) operation.ordinal() << 32) | (key & 0xFFFFFFFFL);
+    }
+
+    public static Operation operationOf(long encoded) {
+        return OPERATIONS[(int) (encoded >>> 32)];
+    }
+
+    public static int keyOf(long encoded) {
+        return (int) encoded;
+    }
+
+    public KeyDistribution getDistribution() {
+        return distribution;
+    }
+
+    public int getKeySpace() {
+        return keySpace;
+    }
+
+    public OperationMix getMix() {
+        return mix;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return distribution.getDisplayName() + " keys in [0, " + keySpace + "), mix " + mix + ", seed " + seed;
+    }
+
+    private static int defaultPeriod(int keySpace) {
+        return Math.max(1, (int) Math.sqrt(keySpace));
+    }
+
+    /**
+     * Key generator state for one pass over the stream.
+     */
+    private class KeySource {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final ZipfSampler zipf = distribution == KeyDistribution.ZIPF ? new ZipfSampler(keySpace, zipfExponent) : null;
+
+        /**
+         * Key at a sequence position (ordered) or a fresh draw (random distributions).
+         */
+        int next(long position) {
+            switch (distribution) {
+                case UNIFORM:
+                    return random.nextInt(keySpace);
+                case ZIPF:
+                    return zipf.sample(random) - 1;
+                default:
+                    return distribution.keyAt(position, keySpace, sawtoothPeriod);
+            }
+        }
+    }
+
+    private class OperationIterator implements PrimitiveIterator.OfLong {
+        private final long count;
+        private final KeySource source = new KeySource();
+        // Separate stream for operation choice, so the key order does not depend on the mix
+        private final SplittableRandom opRandom = new SplittableRandom(GraphGenerators.streamSeed(seed, 1));
+        private long emitted;
+        private long insertCursor;
+        private long deleteCursor;
+
+        OperationIterator(long count) {
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return emitted < count;
+        }
+
+        @Override
+        public long nextLong() {
+            if (emitted >= count) {
+                throw new NoSuchElementException();
+            }
+            emitted++;
+            Operation operation = mix.pick(opRandom.nextDouble());
+            if (!distribution.isOrdered()) {
+                return encode(operation, source.next(emitted));
+            }
+            int key;
+            switch (operation) {
+                case INSERT:
+                    key = source.next(insertCursor++);
+                    break;
+                case DELETE:
+                    // Oldest live key first; with nothing live, name the next key (a miss)
+                    key = source.next(deleteCursor < insertCursor ? deleteCursor++ : insertCursor);
+                    break;
+                default:
+                    long live = insertCursor - deleteCursor;
+                    key = source.next(live > 0 ? deleteCursor + opRandom.nextLong(live) : insertCursor);
+            }
+            return encode(operation, key);
+        }
+    }
+}
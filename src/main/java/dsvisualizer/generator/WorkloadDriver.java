@@ -0,0 +1,272 @@
+package dsvisualizer.generator;
+
+import dsvisualizer.model.BinarySearchTree;
+import dsvisualizer.model.DaryHeap;
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.Graph;
+import dsvisualizer.model.IntHashTable;
+import dsvisualizer.model.LinkedList;
+import dsvisualizer.model.Queue;
+import dsvisualizer.model.Stack;
+import dsvisualizer.model.UnionFind;
+
+/**
+ * Applies encoded Workload operations to the model classes. Operations that the structure
+ * would reject (duplicate BST keys, pops from an empty stack, pushes onto a full one) are
+ * skipped instead of throwing. Each run returns the number of operations that succeeded
+ * or hit, which benchmarks can consume to keep the work observable.
+ */
+public class WorkloadDriver {
+
+    /**
+     * BST: insert (skipped if present), delete, search.
+     */
+    public static long run(BinarySearchTree tree, long[] operations) {
+        long hits = 0;
+        for (long operation : operations) {
+            int key = Workload.keyOf(operation);
+            switch (Workload.operationOf(operation)) {
+                case INSERT:
+                    if (tree.search(key) == null) {
+                        tree.insert(key);
+                        hits++;
+                    }
+                    break;
+                case DELETE:
+                    if (tree.delete(key)) {
+                        hits++;
+                    }
+                    break;
+                default:
+                    if (tree.search(key) != null) {
+                        hits++;
+                    }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Array: append, remove the last element, linear (or indexed) search.
+     */
+    public static long run(DynamicArray array, long[] operations) {
+        long hits = 0;
+        for (long operation : operations) {
+            int key = Workload.keyOf(operation);
+            switch (Workload.operationOf(operation)) {
+                case INSERT:
+                    array.insert(array.getSize(), key);
+                    hits++;
+                    break;
+                case DELETE:
+                    if (!array.isEmpty()) {
+                        array.delete(array.getSize() - 1);
+                        hits++;
+                    }
+                    break;
+                default:
+                    if (array.search(key) >= 0) {
+                        hits++;
+                    }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Linked list: insert at tail, delete head, search by value.
+     */
+    public static long run(LinkedList list, long[] operations) {
+        long hits = 0;
+        for (long operation : operations) {
+            int key = Workload.keyOf(operation);
+            switch (Workload.operationOf(operation)) {
+                case INSERT:
+                    list.insertTail(key);
+                    hits++;
+                    break;
+                case DELETE:
+                    if (!list.isEmpty()) {
+                        list.deleteHead();
+                        hits++;
+                    }
+                    break;
+                default:
+                    if (list.search(key) >= 0) {
+                        hits++;
+                    }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Stack: push, pop, peek (a hit when the top equals the key).
+     */
+    public static long run(Stack stack, long[] operations) {
+        long hits = 0;
+        for (long operation : operations) {
+            switch (Workload.operationOf(operation)) {
+                case INSERT:
+                    if (!stack.isFull()) {
+                        stack.push(Workload.keyOf(operation));
+                        hits++;
+                    }
+                    break;
+                case DELETE:
+                    if (!stack.isEmpty()) {
+                        stack.pop();
+                        hits++;
+                    }
+                    break;
+                default:
+                    if (!stack.isEmpty() && stack.peek() == Workload.keyOf(operation)) {
+                        hits++;
+                    }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Queue: enqueue, dequeue, peek (a hit when the front equals the key).
+     */
+    public static long run(Queue queue, long[] operations) {
+        long hits = 0;
+        for (long operation : operations) {
+            switch (Workload.operationOf(operation)) {
+                case INSERT:
+                    if (!queue.isFull()) {
+                        queue.enqueue(Workload.keyOf(operation));
+                        hits++;
+                    }
+                    break;
+                case DELETE:
+                    if (!queue.isEmpty()) {
+                        queue.dequeue();
+                        hits++;
+                    }
+                    break;
+                default:
+                    if (!queue.isEmpty() && queue.peek() == Workload.keyOf(operation)) {
+                        hits++;
+                    }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Heap: insert, extract the top, peek (a hit when the top equals the key).
+     */
+    public static long run(DaryHeap heap, long[] operations) {
+        long hits = 0;
+        for (long operation : operations) {
+            switch (Workload.operationOf(operation)) {
+                case INSERT:
+                    heap.insert(Workload.keyOf(operation));
+                    hits++;
+                    break;
+                case DELETE:
+                    if (!heap.isEmpty()) {
+                        heap.extract();
+                        hits++;
+                    }
+                    break;
+                default:
+                    if (!heap.isEmpty() && heap.peek() == Workload.keyOf(operation)) {
+                        hits++;
+                    }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Hash table: put (a hit when the key is new), remove, contains.
+     */
+    public static long run(IntHashTable table, long[] operations) {
+        long hits = 0;
+        for (long operation : operations) {
+            int key = Workload.keyOf(operation);
+            switch (Workload.operationOf(operation)) {
+                case INSERT:
+                    if (table.put(key, key)) {
+                        hits++;
+                    }
+                    break;
+                case DELETE:
+                    if (table.remove(key)) {
+                        hits++;
+                    }
+                    break;
+                default:
+                    if (table.containsKey(key)) {
+                        hits++;
+                    }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Graph: add the key as a vertex joined to vertex key / 2 (if present), remove the vertex,
+     * check the vertex exists.
+     */
+    public static long run(Graph graph, long[] operations) {
+        long hits = 0;
+        for (long operation : operations) {
+            int key = Workload.keyOf(operation);
+            switch (Workload.operationOf(operation)) {
+                case INSERT:
+                    if (!graph.hasVertex(key)) {
+                        graph.addVertex(key);
+                        if (key / 2 != key && graph.hasVertex(key / 2)) {
+                            graph.addEdge(key, key / 2);
+                        }
+                        hits++;
+                    }
+                    break;
+                case DELETE:
+                    if (graph.hasVertex(key)) {
+                        graph.removeVertex(key);
+                        hits++;
+                    }
+                    break;
+                default:
+                    if (graph.hasVertex(key)) {
+                        hits++;
+                    }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Union-find: make a set, union the key with key / 2 (sets cannot be deleted), find.
+     */
+    public static long run(UnionFind forest, long[] operations) {
+        long hits = 0;
+        for (long operation : operations) {
+            int key = Workload.keyOf(operation);
+            switch (Workload.operationOf(operation)) {
+                case INSERT:
+                    if (forest.makeSet(key)) {
+                        hits++;
+                    }
+                    break;
+                case DELETE:
+                    if (forest.union(key, key / 2)) {
+                        hits++;
+                    }
+                    break;
+                default:
+                    if (forest.indexOf(key) >= 0) {
+                        forest.find(key);
+                        hits++;
+                    }
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,331 @@
+package dsvisualizer.io;
+
+import dsvisualizer.model.CompactGraph;
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.Graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact little-endian binary files for arrays and graphs, read back through memory mapping.
+ *
+ * Layout: a 32-byte header (magic, version, flags, reserved, two long counts) followed by
+ * int sections. Arrays store their elements; graphs store vertex ids, CSR offsets
+ * (vertexCount + 1) and neighbor indices into the vertex id table. Weighted graphs set
+ * FLAG_WEIGHTED and add a double section parallel to the neighbor indices.
+ */
+public class BinaryStore {
+    static final int ARRAY_MAGIC = 0x41565344; // "DSVA"
+    static final int GRAPH_MAGIC = 0x47565344; // "DSVG"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int FLAG_DIRECTED = 1;
+    static final int FLAG_WEIGHTED = 2;
+
+    // Largest mapping per region; a multiple of Integer.BYTES so ints never straddle regions
+    static final int REGION_SHIFT = 28; // ints per region = 2^28 (1 GB)
+
+    /**
+     * Save array elements, writing straight from the backing array into the mapped file
+     * one 1 GB region at a time.
+     */
+    public static void saveArray(DynamicArray array, Path path) throws IOException {
+        long length = array.getSize();
+        try (FileChannel channel = openForWrite(path)) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            writeHeader(header, ARRAY_MAGIC, 0, length, 0);
+            int from = 0;
+            for (MappedByteBuffer region : mapRegions(channel, FileChannel.MapMode.READ_WRITE, HEADER_BYTES, length)) {
+                IntBuffer target = region.asIntBuffer();
+                int count = target.remaining();
+                array.writeTo(target, from, count);
+                from += count;
+                region.force();
+            }
+            header.force();
+        }
+    }
+
+    /**
+     * Map an array file; elements are paged in lazily on first access.
+     */
+    public static MappedIntArray mapArray(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readHeader(channel, ARRAY_MAGIC);
+            long length = header.getLong(16);
+            checkFileSize(channel, HEADER_BYTES + length * Integer.BYTES);
+            return new MappedIntArray(mapInts(channel, HEADER_BYTES, length), length);
+        }
+    }
+
+    /**
+     * Load an array file into a new DynamicArray (one bulk copy from the mapping).
+     */
+    public static DynamicArray loadArray(Path path) throws IOException {
+        MappedIntArray mapped = mapArray(path);
+        if (mapped.length() > Integer.MAX_VALUE - 8) {
+            throw new IOException("Array too large for DynamicArray: " + mapped.length());
+        }
+        DynamicArray array = new DynamicArray(Math.max(1, (int) mapped.length()));
+        mapped.copyInto(array);
+        return array;
+    }
+
+    /**
+     * Save a graph in CSR form, streaming each adjacency list (and its weights) into the mapped file.
+     */
+    public static void saveGraph(Graph graph, Path path) throws IOException {
+        int vertexCount = graph.getVertexCount();
+        long entryCount = graph.getAdjacencyEntryCount();
+        boolean weighted = graph.isWeighted();
+        if (entryCount > Integer.MAX_VALUE / (weighted ? Double.BYTES : Integer.BYTES)) {
+            throw new IOException("Graph too large for a single section: " + entryCount + " entries");
+        }
+
+        // Dense index for every vertex id, in the order the ids are written
+        int[] ids = new int[vertexCount];
+        Map<Integer, Integer> denseIndex = new HashMap<>();
+        int next = 0;
+        for (int vertex : graph.getVertices()) {
+            ids[next] = vertex;
+            denseIndex.put(vertex, next++);
+        }
+
+        try (FileChannel channel = openForWrite(path)) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            int flags = (graph.isDirected() ? FLAG_DIRECTED : 0) | (weighted ? FLAG_WEIGHTED : 0);
+            writeHeader(header, GRAPH_MAGIC, flags, vertexCount, entryCount);
+
+            long idsOffset = HEADER_BYTES;
+            long offsetsOffset = idsOffset + (long) vertexCount * Integer.BYTES;
+            long targetsOffset = offsetsOffset + (long) (vertexCount + 1) * Integer.BYTES;
+            long weightsOffset = targetsOffset + entryCount * Integer.BYTES;
+
+            MappedByteBuffer idSection = mapSection(channel, FileChannel.MapMode.READ_WRITE, idsOffset, vertexCount);
+            idSection.asIntBuffer().put(ids);
+            idSection.force();
+
+            MappedByteBuffer offsetSection = mapSection(channel, FileChannel.MapMode.READ_WRITE, offsetsOffset, vertexCount + 1L);
+            MappedByteBuffer targetSection = mapSection(channel, FileChannel.MapMode.READ_WRITE, targetsOffset, entryCount);
+            MappedByteBuffer weightSection = weighted
+                ? mapDoubleSection(channel, FileChannel.MapMode.READ_WRITE, weightsOffset, entryCount) : null;
+            IntBuffer offsets = offsetSection.asIntBuffer();
+            IntBuffer targets = targetSection.asIntBuffer();
+            DoubleBuffer weights = weighted ? weightSection.asDoubleBuffer() : null;
+            offsets.put(0);
+            for (int vertex : ids) {
+                graph.forEachNeighbor(vertex, neighbor -> {
+                    targets.put(denseIndex.get(neighbor));
+                    if (weights != null) {
+                        weights.put(graph.getEdgeWeight(vertex, neighbor));
+                    }
+                });
+                offsets.put(targets.position());
+            }
+            offsetSection.force();
+            targetSection.force();
+            if (weightSection != null) {
+                weightSection.force();
+            }
+            header.force();
+        }
+    }
+
+    /**
+     * Save a CSR graph (e.g. an imported or generated snapshot) in the same format; its
+     * arrays are already the file's sections, so each one is written with a single bulk put.
+     */
+    public static void saveGraph(CompactGraph graph, Path path) throws IOException {
+        int vertexCount = graph.getVertexCount();
+        long entryCount = graph.getEdgeCount();
+        boolean weighted = graph.isWeighted();
+        if (entryCount > Integer.MAX_VALUE / (weighted ? Double.BYTES : Integer.BYTES)) {
+            throw new IOException("Graph too large for a single section: " + entryCount + " entries");
+        }
+        int[] ids = new int[vertexCount];
+        int[] offsets = new int[vertexCount + 1];
+        for (int v = 0; v < vertexCount; v++) {
+            ids[v] = graph.getVertexId(v);
+            offsets[v + 1] = graph.endEdge(v);
+        }
+
+        try (FileChannel channel = openForWrite(path)) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            int flags = (graph.isDirected() ? FLAG_DIRECTED : 0) | (weighted ? FLAG_WEIGHTED : 0);
+            writeHeader(header, GRAPH_MAGIC, flags, vertexCount, entryCount);
+
+            long idsOffset = HEADER_BYTES;
+            long offsetsOffset = idsOffset + (long) vertexCount * Integer.BYTES;
+            long targetsOffset = offsetsOffset + (long) (vertexCount + 1) * Integer.BYTES;
+            long weightsOffset = targetsOffset + entryCount * Integer.BYTES;
+
+            MappedByteBuffer idSection = mapSection(channel, FileChannel.MapMode.READ_WRITE, idsOffset, vertexCount);
+            idSection.asIntBuffer().put(ids);
+            idSection.force();
+            MappedByteBuffer offsetSection = mapSection(channel, FileChannel.MapMode.READ_WRITE, offsetsOffset, vertexCount + 1L);
+            offsetSection.asIntBuffer().put(offsets);
+            offsetSection.force();
+            MappedByteBuffer targetSection = mapSection(channel, FileChannel.MapMode.READ_WRITE, targetsOffset, entryCount);
+            IntBuffer targets = targetSection.asIntBuffer();
+            for (int e = 0; e < entryCount; e++) {
+                targets.put(graph.target(e));
+            }
+            targetSection.force();
+            if (weighted) {
+                MappedByteBuffer weightSection = mapDoubleSection(channel, FileChannel.MapMode.READ_WRITE, weightsOffset, entryCount);
+                DoubleBuffer weights = weightSection.asDoubleBuffer();
+                for (int e = 0; e < entryCount; e++) {
+                    weights.put(graph.weight(e));
+                }
+                weightSection.force();
+            }
+            header.force();
+        }
+    }
+
+    /**
+     * Map a graph file; sections are paged in lazily on first access.
+     */
+    public static MappedGraph mapGraph(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readHeader(channel, GRAPH_MAGIC);
+            boolean directed = (header.getInt(8) & FLAG_DIRECTED) != 0;
+            boolean weighted = (header.getInt(8) & FLAG_WEIGHTED) != 0;
+            long vertexCount = header.getLong(16);
+            long entryCount = header.getLong(24);
+            long idsOffset = HEADER_BYTES;
+            long offsetsOffset = idsOffset + vertexCount * Integer.BYTES;
+            long targetsOffset = offsetsOffset + (vertexCount + 1) * Integer.BYTES;
+            long weightsOffset = targetsOffset + entryCount * Integer.BYTES;
+            checkFileSize(channel, weightsOffset + (weighted ? entryCount * Double.BYTES : 0));
+            return new MappedGraph(
+                directed,
+                (int) vertexCount,
+                mapSection(channel, FileChannel.MapMode.READ_ONLY, idsOffset, vertexCount).asIntBuffer(),
+                mapSection(channel, FileChannel.MapMode.READ_ONLY, offsetsOffset, vertexCount + 1).asIntBuffer(),
+                mapSection(channel, FileChannel.MapMode.READ_ONLY, targetsOffset, entryCount).asIntBuffer(),
+                weighted ? mapDoubleSection(channel, FileChannel.MapMode.READ_ONLY, weightsOffset, entryCount).asDoubleBuffer() : null
+            );
+        }
+    }
+
+    /**
+     * Load a graph file into a new Graph.
+     */
+    public static Graph loadGraph(Path path) throws IOException {
+        return mapGraph(path).toGraph();
+    }
+
+    /**
+     * Validate an array header and return the element count.
+     */
+    static long readArrayLength(FileChannel channel) throws IOException {
+        long length = readHeader(channel, ARRAY_MAGIC).getLong(16);
+        checkFileSize(channel, HEADER_BYTES + length * Integer.BYTES);
+        return length;
+    }
+
+    /**
+     * Write an array header at the start of a channel opened for writing.
+     */
+    static void writeArrayHeader(FileChannel channel, long length) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        writeHeader(header, ARRAY_MAGIC, 0, length, 0);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+    private static FileChannel openForWrite(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static void writeHeader(ByteBuffer header, int magic, int flags, long count1, long count2) {
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(magic).putInt(VERSION).putInt(flags).putInt(0).putLong(count1).putLong(count2);
+    }
+
+    private static ByteBuffer readHeader(FileChannel channel, int expectedMagic) throws IOException {
+        if (channel.size() < HEADER_BYTES) {
+            throw new IOException("File too short for header");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        if (header.getInt(0) != expectedMagic) {
+            throw new IOException("Unexpected file type");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException("Unsupported file version: " + header.getInt(4));
+        }
+        return header;
+    }
+
+    private static void checkFileSize(FileChannel channel, long expected) throws IOException {
+        if (channel.size() < expected) {
+            throw new IOException("File truncated: expected " + expected + " bytes, found " + channel.size());
+        }
+    }
+
+    /**
+     * Map one int section that must fit in a single mapping.
+     */
+    private static MappedByteBuffer mapSection(FileChannel channel, FileChannel.MapMode mode, long offset, long ints)
+            throws IOException {
+        if (ints * Integer.BYTES > Integer.MAX_VALUE) {
+            throw new IOException("Section too large for a single mapping: " + ints + " ints");
+        }
+        MappedByteBuffer section = channel.map(mode, offset, ints * Integer.BYTES);
+        section.order(ByteOrder.LITTLE_ENDIAN);
+        return section;
+    }
+
+    /**
+     * Map one double section that must fit in a single mapping.
+     */
+    private static MappedByteBuffer mapDoubleSection(FileChannel channel, FileChannel.MapMode mode, long offset, long doubles)
+            throws IOException {
+        return mapSection(channel, mode, offset, doubles * 2);
+    }
+
+    /**
+     * Map a read-only int section of any length as consecutive 1 GB regions.
+     */
+    static IntBuffer[] mapInts(FileChannel channel, long offset, long ints) throws IOException {
+        MappedByteBuffer[] mapped = mapRegions(channel, FileChannel.MapMode.READ_ONLY, offset, ints);
+        IntBuffer[] regions = new IntBuffer[mapped.length];
+        for (int r = 0; r < mapped.length; r++) {
+            regions[r] = mapped[r].asIntBuffer();
+        }
+        return regions;
+    }
+
+    /**
+     * Map an int section of any length as consecutive little-endian regions of at most 1 GB,
+     * so no single mapping exceeds the 2 GB limit of FileChannel.map.
+     */
+    private static MappedByteBuffer[] mapRegions(FileChannel channel, FileChannel.MapMode mode, long offset, long ints)
+            throws IOException {
+        long regionInts = 1L << REGION_SHIFT;
+        int regionCount = (int) ((ints + regionInts - 1) >>> REGION_SHIFT);
+        MappedByteBuffer[] regions = new MappedByteBuffer[regionCount];
+        for (int r = 0; r < regionCount; r++) {
+            long start = (long) r << REGION_SHIFT;
+            long count = Math.min(regionInts, ints - start);
+            regions[r] = channel.map(mode, offset + start * Integer.BYTES, count * Integer.BYTES);
+            regions[r].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return regions;
+    }
+}
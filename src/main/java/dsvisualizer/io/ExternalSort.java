@@ -0,0 +1,266 @@
+package dsvisualizer.io;
+
+import dsvisualizer.algorithm.SortAlgorithm;
+import dsvisualizer.algorithm.SortEngine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sorts array files that do not fit in the heap.
+ *
+ * The input is streamed through a direct buffer into fixed-size runs; each run is sorted
+ * in memory and spilled to a temp file. The runs are then merged k ways through a
+ * primitive min-heap into an output file in the BinaryStore array format, so the
+ * result can be memory-mapped with BinaryStore.mapArray.
+ */
+public class ExternalSort {
+    public static final int DEFAULT_RUN_INTS = 1 << 24; // 64 MB of ints per run
+    static final int IO_BUFFER_BYTES = 1 << 22;         // 4 MB sequential reads and writes
+    static final int MIN_MERGE_BUFFER_BYTES = 1 << 16;
+
+    /**
+     * Sort an array file into output using the default run size.
+     */
+    public static MappedIntArray sort(Path input, Path output, ProgressListener listener) throws IOException {
+        return sort(input, output, DEFAULT_RUN_INTS, listener);
+    }
+
+    /**
+     * Sort an array file into output, holding at most runInts elements on the heap at once.
+     */
+    public static MappedIntArray sort(Path input, Path output, int runInts, ProgressListener listener)
+            throws IOException {
+        if (runInts < 1) {
+            throw new IllegalArgumentException("Invalid run size: " + runInts);
+        }
+        ProgressListener progress = listener != null ? listener : (phase, done, total) -> { };
+        Path tempDir = output.toAbsolutePath().getParent();
+        List<Path> runs = new ArrayList<>();
+        try {
+            long length = createRuns(input, tempDir, runInts, runs, progress);
+            mergeRuns(runs, output, length, progress);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+        return BinaryStore.mapArray(output);
+    }
+
+    /**
+     * Read the input in runs of runInts, sort each run and write it to its own temp file.
+     */
+    private static long createRuns(Path input, Path tempDir, int runInts, List<Path> runs, ProgressListener progress)
+            throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long length = BinaryStore.readArrayLength(in);
+            long runCount = (length + runInts - 1) / runInts;
+            int[] run = new int[(int) Math.min(runInts, Math.max(1, length))];
+            ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            long position = BinaryStore.HEADER_BYTES;
+            long remaining = length;
+
+            while (remaining > 0) {
+                int count = (int) Math.min(run.length, remaining);
+                position = readInts(in, position, buffer, run, count);
+                SortEngine.sortFast(run, 0, count, SortAlgorithm.DUAL_PIVOT_QUICK);
+
+                Path runFile = Files.createTempFile(tempDir, "dsv-run-", ".tmp");
+                runs.add(runFile);
+                try (FileChannel out = FileChannel.open(runFile, StandardOpenOption.WRITE)) {
+                    writeInts(out, buffer, run, count);
+                }
+                remaining -= count;
+                progress.progress("Sorting runs", runs.size(), runCount);
+            }
+            return length;
+        }
+    }
+
+    /**
+     * Merge sorted run files into the output through a min-heap keyed on each run's head.
+     */
+    private static void mergeRuns(List<Path> runs, Path output, long length, ProgressListener progress)
+            throws IOException {
+        int k = runs.size();
+        // Split the merge budget between the runs, but keep every read large enough to stay sequential
+        int runBufferBytes = Math.max(MIN_MERGE_BUFFER_BYTES, (IO_BUFFER_BYTES * 4 / Math.max(1, k)) & ~(Integer.BYTES - 1));
+        RunReader[] readers = new RunReader[k];
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            BinaryStore.writeArrayHeader(out, length);
+            ByteBuffer outBuffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            IntBuffer outInts = outBuffer.asIntBuffer();
+            long outPosition = BinaryStore.HEADER_BYTES;
+
+            // heapValues[i] is the current head of run heapRuns[i]
+            int[] heapValues = new int[k];
+            int[] heapRuns = new int[k];
+            int heapSize = 0;
+            for (int r = 0; r < k; r++) {
+                readers[r] = new RunReader(runs.get(r), runBufferBytes);
+                if (readers[r].hasNext()) {
+                    heapValues[heapSize] = readers[r].next();
+                    heapRuns[heapSize] = r;
+                    heapSize++;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heapValues, heapRuns, heapSize, i);
+            }
+
+            long written = 0;
+            long reportEvery = Math.max(1, length / 100);
+            while (heapSize > 0) {
+                outInts.put(heapValues[0]);
+                if (!outInts.hasRemaining()) {
+                    outPosition = flush(out, outBuffer, outInts, outPosition);
+                }
+                RunReader reader = readers[heapRuns[0]];
+                if (reader.hasNext()) {
+                    heapValues[0] = reader.next();
+                } else {
+                    heapSize--;
+                    heapValues[0] = heapValues[heapSize];
+                    heapRuns[0] = heapRuns[heapSize];
+                }
+                siftDown(heapValues, heapRuns, heapSize, 0);
+                if (++written % reportEvery == 0) {
+                    progress.progress("Merging " + k + " runs", written, length);
+                }
+            }
+            flush(out, outBuffer, outInts, outPosition);
+            out.force(false);
+            progress.progress("Merging " + k + " runs", length, length);
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    private static void siftDown(int[] values, int[] runs, int size, int i) {
+        int value = values[i];
+        int run = runs[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && values[child + 1] < values[child]) {
+                child++;
+            }
+            if (values[child] >= value) {
+                break;
+            }
+            values[i] = values[child];
+            runs[i] = runs[child];
+            i = child;
+        }
+        values[i] = value;
+        runs[i] = run;
+    }
+
+    /**
+     * Fill target[0, count) from the channel starting at position; returns the next position.
+     */
+    private static long readInts(FileChannel in, long position, ByteBuffer buffer, int[] target, int count)
+            throws IOException {
+        int filled = 0;
+        while (filled < count) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), (long) (count - filled) * Integer.BYTES));
+            while (buffer.hasRemaining()) {
+                int read = in.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("File truncated at byte " + position);
+                }
+                position += read;
+            }
+            buffer.flip();
+            int ints = buffer.remaining() / Integer.BYTES;
+            buffer.asIntBuffer().get(target, filled, ints);
+            filled += ints;
+        }
+        return position;
+    }
+
+    private static void writeInts(FileChannel out, ByteBuffer buffer, int[] source, int count) throws IOException {
+        int done = 0;
+        while (done < count) {
+            buffer.clear();
+            int ints = Math.min(count - done, buffer.capacity() / Integer.BYTES);
+            buffer.asIntBuffer().put(source, done, ints);
+            buffer.limit(ints * Integer.BYTES);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            done += ints;
+        }
+    }
+
+    private static long flush(FileChannel out, ByteBuffer buffer, IntBuffer ints, long position) throws IOException {
+        buffer.clear();
+        buffer.limit(ints.position() * Integer.BYTES);
+        while (buffer.hasRemaining()) {
+            position += out.write(buffer, position);
+        }
+        ints.clear();
+        return position;
+    }
+
+    /**
+     * Sequential reader over one sorted run file.
+     */
+    private static class RunReader {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final IntBuffer ints;
+        private boolean exhausted;
+
+        RunReader(Path path, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            this.ints = buffer.asIntBuffer();
+            ints.limit(0);
+        }
+
+        boolean hasNext() throws IOException {
+            if (ints.hasRemaining()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            buffer.clear();
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    exhausted = true;
+                    break;
+                }
+            }
+            ints.clear();
+            ints.limit(buffer.position() / Integer.BYTES);
+            return ints.hasRemaining();
+        }
+
+        int next() {
+            return ints.get();
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,636 @@
+package dsvisualizer.io;
+
+import dsvisualizer.model.CompactGraph;
+import dsvisualizer.model.Graph;
+import dsvisualizer.model.LongIntMap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Streaming importers for text graph files, producing a CompactGraph.
+ *
+ * Files are read twice through a direct buffer: the first pass counts degrees, the second
+ * writes targets and weights straight into the CSR arrays, so no edge list is ever held in
+ * memory. Tokens are parsed from the raw bytes without creating Strings. Duplicate edges are
+ * kept; an undirected self-loop is stored once. If every edge has the default weight, no
+ * weight array is allocated. Memory follows the number of distinct vertices, not the
+ * largest id: sparse ids such as "1 1500000000" are compacted through a hash map.
+ *
+ * Supported formats:
+ * EDGE_LIST     - "u v [weight]" per line, '#' or '%' comments, non-negative vertex ids
+ * DIMACS        - "p sp n m" with "a u v [w]" arcs (directed), or "p edge n m" with "e u v" edges
+ * MATRIX_MARKET - coordinate matrices; "general" is directed, "symmetric" is undirected
+ */
+public class GraphImporter {
+    static final int IO_BUFFER_BYTES = 1 << 22; // 4 MB reads
+    static final int MAX_VERTEX_ID = Integer.MAX_VALUE - 8;
+    static final int DIRECT_ID_LIMIT = 1 << 22; // ids below this (or 4x the vertex count) index an array
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Supported text formats.
+     */
+    public enum Format {
+        EDGE_LIST, DIMACS, MATRIX_MARKET;
+
+        /**
+         * Guess the format from a file extension (.gr/.dimacs, .mtx, anything else is an edge list).
+         */
+        public static Format fromFileName(String name) {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".gr") || lower.endsWith(".dimacs") || lower.endsWith(".col")) {
+                return DIMACS;
+            }
+            if (lower.endsWith(".mtx")) {
+                return MATRIX_MARKET;
+            }
+            return EDGE_LIST;
+        }
+    }
+
+    /**
+     * Import a file, guessing the format from its name.
+     */
+    public static CompactGraph importGraph(Path path, boolean directed, ProgressListener listener) throws IOException {
+        return importGraph(path, Format.fromFileName(path.getFileName().toString()), directed, listener);
+    }
+
+    /**
+     * Import a file. The directed flag applies to edge lists; DIMACS and Matrix Market
+     * files declare their own directedness.
+     */
+    public static CompactGraph importGraph(Path path, Format format, boolean directed, ProgressListener listener)
+            throws IOException {
+        ProgressListener progress = listener != null ? listener : (phase, done, total) -> { };
+        Header header = new Header();
+        header.directed = directed;
+
+        VertexIds ids = new VertexIds();
+        DegreeCounter counter = new DegreeCounter(header, ids);
+        parse(path, format, header, counter, progress, "Counting");
+        counter.finish();
+
+        // Dense numbering of the vertex ids that occur (or are declared), in ascending order
+        int n = ids.count;
+        int[] vertexIds = Arrays.copyOf(ids.ids, n);
+        Arrays.sort(vertexIds);
+        int[] denseOf = new int[n];
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            int slot = ids.slotOf(vertexIds[v]);
+            denseOf[slot] = v;
+            offsets[v + 1] = counter.degree[slot];
+        }
+        long entries = 0;
+        for (int v = 0; v < n; v++) {
+            entries += offsets[v + 1];
+            if (entries > Integer.MAX_VALUE - 8) {
+                throw new IOException("Graph has too many edges to import: " + counter.edges);
+            }
+            offsets[v + 1] = (int) entries;
+        }
+
+        AdjacencyFiller filler = new AdjacencyFiller(header, ids, denseOf, Arrays.copyOf(offsets, n), (int) entries,
+            counter.weighted);
+        parse(path, format, header, filler, progress, "Building");
+        return CompactGraph.fromCsr(vertexIds, offsets, filler.targets, filler.weights, header.directed);
+    }
+
+    /**
+     * Settings read from the file while parsing.
+     */
+    private static class Header {
+        boolean directed;
+        long declaredVertices = -1; // DIMACS and Matrix Market number vertices 1..n
+    }
+
+    /**
+     * Receives each parsed edge with its raw vertex ids.
+     */
+    private interface EdgeSink {
+        void edge(long from, long to, double weight) throws IOException;
+    }
+
+    /**
+     * Maps raw vertex ids to slots numbered in order of first appearance. Ids index an
+     * array directly while they stay dense (below DIRECT_ID_LIMIT or 4x the vertices seen);
+     * the first sparse id moves every mapping into a LongIntMap, so a huge id costs one
+     * entry rather than an array that long.
+     */
+    private static class VertexIds {
+        private int[] direct = new int[1024]; // id -> slot + 1 (0 if absent); null once sparse
+        private LongIntMap sparse;
+        int[] ids = new int[1024];            // slot -> id
+        int count;
+
+        /**
+         * Slot of an id, adding it if absent.
+         */
+        int add(int id) {
+            int slot = slotOf(id);
+            if (slot >= 0) {
+                return slot;
+            }
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+            }
+            slot = count++;
+            ids[slot] = id;
+            if (direct != null && id >= direct.length && id >= Math.max(DIRECT_ID_LIMIT, 4L * count)) {
+                sparse = new LongIntMap();
+                for (int s = 0; s < slot; s++) {
+                    sparse.put(ids[s], s);
+                }
+                direct = null;
+            }
+            if (direct != null) {
+                if (id >= direct.length) {
+                    direct = Arrays.copyOf(direct, (int) Math.min(MAX_VERTEX_ID + 1L, Math.max(id + 1L, direct.length * 2L)));
+                }
+                direct[id] = slot + 1;
+            } else {
+                sparse.put(id, slot);
+            }
+            return slot;
+        }
+
+        /**
+         * Slot of an id, or -1 if it never occurred.
+         */
+        int slotOf(long id) {
+            if (direct != null) {
+                return id >= 0 && id < direct.length ? direct[(int) id] - 1 : -1;
+            }
+            return sparse.get(id);
+        }
+    }
+
+    /**
+     * Pass one: out-degrees (both endpoints when undirected) per vertex slot.
+     */
+    private static class DegreeCounter implements EdgeSink {
+        private final Header header;
+        private final VertexIds ids;
+        int[] degree = new int[1024];
+        long edges;
+        boolean weighted;
+
+        DegreeCounter(Header header, VertexIds ids) {
+            this.header = header;
+            this.ids = ids;
+        }
+
+        @Override
+        public void edge(long from, long to, double weight) throws IOException {
+            int u = ids.add(checkId(from));
+            int v = ids.add(checkId(to));
+            if (ids.count > degree.length) {
+                degree = Arrays.copyOf(degree, Math.max(ids.count, degree.length * 2));
+            }
+            degree[u]++;
+            if (!header.directed && u != v) {
+                degree[v]++;
+            }
+            weighted |= weight != Graph.DEFAULT_WEIGHT;
+            edges++;
+        }
+
+        /**
+         * Add declared vertices 1..n, including isolated ones.
+         */
+        void finish() throws IOException {
+            if (header.declaredVertices < 0) {
+                return;
+            }
+            int limit = checkId(header.declaredVertices) + 1;
+            for (int id = 1; id < limit; id++) {
+                ids.add(id);
+            }
+            if (ids.count > degree.length) {
+                degree = Arrays.copyOf(degree, ids.count);
+            }
+        }
+
+        private int checkId(long id) throws IOException {
+            if (id < 0 || id > MAX_VERTEX_ID) {
+                throw new IOException("Vertex id out of range: " + id);
+            }
+            if (header.declaredVertices >= 0 && (id < 1 || id > header.declaredVertices)) {
+                throw new IOException("Vertex " + id + " outside declared range 1.." + header.declaredVertices);
+            }
+            return (int) id;
+        }
+    }
+
+    /**
+     * Pass two: write each edge into its CSR slot.
+     */
+    private static class AdjacencyFiller implements EdgeSink {
+        private final Header header;
+        private final VertexIds ids;
+        private final int[] denseOf;
+        private final int[] next;
+        final int[] targets;
+        final double[] weights;
+
+        AdjacencyFiller(Header header, VertexIds ids, int[] denseOf, int[] next, int entries, boolean weighted) {
+            this.header = header;
+            this.ids = ids;
+            this.denseOf = denseOf;
+            this.next = next;
+            this.targets = new int[entries];
+            this.weights = weighted ? new double[entries] : null;
+        }
+
+        @Override
+        public void edge(long from, long to, double weight) throws IOException {
+            int fromSlot = ids.slotOf(from);
+            int toSlot = ids.slotOf(to);
+            if (fromSlot < 0 || toSlot < 0) {
+                throw new IOException("File changed between passes");
+            }
+            int u = denseOf[fromSlot];
+            int v = denseOf[toSlot];
+            int slot = next[u]++;
+            targets[slot] = v;
+            if (weights != null) {
+                weights[slot] = weight;
+            }
+            if (!header.directed && u != v) {
+                slot = next[v]++;
+                targets[slot] = u;
+                if (weights != null) {
+                    weights[slot] = weight;
+                }
+            }
+        }
+    }
+
+    /**
+     * Run one pass over the file, sending every edge to the sink.
+     */
+    private static void parse(Path path, Format format, Header header, EdgeSink sink, ProgressListener progress,
+                              String phase) throws IOException {
+        try (ByteScanner in = new ByteScanner(path, progress, phase)) {
+            switch (format) {
+                case DIMACS:
+                    parseDimacs(in, header, sink);
+                    break;
+                case MATRIX_MARKET:
+                    parseMatrixMarket(in, header, sink);
+                    break;
+                default:
+                    parseEdgeList(in, sink);
+            }
+            in.reportProgress();
+        }
+    }
+
+    private static void parseEdgeList(ByteScanner in, EdgeSink sink) throws IOException {
+        while (!in.isEof()) {
+            int c = in.skipBlanks();
+            if (c == '\n' || c == '#' || c == '%' || c == -1) {
+                in.skipLine();
+                continue;
+            }
+            long from = in.nextLong();
+            long to = in.nextLong();
+            double weight = in.hasToken() ? in.nextDouble() : Graph.DEFAULT_WEIGHT;
+            in.skipLine();
+            sink.edge(from, to, weight);
+        }
+    }
+
+    private static void parseDimacs(ByteScanner in, Header header, EdgeSink sink) throws IOException {
+        boolean seenProblem = false;
+        while (!in.isEof()) {
+            int c = in.skipBlanks();
+            if (c == 'p') {
+                in.nextWord();
+                String kind = in.nextWord();
+                header.directed = kind.equals("sp");
+                header.declaredVertices = in.nextLong();
+                in.skipLine();
+                seenProblem = true;
+            } else if (c == 'a' || c == 'e') {
+                if (!seenProblem) {
+                    throw new IOException("DIMACS edge before problem line at byte " + in.position());
+                }
+                in.nextWord();
+                long from = in.nextLong();
+                long to = in.nextLong();
+                double weight = in.hasToken() ? in.nextDouble() : Graph.DEFAULT_WEIGHT;
+                in.skipLine();
+                sink.edge(from, to, weight);
+            } else {
+                // 'c' comments, blank lines and other descriptors
+                in.skipLine();
+            }
+        }
+    }
+
+    private static void parseMatrixMarket(ByteScanner in, Header header, EdgeSink sink) throws IOException {
+        if (!in.nextWord().equalsIgnoreCase("%%MatrixMarket")) {
+            throw new IOException("Missing %%MatrixMarket header");
+        }
+        String object = in.nextWord();
+        String layout = in.nextWord();
+        String field = in.nextWord().toLowerCase(Locale.ROOT);
+        String symmetry = in.nextWord().toLowerCase(Locale.ROOT);
+        in.skipLine();
+        if (!object.equalsIgnoreCase("matrix") || !layout.equalsIgnoreCase("coordinate")) {
+            throw new IOException("Only coordinate matrices are supported");
+        }
+        if (field.equals("complex")) {
+            throw new IOException("Complex matrices are not supported");
+        }
+        boolean pattern = field.equals("pattern");
+        header.directed = symmetry.equals("general");
+
+        boolean seenSize = false;
+        while (!in.isEof()) {
+            int c = in.skipBlanks();
+            if (c == '%' || c == '\n' || c == -1) {
+                in.skipLine();
+                continue;
+            }
+            if (!seenSize) {
+                long rows = in.nextLong();
+                long columns = in.nextLong();
+                in.nextLong(); // entry count
+                header.declaredVertices = Math.max(rows, columns);
+                seenSize = true;
+                in.skipLine();
+                continue;
+            }
+            long row = in.nextLong();
+            long column = in.nextLong();
+            double weight = pattern ? Graph.DEFAULT_WEIGHT : in.nextDouble();
+            in.skipLine();
+            sink.edge(row, column, weight);
+        }
+    }
+
+    /**
+     * Byte-level tokenizer over a file. Reads through a direct buffer into a reusable chunk
+     * array and parses numbers in place. The chunk is topped up whenever fewer than LOOKAHEAD
+     * bytes remain, so a number never straddles a refill and is parsed with a local index;
+     * a newline is appended at end of file so the last line needs no special case.
+     */
+    private static class ByteScanner implements Closeable {
+        private static final int LOOKAHEAD = 256;
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final byte[] chunk;
+        private final byte[] token = new byte[64];
+        private final long size;
+        private final ProgressListener progress;
+        private final String phase;
+        private int pos;
+        private int limit;
+        private long chunkStart;
+        private boolean eof;
+
+        ByteScanner(Path path, ProgressListener progress, String phase) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+            this.chunk = new byte[IO_BUFFER_BYTES + 1];
+            this.size = channel.size();
+            this.progress = progress;
+            this.phase = phase;
+        }
+
+        /**
+         * Get next byte without consuming it (-1 at end of file).
+         */
+        int peek() throws IOException {
+            if (pos == limit) {
+                ensure();
+                if (pos == limit) {
+                    return -1;
+                }
+            }
+            return chunk[pos];
+        }
+
+        boolean isEof() throws IOException {
+            return peek() == -1;
+        }
+
+        long position() {
+            return Math.min(size, chunkStart + pos);
+        }
+
+        /**
+         * Skip spaces, tabs and carriage returns; returns the next byte.
+         */
+        int skipBlanks() throws IOException {
+            int c = peek();
+            while (c == ' ' || c == '\t' || c == '\r') {
+                pos++;
+                c = peek();
+            }
+            return c;
+        }
+
+        /**
+         * Check if another token follows on the current line.
+         */
+        boolean hasToken() throws IOException {
+            int c = skipBlanks();
+            return c != '\n' && c != -1;
+        }
+
+        /**
+         * Consume the rest of the line including its newline.
+         */
+        void skipLine() throws IOException {
+            while (true) {
+                int p = pos;
+                while (p < limit && chunk[p] != '\n') {
+                    p++;
+                }
+                if (p < limit) {
+                    pos = p + 1;
+                    return;
+                }
+                pos = p;
+                ensure();
+                if (pos == limit) {
+                    return;
+                }
+            }
+        }
+
+        long nextLong() throws IOException {
+            skipBlanks();
+            ensure();
+            byte[] b = chunk;
+            int p = pos;
+            int end = limit;
+            boolean negative = p < end && b[p] == '-';
+            if (p < end && (b[p] == '-' || b[p] == '+')) {
+                p++;
+            }
+            int start = p;
+            long value = 0;
+            while (p < end && b[p] >= '0' && b[p] <= '9') {
+                if (value > (Long.MAX_VALUE - 9) / 10) {
+                    pos = p;
+                    throw error("integer in range");
+                }
+                value = value * 10 + (b[p++] - '0');
+            }
+            if (p == start) {
+                pos = p;
+                throw error("integer");
+            }
+            pos = p;
+            return negative ? -value : value;
+        }
+
+        /**
+         * Parse a decimal number. Mantissas below 2^53 with exponents up to 22 are exact in
+         * double arithmetic; anything else falls back to Double.parseDouble.
+         */
+        double nextDouble() throws IOException {
+            skipBlanks();
+            ensure();
+            byte[] b = chunk;
+            int p = pos;
+            int end = limit;
+            int start = p;
+            boolean negative = p < end && b[p] == '-';
+            if (p < end && (b[p] == '-' || b[p] == '+')) {
+                p++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int exponent = 0;
+            boolean exact = true;
+            while (p < end && b[p] >= '0' && b[p] <= '9') {
+                if (mantissa < (1L << 53) / 10) {
+                    mantissa = mantissa * 10 + (b[p] - '0');
+                } else {
+                    exact = false;
+                }
+                digits++;
+                p++;
+            }
+            if (p < end && b[p] == '.') {
+                p++;
+                while (p < end && b[p] >= '0' && b[p] <= '9') {
+                    if (mantissa < (1L << 53) / 10) {
+                        mantissa = mantissa * 10 + (b[p] - '0');
+                        exponent--;
+                    } else {
+                        exact = false;
+                    }
+                    digits++;
+                    p++;
+                }
+            }
+            if (digits == 0) {
+                pos = p;
+                throw error("number");
+            }
+            if (p < end && (b[p] == 'e' || b[p] == 'E')) {
+                p++;
+                boolean negativeExponent = p < end && b[p] == '-';
+                if (p < end && (b[p] == '-' || b[p] == '+')) {
+                    p++;
+                }
+                if (p == end || b[p] < '0' || b[p] > '9') {
+                    pos = p;
+                    throw error("exponent");
+                }
+                int value = 0;
+                while (p < end && b[p] >= '0' && b[p] <= '9') {
+                    value = Math.min(value * 10 + (b[p++] - '0'), 100_000);
+                }
+                exponent += negativeExponent ? -value : value;
+            }
+            pos = p;
+            if (exact && Math.abs(exponent) < POWERS_OF_TEN.length) {
+                double value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+                return negative ? -value : value;
+            }
+            if (p - start > LOOKAHEAD) {
+                throw error("number of at most " + LOOKAHEAD + " characters");
+            }
+            return Double.parseDouble(new String(b, start, p - start, StandardCharsets.US_ASCII));
+        }
+
+        /**
+         * Read a whitespace-delimited word (header keywords only, so a String is fine here).
+         */
+        String nextWord() throws IOException {
+            int c = skipBlanks();
+            int length = 0;
+            while (c != -1 && c != ' ' && c != '\t' && c != '\r' && c != '\n') {
+                if (length == token.length) {
+                    throw error("shorter word");
+                }
+                token[length++] = (byte) c;
+                pos++;
+                c = peek();
+            }
+            return new String(token, 0, length, StandardCharsets.US_ASCII);
+        }
+
+        private IOException error(String expected) {
+            return new IOException("Expected " + expected + " at byte " + position());
+        }
+
+        void reportProgress() {
+            progress.progress(phase, position(), size);
+        }
+
+        /**
+         * Top up the chunk when fewer than LOOKAHEAD bytes remain.
+         */
+        private void ensure() throws IOException {
+            if (limit - pos >= LOOKAHEAD || eof) {
+                return;
+            }
+            int remaining = limit - pos;
+            System.arraycopy(chunk, pos, chunk, 0, remaining);
+            chunkStart += pos;
+            pos = 0;
+            limit = remaining;
+            buffer.clear();
+            buffer.limit(Math.min(buffer.capacity(), chunk.length - 1 - limit));
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            if (read < 0) {
+                eof = true;
+                chunk[limit++] = '\n';
+                return;
+            }
+            buffer.flip();
+            buffer.get(chunk, limit, read);
+            limit += read;
+            reportProgress();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
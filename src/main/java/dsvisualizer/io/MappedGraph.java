@@ -0,0 +1,112 @@
+package dsvisualizer.io;
+
+import dsvisualizer.model.Graph;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Read-only graph in CSR form backed by a memory-mapped file.
+ * Vertices are addressed by dense index 0..vertexCount-1; getVertexId maps back to labels.
+ * Files saved from unweighted graphs have no weight section and report the default weight.
+ */
+public class MappedGraph {
+    private final boolean directed;
+    private final int vertexCount;
+    private final IntBuffer vertexIds;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final DoubleBuffer weights; // null when every edge has the default weight
+
+    MappedGraph(boolean directed, int vertexCount, IntBuffer vertexIds, IntBuffer offsets, IntBuffer targets,
+                DoubleBuffer weights) {
+        this.directed = directed;
+        this.vertexCount = vertexCount;
+        this.vertexIds = vertexIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Get vertex count.
+     */
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Get number of adjacency entries (undirected edges count twice).
+     */
+    public int getAdjacencyEntryCount() {
+        return offsets.get(vertexCount);
+    }
+
+    /**
+     * Get the vertex label stored for a dense index.
+     */
+    public int getVertexId(int index) {
+        return vertexIds.get(index);
+    }
+
+    /**
+     * Get out-degree of a dense vertex index.
+     */
+    public int getDegree(int index) {
+        return offsets.get(index + 1) - offsets.get(index);
+    }
+
+    /**
+     * Get the k-th neighbor (as a dense index) of a dense vertex index.
+     */
+    public int getNeighbor(int index, int k) {
+        return targets.get(offsets.get(index) + k);
+    }
+
+    /**
+     * Get the weight of the k-th edge of a dense vertex index.
+     */
+    public double getWeight(int index, int k) {
+        return weights == null ? Graph.DEFAULT_WEIGHT : weights.get(offsets.get(index) + k);
+    }
+
+    /**
+     * Check if the file stores edge weights.
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Check if graph is directed.
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * Build an editable Graph with the same vertices and edges.
+     */
+    public Graph toGraph() {
+        Graph graph = new Graph(directed);
+        copyInto(graph);
+        return graph;
+    }
+
+    /**
+     * Add all vertices and edges to an existing Graph.
+     */
+    public void copyInto(Graph graph) {
+        for (int v = 0; v < vertexCount; v++) {
+            graph.addVertex(vertexIds.get(v));
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            int from = vertexIds.get(v);
+            int end = offsets.get(v + 1);
+            for (int e = offsets.get(v); e < end; e++) {
+                double weight = weights == null ? Graph.DEFAULT_WEIGHT : weights.get(e);
+                graph.addEdge(from, vertexIds.get(targets.get(e)), weight);
+            }
+        }
+    }
+}
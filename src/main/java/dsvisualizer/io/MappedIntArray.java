@@ -0,0 +1,43 @@
+package dsvisualizer.io;
+
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.IntArrayView;
+
+import java.nio.IntBuffer;
+
+/**
+ * Read-only int array backed by a memory-mapped file.
+ */
+public class MappedIntArray implements IntArrayView {
+    private final IntBuffer[] regions;
+    private final long length;
+    private final long regionMask;
+
+    MappedIntArray(IntBuffer[] regions, long length) {
+        this.regions = regions;
+        this.length = length;
+        this.regionMask = (1L << BinaryStore.REGION_SHIFT) - 1;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int valueAt(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return regions[(int) (index >>> BinaryStore.REGION_SHIFT)].get((int) (index & regionMask));
+    }
+
+    /**
+     * Append every element to a DynamicArray with one bulk copy per mapped region.
+     */
+    public void copyInto(DynamicArray array) {
+        for (IntBuffer region : regions) {
+            array.addAll(region.duplicate());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package dsvisualizer.io;
+
+/**
+ * Receives progress from a long-running file operation; called on the worker thread.
+ */
+public interface ProgressListener {
+    void progress(String phase, long done, long total);
+}
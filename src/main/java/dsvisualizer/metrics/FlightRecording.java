@@ -0,0 +1,92 @@
+package dsvisualizer.metrics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Built-in Java Flight Recorder session with settings tuned for the visualizer.
+ *
+ * Starts from the JDK "default" configuration and adds the custom operation, render and
+ * layout events, 10 ms execution sampling, every GC pause phase and lock stalls over 5 ms.
+ * The recording keeps a rolling window of the last 10 minutes, so dump() captures what
+ * just happened.
+ */
+public class FlightRecording {
+    private static final int RECORDING_MAX_AGE_MINUTES = 10;
+    private static final long RECORDING_MAX_BYTES = 256L * 1024 * 1024;
+
+    private static Recording recording;
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Start recording (no-op if already running).
+     */
+    public static synchronized void start() throws IOException {
+        if (recording != null) {
+            return;
+        }
+        Recording started = new Recording(settings());
+        started.setName("Data Structure Visualizer");
+        started.setToDisk(true);
+        started.setMaxAge(Duration.ofMinutes(RECORDING_MAX_AGE_MINUTES));
+        started.setMaxSize(RECORDING_MAX_BYTES);
+        started.start();
+        recording = started;
+    }
+
+    public static synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Write everything recorded so far to a .jfr file; recording continues.
+     */
+    public static synchronized void dump(Path file) throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("No flight recording running");
+        }
+        recording.dump(file);
+    }
+
+    public static synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * The tuned settings: JDK defaults plus the visualizer's events and finer sampling.
+     */
+    static Map<String, String> settings() throws IOException {
+        Map<String, String> settings;
+        try {
+            settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        } catch (ParseException e) {
+            throw new IOException("Cannot read JFR default settings: " + e.getMessage(), e);
+        }
+        for (String event : new String[]{"dsvisualizer.Operation", "dsvisualizer.Render", "dsvisualizer.Layout"}) {
+            settings.put(event + "#enabled", "true");
+            settings.put(event + "#threshold", "0 ms");
+        }
+        settings.put("jdk.ExecutionSample#enabled", "true");
+        settings.put("jdk.ExecutionSample#period", "10 ms");
+        settings.put("jdk.GarbageCollection#enabled", "true");
+        settings.put("jdk.GCPhasePause#enabled", "true");
+        settings.put("jdk.GCPhasePause#threshold", "0 ms");
+        settings.put("jdk.JavaMonitorEnter#threshold", "5 ms");
+        settings.put("jdk.ThreadPark#threshold", "5 ms");
+        settings.put("jdk.ObjectAllocationSample#enabled", "true");
+        settings.put("jdk.ObjectAllocationSample#throttle", "300/s");
+        return settings;
+    }
+}
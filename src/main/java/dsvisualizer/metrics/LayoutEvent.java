@@ -0,0 +1,25 @@
+package dsvisualizer.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the CSS and layout pass that follows an operation.
+ */
+@Name("dsvisualizer.Layout")
+@Label("Layout Pass")
+@Category({"Data Structure Visualizer"})
+@Description("CSS and layout of the visualization area after an operation")
+@StackTrace(false)
+public class LayoutEvent extends Event {
+    @Label("Structure")
+    String structure;
+
+    @Label("Render Nodes")
+    @Description("Scene-graph nodes in the visualization area")
+    int renderNodes;
+}
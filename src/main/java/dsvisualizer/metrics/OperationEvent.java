@@ -0,0 +1,49 @@
+package dsvisualizer.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event spanning one user operation, from the controller call to the end of the layout pass.
+ */
+@Name("dsvisualizer.Operation")
+@Label("Operation")
+@Category({"Data Structure Visualizer"})
+@Description("A user operation on a data structure, split into model, render and layout time")
+@StackTrace(false)
+public class OperationEvent extends Event {
+    @Label("Structure")
+    String structure;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Structure Size")
+    @Description("Elements (or vertices) in the structure after the operation")
+    long structureSize;
+
+    @Label("Elements Touched")
+    @Description("Elements the operation visited or probed, 0 if not reported")
+    long elementsTouched;
+
+    @Label("Render Nodes")
+    @Description("Scene-graph nodes in the visualization area after the operation")
+    int renderNodes;
+
+    @Label("Model Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long modelTime;
+
+    @Label("Render Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long renderTime;
+
+    @Label("Layout Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long layoutTime;
+}
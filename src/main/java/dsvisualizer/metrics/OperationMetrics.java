@@ -0,0 +1,305 @@
+package dsvisualizer.metrics;
+
+import javafx.animation.Animation;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.layout.Pane;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-operation latency histograms, split into model, layout, render and animation phases.
+ *
+ * Main wraps each user operation in measure(): visualizers bracket render() with
+ * beginRender/endRender, AnimationFactory registers animations through track, and the
+ * JavaFX CSS/layout pass is forced and timed once the controller returns. Model time is
+ * the controller's own time minus rendering. Each operation, render pass and layout pass
+ * is also emitted as a JFR event (see FlightRecording) and counted in the structure's
+ * StructureMonitor MBean; renders and animations outside an operation count towards the
+ * active structure. The operation context is confined to the FX thread; background work
+ * records directly with record().
+ */
+public class OperationMetrics {
+    private static final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private static Context current;
+    private static String activeStructure;
+
+    /**
+     * Histograms of one structure's operation.
+     */
+    public static class Entry {
+        private final String structure;
+        private final String operation;
+        private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+
+        private Entry(String structure, String operation) {
+            this.structure = structure;
+            this.operation = operation;
+            for (Phase phase : Phase.values()) {
+                histograms.put(phase, new LatencyHistogram());
+            }
+        }
+
+        public String getStructure() {
+            return structure;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public LatencyHistogram getHistogram(Phase phase) {
+            return histograms.get(phase);
+        }
+    }
+
+    /**
+     * Running operation on the FX thread.
+     */
+    private static class Context {
+        final Entry entry;
+        long renderNanos;
+        long elementsTouched;
+        long endNanos;
+        int runningAnimations;
+        boolean ended;
+
+        Context(Entry entry) {
+            this.entry = entry;
+        }
+
+        void animationStopped() {
+            runningAnimations--;
+            if (ended && runningAnimations == 0) {
+                entry.getHistogram(Phase.ANIMATION).record(System.nanoTime() - endNanos);
+            }
+        }
+    }
+
+    private OperationMetrics() {
+    }
+
+    /**
+     * Run one user operation, record its phases and emit an OperationEvent; size is read after it.
+     */
+    public static void measure(String structure, String operation, Pane canvas, LongSupplier size, Runnable action) {
+        Context context = new Context(entry(structure, operation));
+        Context outer = current;
+        current = context;
+        OperationEvent event = new OperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            long controllerEnd = System.nanoTime();
+            current = outer;
+            // Lay out now rather than at the next pulse so the pass is attributed to this operation
+            LayoutEvent layoutEvent = new LayoutEvent();
+            layoutEvent.begin();
+            canvas.applyCss();
+            canvas.layout();
+            layoutEvent.end();
+            long layoutEnd = System.nanoTime();
+            event.end();
+
+            long modelNanos = controllerEnd - start - context.renderNanos;
+            context.entry.getHistogram(Phase.MODEL).record(modelNanos);
+            context.entry.getHistogram(Phase.RENDER).record(context.renderNanos);
+            context.entry.getHistogram(Phase.LAYOUT).record(layoutEnd - controllerEnd);
+            context.endNanos = layoutEnd;
+            context.ended = true;
+
+            int nodes = countNodes(canvas);
+            StructureMonitor monitor = StructureMonitor.of(structure);
+            monitor.operationCompleted();
+            monitor.setSceneNodeCount(nodes);
+            if (event.shouldCommit() || layoutEvent.shouldCommit()) {
+                layoutEvent.structure = structure;
+                layoutEvent.renderNodes = nodes;
+                layoutEvent.commit();
+                event.structure = structure;
+                event.operation = operation;
+                event.structureSize = size.getAsLong();
+                event.elementsTouched = context.elementsTouched;
+                event.renderNodes = nodes;
+                event.modelTime = modelNanos;
+                event.renderTime = context.renderNanos;
+                event.layoutTime = layoutEnd - controllerEnd;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Start timing a visualizer render() pass.
+     */
+    public static RenderEvent beginRender() {
+        RenderEvent event = new RenderEvent();
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finish a render() pass: add it to the running operation's render phase (if any) and emit it.
+     */
+    public static void endRender(RenderEvent event, Object visualizer, Pane canvas) {
+        event.end();
+        long nanos = System.nanoTime() - event.startNanos;
+        if (current != null) {
+            current.renderNanos += nanos;
+        }
+        String structure = current != null ? current.entry.structure : activeStructure;
+        if (structure != null) {
+            StructureMonitor.of(structure).renderCompleted(nanos);
+        }
+        if (event.shouldCommit()) {
+            event.visualizer = visualizer.getClass().getSimpleName();
+            event.renderNodes = countNodes(canvas);
+            event.commit();
+        }
+    }
+
+    /**
+     * Report elements the running operation visited or probed (no-op outside one).
+     */
+    public static void addElementsTouched(long count) {
+        if (current != null) {
+            current.elementsTouched += count;
+        }
+    }
+
+    /**
+     * Attribute an animation to the running operation: the animation phase lasts from the end
+     * of the operation until every animation it started has stopped. While it runs it also
+     * counts towards the structure's animation queue depth.
+     */
+    public static <T extends Animation> T track(T animation) {
+        Context context = current;
+        String structure = context != null ? context.entry.structure : activeStructure;
+        if (structure == null) {
+            return animation;
+        }
+        StructureMonitor monitor = StructureMonitor.of(structure);
+        animation.statusProperty().addListener((obs, previous, status) -> {
+            if (previous == Animation.Status.STOPPED && status == Animation.Status.RUNNING) {
+                monitor.animationStarted();
+                if (context != null) {
+                    context.runningAnimations++;
+                }
+            } else if (previous != Animation.Status.STOPPED && status == Animation.Status.STOPPED) {
+                monitor.animationStopped();
+                if (context != null) {
+                    context.animationStopped();
+                }
+            }
+        });
+        return animation;
+    }
+
+    /**
+     * Structure on screen, credited with renders and animations that happen outside measure().
+     */
+    public static void setActiveStructure(String structure) {
+        activeStructure = structure;
+    }
+
+    /**
+     * Record a phase measured outside measure(), e.g. on a background thread.
+     */
+    public static void record(String structure, String operation, Phase phase, long nanos) {
+        entry(structure, operation).getHistogram(phase).record(nanos);
+    }
+
+    /**
+     * All entries, ordered by structure then operation.
+     */
+    public static List<Entry> entries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    public static void reset() {
+        entries.clear();
+    }
+
+    /**
+     * Write a percentile summary followed by the non-empty buckets of every histogram as CSV.
+     */
+    public static void export(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            writer.println("structure,operation,phase,count,mean_ns,p50_ns,p90_ns,p99_ns,p999_ns,max_ns,per_second");
+            for (Entry entry : entries()) {
+                for (Phase phase : Phase.values()) {
+                    LatencyHistogram histogram = entry.getHistogram(phase);
+                    if (histogram.getCount() == 0) {
+                        continue;
+                    }
+                    writer.printf(Locale.ROOT, "%s,%s,%s,%d,%.0f,%d,%d,%d,%d,%d,%.3f%n",
+                        csv(entry.structure), csv(entry.operation), phase.getDisplayName(), histogram.getCount(),
+                        histogram.getMean(), histogram.getPercentile(50), histogram.getPercentile(90),
+                        histogram.getPercentile(99), histogram.getPercentile(99.9), histogram.getMax(),
+                        histogram.getThroughput());
+                }
+            }
+            writer.println();
+            writer.println("structure,operation,phase,bucket_from_ns,bucket_to_ns,count");
+            for (Entry entry : entries()) {
+                for (Phase phase : Phase.values()) {
+                    long[] counts = entry.getHistogram(phase).snapshotCounts();
+                    for (int i = 0; i < counts.length; i++) {
+                        if (counts[i] > 0) {
+                            writer.printf(Locale.ROOT, "%s,%s,%s,%d,%d,%d%n", csv(entry.structure), csv(entry.operation),
+                                phase.getDisplayName(), LatencyHistogram.lowerBound(i), LatencyHistogram.upperBound(i), counts[i]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Format a latency with a unit that keeps three significant digits.
+     */
+    public static String formatNanos(double nanos) {
+        if (nanos < 1_000) {
+            return String.format(Locale.ROOT, "%.0f ns", nanos);
+        }
+        if (nanos < 1_000_000) {
+            return String.format(Locale.ROOT, "%.1f us", nanos / 1e3);
+        }
+        if (nanos < 1_000_000_000) {
+            return String.format(Locale.ROOT, "%.2f ms", nanos / 1e6);
+        }
+        return String.format(Locale.ROOT, "%.2f s", nanos / 1e9);
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private static Entry entry(String structure, String operation) {
+        return entries.computeIfAbsent(structure + '\u0000' + operation, key -> new Entry(structure, operation));
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") || value.contains("\"") ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+}
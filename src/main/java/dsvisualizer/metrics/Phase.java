@@ -0,0 +1,36 @@
+package dsvisualizer.metrics;
+
+/**
+ * Phases an operation's latency is split into.
+ */
+public enum Phase {
+    MODEL("Model"),
+    LAYOUT("Layout"),
+    RENDER("Render"),
+    ANIMATION("Animation");
+
+    private final String displayName;
+
+    Phase(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Get name shown in the metrics view and exports.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Find phase by display name (returns null if unknown).
+     */
+    public static Phase fromDisplayName(String name) {
+        for (Phase phase : values()) {
+            if (phase.displayName.equals(name)) {
+                return phase;
+            }
+        }
+        return null;
+    }
+}
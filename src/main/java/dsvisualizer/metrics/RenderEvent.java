@@ -0,0 +1,28 @@
+package dsvisualizer.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one visualizer render() pass.
+ */
+@Name("dsvisualizer.Render")
+@Label("Render Pass")
+@Category({"Data Structure Visualizer"})
+@Description("A visualizer rebuilding its scene-graph nodes")
+@StackTrace(false)
+public class RenderEvent extends Event {
+    @Label("Visualizer")
+    String visualizer;
+
+    @Label("Render Nodes")
+    @Description("Scene-graph nodes in the visualization area after the pass")
+    int renderNodes;
+
+    // Not recorded by JFR; feeds the render phase of the latency histograms
+    transient long startNanos;
+}
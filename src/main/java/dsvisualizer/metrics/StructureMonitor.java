@@ -0,0 +1,223 @@
+package dsvisualizer.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Live counters for one data structure, registered as a platform MBean so a kiosk can be
+ * watched with JConsole or VisualVM. OperationMetrics feeds operations, renders and
+ * animations; counters are LongAdders, so updates from the FX thread and load bursts never
+ * contend. Gauges (elements, nodes, footprint) are written by the FX thread only. Failures
+ * (MBean registration, load bursts) are kept as LastError and passed to the error listener.
+ */
+public class StructureMonitor implements StructureMonitorMBean {
+    private static final String LOAD_BURST_OPERATION = "Load Burst";
+    private static final ConcurrentHashMap<String, StructureMonitor> monitors = new ConcurrentHashMap<>();
+
+    /**
+     * Source of synthetic operations for triggerLoadBurst.
+     */
+    public interface LoadGenerator {
+        /**
+         * Run operations, reporting each one's latency; returns the number of hits.
+         */
+        long run(int operations, LongConsumer latencyNanos);
+    }
+
+    private final String structure;
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder renders = new LongAdder();
+    private final LongAdder renderNanos = new LongAdder();
+    private final LongAdder runningAnimations = new LongAdder();
+    private final AtomicBoolean burstRunning = new AtomicBoolean();
+    private volatile long lastRenderNanos;
+    private volatile long elementCount;
+    private volatile long footprintBytes;
+    private volatile long sceneNodes;
+    private volatile long resetNanos = System.nanoTime();
+    private volatile LoadGenerator loadGenerator;
+    private volatile Consumer<String> errorListener;
+    private volatile String lastError = "";
+
+    private StructureMonitor(String structure) {
+        this.structure = structure;
+    }
+
+    /**
+     * Monitor for a structure, registering its MBean on first use.
+     */
+    public static StructureMonitor of(String structure) {
+        return monitors.computeIfAbsent(structure, name -> {
+            StructureMonitor monitor = new StructureMonitor(name);
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(monitor,
+                    new ObjectName("dsvisualizer:type=Structure,name=" + name));
+            } catch (JMException | SecurityException e) {
+                // Counters still work without JMX (e.g. a second Application in the same VM)
+                monitor.failed("Cannot register MBean for " + name + ": " + e.getMessage());
+            }
+            return monitor;
+        });
+    }
+
+    public void setLoadGenerator(LoadGenerator loadGenerator) {
+        this.loadGenerator = loadGenerator;
+    }
+
+    /**
+     * Receive failure messages from any thread; a failure recorded earlier is passed on at once.
+     */
+    public void setErrorListener(Consumer<String> errorListener) {
+        this.errorListener = errorListener;
+        String error = lastError;
+        if (errorListener != null && !error.isEmpty()) {
+            errorListener.accept(error);
+        }
+    }
+
+    void operationCompleted() {
+        operations.increment();
+    }
+
+    void renderCompleted(long nanos) {
+        renders.increment();
+        renderNanos.add(nanos);
+        lastRenderNanos = nanos;
+    }
+
+    void animationStarted() {
+        runningAnimations.increment();
+    }
+
+    void animationStopped() {
+        runningAnimations.decrement();
+    }
+
+    void setSceneNodeCount(long nodes) {
+        sceneNodes = nodes;
+    }
+
+    /**
+     * Update the size gauges (FX thread).
+     */
+    public void setElementCount(long elements, long footprintBytes) {
+        this.elementCount = elements;
+        this.footprintBytes = footprintBytes;
+    }
+
+    @Override
+    public String getStructure() {
+        return structure;
+    }
+
+    @Override
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    @Override
+    public long getMemoryFootprintBytes() {
+        return footprintBytes;
+    }
+
+    @Override
+    public long getOperationCount() {
+        return operations.sum();
+    }
+
+    @Override
+    public double getOperationsPerSecond() {
+        double seconds = (System.nanoTime() - resetNanos) / 1e9;
+        return seconds <= 0 ? 0 : operations.sum() / seconds;
+    }
+
+    @Override
+    public long getRenderCount() {
+        return renders.sum();
+    }
+
+    @Override
+    public double getLastRenderMillis() {
+        return lastRenderNanos / 1e6;
+    }
+
+    @Override
+    public double getAverageRenderMillis() {
+        long count = renders.sum();
+        return count == 0 ? 0 : renderNanos.sum() / 1e6 / count;
+    }
+
+    @Override
+    public long getSceneNodeCount() {
+        return sceneNodes;
+    }
+
+    @Override
+    public long getAnimationQueueDepth() {
+        return runningAnimations.sum();
+    }
+
+    @Override
+    public String getLastError() {
+        return lastError;
+    }
+
+    @Override
+    public boolean isLoadBurstRunning() {
+        return burstRunning.get();
+    }
+
+    @Override
+    public void resetCounters() {
+        operations.reset();
+        renders.reset();
+        renderNanos.reset();
+        lastRenderNanos = 0;
+        resetNanos = System.nanoTime();
+    }
+
+    @Override
+    public String triggerLoadBurst(int count) {
+        LoadGenerator generator = loadGenerator;
+        if (generator == null) {
+            return "No load generator for " + structure;
+        }
+        if (count < 1) {
+            return "Operations must be positive";
+        }
+        if (!burstRunning.compareAndSet(false, true)) {
+            return "A load burst is already running for " + structure;
+        }
+        Thread worker = new Thread(() -> {
+            try {
+                generator.run(count, nanos -> {
+                    operations.increment();
+                    OperationMetrics.record(structure, LOAD_BURST_OPERATION, Phase.MODEL, nanos);
+                });
+            } catch (RuntimeException e) {
+                failed("Load burst for " + structure + " failed: " + e.getMessage());
+            } catch (OutOfMemoryError e) {
+                failed("Load burst for " + structure + " failed: out of memory");
+            } finally {
+                burstRunning.set(false);
+            }
+        }, "load-burst-" + structure);
+        worker.setDaemon(true);
+        worker.start();
+        return "Started " + count + " operations on a scratch " + structure;
+    }
+
+    private void failed(String message) {
+        lastError = message;
+        Consumer<String> listener = errorListener;
+        if (listener != null) {
+            listener.accept(message);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dsvisualizer.metrics;
+
+/**
+ * JMX view of one data structure (dsvisualizer:type=Structure,name=...), for JConsole or VisualVM.
+ */
+public interface StructureMonitorMBean {
+    String getStructure();
+
+    /**
+     * Elements after the last operation (vertices for graphs).
+     */
+    long getElementCount();
+
+    /**
+     * Estimated retained heap bytes after the last operation.
+     */
+    long getMemoryFootprintBytes();
+
+    /**
+     * Operations since start or the last reset, including load bursts.
+     */
+    long getOperationCount();
+
+    /**
+     * Operations per second since start or the last reset.
+     */
+    double getOperationsPerSecond();
+
+    long getRenderCount();
+
+    double getLastRenderMillis();
+
+    double getAverageRenderMillis();
+
+    /**
+     * Scene-graph nodes under the canvas after the last operation.
+     */
+    long getSceneNodeCount();
+
+    /**
+     * Animations started by this structure that are still running or paused.
+     */
+    long getAnimationQueueDepth();
+
+    /**
+     * Most recent MBean registration or load burst failure (empty if none).
+     */
+    String getLastError();
+
+    /**
+     * Check if a load burst is running.
+     */
+    boolean isLoadBurstRunning();
+
+    /**
+     * Zero the operation and render counters (element, node and animation gauges are kept).
+     */
+    void resetCounters();
+
+    /**
+     * Run operations synthetic operations against a scratch copy of the structure in the background.
+     */
+    String triggerLoadBurst(int operations);
+}
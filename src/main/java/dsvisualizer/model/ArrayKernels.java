@@ -0,0 +1,81 @@
+package dsvisualizer.model;
+
+/**
+ * Search and aggregate kernels over int[] ranges [from, to).
+ * Uses the jdk.incubator.vector implementation when the module is available
+ * (run with --add-modules jdk.incubator.vector), otherwise a scalar loop.
+ */
+public abstract class ArrayKernels {
+    private static final ArrayKernels SCALAR = new ScalarArrayKernels();
+    private static final ArrayKernels INSTANCE = load();
+
+    /**
+     * Get the best available kernels.
+     */
+    public static ArrayKernels get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the scalar kernels (always available).
+     */
+    public static ArrayKernels scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Check if the vectorized kernels are in use.
+     */
+    public static boolean isVectorized() {
+        return INSTANCE != SCALAR;
+    }
+
+    /**
+     * Index of first element equal to value, or -1.
+     */
+    public abstract int indexOf(int[] data, int from, int to, int value);
+
+    /**
+     * Number of elements equal to value.
+     */
+    public abstract int count(int[] data, int from, int to, int value);
+
+    /**
+     * Minimum element (Integer.MAX_VALUE for an empty range).
+     */
+    public abstract int min(int[] data, int from, int to);
+
+    /**
+     * Maximum element (Integer.MIN_VALUE for an empty range).
+     */
+    public abstract int max(int[] data, int from, int to);
+
+    /**
+     * Sum of elements, accumulated in a long so it cannot overflow.
+     */
+    public abstract long sum(int[] data, int from, int to);
+
+    /**
+     * Index of first element strictly greater than threshold, or -1.
+     */
+    public abstract int indexOfFirstGreaterThan(int[] data, int from, int to, int threshold);
+
+    /**
+     * Get implementation name for status display.
+     */
+    public abstract String getName();
+
+    private static ArrayKernels load() {
+        if ("scalar".equals(System.getProperty("dsvisualizer.kernels"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return SCALAR;
+        }
+        try {
+            // Loaded reflectively so this class never links against the incubator module
+            return (ArrayKernels) Class.forName("dsvisualizer.model.VectorArrayKernels")
+                .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+}
@@ -21,6 +21,7 @@ public class BinarySearchTree {
 
     private TreeNode root;
     private int size;
+    private int lastVisitCount;
 
     public BinarySearchTree() {
         this.root = null;
@@ -31,7 +32,8 @@ public class BinarySearchTree {
      * Insert value into BST.
      */
     public boolean insert(int value) {
-        if (search(value) != null) {
+        lastVisitCount = 0;
+        if (searchRecursive(root, value) != null) {
             throw new IllegalArgumentException("Duplicate value not allowed");
         }
         root = insertRecursive(root, value);
@@ -44,8 +46,12 @@ public class BinarySearchTree {
      */
     private TreeNode insertRecursive(TreeNode node, int value) {
         if (node == null) {
+            CostCounters.count(CostCounters.Cost.ALLOCATION);
             return new TreeNode(value);
         }
+        lastVisitCount++;
+        CostCounters.count(CostCounters.Cost.COMPARISON);
+        CostCounters.count(CostCounters.Cost.POINTER_HOP);
         if (value < node.data) {
             node.left = insertRecursive(node.left, value);
         } else {
@@ -58,7 +64,8 @@ public class BinarySearchTree {
      * Delete value from BST.
      */
     public boolean delete(int value) {
-        if (search(value) == null) {
+        lastVisitCount = 0;
+        if (searchRecursive(root, value) == null) {
             return false;
         }
         root = deleteRecursive(root, value);
@@ -73,9 +80,13 @@ public class BinarySearchTree {
         if (node == null) {
             return null;
         }
+        lastVisitCount++;
+        CostCounters.count(CostCounters.Cost.COMPARISON);
         if (value < node.data) {
+            CostCounters.count(CostCounters.Cost.POINTER_HOP);
             node.left = deleteRecursive(node.left, value);
         } else if (value > node.data) {
+            CostCounters.count(CostCounters.Cost.POINTER_HOP);
             node.right = deleteRecursive(node.right, value);
         } else {
             // Node with no children
@@ -101,6 +112,7 @@ public class BinarySearchTree {
      * Search for node with value.
      */
     public TreeNode search(int value) {
+        lastVisitCount = 0;
         return searchRecursive(root, value);
     }
 
@@ -111,9 +123,12 @@ public class BinarySearchTree {
         if (node == null) {
             return null;
         }
+        lastVisitCount++;
+        CostCounters.count(CostCounters.Cost.COMPARISON);
         if (value == node.data) {
             return node;
         }
+        CostCounters.count(CostCounters.Cost.POINTER_HOP);
         if (value < node.data) {
             return searchRecursive(node.left, value);
         }
@@ -125,6 +140,8 @@ public class BinarySearchTree {
      */
     private TreeNode findMin(TreeNode node) {
         while (node.left != null) {
+            lastVisitCount++;
+            CostCounters.count(CostCounters.Cost.POINTER_HOP);
             node = node.left;
         }
         return node;
@@ -192,6 +209,20 @@ public class BinarySearchTree {
         return size;
     }
 
+    /**
+     * Get number of nodes compared or stepped over by the last insert, delete or search.
+     */
+    public int getLastVisitCount() {
+        return lastVisitCount;
+    }
+
+    /**
+     * Estimated retained heap bytes: one TreeNode object per element.
+     */
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(1, 2, 0) + size * MemoryLayout.object(2, 1, 0);
+    }
+
     /**
      * Check if tree is empty.
      */
@@ -205,5 +236,6 @@ public class BinarySearchTree {
     public void clear() {
         root = null;
         size = 0;
+        lastVisitCount = 0;
     }
 }
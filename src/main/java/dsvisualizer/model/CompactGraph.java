@@ -0,0 +1,231 @@
+package dsvisualizer.model;
+
+import java.util.Arrays;
+
+/**
+ * Immutable compressed-sparse-row graph over dense vertex indices 0..n-1.
+ * The outgoing edges of v are targets[offsets[v] .. offsets[v + 1]) with matching weights;
+ * an undirected edge appears in both endpoint lists. vertexIds maps dense indices back
+ * to the vertex values of the source Graph, in ascending order. A null weights array means
+ * every edge has the default weight, which halves the memory of large unweighted graphs.
+ */
+public class CompactGraph {
+    private final int[] vertexIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final boolean directed;
+
+    CompactGraph(int[] vertexIds, int[] offsets, int[] targets, double[] weights, boolean directed) {
+        this.vertexIds = vertexIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.directed = directed;
+    }
+
+    /**
+     * Snapshot a Graph; vertices are numbered in ascending id order.
+     */
+    public static CompactGraph fromGraph(Graph graph) {
+        int[] ids = new int[graph.getVertexCount()];
+        int n = 0;
+        for (int vertex : graph.getVertices()) {
+            ids[n++] = vertex;
+        }
+        Arrays.sort(ids);
+
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v] + graph.getNeighbors(ids[v]).size();
+        }
+        int[] targets = new int[offsets[n]];
+        double[] weights = new double[offsets[n]];
+        int e = 0;
+        for (int v = 0; v < n; v++) {
+            for (int neighbor : graph.getNeighbors(ids[v])) {
+                targets[e] = Arrays.binarySearch(ids, neighbor);
+                weights[e] = graph.getEdgeWeight(ids[v], neighbor);
+                e++;
+            }
+        }
+        return new CompactGraph(ids, offsets, targets, weights, graph.isDirected());
+    }
+
+    /**
+     * Wrap prebuilt CSR arrays (vertexIds ascending, offsets of length n + 1, weights may be null).
+     */
+    public static CompactGraph fromCsr(int[] vertexIds, int[] offsets, int[] targets, double[] weights, boolean directed) {
+        int n = vertexIds.length;
+        if (offsets.length != n + 1 || offsets[n] != targets.length
+                || (weights != null && weights.length != targets.length)) {
+            throw new IllegalArgumentException("Inconsistent CSR arrays");
+        }
+        return new CompactGraph(vertexIds, offsets, targets, weights, directed);
+    }
+
+    /**
+     * Build a graph over vertices 0..n-1 from parallel edge arrays (weights may be null for
+     * unit weights). Undirected edges are stored in both directions; duplicates are kept.
+     */
+    public static CompactGraph fromEdges(int n, int[] from, int[] to, double[] weight, int edgeCount, boolean directed) {
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[from[e] + 1]++;
+            if (!directed) {
+                offsets[to[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] next = Arrays.copyOf(offsets, n);
+        int[] targets = new int[offsets[n]];
+        double[] weights = weight != null ? new double[offsets[n]] : null;
+        for (int e = 0; e < edgeCount; e++) {
+            int slot = next[from[e]]++;
+            targets[slot] = to[e];
+            if (weights != null) {
+                weights[slot] = weight[e];
+            }
+            if (!directed) {
+                slot = next[to[e]]++;
+                targets[slot] = from[e];
+                if (weights != null) {
+                    weights[slot] = weight[e];
+                }
+            }
+        }
+        int[] ids = new int[n];
+        for (int v = 0; v < n; v++) {
+            ids[v] = v;
+        }
+        return new CompactGraph(ids, offsets, targets, weights, directed);
+    }
+
+    /**
+     * Build the transposed graph (every edge reversed); undirected graphs return themselves.
+     */
+    public CompactGraph reverse() {
+        if (!directed) {
+            return this;
+        }
+        int n = getVertexCount();
+        int[] reverseOffsets = new int[n + 1];
+        for (int target : targets) {
+            reverseOffsets[target + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            reverseOffsets[v + 1] += reverseOffsets[v];
+        }
+        int[] next = Arrays.copyOf(reverseOffsets, n);
+        int[] reverseTargets = new int[targets.length];
+        double[] reverseWeights = weights != null ? new double[weights.length] : null;
+        for (int v = 0; v < n; v++) {
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int slot = next[targets[e]]++;
+                reverseTargets[slot] = v;
+                if (reverseWeights != null) {
+                    reverseWeights[slot] = weights[e];
+                }
+            }
+        }
+        return new CompactGraph(vertexIds, reverseOffsets, reverseTargets, reverseWeights, true);
+    }
+
+    /**
+     * Same structure with a new per-slot weight array (null for unit weights); arrays are shared.
+     */
+    public CompactGraph withWeights(double[] weights) {
+        if (weights != null && weights.length != targets.length) {
+            throw new IllegalArgumentException("Expected " + targets.length + " weights, got " + weights.length);
+        }
+        return new CompactGraph(vertexIds, offsets, targets, weights, directed);
+    }
+
+    /**
+     * Get number of vertices.
+     */
+    public int getVertexCount() {
+        return vertexIds.length;
+    }
+
+    /**
+     * Estimated retained heap bytes of the CSR arrays (no weights array when unweighted).
+     */
+    public long getMemoryFootprintBytes() {
+        return estimateFootprintBytes(vertexIds.length, targets.length, weights != null);
+    }
+
+    /**
+     * Estimated heap bytes of a CSR graph with the given vertices and adjacency entries.
+     */
+    public static long estimateFootprintBytes(int vertices, long arcs, boolean weighted) {
+        return MemoryLayout.object(4, 1, 0) + MemoryLayout.array(4, vertices) + MemoryLayout.array(4, vertices + 1L)
+            + MemoryLayout.array(4, arcs) + (weighted ? MemoryLayout.array(8, arcs) : 0);
+    }
+
+    /**
+     * Get number of adjacency entries (undirected edges count twice).
+     */
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Get the vertex value of a dense index.
+     */
+    public int getVertexId(int index) {
+        return vertexIds[index];
+    }
+
+    /**
+     * Get the dense index of a vertex value (-1 if absent).
+     */
+    public int indexOf(int vertexId) {
+        int index = Arrays.binarySearch(vertexIds, vertexId);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Get first edge slot of a vertex.
+     */
+    public int firstEdge(int vertex) {
+        return offsets[vertex];
+    }
+
+    /**
+     * Get slot just past the last edge of a vertex.
+     */
+    public int endEdge(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    /**
+     * Get target vertex of an edge slot.
+     */
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * Get weight of an edge slot.
+     */
+    public double weight(int edge) {
+        return weights != null ? weights[edge] : Graph.DEFAULT_WEIGHT;
+    }
+
+    /**
+     * Check if per-edge weights are stored.
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Check if graph is directed.
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+}
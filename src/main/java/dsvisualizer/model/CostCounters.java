@@ -0,0 +1,113 @@
+package dsvisualizer.model;
+
+import java.util.Arrays;
+
+/**
+ * Algorithmic cost counters for the model classes: comparisons, pointer hops, element
+ * shifts, allocations and rotations.
+ *
+ * Counting is switched on at startup with -Ddsvisualizer.costs=true. ENABLED is a static
+ * final constant, so with counting off the JIT folds every count() call to nothing and the
+ * models run exactly as uninstrumented code. Each thread has its own counters, so the FX
+ * thread, the complexity experiment and load bursts never race; snapshots and totals read
+ * the calling thread's counters, so take them on the thread doing the measured work.
+ */
+public final class CostCounters {
+    public static final boolean ENABLED = Boolean.getBoolean("dsvisualizer.costs");
+
+    /**
+     * Kinds of elementary work counted.
+     */
+    public enum Cost {
+        COMPARISON("Comparisons"),
+        POINTER_HOP("Pointer hops"),
+        SHIFT("Element shifts"),
+        ALLOCATION("Allocations"),
+        ROTATION("Rotations");
+
+        private final String displayName;
+
+        Cost(String displayName) {
+            this.displayName = displayName;
+        }
+
+        /**
+         * Get name shown in the status panel and charts.
+         */
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        /**
+         * Find cost by display name (returns null if unknown).
+         */
+        public static Cost fromDisplayName(String name) {
+            for (Cost cost : values()) {
+                if (cost.displayName.equals(name)) {
+                    return cost;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[Cost.values().length]);
+
+    private CostCounters() {
+    }
+
+    public static void count(Cost cost) {
+        if (ENABLED) {
+            COUNTS.get()[cost.ordinal()]++;
+        }
+    }
+
+    public static void count(Cost cost, long amount) {
+        if (ENABLED) {
+            COUNTS.get()[cost.ordinal()] += amount;
+        }
+    }
+
+    public static long get(Cost cost) {
+        return COUNTS.get()[cost.ordinal()];
+    }
+
+    /**
+     * Copy of the calling thread's counters, indexed by Cost ordinal.
+     */
+    public static long[] snapshot() {
+        return COUNTS.get().clone();
+    }
+
+    /**
+     * Sum of the calling thread's counters.
+     */
+    public static long total() {
+        long total = 0;
+        for (long count : COUNTS.get()) {
+            total += count;
+        }
+        return total;
+    }
+
+    public static void reset() {
+        Arrays.fill(COUNTS.get(), 0);
+    }
+
+    /**
+     * Describe the difference between two snapshots, e.g. "3 comparisons, 2 pointer hops".
+     */
+    public static String describe(long[] before, long[] after) {
+        StringBuilder text = new StringBuilder();
+        for (Cost cost : Cost.values()) {
+            long delta = after[cost.ordinal()] - before[cost.ordinal()];
+            if (delta != 0) {
+                if (text.length() > 0) {
+                    text.append(", ");
+                }
+                text.append(delta).append(' ').append(cost.getDisplayName().toLowerCase());
+            }
+        }
+        return text.length() == 0 ? "no counted work" : text.toString();
+    }
+}
@@ -0,0 +1,233 @@
+package dsvisualizer.model;
+
+/**
+ * Array-backed d-ary heap of ints - min-heap or max-heap.
+ * The children of index i are d*i + 1 .. d*i + d; the parent of i is (i - 1) / d.
+ */
+public class DaryHeap {
+    private int[] heap;
+    private int size;
+    private int arity;
+    private boolean minHeap;
+    private int lastVisitCount;
+
+    public DaryHeap(int arity, boolean minHeap, int initialCapacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        this.heap = new int[Math.max(1, initialCapacity)];
+        this.arity = arity;
+        this.minHeap = minHeap;
+    }
+
+    /**
+     * Insert element and sift it up (returns its final index).
+     */
+    public int insert(int value) {
+        lastVisitCount = 0;
+        if (size == heap.length) {
+            CostCounters.count(CostCounters.Cost.ALLOCATION);
+            CostCounters.count(CostCounters.Cost.SHIFT, size);
+            int[] grown = new int[heap.length * 2];
+            System.arraycopy(heap, 0, grown, 0, size);
+            heap = grown;
+        }
+        return siftUp(size++, value);
+    }
+
+    /**
+     * Remove and return the top element (minimum or maximum).
+     */
+    public int extract() {
+        if (size == 0) {
+            throw new RuntimeException("Heap is empty");
+        }
+        lastVisitCount = 0;
+        int top = heap[0];
+        size--;
+        if (size > 0) {
+            siftDown(0, heap[size]);
+        }
+        return top;
+    }
+
+    /**
+     * Peek at the top element without removing.
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new RuntimeException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Replace the contents with values and restore heap order bottom-up in O(n).
+     */
+    public void heapify(int[] values) {
+        if (values.length > heap.length) {
+            heap = new int[values.length];
+        }
+        System.arraycopy(values, 0, heap, 0, values.length);
+        size = values.length;
+        rebuild();
+    }
+
+    /**
+     * Change the arity, rebuilding heap order for the new shape.
+     */
+    public void setArity(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        rebuild();
+    }
+
+    /**
+     * Switch between min-heap and max-heap order.
+     */
+    public void setMinHeap(boolean minHeap) {
+        this.minHeap = minHeap;
+        rebuild();
+    }
+
+    /**
+     * Get number of children per node.
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * Check if this is a min-heap.
+     */
+    public boolean isMinHeap() {
+        return minHeap;
+    }
+
+    /**
+     * Get index of the parent of index (-1 for the root).
+     */
+    public int parentOf(int index) {
+        return index == 0 ? -1 : (index - 1) / arity;
+    }
+
+    /**
+     * Get index of the first child of index.
+     */
+    public int firstChildOf(int index) {
+        return arity * index + 1;
+    }
+
+    /**
+     * Get element at heap index.
+     */
+    public int getElementAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return heap[index];
+    }
+
+    /**
+     * Get all elements in array order.
+     */
+    public int[] getElements() {
+        int[] result = new int[size];
+        System.arraycopy(heap, 0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * Get current size.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get number of slots compared by the last insert, extract or rebuild.
+     */
+    public int getLastVisitCount() {
+        return lastVisitCount;
+    }
+
+    /**
+     * Estimated retained heap bytes (the heap object and its int[]).
+     */
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(1, 4, 0) + MemoryLayout.intArray(heap);
+    }
+
+    /**
+     * Check if heap is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the heap.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    private void rebuild() {
+        lastVisitCount = 0;
+        // Leaves need no work; start from the last internal node
+        for (int i = (size - 2) / arity; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+
+    /**
+     * True if a belongs above b in this heap's order.
+     */
+    private boolean above(int a, int b) {
+        return minHeap ? a < b : a > b;
+    }
+
+    private int siftUp(int index, int value) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            lastVisitCount++;
+            CostCounters.count(CostCounters.Cost.COMPARISON);
+            if (!above(value, heap[parent])) {
+                break;
+            }
+            CostCounters.count(CostCounters.Cost.SHIFT);
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+        return index;
+    }
+
+    private void siftDown(int index, int value) {
+        while (true) {
+            int first = arity * index + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            // (last - first - 1) to pick the best child, one more against the sifted value
+            lastVisitCount += last - first;
+            CostCounters.count(CostCounters.Cost.COMPARISON, last - first);
+            int best = first;
+            for (int c = first + 1; c < last; c++) {
+                if (above(heap[c], heap[best])) {
+                    best = c;
+                }
+            }
+            if (!above(heap[best], value)) {
+                break;
+            }
+            CostCounters.count(CostCounters.Cost.SHIFT);
+            heap[index] = heap[best];
+            index = best;
+        }
+        heap[index] = value;
+    }
+}
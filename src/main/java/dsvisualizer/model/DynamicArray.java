@@ -1,17 +1,54 @@
 package dsvisualizer.model;
 
+import dsvisualizer.algorithm.SortAlgorithm;
+import dsvisualizer.algorithm.SortEngine;
+import dsvisualizer.algorithm.SortListener;
+import dsvisualizer.algorithm.SortStats;
+
 /**
  * Array data structure - Fixed size, index-based operations.
  */
-public class DynamicArray {
+public class DynamicArray implements IntArrayView {
+    /**
+     * Physical layout: CONTIGUOUS keeps the free space at the end and shifts on every
+     * positional insert/delete; GAP_BUFFER leaves the free space (the gap) wherever the
+     * last edit happened, so repeated edits near the same position only move a few elements.
+     */
+    public enum StorageMode {
+        CONTIGUOUS,
+        GAP_BUFFER
+    }
+
+    /**
+     * Optional range-query layer: SEGMENT_TREE answers sum/min/max with lazy range add;
+     * FENWICK_TREE answers sums only, with a smaller footprint.
+     */
+    public enum RangeIndexType {
+        NONE,
+        SEGMENT_TREE,
+        FENWICK_TREE
+    }
+
+    // Elements live in data[0, gapStart) and data[gapEnd, capacity)
     private int[] data;
     private int size;
     private int capacity;
+    private int gapStart;
+    private int gapEnd;
+    private StorageMode storageMode;
+    private IntPositionIndex valueIndex; // null when the search index is disabled
+    private RangeIndex rangeIndex;      // null when no range index is attached
+    private RangeIndexType rangeIndexType;
+    private boolean rangeIndexStale;
 
     public DynamicArray(int initialCapacity) {
         this.capacity = initialCapacity;
         this.data = new int[capacity];
         this.size = 0;
+        this.gapStart = 0;
+        this.gapEnd = capacity;
+        this.storageMode = StorageMode.CONTIGUOUS;
+        this.rangeIndexType = RangeIndexType.NONE;
     }
 
     /**
@@ -24,11 +61,26 @@ public class DynamicArray {
         if (size >= capacity) {
             resize();
         }
-        // Shift elements to the right
-        for (int i = size; i > index; i--) {
-            data[i] = data[i - 1];
+        if (storageMode == StorageMode.GAP_BUFFER) {
+            moveGap(index);
+            data[gapStart] = value;
+        } else {
+            // Shift elements to the right
+            CostCounters.count(CostCounters.Cost.SHIFT, size - index);
+            System.arraycopy(data, index, data, index + 1, size - index);
+            data[index] = value;
+        }
+        gapStart++;
+        if (valueIndex != null) {
+            valueIndex.inserted(value, index, index < size);
+        }
+        if (rangeIndex != null && !rangeIndexStale) {
+            if (index == size) {
+                rangeIndex.append(value);
+            } else {
+                rangeIndexStale = true;
+            }
         }
-        data[index] = value;
         size++;
         return true;
     }
@@ -40,10 +92,27 @@ public class DynamicArray {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Invalid index: " + index);
         }
-        int value = data[index];
-        // Shift elements to the left
-        for (int i = index; i < size - 1; i++) {
-            data[i] = data[i + 1];
+        int value;
+        if (storageMode == StorageMode.GAP_BUFFER) {
+            moveGap(index);
+            value = data[gapEnd];
+            gapEnd++;
+        } else {
+            value = data[index];
+            // Shift elements to the left
+            CostCounters.count(CostCounters.Cost.SHIFT, size - index - 1);
+            System.arraycopy(data, index + 1, data, index, size - index - 1);
+            gapStart--;
+        }
+        if (valueIndex != null) {
+            valueIndex.removed(value, index, index < size - 1);
+        }
+        if (rangeIndex != null && !rangeIndexStale) {
+            if (index == size - 1) {
+                rangeIndex.removeLast();
+            } else {
+                rangeIndexStale = true;
+            }
         }
         size--;
         return value;
@@ -56,19 +125,403 @@ public class DynamicArray {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Invalid index: " + index);
         }
-        return data[index];
+        return data[index < gapStart ? index : index + (gapEnd - gapStart)];
+    }
+
+    /**
+     * Replace element at specific index (returns the old value).
+     */
+    public int set(int index, int value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        int physical = index < gapStart ? index : index + (gapEnd - gapStart);
+        int old = data[physical];
+        data[physical] = value;
+        if (valueIndex != null) {
+            valueIndex.replaced(old, value, index);
+        }
+        if (rangeIndex != null && !rangeIndexStale) {
+            rangeIndex.set(index, old, value);
+        }
+        return old;
     }
 
     /**
      * Search for element (returns index or -1).
      */
     public int search(int value) {
-        for (int i = 0; i < size; i++) {
-            if (data[i] == value) {
-                return i;
+        if (valueIndex != null) {
+            int position = valueIndex.firstPosition(value);
+            if (position == IntPositionIndex.NOT_FOUND && valueIndex.isStale()) {
+                repairIndex();
+                position = valueIndex.firstPosition(value);
             }
+            return position == IntPositionIndex.NOT_FOUND ? -1 : position;
+        }
+        ArrayKernels kernels = ArrayKernels.get();
+        int found = kernels.indexOf(data, 0, gapStart, value);
+        if (found < 0) {
+            found = kernels.indexOf(data, gapEnd, capacity, value);
+            found = found < 0 ? -1 : found - (gapEnd - gapStart);
+        }
+        // A linear scan compares every element up to the match (or all of them)
+        CostCounters.count(CostCounters.Cost.COMPARISON, found < 0 ? size : found + 1);
+        return found;
+    }
+
+    /**
+     * Count occurrences of a value.
+     */
+    public int count(int value) {
+        ArrayKernels kernels = ArrayKernels.get();
+        return kernels.count(data, 0, gapStart, value) + kernels.count(data, gapEnd, capacity, value);
+    }
+
+    /**
+     * Get minimum element.
+     */
+    public int min() {
+        if (size == 0) {
+            throw new RuntimeException("Array is empty");
+        }
+        ArrayKernels kernels = ArrayKernels.get();
+        return Math.min(kernels.min(data, 0, gapStart), kernels.min(data, gapEnd, capacity));
+    }
+
+    /**
+     * Get maximum element.
+     */
+    public int max() {
+        if (size == 0) {
+            throw new RuntimeException("Array is empty");
+        }
+        ArrayKernels kernels = ArrayKernels.get();
+        return Math.max(kernels.max(data, 0, gapStart), kernels.max(data, gapEnd, capacity));
+    }
+
+    /**
+     * Get sum of all elements.
+     */
+    public long sum() {
+        ArrayKernels kernels = ArrayKernels.get();
+        return kernels.sum(data, 0, gapStart) + kernels.sum(data, gapEnd, capacity);
+    }
+
+    /**
+     * Index of first element greater than threshold (returns -1 if none).
+     */
+    public int indexOfFirstGreaterThan(int threshold) {
+        ArrayKernels kernels = ArrayKernels.get();
+        int found = kernels.indexOfFirstGreaterThan(data, 0, gapStart, threshold);
+        if (found >= 0) {
+            return found;
         }
-        return -1;
+        found = kernels.indexOfFirstGreaterThan(data, gapEnd, capacity, threshold);
+        return found < 0 ? -1 : found - (gapEnd - gapStart);
+    }
+
+    /**
+     * Sum of elements in [from, to).
+     */
+    public long rangeSum(int from, int to) {
+        checkRange(from, to);
+        if (freshRangeIndex() != null) {
+            return rangeIndex.rangeSum(from, to);
+        }
+        long result = 0;
+        ArrayKernels kernels = ArrayKernels.get();
+        if (from < gapStart) {
+            result += kernels.sum(data, from, Math.min(to, gapStart));
+        }
+        if (to > gapStart) {
+            int shift = gapEnd - gapStart;
+            result += kernels.sum(data, Math.max(from, gapStart) + shift, to + shift);
+        }
+        return result;
+    }
+
+    /**
+     * Minimum of elements in [from, to).
+     */
+    public int rangeMin(int from, int to) {
+        checkNonEmptyRange(from, to);
+        if (rangeIndex instanceof MinMaxRangeIndex) {
+            return ((MinMaxRangeIndex) freshRangeIndex()).rangeMin(from, to);
+        }
+        int result = Integer.MAX_VALUE;
+        ArrayKernels kernels = ArrayKernels.get();
+        if (from < gapStart) {
+            result = Math.min(result, kernels.min(data, from, Math.min(to, gapStart)));
+        }
+        if (to > gapStart) {
+            int shift = gapEnd - gapStart;
+            result = Math.min(result, kernels.min(data, Math.max(from, gapStart) + shift, to + shift));
+        }
+        return result;
+    }
+
+    /**
+     * Maximum of elements in [from, to).
+     */
+    public int rangeMax(int from, int to) {
+        checkNonEmptyRange(from, to);
+        if (rangeIndex instanceof MinMaxRangeIndex) {
+            return ((MinMaxRangeIndex) freshRangeIndex()).rangeMax(from, to);
+        }
+        int result = Integer.MIN_VALUE;
+        ArrayKernels kernels = ArrayKernels.get();
+        if (from < gapStart) {
+            result = Math.max(result, kernels.max(data, from, Math.min(to, gapStart)));
+        }
+        if (to > gapStart) {
+            int shift = gapEnd - gapStart;
+            result = Math.max(result, kernels.max(data, Math.max(from, gapStart) + shift, to + shift));
+        }
+        return result;
+    }
+
+    /**
+     * Add delta to every element in [from, to); fails without changes if any element would overflow.
+     */
+    public void rangeAdd(int from, int to, int delta) {
+        checkRange(from, to);
+        if (from == to || delta == 0) {
+            return;
+        }
+        long low = (long) rangeMin(from, to) + delta;
+        long high = (long) rangeMax(from, to) + delta;
+        if (low < Integer.MIN_VALUE || high > Integer.MAX_VALUE) {
+            throw new ArithmeticException("Range add overflows int");
+        }
+        int shift = gapEnd - gapStart;
+        for (int i = from; i < to; i++) {
+            data[i < gapStart ? i : i + shift] += delta;
+        }
+        invalidateIndexFrom(from);
+        if (rangeIndex != null && !rangeIndexStale && !rangeIndex.rangeAdd(from, to, delta)) {
+            rangeIndexStale = true;
+        }
+    }
+
+    /**
+     * Stored segments the range index combines for a query over [from, to), as flat
+     * (start, end, sign) triples; empty when no range index is attached.
+     */
+    public int[] rangeSegments(int from, int to) {
+        checkRange(from, to);
+        return freshRangeIndex() == null ? new int[0] : rangeIndex.coveringSegments(from, to);
+    }
+
+    /**
+     * Attach, replace or detach the range-query index.
+     */
+    public void setRangeIndex(RangeIndexType type) {
+        rangeIndexType = type;
+        switch (type) {
+            case SEGMENT_TREE:
+                rangeIndex = new SegmentTree();
+                break;
+            case FENWICK_TREE:
+                rangeIndex = new FenwickTree();
+                break;
+            default:
+                rangeIndex = null;
+        }
+        rangeIndexStale = true;
+    }
+
+    /**
+     * Get the attached range index type.
+     */
+    public RangeIndexType getRangeIndexType() {
+        return rangeIndexType;
+    }
+
+    /**
+     * Get memory overhead of the range index in bytes (0 when detached).
+     */
+    public long getRangeIndexMemoryBytes() {
+        return rangeIndex == null ? 0 : rangeIndex.getMemoryFootprintBytes();
+    }
+
+    /**
+     * Range index rebuilt if a shifting edit invalidated it (null when detached).
+     */
+    private RangeIndex freshRangeIndex() {
+        if (rangeIndex != null && rangeIndexStale) {
+            rangeIndex.build(this);
+            rangeIndexStale = false;
+        }
+        return rangeIndex;
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range: [" + from + ", " + to + ")");
+        }
+    }
+
+    private void checkNonEmptyRange(int from, int to) {
+        checkRange(from, to);
+        if (from == to) {
+            throw new RuntimeException("Range is empty");
+        }
+    }
+
+    /**
+     * Append all values at the end; the search index picks them up lazily on next search.
+     */
+    public void addAll(int[] values) {
+        while (size + values.length > capacity) {
+            resize();
+        }
+        moveGap(size);
+        invalidateIndexFrom(size);
+        System.arraycopy(values, 0, data, size, values.length);
+        size += values.length;
+        gapStart = size;
+        rangeIndexStale = true;
+    }
+
+    /**
+     * Append all values remaining in a buffer, reading straight into the backing array.
+     */
+    public void addAll(java.nio.IntBuffer values) {
+        int count = values.remaining();
+        while (size + count > capacity) {
+            resize();
+        }
+        moveGap(size);
+        invalidateIndexFrom(size);
+        values.get(data, size, count);
+        size += count;
+        gapStart = size;
+        rangeIndexStale = true;
+    }
+
+    /**
+     * Write all elements into a buffer without an intermediate copy.
+     */
+    public void writeTo(java.nio.IntBuffer target) {
+        target.put(data, 0, gapStart);
+        target.put(data, gapEnd, capacity - gapEnd);
+    }
+
+    /**
+     * Write count elements starting at index from into a buffer.
+     */
+    public void writeTo(java.nio.IntBuffer target, int from, int count) {
+        checkRange(from, from + count);
+        int beforeGap = Math.max(0, Math.min(count, gapStart - from));
+        target.put(data, from, beforeGap);
+        target.put(data, from + beforeGap + (gapEnd - gapStart), count - beforeGap);
+    }
+
+    /**
+     * Sort in place on the backing array, reporting element events to listener (may be null).
+     */
+    public SortStats sort(SortAlgorithm algorithm, SortListener listener) {
+        moveGap(size);
+        SortStats stats = SortEngine.sort(data, 0, size, algorithm, listener);
+        invalidateIndexFrom(0);
+        rangeIndexStale = true;
+        return stats;
+    }
+
+    /**
+     * Sort in place without instrumentation.
+     */
+    public void sortFast(SortAlgorithm algorithm) {
+        moveGap(size);
+        SortEngine.sortFast(data, 0, size, algorithm);
+        invalidateIndexFrom(0);
+        rangeIndexStale = true;
+    }
+
+    /**
+     * Switch physical layout; contents and indices are unchanged.
+     */
+    public void setStorageMode(StorageMode mode) {
+        if (mode == StorageMode.CONTIGUOUS) {
+            moveGap(size);
+        }
+        this.storageMode = mode;
+    }
+
+    /**
+     * Get current physical layout.
+     */
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    /**
+     * Get logical index where the gap currently sits (equals size when the gap is at the end).
+     */
+    public int getGapStart() {
+        return gapStart;
+    }
+
+    /**
+     * Get number of free slots in the gap.
+     */
+    public int getGapLength() {
+        return gapEnd - gapStart;
+    }
+
+    /**
+     * Enable or disable the value -> positions search index.
+     */
+    public void setIndexEnabled(boolean enabled) {
+        if (enabled && valueIndex == null) {
+            valueIndex = new IntPositionIndex(size);
+            valueIndex.invalidateFrom(0);
+        } else if (!enabled) {
+            valueIndex = null;
+        }
+    }
+
+    /**
+     * Check if the search index is enabled.
+     */
+    public boolean isIndexEnabled() {
+        return valueIndex != null;
+    }
+
+    /**
+     * Get memory overhead of the search index in bytes (0 when disabled).
+     */
+    public long getIndexMemoryBytes() {
+        return valueIndex == null ? 0 : valueIndex.getMemoryFootprintBytes();
+    }
+
+    /**
+     * Re-add the positions at or after the index's watermark; the prefix before it is untouched.
+     */
+    private void repairIndex() {
+        int from = Math.max(0, valueIndex.getValidLimit());
+        valueIndex.dropStale();
+        for (int i = from; i < size; i++) {
+            valueIndex.add(get(i), i);
+        }
+        valueIndex.markValid();
+    }
+
+    private void invalidateIndexFrom(int index) {
+        if (valueIndex != null) {
+            valueIndex.invalidateFrom(index);
+        }
+    }
+
+    @Override
+    public long length() {
+        return size;
+    }
+
+    @Override
+    public int valueAt(long index) {
+        return get((int) index);
     }
 
     /**
@@ -78,6 +531,14 @@ public class DynamicArray {
         return size;
     }
 
+    /**
+     * Estimated retained heap bytes: the int[] at full capacity plus any search or range index.
+     */
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(5, 6, 0) + MemoryLayout.array(4, capacity)
+            + getIndexMemoryBytes() + getRangeIndexMemoryBytes();
+    }
+
     /**
      * Get capacity.
      */
@@ -98,6 +559,12 @@ public class DynamicArray {
     public void clear() {
         size = 0;
         data = new int[capacity];
+        gapStart = 0;
+        gapEnd = capacity;
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
+        rangeIndexStale = true;
     }
 
     /**
@@ -105,18 +572,43 @@ public class DynamicArray {
      */
     public int[] getElements() {
         int[] result = new int[size];
-        System.arraycopy(data, 0, result, 0, size);
+        System.arraycopy(data, 0, result, 0, gapStart);
+        System.arraycopy(data, gapEnd, result, gapStart, capacity - gapEnd);
         return result;
     }
 
     /**
-     * Resize internal array when capacity is exceeded.
+     * Move the gap so it starts at logical index position.
+     */
+    private void moveGap(int position) {
+        if (position < gapStart) {
+            int count = gapStart - position;
+            CostCounters.count(CostCounters.Cost.SHIFT, count);
+            System.arraycopy(data, position, data, gapEnd - count, count);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (position > gapStart) {
+            int count = position - gapStart;
+            CostCounters.count(CostCounters.Cost.SHIFT, count);
+            System.arraycopy(data, gapEnd, data, gapStart, count);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Resize internal array when capacity is exceeded (the gap moves to the end).
      */
     private void resize() {
-        int newCapacity = capacity * 2;
+        int newCapacity = Math.max(1, capacity * 2);
+        CostCounters.count(CostCounters.Cost.ALLOCATION);
+        CostCounters.count(CostCounters.Cost.SHIFT, size);
         int[] newData = new int[newCapacity];
-        System.arraycopy(data, 0, newData, 0, size);
+        System.arraycopy(data, 0, newData, 0, gapStart);
+        System.arraycopy(data, gapEnd, newData, gapStart, capacity - gapEnd);
         data = newData;
         capacity = newCapacity;
+        gapStart = size;
+        gapEnd = newCapacity;
     }
 }
@@ -0,0 +1,118 @@
+package dsvisualizer.model;
+
+import java.util.Arrays;
+
+/**
+ * Fenwick (binary indexed) tree for prefix and range sums with point updates.
+ * tree[i] (1-based) holds the sum of elements [i - lowbit(i), i). Min and max are not
+ * invertible, so they are left to the caller.
+ */
+public class FenwickTree implements RangeIndex {
+    private long[] tree;
+    private int size;
+
+    public FenwickTree() {
+        this.tree = new long[2];
+    }
+
+    @Override
+    public void build(IntArrayView values) {
+        int n = (int) values.length();
+        tree = new long[Math.max(2, n + 1)];
+        for (int i = 1; i <= n; i++) {
+            tree[i] += values.valueAt(i - 1);
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                tree[parent] += tree[i];
+            }
+        }
+        size = n;
+    }
+
+    @Override
+    public void append(int value) {
+        if (size + 1 >= tree.length) {
+            tree = Arrays.copyOf(tree, tree.length * 2);
+        }
+        int i = size + 1;
+        // tree[i] covers [i - lowbit(i), i): the new value plus elements already present
+        tree[i] = value + prefixSum(i - 1) - prefixSum(i - (i & -i));
+        size++;
+    }
+
+    @Override
+    public void removeLast() {
+        if (size == 0) {
+            throw new RuntimeException("Index is empty");
+        }
+        size--;
+    }
+
+    @Override
+    public void set(int index, int oldValue, int newValue) {
+        long delta = (long) newValue - oldValue;
+        for (int i = index + 1; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    @Override
+    public boolean rangeAdd(int from, int to, int delta) {
+        return false;
+    }
+
+    @Override
+    public long rangeSum(int from, int to) {
+        // Walk both prefixes down only until they meet, so shared segments are never read
+        long result = 0;
+        while (to != from) {
+            if (to > from) {
+                result += tree[to];
+                to -= to & -to;
+            } else {
+                result -= tree[from];
+                from -= from & -from;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int[] coveringSegments(int from, int to) {
+        int[] out = new int[3 * 2 * 32];
+        int count = 0;
+        while (to != from) {
+            if (to > from) {
+                count = addSegment(out, count, to, 1);
+                to -= to & -to;
+            } else {
+                count = addSegment(out, count, from, -1);
+                from -= from & -from;
+            }
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    @Override
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(1, 1, 0) + MemoryLayout.array(8, tree.length);
+    }
+
+    /**
+     * Sum of the first count elements.
+     */
+    public long prefixSum(int count) {
+        long result = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            result += tree[i];
+        }
+        return result;
+    }
+
+    private static int addSegment(int[] out, int n, int i, int sign) {
+        out[n] = i - (i & -i);
+        out[n + 1] = i;
+        out[n + 2] = sign;
+        return n + 3;
+    }
+}
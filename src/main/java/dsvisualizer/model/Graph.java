@@ -4,16 +4,34 @@ import java.util.*;
 
 /**
  * Graph data structure using adjacency list.
+ * Edge weights live in parallel primitive arrays (one slot per edge; an undirected edge
+ * has a single slot), located through the primitive edgeSlots map.
+ * A union-find forest tracks connected components (weakly connected for directed graphs):
+ * additions update it in place, removals mark it stale until the next query rebuilds it.
  */
 public class Graph {
+    public static final double DEFAULT_WEIGHT = 1.0;
+
     private Map<Integer, List<Integer>> adjacencyList;
     private boolean isDirected;
     private int vertexCount;
+    private int[] edgeFrom;
+    private int[] edgeTo;
+    private double[] edgeWeight;
+    private int edgeCount;
+    private LongIntMap edgeSlots;
+    private UnionFind components;
+    private boolean componentsStale;
 
     public Graph(boolean isDirected) {
         this.adjacencyList = new HashMap<>();
         this.isDirected = isDirected;
         this.vertexCount = 0;
+        this.edgeFrom = new int[8];
+        this.edgeTo = new int[8];
+        this.edgeWeight = new double[8];
+        this.edgeSlots = new LongIntMap();
+        this.components = new UnionFind();
     }
 
     /**
@@ -23,27 +41,57 @@ public class Graph {
         if (!adjacencyList.containsKey(vertex)) {
             adjacencyList.put(vertex, new ArrayList<>());
             vertexCount++;
+            if (!componentsStale) {
+                components.makeSet(vertex);
+            }
         }
     }
 
     /**
-     * Add edge between two vertices.
+     * Add edge between two vertices with the default weight.
      */
     public void addEdge(int from, int to) {
+        addEdge(from, to, DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Add weighted edge between two vertices (updates the weight if the edge exists).
+     */
+    public void addEdge(int from, int to, double weight) {
+        if (Double.isNaN(weight) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Invalid edge weight: " + weight);
+        }
+        int slot = findEdgeSlot(from, to);
+        if (slot != LongIntMap.NOT_FOUND) {
+            edgeWeight[slot] = weight;
+            return;
+        }
+        if (edgeCount == edgeFrom.length) {
+            edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+            edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+            edgeWeight = Arrays.copyOf(edgeWeight, edgeCount * 2);
+        }
+        edgeFrom[edgeCount] = from;
+        edgeTo[edgeCount] = to;
+        edgeWeight[edgeCount] = weight;
+        edgeSlots.put(edgeKey(from, to), edgeCount);
+        edgeCount++;
+
         if (!adjacencyList.containsKey(from)) {
             addVertex(from);
         }
         if (!adjacencyList.containsKey(to)) {
             addVertex(to);
         }
-        
-        if (!adjacencyList.get(from).contains(to)) {
-            adjacencyList.get(from).add(to);
-        }
-        
-        if (!isDirected && !adjacencyList.get(to).contains(from)) {
+
+        // A new slot means the adjacency entries are missing too, so no list scan is needed
+        adjacencyList.get(from).add(to);
+        if (!isDirected && from != to) {
             adjacencyList.get(to).add(from);
         }
+        if (!componentsStale) {
+            components.union(from, to);
+        }
     }
 
     /**
@@ -57,15 +105,26 @@ public class Graph {
         for (List<Integer> neighbors : adjacencyList.values()) {
             neighbors.remove(Integer.valueOf(vertex));
         }
+        for (int slot = edgeCount - 1; slot >= 0; slot--) {
+            if (edgeFrom[slot] == vertex || edgeTo[slot] == vertex) {
+                removeEdgeSlot(slot);
+            }
+        }
         
         adjacencyList.remove(vertex);
         vertexCount--;
+        componentsStale = true;
     }
 
     /**
      * Remove edge between two vertices.
      */
     public void removeEdge(int from, int to) {
+        int slot = findEdgeSlot(from, to);
+        if (slot != LongIntMap.NOT_FOUND) {
+            removeEdgeSlot(slot);
+            componentsStale = true;
+        }
         if (adjacencyList.containsKey(from)) {
             adjacencyList.get(from).remove(Integer.valueOf(to));
         }
@@ -74,6 +133,122 @@ public class Graph {
         }
     }
 
+    /**
+     * Check if two vertices are in the same connected component.
+     */
+    public boolean connected(int u, int v) {
+        return getComponentForest().connected(u, v);
+    }
+
+    /**
+     * Get number of connected components (weakly connected for directed graphs).
+     */
+    public int componentCount() {
+        return getComponentForest().getSetCount();
+    }
+
+    /**
+     * Get the union-find forest of the components, rebuilding it first if an edge or vertex
+     * was removed since the last query.
+     */
+    public UnionFind getComponentForest() {
+        if (componentsStale) {
+            components = new UnionFind(vertexCount);
+            for (int vertex : adjacencyList.keySet()) {
+                components.makeSet(vertex);
+            }
+            for (int slot = 0; slot < edgeCount; slot++) {
+                components.union(edgeFrom[slot], edgeTo[slot]);
+            }
+            componentsStale = false;
+        }
+        return components;
+    }
+
+    /**
+     * Check if the component forest will be rebuilt on the next query.
+     */
+    public boolean isComponentForestStale() {
+        return componentsStale;
+    }
+
+    /**
+     * Get weight of the edge between two vertices.
+     */
+    public double getEdgeWeight(int from, int to) {
+        int slot = findEdgeSlot(from, to);
+        if (slot == LongIntMap.NOT_FOUND) {
+            throw new RuntimeException("Edge not found: " + from + " -> " + to);
+        }
+        return edgeWeight[slot];
+    }
+
+    /**
+     * Get number of edges (an undirected edge counts once).
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Get source vertex of the edge in a slot.
+     */
+    public int getEdgeFrom(int slot) {
+        return edgeFrom[slot];
+    }
+
+    /**
+     * Get target vertex of the edge in a slot.
+     */
+    public int getEdgeTo(int slot) {
+        return edgeTo[slot];
+    }
+
+    /**
+     * Get weight of the edge in a slot.
+     */
+    public double getEdgeWeightAt(int slot) {
+        return edgeWeight[slot];
+    }
+
+    /**
+     * Check if any edge has a weight other than the default.
+     */
+    public boolean isWeighted() {
+        for (int slot = 0; slot < edgeCount; slot++) {
+            if (edgeWeight[slot] != DEFAULT_WEIGHT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int findEdgeSlot(int from, int to) {
+        int slot = edgeSlots.get(edgeKey(from, to));
+        if (slot == LongIntMap.NOT_FOUND && !isDirected) {
+            slot = edgeSlots.get(edgeKey(to, from));
+        }
+        return slot;
+    }
+
+    /**
+     * Remove a slot by moving the last edge into it.
+     */
+    private void removeEdgeSlot(int slot) {
+        edgeSlots.remove(edgeKey(edgeFrom[slot], edgeTo[slot]));
+        int last = --edgeCount;
+        if (slot != last) {
+            edgeFrom[slot] = edgeFrom[last];
+            edgeTo[slot] = edgeTo[last];
+            edgeWeight[slot] = edgeWeight[last];
+            edgeSlots.put(edgeKey(edgeFrom[slot], edgeTo[slot]), slot);
+        }
+    }
+
+    private static long edgeKey(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
     /**
      * Breadth-First Search from a starting vertex.
      */
@@ -94,6 +269,7 @@ public class Graph {
             result.add(vertex);
             
             for (int neighbor : adjacencyList.get(vertex)) {
+                CostCounters.count(CostCounters.Cost.POINTER_HOP);
                 if (!visited.contains(neighbor)) {
                     visited.add(neighbor);
                     queue.add(neighbor);
@@ -113,24 +289,28 @@ public class Graph {
             return result;
         }
         
+        // Explicit stack of neighbor iterators visits vertices in the same order as recursion
         Set<Integer> visited = new HashSet<>();
-        dfsRecursive(start, visited, result);
-        
-        return result;
-    }
+        Deque<Iterator<Integer>> stack = new ArrayDeque<>();
+        visited.add(start);
+        result.add(start);
+        stack.push(adjacencyList.get(start).iterator());
 
-    /**
-     * Recursive DFS helper.
-     */
-    private void dfsRecursive(int vertex, Set<Integer> visited, List<Integer> result) {
-        visited.add(vertex);
-        result.add(vertex);
-        
-        for (int neighbor : adjacencyList.get(vertex)) {
-            if (!visited.contains(neighbor)) {
-                dfsRecursive(neighbor, visited, result);
+        while (!stack.isEmpty()) {
+            Iterator<Integer> neighbors = stack.peek();
+            if (!neighbors.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            int neighbor = neighbors.next();
+            CostCounters.count(CostCounters.Cost.POINTER_HOP);
+            if (visited.add(neighbor)) {
+                result.add(neighbor);
+                stack.push(adjacencyList.get(neighbor).iterator());
             }
         }
+        
+        return result;
     }
 
     /**
@@ -150,6 +330,30 @@ public class Graph {
         return new ArrayList<>(adjacencyList.get(vertex));
     }
 
+    /**
+     * Visit neighbors of a vertex in insertion order without copying the list.
+     */
+    public void forEachNeighbor(int vertex, java.util.function.IntConsumer action) {
+        List<Integer> neighbors = adjacencyList.get(vertex);
+        if (neighbors == null) {
+            return;
+        }
+        for (int neighbor : neighbors) {
+            action.accept(neighbor);
+        }
+    }
+
+    /**
+     * Get total number of adjacency entries (undirected edges count twice).
+     */
+    public long getAdjacencyEntryCount() {
+        long count = 0;
+        for (List<Integer> neighbors : adjacencyList.values()) {
+            count += neighbors.size();
+        }
+        return count;
+    }
+
     /**
      * Check if vertex exists.
      */
@@ -161,7 +365,7 @@ public class Graph {
      * Check if edge exists.
      */
     public boolean hasEdge(int from, int to) {
-        return adjacencyList.containsKey(from) && adjacencyList.get(from).contains(to);
+        return findEdgeSlot(from, to) != LongIntMap.NOT_FOUND;
     }
 
     /**
@@ -171,6 +375,19 @@ public class Graph {
         return vertexCount;
     }
 
+    /**
+     * Estimated retained heap bytes: the boxed adjacency map and lists, the edge slot map,
+     * the primitive edge arrays and the component forest.
+     */
+    public long getMemoryFootprintBytes() {
+        long bytes = MemoryLayout.object(6, 4, 0) + MemoryLayout.hashMap(adjacencyList.size());
+        for (Map.Entry<Integer, List<Integer>> entry : adjacencyList.entrySet()) {
+            bytes += MemoryLayout.boxedInteger(entry.getKey()) + MemoryLayout.arrayListOfIntegers(entry.getValue());
+        }
+        return bytes + edgeSlots.getMemoryFootprintBytes() + MemoryLayout.intArray(edgeFrom) + MemoryLayout.intArray(edgeTo)
+            + MemoryLayout.array(8, edgeWeight.length) + components.getMemoryFootprintBytes();
+    }
+
     /**
      * Check if graph is empty.
      */
@@ -184,6 +401,35 @@ public class Graph {
     public void clear() {
         adjacencyList.clear();
         vertexCount = 0;
+        edgeCount = 0;
+        edgeSlots.clear();
+        components.clear();
+        componentsStale = false;
+    }
+
+    /**
+     * Switch between directed and undirected, keeping vertices and weights.
+     * An undirected edge becomes a single edge in the direction it was added; opposite
+     * directed edges collapse into one undirected edge keeping the weight found first.
+     */
+    public void setDirected(boolean directed) {
+        if (directed == isDirected) {
+            return;
+        }
+        int[] from = Arrays.copyOf(edgeFrom, edgeCount);
+        int[] to = Arrays.copyOf(edgeTo, edgeCount);
+        double[] weight = Arrays.copyOf(edgeWeight, edgeCount);
+        for (List<Integer> neighbors : adjacencyList.values()) {
+            neighbors.clear();
+        }
+        edgeCount = 0;
+        edgeSlots.clear();
+        isDirected = directed;
+        for (int slot = 0; slot < from.length; slot++) {
+            if (!hasEdge(from[slot], to[slot])) {
+                addEdge(from[slot], to[slot], weight[slot]);
+            }
+        }
     }
 
     /**
@@ -0,0 +1,178 @@
+package dsvisualizer.model;
+
+import java.util.Arrays;
+
+/**
+ * Indexed d-ary min-heap over items 0..capacity-1 with double keys.
+ * Tracks each item's heap position so decreaseKey runs in O(log_d n), as Dijkstra and Prim need.
+ */
+public class IndexedHeap {
+    private static final int ABSENT = -1;
+
+    private final int arity;
+    private final int[] heap;      // heap slot -> item
+    private final int[] position;  // item -> heap slot, or ABSENT
+    private final double[] keys;   // item -> key
+    private int size;
+
+    public IndexedHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new double[capacity];
+        Arrays.fill(position, ABSENT);
+    }
+
+    /**
+     * Insert an item that is not in the heap.
+     */
+    public void insert(int item, double key) {
+        if (position[item] != ABSENT) {
+            throw new IllegalArgumentException("Item already in heap: " + item);
+        }
+        keys[item] = key;
+        position[item] = size;
+        heap[size] = item;
+        siftUp(size++);
+    }
+
+    /**
+     * Lower the key of an item already in the heap.
+     */
+    public void decreaseKey(int item, double key) {
+        if (position[item] == ABSENT) {
+            throw new IllegalArgumentException("Item not in heap: " + item);
+        }
+        if (key > keys[item]) {
+            throw new IllegalArgumentException("New key is larger than current key");
+        }
+        keys[item] = key;
+        siftUp(position[item]);
+    }
+
+    /**
+     * Insert the item, or lower its key if it is present with a larger key (returns true if changed).
+     */
+    public boolean insertOrDecrease(int item, double key) {
+        if (position[item] == ABSENT) {
+            insert(item, key);
+            return true;
+        }
+        if (key < keys[item]) {
+            decreaseKey(item, key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Remove and return the item with the smallest key.
+     */
+    public int extractMin() {
+        if (size == 0) {
+            throw new RuntimeException("Heap is empty");
+        }
+        int top = heap[0];
+        position[top] = ABSENT;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Get the smallest key without removing.
+     */
+    public double peekKey() {
+        if (size == 0) {
+            throw new RuntimeException("Heap is empty");
+        }
+        return keys[heap[0]];
+    }
+
+    /**
+     * Get the key last assigned to an item.
+     */
+    public double keyOf(int item) {
+        return keys[item];
+    }
+
+    /**
+     * Check if an item is currently in the heap.
+     */
+    public boolean contains(int item) {
+        return position[item] != ABSENT;
+    }
+
+    /**
+     * Get current size.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Check if heap is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the heap.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int slot) {
+        int item = heap[slot];
+        double key = keys[item];
+        while (slot > 0) {
+            int parent = (slot - 1) / arity;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            heap[slot] = heap[parent];
+            position[heap[slot]] = slot;
+            slot = parent;
+        }
+        heap[slot] = item;
+        position[item] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int item = heap[slot];
+        double key = keys[item];
+        while (true) {
+            int first = arity * slot + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int best = first;
+            for (int c = first + 1; c < last; c++) {
+                if (keys[heap[c]] < keys[heap[best]]) {
+                    best = c;
+                }
+            }
+            if (keys[heap[best]] >= key) {
+                break;
+            }
+            heap[slot] = heap[best];
+            position[heap[slot]] = slot;
+            slot = best;
+        }
+        heap[slot] = item;
+        position[item] = slot;
+    }
+}
@@ -0,0 +1,17 @@
+package dsvisualizer.model;
+
+/**
+ * Read-only, 64-bit indexed view of an int array used by the array visualizer.
+ */
+public interface IntArrayView {
+
+    /**
+     * Get number of elements.
+     */
+    long length();
+
+    /**
+     * Get element at specific index.
+     */
+    int valueAt(long index);
+}
@@ -0,0 +1,470 @@
+package dsvisualizer.model;
+
+/**
+ * Open-addressing hash table from int keys to int values.
+ *
+ * Collisions are resolved by linear probing or Robin Hood hashing; deletion shifts later
+ * entries of the probe run backwards, so no tombstones are left behind. Resizing is
+ * incremental: when the load factor passes MAX_LOAD_FACTOR a table twice the size is
+ * allocated and every mutating operation migrates a few old slots, so no single insert
+ * pays for a full rehash.
+ */
+public class IntHashTable {
+    /**
+     * Collision strategy: LINEAR places a key in the first free slot after its home slot;
+     * ROBIN_HOOD lets a key take the slot of a resident that is closer to its own home,
+     * which keeps probe lengths short and even.
+     */
+    public enum ProbingMode {
+        LINEAR,
+        ROBIN_HOOD
+    }
+
+    public static final double MAX_LOAD_FACTOR = 0.75;
+    static final int MIN_CAPACITY = 8;
+    static final int MIGRATE_SLOTS_PER_OP = 4;
+
+    private ProbingMode mode;
+    private Table table;
+    private Table oldTable;      // non-null while a resize is in progress
+    private int migrateStart;    // empty old slot where migration started
+    private int migrated;        // old slots migrated so far, counted from migrateStart
+    private int size;
+    private int resizeCount;
+    private int lastProbeCount;
+
+    public IntHashTable(ProbingMode mode, int initialCapacity) {
+        this.mode = mode;
+        int capacity = MIN_CAPACITY;
+        while (capacity < initialCapacity && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        this.table = new Table(capacity);
+    }
+
+    /**
+     * Insert or update a key (returns true if the key was new).
+     */
+    public boolean put(int key, int value) {
+        migrateStep();
+        lastProbeCount = 0;
+        if (oldTable != null) {
+            int slot = findInOld(key);
+            if (slot >= 0) {
+                oldTable.values[slot] = value;
+                return false;
+            }
+        }
+        int slot = find(table, key, -1);
+        if (slot >= 0) {
+            table.values[slot] = value;
+            return false;
+        }
+        insertNew(table, key, value);
+        size++;
+        if (oldTable == null && table.count > table.capacity() * MAX_LOAD_FACTOR) {
+            startResize();
+        }
+        return true;
+    }
+
+    /**
+     * Get the value for a key.
+     */
+    public int get(int key) {
+        int slot = locate(key);
+        if (slot == -1) {
+            throw new RuntimeException("Key not found: " + key);
+        }
+        return slot >= 0 ? table.values[slot] : oldTable.values[-slot - 2];
+    }
+
+    /**
+     * Check if a key is present.
+     */
+    public boolean containsKey(int key) {
+        return locate(key) != -1;
+    }
+
+    /**
+     * Remove a key (returns false if absent).
+     */
+    public boolean remove(int key) {
+        migrateStep();
+        lastProbeCount = 0;
+        int slot = find(table, key, -1);
+        if (slot >= 0) {
+            shiftBack(table, slot);
+        } else {
+            if (oldTable == null || (slot = findInOld(key)) < 0) {
+                return false;
+            }
+            shiftBack(oldTable, slot);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Get the slot of a key in the current table (-1 if absent or still in the old table).
+     */
+    public int slotOf(int key) {
+        int slot = locate(key);
+        return slot >= 0 ? slot : -1;
+    }
+
+    /**
+     * Get the slot of a key in the old table during a resize (-1 otherwise).
+     */
+    public int oldSlotOf(int key) {
+        int slot = locate(key);
+        return slot <= -2 ? -slot - 2 : -1;
+    }
+
+    /**
+     * Switch collision strategy, rehashing every entry.
+     */
+    public void setProbingMode(ProbingMode mode) {
+        if (mode == this.mode) {
+            return;
+        }
+        int[] keys = new int[size];
+        int[] values = new int[size];
+        int n = collect(table, keys, values, 0);
+        if (oldTable != null) {
+            collect(oldTable, keys, values, n);
+        }
+        this.mode = mode;
+        this.table = new Table(table.capacity());
+        this.oldTable = null;
+        for (int i = 0; i < size; i++) {
+            insertNew(table, keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Get the current collision strategy.
+     */
+    public ProbingMode getProbingMode() {
+        return mode;
+    }
+
+    /**
+     * Get number of stored keys.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Estimated retained heap bytes, including the old table while a resize is in progress.
+     */
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(3, 6, 0) + tableBytes(table) + tableBytes(oldTable);
+    }
+
+    private static long tableBytes(Table t) {
+        return t == null ? 0 : MemoryLayout.object(3, 2, 0) + 3 * MemoryLayout.array(4, t.capacity());
+    }
+
+    /**
+     * Check if table is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get number of slots in the current table.
+     */
+    public int getCapacity() {
+        return table.capacity();
+    }
+
+    /**
+     * Get keys per slot of the current table, counting keys not yet migrated.
+     */
+    public double getLoadFactor() {
+        return (double) size / table.capacity();
+    }
+
+    /**
+     * Get the longest probe sequence any stored key needs (1 = found in its home slot).
+     */
+    public int getMaxProbeLength() {
+        int max = table.maxProbeLength();
+        return oldTable == null ? max : Math.max(max, oldTable.maxProbeLength());
+    }
+
+    /**
+     * Get slots probed by the last put, remove or lookup.
+     */
+    public int getLastProbeCount() {
+        return lastProbeCount;
+    }
+
+    /**
+     * Get number of resizes started since creation.
+     */
+    public int getResizeCount() {
+        return resizeCount;
+    }
+
+    /**
+     * Check if an incremental resize is in progress.
+     */
+    public boolean isResizing() {
+        return oldTable != null;
+    }
+
+    /**
+     * Get old-table slots migrated so far (0 when not resizing).
+     */
+    public int getMigratedSlots() {
+        return oldTable == null ? 0 : migrated;
+    }
+
+    /**
+     * Get number of slots in the old table (0 when not resizing).
+     */
+    public int getOldCapacity() {
+        return oldTable == null ? 0 : oldTable.capacity();
+    }
+
+    /**
+     * Check if a slot of the current (or old) table holds a key.
+     */
+    public boolean isOccupied(boolean old, int slot) {
+        return tableFor(old).probes[slot] != 0;
+    }
+
+    /**
+     * Get key stored in a slot.
+     */
+    public int getKeyAt(boolean old, int slot) {
+        return tableFor(old).keys[slot];
+    }
+
+    /**
+     * Get value stored in a slot.
+     */
+    public int getValueAt(boolean old, int slot) {
+        return tableFor(old).values[slot];
+    }
+
+    /**
+     * Get probes needed to reach the key in a slot (0 for an empty slot).
+     */
+    public int getProbeLengthAt(boolean old, int slot) {
+        return tableFor(old).probes[slot];
+    }
+
+    /**
+     * Clear the table, keeping the current capacity.
+     */
+    public void clear() {
+        table = new Table(table.capacity());
+        oldTable = null;
+        size = 0;
+        lastProbeCount = 0;
+    }
+
+    private Table tableFor(boolean old) {
+        if (old && oldTable == null) {
+            throw new RuntimeException("No resize in progress");
+        }
+        return old ? oldTable : table;
+    }
+
+    /**
+     * Slot in the current table (>= 0), old-table slot encoded as -(slot + 2), or -1.
+     */
+    private int locate(int key) {
+        lastProbeCount = 0;
+        int slot = find(table, key, -1);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (oldTable != null) {
+            slot = findInOld(key);
+            if (slot >= 0) {
+                return -slot - 2;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Probe for key starting at its home slot, or at startSlot if given (returns slot or -1).
+     */
+    private int find(Table t, int key, int startSlot) {
+        int home = hash(key) & t.mask;
+        int slot = startSlot >= 0 ? startSlot : home;
+        int probes = ((slot - home) & t.mask) + 1;
+        while (true) {
+            lastProbeCount++;
+            CostCounters.count(CostCounters.Cost.COMPARISON);
+            int resident = t.probes[slot];
+            if (resident == 0 || (mode == ProbingMode.ROBIN_HOOD && resident < probes)) {
+                return -1;
+            }
+            if (t.keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & t.mask;
+            probes++;
+        }
+    }
+
+    /**
+     * Find a key in the old table; keys whose home slot was already migrated are probed
+     * from the migration cursor, since every slot before it is now empty.
+     */
+    private int findInOld(int key) {
+        int home = hash(key) & oldTable.mask;
+        boolean homeMigrated = ((home - migrateStart) & oldTable.mask) < migrated;
+        return find(oldTable, key, homeMigrated ? (migrateStart + migrated) & oldTable.mask : -1);
+    }
+
+    /**
+     * Place a key known to be absent.
+     */
+    private void insertNew(Table t, int key, int value) {
+        int slot = hash(key) & t.mask;
+        int probes = 1;
+        while (t.probes[slot] != 0) {
+            lastProbeCount++;
+            CostCounters.count(CostCounters.Cost.COMPARISON);
+            if (mode == ProbingMode.ROBIN_HOOD && t.probes[slot] < probes) {
+                CostCounters.count(CostCounters.Cost.SHIFT);
+                // Take from the rich: the resident is closer to home, so it moves on instead
+                int residentKey = t.keys[slot];
+                int residentValue = t.values[slot];
+                int residentProbes = t.probes[slot];
+                t.keys[slot] = key;
+                t.values[slot] = value;
+                t.probes[slot] = probes;
+                key = residentKey;
+                value = residentValue;
+                probes = residentProbes;
+            }
+            slot = (slot + 1) & t.mask;
+            probes++;
+        }
+        lastProbeCount++;
+        t.keys[slot] = key;
+        t.values[slot] = value;
+        t.probes[slot] = probes;
+        t.count++;
+    }
+
+    /**
+     * Remove the entry at hole and close the gap by moving later run entries backwards.
+     */
+    private void shiftBack(Table t, int hole) {
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & t.mask;
+            int probes = t.probes[slot];
+            if (probes == 0 || (mode == ProbingMode.ROBIN_HOOD && probes == 1)) {
+                break;
+            }
+            int distance = (slot - hole) & t.mask;
+            // An entry may move to the hole only if the hole is not before its home slot
+            if (probes > distance) {
+                CostCounters.count(CostCounters.Cost.SHIFT);
+                t.keys[hole] = t.keys[slot];
+                t.values[hole] = t.values[slot];
+                t.probes[hole] = probes - distance;
+                hole = slot;
+            }
+        }
+        t.probes[hole] = 0;
+        t.count--;
+    }
+
+    private void startResize() {
+        oldTable = table;
+        CostCounters.count(CostCounters.Cost.ALLOCATION);
+        table = new Table(oldTable.capacity() * 2);
+        // Start at an empty slot so no probe run is split across the migration cursor
+        migrateStart = 0;
+        while (oldTable.probes[migrateStart] != 0) {
+            migrateStart++;
+        }
+        migrated = 0;
+        resizeCount++;
+    }
+
+    private void migrateStep() {
+        if (oldTable == null) {
+            return;
+        }
+        int end = Math.min(oldTable.capacity(), migrated + MIGRATE_SLOTS_PER_OP);
+        for (; migrated < end; migrated++) {
+            int slot = (migrateStart + migrated) & oldTable.mask;
+            if (oldTable.probes[slot] != 0) {
+                insertNew(table, oldTable.keys[slot], oldTable.values[slot]);
+                oldTable.probes[slot] = 0;
+                oldTable.count--;
+            }
+        }
+        if (migrated == oldTable.capacity()) {
+            oldTable = null;
+        }
+    }
+
+    private static int collect(Table t, int[] keys, int[] values, int offset) {
+        for (int slot = 0; slot < t.capacity(); slot++) {
+            if (t.probes[slot] != 0) {
+                keys[offset] = t.keys[slot];
+                values[offset] = t.values[slot];
+                offset++;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Murmur3 finalizer; every key bit affects the low bits used for the home slot.
+     */
+    private static int hash(int key) {
+        int h = key;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * One slot array; probes[slot] is the probe length of the resident key, 0 when empty.
+     */
+    private static class Table {
+        final int[] keys;
+        final int[] values;
+        final int[] probes;
+        final int mask;
+        int count;
+
+        Table(int capacity) {
+            keys = new int[capacity];
+            values = new int[capacity];
+            probes = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        int capacity() {
+            return keys.length;
+        }
+
+        int maxProbeLength() {
+            int max = 0;
+            for (int p : probes) {
+                max = Math.max(max, p);
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package dsvisualizer.model;
+
+import java.util.Arrays;
+
+/**
+ * Search index from int values to the positions holding them.
+ *
+ * Each distinct value has a single entry in an open-addressing table (linear probing,
+ * backward-shift deletion) that points at a sorted, doubly linked chain of its positions,
+ * so duplicates never lengthen probe runs. Chain links live in slots addressed by
+ * position, which makes removing a known (value, position) pair O(1). Positions may be
+ * any ints (LinkedList uses stamps that go below zero) as long as the live ones fit a window.
+ *
+ * Edits that shift later positions do not rebuild the index: invalidateFrom lowers a
+ * watermark below which entries stay exact, and the owner re-adds only the positions
+ * at or above it (after dropStale) when a lookup misses the exact part.
+ */
+public class IntPositionIndex {
+    public static final int NOT_FOUND = Integer.MIN_VALUE;
+
+    private static final int NONE = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    // Distinct values; heads/tails are the first and last slot of the chain (NONE when free)
+    private int[] keys;
+    private int[] heads;
+    private int[] tails;
+    private int keyMask;
+    private int keyCount;
+
+    // Position slots, addressed by position & slotMask (slotPositions == NOT_FOUND when free)
+    private int[] slotPositions;
+    private int[] slotKeys;
+    private int[] next;
+    private int[] prev;
+    private int slotMask;
+    private int size;
+
+    // Entries below validLimit are exact; end is one past the highest position stored
+    private int validLimit = Integer.MAX_VALUE;
+    private int end = Integer.MIN_VALUE;
+
+    public IntPositionIndex() {
+        this(MIN_CAPACITY);
+    }
+
+    public IntPositionIndex(int expectedEntries) {
+        allocateKeys(tableSizeFor(expectedEntries * 2L));
+        allocateSlots(tableSizeFor(expectedEntries));
+    }
+
+    /**
+     * Add a value -> position entry; the position must not be stored already.
+     */
+    public void add(int key, int position) {
+        if (position == NOT_FOUND) {
+            throw new IllegalArgumentException("Invalid position: " + position);
+        }
+        int slot = position & slotMask;
+        while (slotPositions[slot] != NOT_FOUND) {
+            if (slotPositions[slot] == position) {
+                throw new IllegalArgumentException("Position already indexed: " + position);
+            }
+            growSlots();
+            slot = position & slotMask;
+        }
+        slotPositions[slot] = position;
+        slotKeys[slot] = key;
+        end = Math.max(end, position + 1);
+        size++;
+
+        int entry = findKey(key);
+        if (entry < 0) {
+            if ((keyCount + 1) * 2 > keys.length) {
+                growKeys();
+            }
+            entry = hash(key) & keyMask;
+            while (heads[entry] != NONE) {
+                entry = (entry + 1) & keyMask;
+            }
+            keys[entry] = key;
+            heads[entry] = slot;
+            tails[entry] = slot;
+            next[slot] = NONE;
+            prev[slot] = NONE;
+            keyCount++;
+            return;
+        }
+        // Keep the chain sorted; appends and prepends are O(1), others walk from the nearer end
+        int head = heads[entry];
+        int tail = tails[entry];
+        if (position > slotPositions[tail]) {
+            link(entry, tail, slot, NONE);
+        } else if (position < slotPositions[head]) {
+            link(entry, NONE, slot, head);
+        } else if (position - slotPositions[head] <= slotPositions[tail] - position) {
+            int before = head;
+            while (slotPositions[next[before]] < position) {
+                before = next[before];
+            }
+            link(entry, before, slot, next[before]);
+        } else {
+            int after = tail;
+            while (slotPositions[prev[after]] > position) {
+                after = prev[after];
+            }
+            link(entry, prev[after], slot, after);
+        }
+    }
+
+    /**
+     * Remove a single value -> position entry (returns false if absent).
+     */
+    public boolean remove(int key, int position) {
+        int slot = position & slotMask;
+        if (slotPositions[slot] != position || slotKeys[slot] != key) {
+            return false;
+        }
+        unlink(slot);
+        return true;
+    }
+
+    /**
+     * Get the smallest exact position stored for a value (or NOT_FOUND). While the index
+     * is stale, NOT_FOUND means "not before the watermark".
+     */
+    public int firstPosition(int key) {
+        int entry = findKey(key);
+        if (entry < 0) {
+            return NOT_FOUND;
+        }
+        int position = slotPositions[heads[entry]];
+        return position < validLimit ? position : NOT_FOUND;
+    }
+
+    /**
+     * Record an element inserted at position; shifted means every later position moved up.
+     */
+    public void inserted(int key, int position, boolean shifted) {
+        if (shifted) {
+            invalidateFrom(position);
+        } else if (position < validLimit) {
+            add(key, position);
+        }
+    }
+
+    /**
+     * Record the element at position removed; shifted means every later position moved down.
+     */
+    public void removed(int key, int position, boolean shifted) {
+        if (shifted) {
+            invalidateFrom(position);
+        }
+        if (position < validLimit) {
+            remove(key, position);
+        }
+    }
+
+    /**
+     * Record the element at position overwritten in place.
+     */
+    public void replaced(int oldKey, int key, int position) {
+        if (position < validLimit) {
+            remove(oldKey, position);
+            add(key, position);
+        }
+    }
+
+    /**
+     * Mark every entry at or after position as stale.
+     */
+    public void invalidateFrom(int position) {
+        validLimit = Math.min(validLimit, position);
+    }
+
+    /**
+     * Check whether positions at or after getValidLimit() need re-adding.
+     */
+    public boolean isStale() {
+        return validLimit != Integer.MAX_VALUE;
+    }
+
+    /**
+     * First position whose entry may be stale (Integer.MAX_VALUE when none is).
+     */
+    public int getValidLimit() {
+        return validLimit;
+    }
+
+    /**
+     * Drop every stale entry; the owner then re-adds its positions from getValidLimit() on
+     * and calls markValid(). Cost is proportional to the stale range, not the whole index.
+     */
+    public void dropStale() {
+        if (end - (long) validLimit > slotPositions.length) {
+            for (int slot = 0; slot < slotPositions.length; slot++) {
+                if (slotPositions[slot] != NOT_FOUND && slotPositions[slot] >= validLimit) {
+                    unlink(slot);
+                }
+            }
+        } else {
+            for (int position = validLimit; position < end; position++) {
+                int slot = position & slotMask;
+                if (slotPositions[slot] == position) {
+                    unlink(slot);
+                }
+            }
+        }
+        end = Math.min(end, validLimit);
+    }
+
+    /**
+     * Mark the index exact again after the stale positions were re-added.
+     */
+    public void markValid() {
+        validLimit = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Get number of stored entries.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get number of distinct values stored.
+     */
+    public int getDistinctCount() {
+        return keyCount;
+    }
+
+    /**
+     * Get number of slots in the value table.
+     */
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    /**
+     * Estimated heap bytes used by the index: the value table and the position slots.
+     */
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(7, 7, 0) + 3 * MemoryLayout.intArray(keys) + 4 * MemoryLayout.intArray(slotPositions);
+    }
+
+    /**
+     * Remove all entries, keeping the current table sizes.
+     */
+    public void clear() {
+        Arrays.fill(heads, NONE);
+        Arrays.fill(slotPositions, NOT_FOUND);
+        keyCount = 0;
+        size = 0;
+        validLimit = Integer.MAX_VALUE;
+        end = Integer.MIN_VALUE;
+    }
+
+    private void link(int entry, int before, int slot, int after) {
+        prev[slot] = before;
+        next[slot] = after;
+        if (before == NONE) {
+            heads[entry] = slot;
+        } else {
+            next[before] = slot;
+        }
+        if (after == NONE) {
+            tails[entry] = slot;
+        } else {
+            prev[after] = slot;
+        }
+    }
+
+    private void unlink(int slot) {
+        int before = prev[slot];
+        int after = next[slot];
+        if (before == NONE || after == NONE) {
+            int entry = findKey(slotKeys[slot]);
+            if (before == NONE && after == NONE) {
+                removeKey(entry);
+            } else if (before == NONE) {
+                heads[entry] = after;
+            } else {
+                tails[entry] = before;
+            }
+        }
+        if (before != NONE) {
+            next[before] = after;
+        }
+        if (after != NONE) {
+            prev[after] = before;
+        }
+        slotPositions[slot] = NOT_FOUND;
+        size--;
+    }
+
+    private int findKey(int key) {
+        int entry = hash(key) & keyMask;
+        while (heads[entry] != NONE) {
+            if (keys[entry] == key) {
+                return entry;
+            }
+            entry = (entry + 1) & keyMask;
+        }
+        return -1;
+    }
+
+    /**
+     * Free a value table entry, moving later entries of the probe run backwards.
+     */
+    private void removeKey(int hole) {
+        int entry = hole;
+        while (true) {
+            entry = (entry + 1) & keyMask;
+            if (heads[entry] == NONE) {
+                break;
+            }
+            int ideal = hash(keys[entry]) & keyMask;
+            // Move the entry only if its ideal slot is not between the hole and its current slot
+            boolean movable = hole <= entry
+                ? (ideal <= hole || ideal > entry)
+                : (ideal <= hole && ideal > entry);
+            if (movable) {
+                keys[hole] = keys[entry];
+                heads[hole] = heads[entry];
+                tails[hole] = tails[entry];
+                hole = entry;
+            }
+        }
+        heads[hole] = NONE;
+        keyCount--;
+    }
+
+    private void growKeys() {
+        int[] oldKeys = keys;
+        int[] oldHeads = heads;
+        int[] oldTails = tails;
+        allocateKeys(keys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldHeads[i] != NONE) {
+                int entry = hash(oldKeys[i]) & keyMask;
+                while (heads[entry] != NONE) {
+                    entry = (entry + 1) & keyMask;
+                }
+                keys[entry] = oldKeys[i];
+                heads[entry] = oldHeads[i];
+                tails[entry] = oldTails[i];
+            }
+        }
+    }
+
+    /**
+     * Double the slot ring until no two stored positions share a slot, relinking the chains.
+     */
+    private void growSlots() {
+        int[] oldPositions = slotPositions;
+        int[] oldKeys = slotKeys;
+        int[] oldNext = next;
+        int[] oldPrev = prev;
+        int capacity = oldPositions.length * 2;
+        while (true) {
+            allocateSlots(capacity);
+            boolean placed = true;
+            for (int i = 0; i < oldPositions.length && placed; i++) {
+                if (oldPositions[i] != NOT_FOUND) {
+                    int slot = oldPositions[i] & slotMask;
+                    placed = slotPositions[slot] == NOT_FOUND;
+                    slotPositions[slot] = oldPositions[i];
+                }
+            }
+            if (placed) {
+                break;
+            }
+            capacity *= 2;
+        }
+        for (int i = 0; i < oldPositions.length; i++) {
+            if (oldPositions[i] != NOT_FOUND) {
+                int slot = oldPositions[i] & slotMask;
+                slotKeys[slot] = oldKeys[i];
+                next[slot] = oldNext[i] == NONE ? NONE : oldPositions[oldNext[i]] & slotMask;
+                prev[slot] = oldPrev[i] == NONE ? NONE : oldPositions[oldPrev[i]] & slotMask;
+            }
+        }
+        for (int entry = 0; entry < keys.length; entry++) {
+            if (heads[entry] != NONE) {
+                heads[entry] = oldPositions[heads[entry]] & slotMask;
+                tails[entry] = oldPositions[tails[entry]] & slotMask;
+            }
+        }
+    }
+
+    private void allocateKeys(int capacity) {
+        keys = new int[capacity];
+        heads = new int[capacity];
+        tails = new int[capacity];
+        Arrays.fill(heads, NONE);
+        keyMask = capacity - 1;
+    }
+
+    private void allocateSlots(int capacity) {
+        slotPositions = new int[capacity];
+        slotKeys = new int[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        Arrays.fill(slotPositions, NOT_FOUND);
+        slotMask = capacity - 1;
+    }
+
+    private static int tableSizeFor(long entries) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < entries && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -19,6 +19,9 @@ public class LinkedList {
 
     private Node head;
     private int size;
+    // Search index maps value -> stamp; a node's position is its stamp minus headStamp
+    private IntPositionIndex valueIndex;
+    private int headStamp;
 
     public LinkedList() {
         this.head = null;
@@ -29,9 +32,14 @@ public class LinkedList {
      * Insert at head.
      */
     public void insertHead(int value) {
+        CostCounters.count(CostCounters.Cost.ALLOCATION);
         Node newNode = new Node(value);
         newNode.next = head;
         head = newNode;
+        headStamp--;
+        if (valueIndex != null) {
+            valueIndex.inserted(value, headStamp, false);
+        }
         size++;
     }
 
@@ -39,16 +47,21 @@ public class LinkedList {
      * Insert at tail.
      */
     public void insertTail(int value) {
+        CostCounters.count(CostCounters.Cost.ALLOCATION);
         Node newNode = new Node(value);
         if (head == null) {
             head = newNode;
         } else {
             Node current = head;
             while (current.next != null) {
+                CostCounters.count(CostCounters.Cost.POINTER_HOP);
                 current = current.next;
             }
             current.next = newNode;
         }
+        if (valueIndex != null) {
+            valueIndex.inserted(value, headStamp + size, false);
+        }
         size++;
     }
 
@@ -63,10 +76,14 @@ public class LinkedList {
             insertHead(value);
             return;
         }
+        CostCounters.count(CostCounters.Cost.ALLOCATION);
         Node newNode = new Node(value);
         Node current = getNodeAt(index - 1);
         newNode.next = current.next;
         current.next = newNode;
+        if (valueIndex != null) {
+            valueIndex.inserted(value, headStamp + index, index < size);
+        }
         size++;
     }
 
@@ -79,6 +96,10 @@ public class LinkedList {
         }
         int value = head.data;
         head = head.next;
+        if (valueIndex != null) {
+            valueIndex.removed(value, headStamp, false);
+        }
+        headStamp++;
         size--;
         return value;
     }
@@ -96,6 +117,9 @@ public class LinkedList {
         Node prev = getNodeAt(index - 1);
         int value = prev.next.data;
         prev.next = prev.next.next;
+        if (valueIndex != null) {
+            valueIndex.removed(value, headStamp + index, index < size - 1);
+        }
         size--;
         return value;
     }
@@ -111,18 +135,72 @@ public class LinkedList {
      * Search for element (returns index or -1).
      */
     public int search(int value) {
+        if (valueIndex != null) {
+            int stamp = valueIndex.firstPosition(value);
+            if (stamp == IntPositionIndex.NOT_FOUND && valueIndex.isStale()) {
+                repairIndex();
+                stamp = valueIndex.firstPosition(value);
+            }
+            return stamp == IntPositionIndex.NOT_FOUND ? -1 : stamp - headStamp;
+        }
         Node current = head;
         int index = 0;
         while (current != null) {
+            CostCounters.count(CostCounters.Cost.COMPARISON);
             if (current.data == value) {
                 return index;
             }
+            CostCounters.count(CostCounters.Cost.POINTER_HOP);
             current = current.next;
             index++;
         }
         return -1;
     }
 
+    /**
+     * Enable or disable the value -> positions search index.
+     */
+    public void setIndexEnabled(boolean enabled) {
+        if (enabled && valueIndex == null) {
+            valueIndex = new IntPositionIndex(size);
+            valueIndex.invalidateFrom(headStamp);
+        } else if (!enabled) {
+            valueIndex = null;
+        }
+    }
+
+    /**
+     * Check if the search index is enabled.
+     */
+    public boolean isIndexEnabled() {
+        return valueIndex != null;
+    }
+
+    /**
+     * Get memory overhead of the search index in bytes (0 when disabled).
+     */
+    public long getIndexMemoryBytes() {
+        return valueIndex == null ? 0 : valueIndex.getMemoryFootprintBytes();
+    }
+
+    /**
+     * Re-stamp the nodes from the index's watermark on; entries before it are untouched.
+     */
+    private void repairIndex() {
+        // Tail deletes past the watermark leave it beyond the last node
+        int from = (int) Math.min(Math.max(headStamp, valueIndex.getValidLimit()), (long) headStamp + size);
+        valueIndex.dropStale();
+        Node current = head;
+        int stamp = headStamp;
+        for (; stamp < from; stamp++) {
+            current = current.next;
+        }
+        for (; current != null; current = current.next) {
+            valueIndex.add(current.data, stamp++);
+        }
+        valueIndex.markValid();
+    }
+
     /**
      * Get node at specific index.
      */
@@ -131,6 +209,7 @@ public class LinkedList {
             throw new IndexOutOfBoundsException("Invalid index");
         }
         Node current = head;
+        CostCounters.count(CostCounters.Cost.POINTER_HOP, index);
         for (int i = 0; i < index; i++) {
             current = current.next;
         }
@@ -151,6 +230,13 @@ public class LinkedList {
         return size;
     }
 
+    /**
+     * Estimated retained heap bytes: one Node object per element plus the search index.
+     */
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(2, 3, 0) + size * MemoryLayout.object(1, 1, 0) + getIndexMemoryBytes();
+    }
+
     /**
      * Check if list is empty.
      */
@@ -164,6 +250,10 @@ public class LinkedList {
     public void clear() {
         head = null;
         size = 0;
+        headStamp = 0;
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
     }
 
     /**
@@ -0,0 +1,149 @@
+package dsvisualizer.model;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from long keys to non-negative int values, without boxing.
+ * Uses linear probing with backward-shift deletion, so no tombstones are left behind.
+ */
+public class LongIntMap {
+    public static final int NOT_FOUND = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    public LongIntMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Map key to value, replacing any previous value.
+     */
+    public void put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid value: " + value);
+        }
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        int slot = hash(key) & mask;
+        while (values[slot] != NOT_FOUND) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    /**
+     * Get the value for key (or NOT_FOUND).
+     */
+    public int get(long key) {
+        int slot = hash(key) & mask;
+        while (values[slot] != NOT_FOUND) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Remove key (returns false if absent).
+     */
+    public boolean remove(long key) {
+        int slot = hash(key) & mask;
+        while (values[slot] != NOT_FOUND) {
+            if (keys[slot] == key) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Get number of stored keys.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Estimated heap bytes: object header plus the key and value arrays.
+     */
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(2, 2, 0) + MemoryLayout.array(8, keys.length) + MemoryLayout.intArray(values);
+    }
+
+    /**
+     * Remove all keys, keeping the current table size.
+     */
+    public void clear() {
+        Arrays.fill(values, NOT_FOUND);
+        size = 0;
+    }
+
+    /**
+     * Close the hole at slot by moving later entries of the probe run backwards.
+     */
+    private void shiftBack(int hole) {
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (values[slot] == NOT_FOUND) {
+                break;
+            }
+            int ideal = hash(keys[slot]) & mask;
+            // Move the entry only if its ideal slot is not between the hole and its current slot
+            boolean movable = hole <= slot
+                ? (ideal <= hole || ideal > slot)
+                : (ideal <= hole && ideal > slot);
+            if (movable) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+        values[hole] = NOT_FOUND;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(keys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != NOT_FOUND) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (values[slot] != NOT_FOUND) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NOT_FOUND);
+        mask = capacity - 1;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,155 @@
+package dsvisualizer.model;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Object layout estimates for HotSpot, used by the getMemoryFootprintBytes() methods.
+ *
+ * Header and reference sizes are read from the running VM (compressed oops, compact object
+ * headers) and fall back to the 64-bit defaults: 12-byte headers, 4-byte references and
+ * 8-byte alignment. Fields are packed the way HotSpot does: 4-byte fields first fill the
+ * gap after a 12-byte header, then 8-byte fields. JDK collection sizes follow their
+ * OpenJDK field layouts and growth policies.
+ */
+public final class MemoryLayout {
+    public static final int OBJECT_ALIGNMENT = 8;
+    public static final boolean COMPRESSED_REFERENCES = vmFlag("UseCompressedOops", true);
+    public static final int REFERENCE_BYTES = COMPRESSED_REFERENCES ? 4 : 8;
+    public static final int HEADER_BYTES = vmFlag("UseCompactObjectHeaders", false) ? 8
+        : vmFlag("UseCompressedClassPointers", true) ? 12 : 16;
+
+    private static final int ARRAY_LIST_DEFAULT_CAPACITY = 10;
+    private static final int HASH_MAP_DEFAULT_CAPACITY = 16;
+    private static final double HASH_MAP_LOAD_FACTOR = 0.75;
+
+    private MemoryLayout() {
+    }
+
+    /**
+     * Shallow size of an object with the given reference, 4-byte and 8-byte fields
+     * (count boolean and byte fields as 4-byte fields; a slight overestimate).
+     */
+    public static long object(int referenceFields, int intFields, int longFields) {
+        long fourByte = intFields + (COMPRESSED_REFERENCES ? referenceFields : 0);
+        long eightByte = longFields + (COMPRESSED_REFERENCES ? 0 : referenceFields);
+        long size = HEADER_BYTES;
+        if (eightByte > 0 && size % 8 != 0) {
+            // A 4-byte field fills the gap before the first 8-byte field, or it is padding
+            if (fourByte > 0) {
+                fourByte--;
+            }
+            size += 4;
+        }
+        return align(size + 8 * eightByte + 4 * fourByte);
+    }
+
+    /**
+     * Size of a primitive array (elementBytes 1, 2, 4 or 8); 0 for a null array.
+     */
+    public static long array(int elementBytes, long length) {
+        long base = HEADER_BYTES + 4;
+        base = (base + elementBytes - 1) / elementBytes * elementBytes;
+        return align(base + elementBytes * length);
+    }
+
+    public static long intArray(int[] values) {
+        return values == null ? 0 : array(4, values.length);
+    }
+
+    public static long referenceArray(long length) {
+        return array(REFERENCE_BYTES, length);
+    }
+
+    /**
+     * Retained size of a boxed Integer: 0 inside the Integer cache (-128..127), else one object.
+     */
+    public static long boxedInteger(int value) {
+        return value >= -128 && value <= 127 ? 0 : object(0, 1, 0);
+    }
+
+    public static long boxedIntegers(Iterable<Integer> values) {
+        long bytes = 0;
+        for (int value : values) {
+            bytes += boxedInteger(value);
+        }
+        return bytes;
+    }
+
+    /**
+     * Retained size of a boxed Long (cache -128..127, like Integer).
+     */
+    public static long boxedLong(long value) {
+        return value >= -128 && value <= 127 ? 0 : object(0, 0, 1);
+    }
+
+    /**
+     * ArrayList shell and backing array for size elements, excluding the elements; capacity
+     * follows the 10, 15, 22, ... growth of add() and assumes no shrinking.
+     */
+    public static long arrayList(int size) {
+        return object(1, 2, 0) + (size == 0 ? 0 : referenceArray(arrayListCapacity(size)));
+    }
+
+    /**
+     * ArrayList with its Integer elements.
+     */
+    public static long arrayListOfIntegers(List<Integer> values) {
+        return arrayList(values.size()) + boxedIntegers(values);
+    }
+
+    /**
+     * HashMap shell, table and nodes for entries mappings, excluding keys and values.
+     */
+    public static long hashMap(int entries) {
+        long shell = object(4, 4, 0);
+        if (entries == 0) {
+            return shell;
+        }
+        long table = HASH_MAP_DEFAULT_CAPACITY;
+        while (table * HASH_MAP_LOAD_FACTOR < entries) {
+            table <<= 1;
+        }
+        return shell + referenceArray(table) + entries * object(3, 1, 0);
+    }
+
+    /**
+     * Capacity an ArrayList reaches when grown one add() at a time to size.
+     */
+    public static int arrayListCapacity(int size) {
+        long capacity = ARRAY_LIST_DEFAULT_CAPACITY;
+        while (capacity < size) {
+            capacity += capacity >> 1;
+        }
+        return (int) Math.min(capacity, Integer.MAX_VALUE - 8);
+    }
+
+    public static long align(long size) {
+        return (size + OBJECT_ALIGNMENT - 1) / OBJECT_ALIGNMENT * OBJECT_ALIGNMENT;
+    }
+
+    /**
+     * Format a byte count with a binary unit, e.g. "1.5 KB".
+     */
+    public static String formatBytes(double bytes) {
+        if (bytes < 1024) {
+            return String.format(java.util.Locale.ROOT, "%.0f B", bytes);
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(java.util.Locale.ROOT, "%.1f KB", bytes / 1024);
+        }
+        return String.format(java.util.Locale.ROOT, "%.1f MB", bytes / (1024 * 1024));
+    }
+
+    private static boolean vmFlag(String name, boolean fallback) {
+        try {
+            HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return hotSpot == null ? fallback : Boolean.parseBoolean(hotSpot.getVMOption(name).getValue());
+        } catch (RuntimeException e) {
+            // Not HotSpot, or a flag this VM does not have
+            return fallback;
+        }
+    }
+}
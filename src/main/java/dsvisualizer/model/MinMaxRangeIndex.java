@@ -0,0 +1,16 @@
+package dsvisualizer.model;
+
+/**
+ * Range index that also answers min and max queries. Ranges are half-open: [from, to).
+ */
+public interface MinMaxRangeIndex extends RangeIndex {
+    /**
+     * Minimum of elements in [from, to).
+     */
+    int rangeMin(int from, int to);
+
+    /**
+     * Maximum of elements in [from, to).
+     */
+    int rangeMax(int from, int to);
+}
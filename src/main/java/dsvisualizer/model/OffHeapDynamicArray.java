@@ -0,0 +1,217 @@
+package dsvisualizer.model;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Off-heap dynamic array backed by fixed-size MemorySegment chunks.
+ * Growth allocates one new chunk instead of copying the whole buffer,
+ * and clear() frees all native memory immediately by closing the arena.
+ */
+public class OffHeapDynamicArray implements IntArrayView, AutoCloseable {
+    private static final int DEFAULT_CHUNK_SHIFT = 20; // 1M ints (4 MB) per chunk
+
+    private final int chunkShift;
+    private final long chunkLength;
+    private final long chunkMask;
+    private Arena arena;
+    private MemorySegment[] chunks;
+    private int chunkCount;
+    private long size;
+
+    public OffHeapDynamicArray() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    public OffHeapDynamicArray(int chunkShift) {
+        if (chunkShift < 4 || chunkShift > 28) {
+            throw new IllegalArgumentException("Chunk shift must be between 4 and 28");
+        }
+        this.chunkShift = chunkShift;
+        this.chunkLength = 1L << chunkShift;
+        this.chunkMask = chunkLength - 1;
+        this.arena = Arena.ofShared();
+        this.chunks = new MemorySegment[4];
+        this.chunkCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Append element at the end.
+     */
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        chunks[(int) (size >>> chunkShift)].setAtIndex(ValueLayout.JAVA_INT, size & chunkMask, value);
+        size++;
+    }
+
+    /**
+     * Insert element at specific index, shifting later elements right one chunk at a time.
+     */
+    public boolean insert(long index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        ensureCapacity(size + 1);
+        int carry = value;
+        long position = index;
+        while (position <= size) {
+            MemorySegment chunk = chunks[(int) (position >>> chunkShift)];
+            long offset = position & chunkMask;
+            // Only the occupied part of this chunk needs to move
+            long chunkEnd = Math.min(chunkLength, offset + (size - position) + 1);
+            int spill = chunkEnd == chunkLength && position + (chunkLength - offset) <= size
+                ? chunk.getAtIndex(ValueLayout.JAVA_INT, chunkLength - 1)
+                : 0;
+            long moved = chunkEnd - offset - 1;
+            if (moved > 0) {
+                MemorySegment.copy(chunk, offset * Integer.BYTES, chunk, (offset + 1) * Integer.BYTES, moved * Integer.BYTES);
+            }
+            chunk.setAtIndex(ValueLayout.JAVA_INT, offset, carry);
+            carry = spill;
+            position += chunkLength - offset;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Delete element at specific index, shifting later elements left.
+     */
+    public int delete(long index) {
+        checkIndex(index);
+        int value = get(index);
+        long position = index;
+        while (position < size - 1) {
+            MemorySegment chunk = chunks[(int) (position >>> chunkShift)];
+            long offset = position & chunkMask;
+            long chunkEnd = Math.min(chunkLength, offset + (size - position));
+            long moved = chunkEnd - offset - 1;
+            if (moved > 0) {
+                MemorySegment.copy(chunk, (offset + 1) * Integer.BYTES, chunk, offset * Integer.BYTES, moved * Integer.BYTES);
+            }
+            long next = position + (chunkLength - offset);
+            if (next < size) {
+                // Pull the first element of the next chunk into the last slot of this one
+                chunk.setAtIndex(ValueLayout.JAVA_INT, chunkLength - 1, get(next));
+            }
+            position = next;
+        }
+        size--;
+        return value;
+    }
+
+    /**
+     * Get element at specific index.
+     */
+    public int get(long index) {
+        checkIndex(index);
+        return chunks[(int) (index >>> chunkShift)].getAtIndex(ValueLayout.JAVA_INT, index & chunkMask);
+    }
+
+    /**
+     * Set element at specific index.
+     */
+    public void set(long index, int value) {
+        checkIndex(index);
+        chunks[(int) (index >>> chunkShift)].setAtIndex(ValueLayout.JAVA_INT, index & chunkMask, value);
+    }
+
+    /**
+     * Search for element (returns index or -1).
+     */
+    public long search(int value) {
+        for (int c = 0; c < chunkCount; c++) {
+            MemorySegment chunk = chunks[c];
+            long base = (long) c << chunkShift;
+            long limit = Math.min(chunkLength, size - base);
+            for (long i = 0; i < limit; i++) {
+                if (chunk.getAtIndex(ValueLayout.JAVA_INT, i) == value) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public long length() {
+        return size;
+    }
+
+    @Override
+    public int valueAt(long index) {
+        return get(index);
+    }
+
+    /**
+     * Get current size.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Get number of elements that fit in the allocated chunks.
+     */
+    public long getCapacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * Get native bytes currently allocated.
+     */
+    public long getAllocatedBytes() {
+        return getCapacity() * Integer.BYTES;
+    }
+
+    /**
+     * Check if array is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the array and free all native memory.
+     */
+    public void clear() {
+        arena.close();
+        arena = Arena.ofShared();
+        chunks = new MemorySegment[4];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Free native memory; the array must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        arena.close();
+        chunks = new MemorySegment[0];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Allocate chunks until minCapacity elements fit.
+     */
+    private void ensureCapacity(long minCapacity) {
+        while (getCapacity() < minCapacity) {
+            if (chunkCount == chunks.length) {
+                MemorySegment[] grown = new MemorySegment[chunks.length * 2];
+                System.arraycopy(chunks, 0, grown, 0, chunkCount);
+                chunks = grown;
+            }
+            chunks[chunkCount++] = arena.allocate(chunkLength * Integer.BYTES, Integer.BYTES);
+        }
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+}
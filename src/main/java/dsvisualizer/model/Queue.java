@@ -22,6 +22,10 @@ public class Queue {
         if (isFull()) {
             throw new RuntimeException("Queue Overflow");
         }
+        // Boxing allocates only outside the Integer cache (-128..127)
+        if (value < -128 || value > 127) {
+            CostCounters.count(CostCounters.Cost.ALLOCATION);
+        }
         elements.add(value);
         return true;
     }
@@ -33,6 +37,8 @@ public class Queue {
         if (isEmpty()) {
             throw new RuntimeException("Queue Underflow");
         }
+        // ArrayList.remove(0) shifts every remaining element left
+        CostCounters.count(CostCounters.Cost.SHIFT, elements.size() - 1);
         return elements.remove(0);
     }
 
@@ -67,6 +73,13 @@ public class Queue {
         return elements.size();
     }
 
+    /**
+     * Estimated retained heap bytes: the ArrayList, its Object[] and one Integer per uncached value.
+     */
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(1, 1, 0) + MemoryLayout.arrayListOfIntegers(elements);
+    }
+
     /**
      * Get capacity.
      */
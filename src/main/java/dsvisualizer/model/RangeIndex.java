@@ -0,0 +1,48 @@
+package dsvisualizer.model;
+
+/**
+ * Range-query index kept alongside a DynamicArray's elements.
+ * Ranges are half-open: [from, to). Indexes that answer min and max implement MinMaxRangeIndex.
+ */
+public interface RangeIndex {
+    /**
+     * Rebuild from the current elements.
+     */
+    void build(IntArrayView values);
+
+    /**
+     * Append a value after the last element.
+     */
+    void append(int value);
+
+    /**
+     * Drop the last element.
+     */
+    void removeLast();
+
+    /**
+     * Point update: element at index changes from oldValue to newValue.
+     */
+    void set(int index, int oldValue, int newValue);
+
+    /**
+     * Add delta to every element in [from, to) (returns false if the index must be rebuilt instead).
+     */
+    boolean rangeAdd(int from, int to, int delta);
+
+    /**
+     * Sum of elements in [from, to).
+     */
+    long rangeSum(int from, int to);
+
+    /**
+     * Stored segments a query over [from, to) combines, as flat (start, end, sign) triples;
+     * sign is -1 for segments subtracted from the result.
+     */
+    int[] coveringSegments(int from, int to);
+
+    /**
+     * Estimated heap bytes used by the index.
+     */
+    long getMemoryFootprintBytes();
+}
@@ -0,0 +1,70 @@
+package dsvisualizer.model;
+
+/**
+ * Plain loop kernels, used when the Vector API is unavailable.
+ */
+final class ScalarArrayKernels extends ArrayKernels {
+
+    @Override
+    public int indexOf(int[] data, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(int[] data, int from, int to, int value) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (data[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int min(int[] data, int from, int to) {
+        int min = Integer.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, data[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] data, int from, int to) {
+        int max = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, data[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long sum(int[] data, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int indexOfFirstGreaterThan(int[] data, int from, int to, int threshold) {
+        for (int i = from; i < to; i++) {
+            if (data[i] > threshold) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+}
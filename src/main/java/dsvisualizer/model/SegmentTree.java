@@ -0,0 +1,263 @@
+package dsvisualizer.model;
+
+import java.util.Arrays;
+
+/**
+ * Segment tree with sum, min and max per node and lazy-propagated range add.
+ * Node 1 covers [0, capacity); node i has children 2i and 2i + 1. Leaves past the
+ * last element hold the identities (0, +inf, -inf) so appends are point updates.
+ */
+public class SegmentTree implements MinMaxRangeIndex {
+    private long[] sum;
+    private long[] min;
+    private long[] max;
+    private long[] lazy;   // pending add for every element below node (already applied to the node itself)
+    private int capacity;  // leaf count, a power of two
+    private int size;
+
+    public SegmentTree() {
+        allocate(1);
+    }
+
+    @Override
+    public void build(IntArrayView values) {
+        int n = (int) values.length();
+        int cap = 1;
+        while (cap < n) {
+            cap <<= 1;
+        }
+        allocate(cap);
+        for (int i = 0; i < n; i++) {
+            int leaf = capacity + i;
+            sum[leaf] = min[leaf] = max[leaf] = values.valueAt(i);
+        }
+        for (int node = capacity - 1; node >= 1; node--) {
+            pull(node);
+        }
+        size = n;
+    }
+
+    @Override
+    public void append(int value) {
+        if (size == capacity) {
+            grow();
+        }
+        assign(1, 0, capacity, size, value);
+        size++;
+    }
+
+    @Override
+    public void removeLast() {
+        if (size == 0) {
+            throw new RuntimeException("Index is empty");
+        }
+        size--;
+        clearLeaf(1, 0, capacity, size);
+    }
+
+    @Override
+    public void set(int index, int oldValue, int newValue) {
+        assign(1, 0, capacity, index, newValue);
+    }
+
+    @Override
+    public boolean rangeAdd(int from, int to, int delta) {
+        if (from < to) {
+            add(1, 0, capacity, from, to, delta);
+        }
+        return true;
+    }
+
+    @Override
+    public long rangeSum(int from, int to) {
+        return querySum(1, 0, capacity, from, to);
+    }
+
+    @Override
+    public int rangeMin(int from, int to) {
+        return (int) queryMin(1, 0, capacity, from, to);
+    }
+
+    @Override
+    public int rangeMax(int from, int to) {
+        return (int) queryMax(1, 0, capacity, from, to);
+    }
+
+    @Override
+    public int[] coveringSegments(int from, int to) {
+        int[] out = new int[3 * 2 * 32];
+        int count = collect(1, 0, capacity, from, to, out, 0);
+        return Arrays.copyOf(out, count);
+    }
+
+    @Override
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(4, 2, 0) + 4 * MemoryLayout.array(8, sum.length);
+    }
+
+    private void allocate(int cap) {
+        capacity = cap;
+        sum = new long[2 * cap];
+        min = new long[2 * cap];
+        max = new long[2 * cap];
+        lazy = new long[2 * cap];
+        Arrays.fill(min, Long.MAX_VALUE);
+        Arrays.fill(max, Long.MIN_VALUE);
+        size = 0;
+    }
+
+    /**
+     * Double the leaf count; the old root becomes the left child of the new root.
+     */
+    private void grow() {
+        push(1, capacity);
+        long[] oldSum = sum;
+        long[] oldMin = min;
+        long[] oldMax = max;
+        long[] oldLazy = lazy;
+        int oldCapacity = capacity;
+        int oldSize = size;
+        allocate(oldCapacity * 2);
+        // Level by level, old node i at depth d maps to new node i + 2^d
+        for (int levelStart = 1; levelStart <= oldCapacity; levelStart <<= 1) {
+            for (int i = levelStart; i < 2 * levelStart; i++) {
+                int node = i + levelStart;
+                sum[node] = oldSum[i];
+                min[node] = oldMin[i];
+                max[node] = oldMax[i];
+                lazy[node] = oldLazy[i];
+            }
+        }
+        pull(1);
+        size = oldSize;
+    }
+
+    private void pull(int node) {
+        int left = 2 * node;
+        int right = left + 1;
+        sum[node] = sum[left] + sum[right];
+        min[node] = Math.min(min[left], min[right]);
+        max[node] = Math.max(max[left], max[right]);
+    }
+
+    /**
+     * Hand a node's pending add down to its children (length = elements under node).
+     */
+    private void push(int node, int length) {
+        if (lazy[node] == 0 || length == 1) {
+            return;
+        }
+        int half = length / 2;
+        apply(2 * node, half, lazy[node]);
+        apply(2 * node + 1, half, lazy[node]);
+        lazy[node] = 0;
+    }
+
+    private void apply(int node, int length, long delta) {
+        // Only nodes whose leaves are all real elements ever receive an add
+        sum[node] += delta * length;
+        min[node] += delta;
+        max[node] += delta;
+        lazy[node] += delta;
+    }
+
+    private void add(int node, int lo, int hi, int from, int to, long delta) {
+        if (to <= lo || hi <= from) {
+            return;
+        }
+        if (from <= lo && hi <= to) {
+            apply(node, hi - lo, delta);
+            return;
+        }
+        push(node, hi - lo);
+        int mid = (lo + hi) >>> 1;
+        add(2 * node, lo, mid, from, to, delta);
+        add(2 * node + 1, mid, hi, from, to, delta);
+        pull(node);
+    }
+
+    private void assign(int node, int lo, int hi, int index, int value) {
+        if (hi - lo == 1) {
+            sum[node] = min[node] = max[node] = value;
+            lazy[node] = 0;
+            return;
+        }
+        push(node, hi - lo);
+        int mid = (lo + hi) >>> 1;
+        if (index < mid) {
+            assign(2 * node, lo, mid, index, value);
+        } else {
+            assign(2 * node + 1, mid, hi, index, value);
+        }
+        pull(node);
+    }
+
+    private void clearLeaf(int node, int lo, int hi, int index) {
+        if (hi - lo == 1) {
+            sum[node] = 0;
+            min[node] = Long.MAX_VALUE;
+            max[node] = Long.MIN_VALUE;
+            lazy[node] = 0;
+            return;
+        }
+        push(node, hi - lo);
+        int mid = (lo + hi) >>> 1;
+        if (index < mid) {
+            clearLeaf(2 * node, lo, mid, index);
+        } else {
+            clearLeaf(2 * node + 1, mid, hi, index);
+        }
+        pull(node);
+    }
+
+    private long querySum(int node, int lo, int hi, int from, int to) {
+        if (to <= lo || hi <= from) {
+            return 0;
+        }
+        if (from <= lo && hi <= to) {
+            return sum[node];
+        }
+        push(node, hi - lo);
+        int mid = (lo + hi) >>> 1;
+        return querySum(2 * node, lo, mid, from, to) + querySum(2 * node + 1, mid, hi, from, to);
+    }
+
+    private long queryMin(int node, int lo, int hi, int from, int to) {
+        if (to <= lo || hi <= from) {
+            return Long.MAX_VALUE;
+        }
+        if (from <= lo && hi <= to) {
+            return min[node];
+        }
+        push(node, hi - lo);
+        int mid = (lo + hi) >>> 1;
+        return Math.min(queryMin(2 * node, lo, mid, from, to), queryMin(2 * node + 1, mid, hi, from, to));
+    }
+
+    private long queryMax(int node, int lo, int hi, int from, int to) {
+        if (to <= lo || hi <= from) {
+            return Long.MIN_VALUE;
+        }
+        if (from <= lo && hi <= to) {
+            return max[node];
+        }
+        push(node, hi - lo);
+        int mid = (lo + hi) >>> 1;
+        return Math.max(queryMax(2 * node, lo, mid, from, to), queryMax(2 * node + 1, mid, hi, from, to));
+    }
+
+    private int collect(int node, int lo, int hi, int from, int to, int[] out, int count) {
+        if (to <= lo || hi <= from) {
+            return count;
+        }
+        if (from <= lo && hi <= to) {
+            out[count] = lo;
+            out[count + 1] = hi;
+            out[count + 2] = 1;
+            return count + 3;
+        }
+        int mid = (lo + hi) >>> 1;
+        count = collect(2 * node, lo, mid, from, to, out, count);
+        return collect(2 * node + 1, mid, hi, from, to, out, count);
+    }
+}
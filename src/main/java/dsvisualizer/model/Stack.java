@@ -22,6 +22,10 @@ public class Stack {
         if (isFull()) {
             throw new RuntimeException("Stack Overflow");
         }
+        // Boxing allocates only outside the Integer cache (-128..127)
+        if (value < -128 || value > 127) {
+            CostCounters.count(CostCounters.Cost.ALLOCATION);
+        }
         elements.add(value);
         return true;
     }
@@ -67,6 +71,13 @@ public class Stack {
         return elements.size();
     }
 
+    /**
+     * Estimated retained heap bytes: the ArrayList, its Object[] and one Integer per uncached value.
+     */
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(1, 1, 0) + MemoryLayout.arrayListOfIntegers(elements);
+    }
+
     /**
      * Get capacity.
      */
@@ -0,0 +1,241 @@
+package dsvisualizer.model;
+
+import java.util.Arrays;
+
+/**
+ * Disjoint-set forest over int labels with union by rank and path compression.
+ * Labels are mapped to dense element indices through an IntPositionIndex; parent and
+ * rank live in primitive arrays indexed by element. A forest created with ofSize labels
+ * each element by its own index and skips the lookup table until another label is added.
+ */
+public class UnionFind {
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] parent;
+    private byte[] rank;
+    private int[] labels;
+    private IntPositionIndex index; // null while every label equals its element index
+    private int size;
+    private int count;
+    private int lastPathLength;
+
+    public UnionFind() {
+        this(MIN_CAPACITY);
+    }
+
+    public UnionFind(int expectedElements) {
+        int capacity = Math.max(MIN_CAPACITY, expectedElements);
+        this.parent = new int[capacity];
+        this.rank = new byte[capacity];
+        this.labels = new int[capacity];
+        this.index = new IntPositionIndex(capacity);
+    }
+
+    /**
+     * Create singleton sets 0..n-1, each labelled by its element index.
+     */
+    public static UnionFind ofSize(int n) {
+        UnionFind forest = new UnionFind(0);
+        forest.parent = new int[Math.max(MIN_CAPACITY, n)];
+        forest.rank = new byte[forest.parent.length];
+        forest.labels = new int[forest.parent.length];
+        forest.index = null;
+        for (int i = 0; i < n; i++) {
+            forest.parent[i] = i;
+            forest.labels[i] = i;
+        }
+        forest.size = n;
+        forest.count = n;
+        return forest;
+    }
+
+    /**
+     * Add a singleton set for a label (returns false if the label already exists).
+     */
+    public boolean makeSet(int label) {
+        if (indexOf(label) >= 0) {
+            return false;
+        }
+        if (index == null && label != size) {
+            index = new IntPositionIndex(Math.max(MIN_CAPACITY, size + 1));
+            for (int e = 0; e < size; e++) {
+                index.add(e, e);
+            }
+        }
+        if (size == parent.length) {
+            parent = Arrays.copyOf(parent, size * 2);
+            rank = Arrays.copyOf(rank, size * 2);
+            labels = Arrays.copyOf(labels, size * 2);
+        }
+        parent[size] = size;
+        rank[size] = 0;
+        labels[size] = label;
+        if (index != null) {
+            index.add(label, size);
+        }
+        size++;
+        count++;
+        return true;
+    }
+
+    /**
+     * Merge the sets of two labels, creating missing labels (returns false if already joined).
+     */
+    public boolean union(int labelA, int labelB) {
+        makeSet(labelA);
+        makeSet(labelB);
+        return unionElements(indexOf(labelA), indexOf(labelB));
+    }
+
+    /**
+     * Merge the sets of two element indices (returns false if already joined).
+     */
+    public boolean unionElements(int a, int b) {
+        int rootA = findRoot(a);
+        int rootB = findRoot(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else if (rank[rootA] > rank[rootB]) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootB] = rootA;
+            rank[rootA]++;
+        }
+        count--;
+        return true;
+    }
+
+    /**
+     * Get the label of the representative of a label's set.
+     */
+    public int find(int label) {
+        int element = indexOf(label);
+        if (element < 0) {
+            throw new RuntimeException("Element not found: " + label);
+        }
+        return labels[findRoot(element)];
+    }
+
+    /**
+     * Check if two labels are in the same set (false if either is missing).
+     */
+    public boolean connected(int labelA, int labelB) {
+        int a = indexOf(labelA);
+        int b = indexOf(labelB);
+        return a >= 0 && b >= 0 && findRoot(a) == findRoot(b);
+    }
+
+    /**
+     * Root of an element; compresses the path so every visited element points at the root.
+     */
+    public int findRoot(int element) {
+        int root = element;
+        int length = 0;
+        while (parent[root] != root) {
+            root = parent[root];
+            length++;
+        }
+        while (parent[element] != root) {
+            int next = parent[element];
+            parent[element] = root;
+            element = next;
+        }
+        lastPathLength = length;
+        return root;
+    }
+
+    /**
+     * Get the element indices from a label up to its root, without compressing.
+     */
+    public int[] pathOf(int label) {
+        int element = indexOf(label);
+        if (element < 0) {
+            return new int[0];
+        }
+        int length = 1;
+        for (int e = element; parent[e] != e; e = parent[e]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int e = element, i = 0; i < length; e = parent[e], i++) {
+            path[i] = e;
+        }
+        return path;
+    }
+
+    /**
+     * Get the element index of a label (-1 if absent).
+     */
+    public int indexOf(int label) {
+        if (index == null) {
+            return label >= 0 && label < size ? label : -1;
+        }
+        int element = index.firstPosition(label);
+        return element == IntPositionIndex.NOT_FOUND ? -1 : element;
+    }
+
+    /**
+     * Get the label of an element.
+     */
+    public int getLabel(int element) {
+        return labels[element];
+    }
+
+    /**
+     * Get the parent element of an element (itself for a root).
+     */
+    public int getParent(int element) {
+        return parent[element];
+    }
+
+    /**
+     * Get the rank of an element.
+     */
+    public int getRank(int element) {
+        return rank[element];
+    }
+
+    /**
+     * Get number of elements.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Estimated retained heap bytes: parent, rank and label arrays plus the label index.
+     */
+    public long getMemoryFootprintBytes() {
+        return MemoryLayout.object(4, 3, 0) + MemoryLayout.intArray(parent) + MemoryLayout.array(1, rank.length)
+            + MemoryLayout.intArray(labels) + (index == null ? 0 : index.getMemoryFootprintBytes());
+    }
+
+    /**
+     * Get number of disjoint sets.
+     */
+    public int getSetCount() {
+        return count;
+    }
+
+    /**
+     * Get number of parent links followed by the last root lookup.
+     */
+    public int getLastPathLength() {
+        return lastPathLength;
+    }
+
+    /**
+     * Remove all elements.
+     */
+    public void clear() {
+        if (index == null) {
+            index = new IntPositionIndex(parent.length);
+        }
+        index.clear();
+        size = 0;
+        count = 0;
+    }
+}
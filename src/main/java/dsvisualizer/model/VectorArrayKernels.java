@@ -0,0 +1,124 @@
+package dsvisualizer.model;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels on the preferred vector shape; remainders fall back to scalar loops.
+ * Only loaded by ArrayKernels when jdk.incubator.vector is present.
+ */
+final class VectorArrayKernels extends ArrayKernels {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    // Same shape as SPECIES, so each int vector widens into exactly two long vectors
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public int indexOf(int[] data, int from, int to, int value) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(SPECIES, data, i).compare(VectorOperators.EQ, value);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(int[] data, int from, int to, int value) {
+        IntVector counts = IntVector.zero(SPECIES);
+        IntVector ones = IntVector.broadcast(SPECIES, 1);
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(SPECIES, data, i).compare(VectorOperators.EQ, value);
+            counts = counts.add(ones, hits);
+        }
+        int count = counts.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            if (data[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int min(int[] data, int from, int to) {
+        IntVector mins = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            mins = mins.min(IntVector.fromArray(SPECIES, data, i));
+        }
+        int min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, data[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] data, int from, int to) {
+        IntVector maxes = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            maxes = maxes.max(IntVector.fromArray(SPECIES, data, i));
+        }
+        int max = maxes.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, data[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long sum(int[] data, int from, int to) {
+        LongVector sums = LongVector.zero(LONG_SPECIES);
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector v = IntVector.fromArray(SPECIES, data, i);
+            sums = sums.add((LongVector) v.convertShape(VectorOperators.I2L, LONG_SPECIES, 0))
+                       .add((LongVector) v.convertShape(VectorOperators.I2L, LONG_SPECIES, 1));
+        }
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int indexOfFirstGreaterThan(int[] data, int from, int to, int threshold) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(SPECIES, data, i).compare(VectorOperators.GT, threshold);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (data[i] > threshold) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String getName() {
+        return "vector (" + SPECIES.vectorBitSize() + "-bit)";
+    }
+}
@@ -32,6 +32,7 @@ public class Constants {
     // UI dimensions
     public static final int CONTROL_PANEL_HEIGHT = 100;
     public static final int STATUS_PANEL_HEIGHT = 150;
+    public static final int METRICS_REFRESH_MS = 1000;
     public static final int VISUALIZATION_AREA_MIN_WIDTH = 1000;
     public static final int VISUALIZATION_AREA_MIN_HEIGHT = 600;
 
@@ -40,6 +41,8 @@ public class Constants {
     public static final int ARRAY_CELL_HEIGHT = 60;
     public static final int ARRAY_CELL_SPACING = 10;
     public static final double ARRAY_STROKE_WIDTH = 2.0;
+    public static final int ARRAY_MAX_RENDERED_CELLS = 200;
+    public static final int SORT_ANIMATION_MAX_EVENTS = 5000;
 
     // Stack/Queue visualization
     public static final int STACK_ELEMENT_WIDTH = 80;
@@ -58,9 +61,29 @@ public class Constants {
     public static final int TREE_LEVEL_HEIGHT = 100;
     public static final int TREE_NODE_HORIZONTAL_SPACING = 60;
 
+    // Heap visualization
+    public static final int HEAP_MAX_TREE_NODES = 63;
+    public static final int DEFAULT_HEAP_ARITY = 2;
+
+    // Hash table visualization
+    public static final int HASH_BUCKET_SIZE = 44;
+    public static final int HASH_BUCKETS_PER_ROW = 16;
+    public static final int HASH_MAX_RENDERED_BUCKETS = 256;
+    public static final int DEFAULT_HASH_CAPACITY = 16;
+
+    // Union-find visualization
+    public static final int UNION_FIND_MAX_RENDERED = 64;
+    public static final int UNION_FIND_SLOT_WIDTH = 60;
+
     // Graph visualization
     public static final int GRAPH_VERTEX_RADIUS = 20;
     public static final int GRAPH_VERTEX_SPACING = 100;
+    public static final int GRAPH_ANIMATION_MAX_EVENTS = 2000;
+    public static final int GRAPH_MAX_IMPORT_RENDER_EDGES = 2000;
+    public static final int GRAPH_MAX_LISTED_VERTICES = 50;
+    public static final long GRAPH_GENERATOR_SEED = 42;
+    public static final double GRAPH_VERTEX_MIN_SCALE = 0.6;
+    public static final double GRAPH_VERTEX_MAX_SCALE = 2.0;
 
     // Speed slider ranges
     public static final double SPEED_MIN = 0.5;
@@ -71,6 +94,7 @@ public class Constants {
     public static final int DEFAULT_ARRAY_SIZE = 10;
     public static final int DEFAULT_STACK_CAPACITY = 15;
     public static final int DEFAULT_QUEUE_CAPACITY = 10;
+    public static final int DEFAULT_HEAP_CAPACITY = 16;
 
     // Font sizes
     public static final int FONT_SIZE_LABEL = 12;
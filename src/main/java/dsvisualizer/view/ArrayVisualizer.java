@@ -3,13 +3,17 @@ package dsvisualizer.view;
 import javafx.scene.Group;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.Line;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 import javafx.geometry.Bounds;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.RenderEvent;
 import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.IntArrayView;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.LayoutUtil;
 
@@ -18,33 +22,57 @@ import dsvisualizer.util.LayoutUtil;
  */
 public class ArrayVisualizer {
     private Pane canvas;
-    private DynamicArray array;
+    private IntArrayView array;
     private Group elementsGroup;
     private Group indexLabelsGroup;
+    private Group segmentsGroup;
 
-    public ArrayVisualizer(Pane canvas, DynamicArray array) {
+    public ArrayVisualizer(Pane canvas, IntArrayView array) {
         this.canvas = canvas;
         this.array = array;
         this.elementsGroup = new Group();
         this.indexLabelsGroup = new Group();
-        canvas.getChildren().addAll(elementsGroup, indexLabelsGroup);
+        this.segmentsGroup = new Group();
+        canvas.getChildren().addAll(elementsGroup, indexLabelsGroup, segmentsGroup);
     }
 
     /**
      * Render the array visualization.
      */
     public void render() {
+        RenderEvent renderEvent = OperationMetrics.beginRender();
         LayoutUtil.clearGroup(elementsGroup);
         LayoutUtil.clearGroup(indexLabelsGroup);
+        LayoutUtil.clearGroup(segmentsGroup);
 
-        int[] elements = array.getElements();
+        // Read cells straight from the view so large or off-heap arrays are never copied
+        long length = array.length();
+        int visible = (int) Math.min(length, Constants.ARRAY_MAX_RENDERED_CELLS);
         int startX = 50;
         int startY = 100;
 
-        for (int i = 0; i < elements.length; i++) {
+        for (int i = 0; i < visible; i++) {
             drawCell(startX + i * (Constants.ARRAY_CELL_WIDTH + Constants.ARRAY_CELL_SPACING), 
-                     startY, i, elements[i]);
+                     startY, i, array.valueAt(i));
         }
+
+        if (array instanceof DynamicArray) {
+            DynamicArray dynamicArray = (DynamicArray) array;
+            if (dynamicArray.getStorageMode() == DynamicArray.StorageMode.GAP_BUFFER
+                    && dynamicArray.getGapStart() <= visible) {
+                drawGapMarker(startX, startY, dynamicArray.getGapStart(), dynamicArray.getGapLength());
+            }
+        }
+
+        if (visible < length) {
+            Text moreText = new Text("... " + (length - visible) + " more");
+            moreText.setFont(Font.font("System", FontWeight.NORMAL, Constants.FONT_SIZE_LABEL));
+            moreText.setFill(Constants.COLOR_TEXT_DARK);
+            moreText.setX(startX + visible * (Constants.ARRAY_CELL_WIDTH + Constants.ARRAY_CELL_SPACING));
+            moreText.setY(startY + Constants.ARRAY_CELL_HEIGHT / 2.0);
+            indexLabelsGroup.getChildren().add(moreText);
+        }
+        OperationMetrics.endRender(renderEvent, this, canvas);
     }
 
     /**
@@ -80,6 +108,26 @@ public class ArrayVisualizer {
         indexLabelsGroup.getChildren().add(indexText);
     }
 
+    /**
+     * Draw a marker between cells where the gap-buffer gap currently sits.
+     */
+    private void drawGapMarker(double startX, double startY, int gapIndex, int gapLength) {
+        double x = startX + gapIndex * (Constants.ARRAY_CELL_WIDTH + Constants.ARRAY_CELL_SPACING)
+            - Constants.ARRAY_CELL_SPACING / 2.0;
+        Line marker = new Line(x, startY - 15, x, startY + Constants.ARRAY_CELL_HEIGHT + 15);
+        marker.setStroke(Constants.COLOR_SECONDARY);
+        marker.setStrokeWidth(3.0);
+        marker.getStrokeDashArray().addAll(6.0, 4.0);
+        indexLabelsGroup.getChildren().add(marker);
+
+        Text gapText = new Text("gap (" + gapLength + ")");
+        gapText.setFont(Font.font("System", FontWeight.BOLD, Constants.FONT_SIZE_LABEL));
+        gapText.setFill(Constants.COLOR_SECONDARY);
+        gapText.setX(x - gapText.getBoundsInLocal().getWidth() / 2);
+        gapText.setY(startY - 20);
+        indexLabelsGroup.getChildren().add(gapText);
+    }
+
     /**
      * Highlight a cell.
      */
@@ -100,6 +148,44 @@ public class ArrayVisualizer {
         }
     }
 
+    /**
+     * Draw range-index segments as bars below the cells, one row per segment; segments
+     * with a negative sign (subtracted from the result) are drawn in the error color.
+     */
+    public void showSegments(int[] segments) {
+        LayoutUtil.clearGroup(segmentsGroup);
+        int cells = elementsGroup.getChildren().size() / 2;
+        for (int k = 0, row = 0; k + 2 < segments.length; k += 3, row++) {
+            int start = segments[k];
+            int end = Math.min(segments[k + 1], cells);
+            if (start >= end) {
+                continue;
+            }
+            Rectangle first = (Rectangle) elementsGroup.getChildren().get(start * 2);
+            Rectangle last = (Rectangle) elementsGroup.getChildren().get((end - 1) * 2);
+            double y = first.getY() + Constants.ARRAY_CELL_HEIGHT + 30 + row * 12;
+            Rectangle bar = new Rectangle(first.getX() + 2, y, last.getX() + last.getWidth() - first.getX() - 4, 8);
+            bar.setArcWidth(6);
+            bar.setArcHeight(6);
+            bar.setFill(segments[k + 2] < 0 ? Constants.COLOR_ERROR : Constants.COLOR_SUCCESS);
+            segmentsGroup.getChildren().add(bar);
+        }
+    }
+
+    /**
+     * Replace the value shown in a cell without re-rendering.
+     */
+    public void setCellValue(int index, int value) {
+        int textIndex = index * 2 + 1;
+        if (index < 0 || textIndex >= elementsGroup.getChildren().size()) {
+            return;
+        }
+        Rectangle cell = (Rectangle) elementsGroup.getChildren().get(index * 2);
+        Text valueText = (Text) elementsGroup.getChildren().get(textIndex);
+        valueText.setText(String.valueOf(value));
+        valueText.setX(cell.getX() + (Constants.ARRAY_CELL_WIDTH - valueText.getBoundsInLocal().getWidth()) / 2);
+    }
+
     /**
      * Reset cell color.
      */
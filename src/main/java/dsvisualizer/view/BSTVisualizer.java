@@ -9,6 +9,8 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.RenderEvent;
 import dsvisualizer.model.BinarySearchTree;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.LayoutUtil;
@@ -36,6 +38,7 @@ public class BSTVisualizer {
      * Render the BST visualization.
      */
     public void render() {
+        RenderEvent renderEvent = OperationMetrics.beginRender();
         LayoutUtil.clearGroup(edgeGroup);
         LayoutUtil.clearGroup(nodeGroup);
         this.nodeCount = 0;
@@ -43,6 +46,7 @@ public class BSTVisualizer {
         if (bst.getRoot() != null) {
             renderNode(bst.getRoot(), 400, 50, 150);
         }
+        OperationMetrics.endRender(renderEvent, this, canvas);
     }
 
     /**
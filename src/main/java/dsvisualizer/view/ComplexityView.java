@@ -0,0 +1,106 @@
+package dsvisualizer.view;
+
+import javafx.geometry.Insets;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import dsvisualizer.algorithm.ComplexityClass;
+import dsvisualizer.algorithm.ComplexityFit;
+import dsvisualizer.generator.ComplexityExperiment;
+
+import java.util.Locale;
+
+/**
+ * Window content for the complexity plot: measured cost per operation against log2(n),
+ * overlaid with the fitted curve of every complexity class.
+ */
+public class ComplexityView extends BorderPane {
+    private ComboBox<String> experimentSelector;
+    private Button runButton;
+    private Label statusLabel;
+    private Label fitLabel;
+    private LineChart<Number, Number> chart;
+
+    public ComplexityView() {
+        this.setPadding(new Insets(10));
+        this.setStyle("-fx-background-color: #FAFAFA;");
+
+        experimentSelector = new ComboBox<>();
+        for (ComplexityExperiment experiment : ComplexityExperiment.values()) {
+            experimentSelector.getItems().add(experiment.getDisplayName());
+        }
+        experimentSelector.setValue(ComplexityExperiment.values()[0].getDisplayName());
+        runButton = new Button("Run");
+        runButton.setStyle("-fx-font-size: 11;");
+        statusLabel = new Label("");
+        statusLabel.setStyle("-fx-font-size: 11; -fx-text-fill: #555555;");
+        HBox controls = new HBox(10, new Label("Experiment:"), experimentSelector, runButton, statusLabel);
+        controls.setPadding(new Insets(0, 0, 10, 0));
+
+        NumberAxis xAxis = new NumberAxis();
+        xAxis.setLabel("log2(n)");
+        xAxis.setForceZeroInRange(false);
+        NumberAxis yAxis = new NumberAxis();
+        yAxis.setLabel("Counted cost per operation");
+        chart = new LineChart<>(xAxis, yAxis);
+        chart.setAnimated(false);
+        chart.setCreateSymbols(true);
+
+        fitLabel = new Label("Run an experiment to fit its growth curve");
+        fitLabel.setStyle("-fx-font-size: 11; -fx-font-family: 'Courier New';");
+        fitLabel.setWrapText(true);
+
+        this.setTop(controls);
+        this.setCenter(chart);
+        this.setBottom(fitLabel);
+    }
+
+    public ComboBox<String> getExperimentSelector() {
+        return experimentSelector;
+    }
+
+    public Button getRunButton() {
+        return runButton;
+    }
+
+    public void setStatus(String message) {
+        statusLabel.setText(message);
+    }
+
+    /**
+     * Plot measured costs and every fitted curve, and list the fit errors.
+     */
+    public void showResult(String experiment, double[] sizes, double[] costs, ComplexityFit fit) {
+        chart.getData().clear();
+        chart.setTitle(experiment);
+        XYChart.Series<Number, Number> measured = new XYChart.Series<>();
+        measured.setName("Measured");
+        for (int i = 0; i < sizes.length; i++) {
+            measured.getData().add(new XYChart.Data<>(log2(sizes[i]), costs[i]));
+        }
+        chart.getData().add(measured);
+
+        StringBuilder text = new StringBuilder("Best fit: " + fit.getBest().getDisplayName());
+        for (ComplexityClass complexity : ComplexityClass.values()) {
+            XYChart.Series<Number, Number> curve = new XYChart.Series<>();
+            curve.setName(complexity.getDisplayName() + (complexity == fit.getBest() ? " (best)" : ""));
+            for (double size : sizes) {
+                curve.getData().add(new XYChart.Data<>(log2(size), fit.predict(complexity, size)));
+            }
+            chart.getData().add(curve);
+            text.append(String.format(Locale.ROOT, "%n%-11s %.3g + %.3g * f(n)   error %.1f%%",
+                complexity.getDisplayName(), fit.getIntercept(complexity), fit.getScale(complexity),
+                fit.getError(complexity) * 100));
+        }
+        fitLabel.setText(text.toString());
+    }
+
+    private static double log2(double n) {
+        return Math.log(n) / Math.log(2);
+    }
+}
@@ -16,8 +16,17 @@ public class ControlPanel extends HBox {
     private Button deleteBtn;
     private Button searchBtn;
     private Button resetBtn;
+    private MenuButton fileMenu;
+    private MenuItem saveItem;
+    private MenuItem loadItem;
+    private MenuButton operationsMenu;
+    private MenuButton analyzeMenu;
+    private MenuItem complexityItem;
+    private MenuItem footprintItem;
+    private java.util.function.Consumer<String> operationHandler;
     private Slider speedSlider;
     private CheckBox stepByStepCheckBox;
+    private CheckBox searchIndexCheckBox;
     private ComboBox<String> dataStructureSelector;
     private Label statusLabel;
 
@@ -39,6 +48,23 @@ public class ControlPanel extends HBox {
         searchBtn = createButton("Search");
         resetBtn = createButton("Reset");
 
+        // File Menu (binary save / memory-mapped load)
+        saveItem = new MenuItem("Save...");
+        loadItem = new MenuItem("Load...");
+        fileMenu = new MenuButton("File", null, saveItem, loadItem);
+        fileMenu.setStyle("-fx-font-size: 11;");
+
+        // Structure-specific operations, filled in when the data structure changes
+        operationsMenu = new MenuButton("Operations");
+        operationsMenu.setStyle("-fx-font-size: 11;");
+        operationsMenu.setDisable(true);
+
+        // Analysis windows (independent of the selected structure)
+        complexityItem = new MenuItem("Complexity Plot...");
+        footprintItem = new MenuItem("Memory Footprint...");
+        analyzeMenu = new MenuButton("Analyze", null, complexityItem, footprintItem);
+        analyzeMenu.setStyle("-fx-font-size: 11;");
+
         // Speed Slider
         Label speedLabel = new Label("Speed:");
         speedLabel.setStyle("-fx-font-size: 11;");
@@ -51,12 +77,16 @@ public class ControlPanel extends HBox {
         stepByStepCheckBox = new CheckBox("Step-by-Step");
         stepByStepCheckBox.setStyle("-fx-font-size: 11;");
 
+        // Search Index Toggle (Array / Linked List)
+        searchIndexCheckBox = new CheckBox("Search Index");
+        searchIndexCheckBox.setStyle("-fx-font-size: 11;");
+
         // Data Structure Selector
         Label dsLabel = new Label("Data Structure:");
         dsLabel.setStyle("-fx-font-size: 11;");
         dataStructureSelector = new ComboBox<>();
         dataStructureSelector.getItems().addAll(
-            "Array", "Stack", "Queue", "Linked List", "BST", "Graph"
+            "Array", "Stack", "Queue", "Heap", "Hash Table", "Linked List", "BST", "Graph", "Union-Find"
         );
         dataStructureSelector.setValue("Array");
         dataStructureSelector.setPrefWidth(120);
@@ -72,10 +102,10 @@ public class ControlPanel extends HBox {
             dsLabel, dataStructureSelector,
             new Separator(javafx.geometry.Orientation.VERTICAL),
             inputField,
-            insertBtn, deleteBtn, searchBtn, resetBtn,
+            insertBtn, deleteBtn, searchBtn, resetBtn, fileMenu, operationsMenu, analyzeMenu,
             new Separator(javafx.geometry.Orientation.VERTICAL),
             speedLabel, speedSlider,
-            stepByStepCheckBox,
+            stepByStepCheckBox, searchIndexCheckBox,
             new Separator(javafx.geometry.Orientation.VERTICAL),
             statusLabel
         );
@@ -143,6 +173,43 @@ public class ControlPanel extends HBox {
         return resetBtn;
     }
 
+    public MenuItem getSaveItem() {
+        return saveItem;
+    }
+
+    public MenuItem getLoadItem() {
+        return loadItem;
+    }
+
+    public MenuItem getComplexityItem() {
+        return complexityItem;
+    }
+
+    public MenuItem getFootprintItem() {
+        return footprintItem;
+    }
+
+    /**
+     * Replace the entries of the Operations menu.
+     */
+    public void setOperations(String... names) {
+        operationsMenu.getItems().clear();
+        for (String name : names) {
+            MenuItem item = new MenuItem(name);
+            item.setOnAction(e -> {
+                if (operationHandler != null) {
+                    operationHandler.accept(name);
+                }
+            });
+            operationsMenu.getItems().add(item);
+        }
+        operationsMenu.setDisable(names.length == 0);
+    }
+
+    public void setOnOperation(java.util.function.Consumer<String> handler) {
+        this.operationHandler = handler;
+    }
+
     public double getSpeed() {
         return speedSlider.getValue();
     }
@@ -159,6 +226,14 @@ public class ControlPanel extends HBox {
         stepByStepCheckBox.setSelected(enabled);
     }
 
+    public boolean isSearchIndexEnabled() {
+        return searchIndexCheckBox.isSelected();
+    }
+
+    public void setSearchIndexEnabled(boolean enabled) {
+        searchIndexCheckBox.setSelected(enabled);
+    }
+
     public String getSelectedDataStructure() {
         return dataStructureSelector.getValue();
     }
@@ -0,0 +1,94 @@
+package dsvisualizer.view;
+
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import dsvisualizer.algorithm.FootprintAnalysis;
+import dsvisualizer.model.MemoryLayout;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Window content for the memory footprint analyzer: the live structure's engines, and every
+ * structure's current and alternative engines side by side at reference sizes.
+ */
+public class FootprintView extends BorderPane {
+    private Button refreshButton;
+    private Label statusLabel;
+    private Label currentLabel;
+    private Label comparisonLabel;
+
+    public FootprintView() {
+        this.setPadding(new Insets(10));
+        this.setStyle("-fx-background-color: #FAFAFA;");
+
+        refreshButton = new Button("Refresh");
+        refreshButton.setStyle("-fx-font-size: 11;");
+        statusLabel = new Label(String.format(Locale.ROOT, "Layout: %d-byte headers, %d-byte references",
+            MemoryLayout.HEADER_BYTES, MemoryLayout.REFERENCE_BYTES));
+        statusLabel.setStyle("-fx-font-size: 11; -fx-text-fill: #555555;");
+        HBox controls = new HBox(10, refreshButton, statusLabel);
+        controls.setPadding(new Insets(0, 0, 10, 0));
+
+        currentLabel = new Label("");
+        currentLabel.setStyle("-fx-font-size: 11; -fx-font-family: 'Courier New';");
+        comparisonLabel = new Label("Measuring reference sizes...");
+        comparisonLabel.setStyle("-fx-font-size: 11; -fx-font-family: 'Courier New';");
+        ScrollPane scrollPane = new ScrollPane(new VBox(15, currentLabel, comparisonLabel));
+        scrollPane.setFitToWidth(true);
+        scrollPane.setStyle("-fx-control-inner-background: #FAFAFA; -fx-border-color: transparent;");
+
+        this.setTop(controls);
+        this.setCenter(scrollPane);
+    }
+
+    public Button getRefreshButton() {
+        return refreshButton;
+    }
+
+    public void setStatus(String message) {
+        statusLabel.setText(message);
+    }
+
+    /**
+     * Show the engines of the structure currently on screen.
+     */
+    public void showCurrent(String structure, FootprintAnalysis analysis) {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT, "%s with %d elements%n%-34s %12s %12s",
+            structure, analysis.getElements(), "Engine", "Retained", "B/element"));
+        for (FootprintAnalysis.Engine engine : analysis.getEngines()) {
+            text.append(String.format(Locale.ROOT, "%n%-34s %12s %12.1f", engine.getName() + (engine.isCurrent() ? " *" : ""),
+                MemoryLayout.formatBytes(engine.getBytes()), analysis.bytesPerElement(engine)));
+        }
+        currentLabel.setText(text.toString());
+    }
+
+    /**
+     * Show bytes per element for every structure at each reference size (same order as sizes).
+     */
+    public void showComparison(List<String> structures, int[] sizes, List<FootprintAnalysis[]> analyses) {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT, "%-12s %-34s", "Structure", "Engine"));
+        for (int size : sizes) {
+            text.append(String.format(Locale.ROOT, " %14s", "B/el n=" + size));
+        }
+        for (int s = 0; s < structures.size(); s++) {
+            FootprintAnalysis[] bySize = analyses.get(s);
+            List<FootprintAnalysis.Engine> engines = bySize[0].getEngines();
+            for (int e = 0; e < engines.size(); e++) {
+                FootprintAnalysis.Engine engine = engines.get(e);
+                text.append(String.format(Locale.ROOT, "%n%-12s %-34s", e == 0 ? structures.get(s) : "",
+                    engine.getName() + (engine.isCurrent() ? " *" : "")));
+                for (FootprintAnalysis analysis : bySize) {
+                    text.append(String.format(Locale.ROOT, " %14.1f", analysis.bytesPerElement(analysis.getEngines().get(e))));
+                }
+            }
+        }
+        text.append(String.format("%n%n* engine in use; estimates validated against JOL (see README)"));
+        comparisonLabel.setText(text.toString());
+    }
+}
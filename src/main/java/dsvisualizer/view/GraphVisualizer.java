@@ -9,6 +9,9 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.RenderEvent;
+import dsvisualizer.model.CompactGraph;
 import dsvisualizer.model.Graph;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.LayoutUtil;
@@ -23,27 +26,41 @@ public class GraphVisualizer {
     private Graph graph;
     private Group nodeGroup;
     private Group edgeGroup;
+    private Group labelGroup;
     private Map<Integer, double[]> vertexPositions; // Stores x, y for each vertex
+    private Map<Integer, Circle> vertexCircles;
+    private Map<Long, Line> edgeLines;
+    private Map<Integer, Text> vertexLabels;
 
     public GraphVisualizer(Pane canvas, Graph graph) {
         this.canvas = canvas;
         this.graph = graph;
         this.edgeGroup = new Group();
         this.nodeGroup = new Group();
+        this.labelGroup = new Group();
         this.vertexPositions = new HashMap<>();
-        canvas.getChildren().addAll(edgeGroup, nodeGroup);
+        this.vertexCircles = new HashMap<>();
+        this.edgeLines = new HashMap<>();
+        this.vertexLabels = new HashMap<>();
+        canvas.getChildren().addAll(edgeGroup, nodeGroup, labelGroup);
     }
 
     /**
      * Render the graph visualization.
      */
     public void render() {
+        RenderEvent renderEvent = OperationMetrics.beginRender();
         LayoutUtil.clearGroup(edgeGroup);
         LayoutUtil.clearGroup(nodeGroup);
+        LayoutUtil.clearGroup(labelGroup);
         vertexPositions.clear();
+        vertexCircles.clear();
+        edgeLines.clear();
+        vertexLabels.clear();
 
         Set<Integer> vertices = graph.getVertices();
         if (vertices.isEmpty()) {
+            OperationMetrics.endRender(renderEvent, this, canvas);
             return;
         }
 
@@ -63,12 +80,17 @@ public class GraphVisualizer {
         }
 
         // Draw edges first
+        boolean weighted = graph.isWeighted();
         for (Integer from : vertices) {
             for (Integer to : graph.getNeighbors(from)) {
                 if (vertexPositions.containsKey(to)) {
                     double[] fromPos = vertexPositions.get(from);
                     double[] toPos = vertexPositions.get(to);
-                    drawEdge(fromPos[0], fromPos[1], toPos[0], toPos[1], !graph.isDirected());
+                    Line edge = drawEdge(fromPos[0], fromPos[1], toPos[0], toPos[1], !graph.isDirected());
+                    edgeLines.put(edgeKey(from, to), edge);
+                    if (weighted && (graph.isDirected() || from <= to)) {
+                        drawWeight(fromPos, toPos, graph.getEdgeWeight(from, to));
+                    }
                 }
             }
         }
@@ -78,6 +100,7 @@ public class GraphVisualizer {
             double[] pos = vertexPositions.get(vertex);
             drawVertex(pos[0], pos[1], vertex);
         }
+        OperationMetrics.endRender(renderEvent, this, canvas);
     }
 
     /**
@@ -89,6 +112,7 @@ public class GraphVisualizer {
         circle.setStroke(Constants.COLOR_EDGE);
         circle.setStrokeWidth(2.0);
         nodeGroup.getChildren().add(circle);
+        vertexCircles.put(value, circle);
 
         Text valueText = new Text(String.valueOf(value));
         valueText.setFont(Font.font("System", FontWeight.BOLD, Constants.FONT_SIZE_VALUE));
@@ -104,7 +128,7 @@ public class GraphVisualizer {
     /**
      * Draw an edge between two vertices.
      */
-    private void drawEdge(double fromX, double fromY, double toX, double toY, boolean skipReverse) {
+    private Line drawEdge(double fromX, double fromY, double toX, double toY, boolean skipReverse) {
         // Calculate angle for offset from circle center
         double dx = toX - fromX;
         double dy = toY - fromY;
@@ -142,16 +166,129 @@ public class GraphVisualizer {
 
             edgeGroup.getChildren().addAll(arrowHead1, arrowHead2);
         }
+        return edge;
+    }
+
+    /**
+     * Draw an edge weight near the middle of the edge.
+     */
+    private void drawWeight(double[] fromPos, double[] toPos, double weight) {
+        Text weightText = new Text(formatNumber(weight));
+        weightText.setFont(Font.font("System", FontWeight.NORMAL, Constants.FONT_SIZE_LABEL));
+        weightText.setFill(Constants.COLOR_TEXT_DARK);
+        double midX = (fromPos[0] + toPos[0]) / 2;
+        double midY = (fromPos[1] + toPos[1]) / 2;
+        weightText.setX(midX - weightText.getBoundsInLocal().getWidth() / 2);
+        weightText.setY(midY - 4);
+        labelGroup.getChildren().add(weightText);
+    }
+
+    /**
+     * Show a small label above a vertex (e.g. its tentative distance); null removes it.
+     */
+    public void setVertexLabel(int vertex, String text) {
+        Text label = vertexLabels.remove(vertex);
+        if (label != null) {
+            labelGroup.getChildren().remove(label);
+        }
+        double[] pos = vertexPositions.get(vertex);
+        if (text == null || pos == null) {
+            return;
+        }
+        label = new Text(text);
+        label.setFont(Font.font("System", FontWeight.BOLD, Constants.FONT_SIZE_LABEL));
+        label.setFill(Constants.COLOR_ERROR);
+        label.setX(pos[0] - label.getBoundsInLocal().getWidth() / 2);
+        label.setY(pos[1] - Constants.GRAPH_VERTEX_RADIUS - 6);
+        labelGroup.getChildren().add(label);
+        vertexLabels.put(vertex, label);
+    }
+
+    /**
+     * Highlight the line drawn for an edge (either direction for undirected graphs).
+     */
+    public void highlightEdge(int from, int to, Color color) {
+        Line edge = edgeLines.get(edgeKey(from, to));
+        if (edge == null && !graph.isDirected()) {
+            edge = edgeLines.get(edgeKey(to, from));
+        }
+        if (edge != null) {
+            edge.setStroke(color);
+            edge.setStrokeWidth(4.0);
+        }
+    }
+
+    private static long edgeKey(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Format a weight or distance without a trailing ".0".
+     */
+    public static String formatNumber(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return String.format("%.2f", value);
+    }
+
+    /**
+     * Color each vertex by its component; edges inside a component take its color,
+     * edges between components are grayed out.
+     */
+    public void colorComponents(CompactGraph compact, int[] componentOf) {
+        if (vertexCircles.isEmpty()) {
+            return;
+        }
+        for (int v = 0; v < compact.getVertexCount(); v++) {
+            Color color = componentColor(componentOf[v]);
+            highlightVertex(compact.getVertexId(v), color);
+            for (int e = compact.firstEdge(v); e < compact.endEdge(v); e++) {
+                int w = compact.target(e);
+                highlightEdge(compact.getVertexId(v), compact.getVertexId(w),
+                    componentOf[w] == componentOf[v] ? color : Constants.COLOR_NEUTRAL);
+            }
+        }
+    }
+
+    /**
+     * Scale each vertex so its area grows with its score relative to the highest score.
+     */
+    public void scaleVerticesByScore(CompactGraph compact, double[] scores) {
+        if (vertexCircles.isEmpty()) {
+            return;
+        }
+        double max = 0;
+        for (double score : scores) {
+            max = Math.max(max, score);
+        }
+        if (max <= 0) {
+            return;
+        }
+        for (int v = 0; v < compact.getVertexCount(); v++) {
+            Circle circle = vertexCircles.get(compact.getVertexId(v));
+            if (circle != null) {
+                double scale = Constants.GRAPH_VERTEX_MIN_SCALE
+                    + (Constants.GRAPH_VERTEX_MAX_SCALE - Constants.GRAPH_VERTEX_MIN_SCALE) * Math.sqrt(scores[v] / max);
+                circle.setRadius(Constants.GRAPH_VERTEX_RADIUS * scale);
+            }
+        }
+    }
+
+    /**
+     * Distinct color for a component number (hues spaced by the golden angle).
+     */
+    public static Color componentColor(int component) {
+        return Color.hsb((component * 137.508) % 360, 0.65, 0.85);
     }
 
     /**
      * Highlight a vertex.
      */
     public void highlightVertex(int value, Color color) {
-        for (javafx.scene.Node node : nodeGroup.getChildren()) {
-            if (node instanceof Circle) {
-                ((Circle) node).setFill(color);
-            }
+        Circle circle = vertexCircles.get(value);
+        if (circle != null) {
+            circle.setFill(color);
         }
     }
 
@@ -0,0 +1,158 @@
+package dsvisualizer.view;
+
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.RenderEvent;
+import dsvisualizer.model.IntHashTable;
+import dsvisualizer.util.Constants;
+import dsvisualizer.util.LayoutUtil;
+
+/**
+ * Visual representation of an open-addressing hash table; buckets are colored by probe length.
+ */
+public class HashTableVisualizer {
+    private static final Color[] PROBE_COLORS = {
+        Constants.COLOR_SUCCESS, Constants.COLOR_PRIMARY, Constants.COLOR_WARNING,
+        Constants.COLOR_SECONDARY, Constants.COLOR_ERROR
+    };
+
+    private Pane canvas;
+    private IntHashTable table;
+    private Group bucketGroup;
+    private Group oldBucketGroup;
+    private Group labelGroup;
+
+    public HashTableVisualizer(Pane canvas, IntHashTable table) {
+        this.canvas = canvas;
+        this.table = table;
+        this.bucketGroup = new Group();
+        this.oldBucketGroup = new Group();
+        this.labelGroup = new Group();
+        canvas.getChildren().addAll(bucketGroup, oldBucketGroup, labelGroup);
+    }
+
+    /**
+     * Render the hash table visualization.
+     */
+    public void render() {
+        RenderEvent renderEvent = OperationMetrics.beginRender();
+        LayoutUtil.clearGroup(bucketGroup);
+        LayoutUtil.clearGroup(oldBucketGroup);
+        LayoutUtil.clearGroup(labelGroup);
+
+        int startX = 50;
+        int startY = 60;
+        drawLegend(startX, startY - 25);
+        double endY = drawTable(bucketGroup, false, table.getCapacity(), startX, startY);
+
+        if (table.isResizing()) {
+            double oldY = endY + 50;
+            drawLabel("Old table (" + table.getMigratedSlots() + " / " + table.getOldCapacity() + " slots migrated)",
+                startX, oldY - 10, FontWeight.BOLD);
+            drawTable(oldBucketGroup, true, table.getOldCapacity(), startX, oldY);
+        }
+        OperationMetrics.endRender(renderEvent, this, canvas);
+    }
+
+    /**
+     * Draw one slot array as a grid (returns the y just below it).
+     */
+    private double drawTable(Group group, boolean old, int capacity, double startX, double startY) {
+        int visible = Math.min(capacity, Constants.HASH_MAX_RENDERED_BUCKETS);
+        int pitch = Constants.HASH_BUCKET_SIZE + 4;
+        for (int slot = 0; slot < visible; slot++) {
+            double x = startX + (slot % Constants.HASH_BUCKETS_PER_ROW) * pitch;
+            double y = startY + (slot / Constants.HASH_BUCKETS_PER_ROW) * (pitch + 14);
+            drawBucket(group, x, y, slot, old);
+        }
+        int rows = (visible + Constants.HASH_BUCKETS_PER_ROW - 1) / Constants.HASH_BUCKETS_PER_ROW;
+        double endY = startY + rows * (pitch + 14);
+        if (visible < capacity) {
+            drawLabel("... " + (capacity - visible) + " more buckets", startX, endY + 5, FontWeight.NORMAL);
+            endY += 20;
+        }
+        return endY;
+    }
+
+    /**
+     * Draw a single bucket with its key and slot number.
+     */
+    private void drawBucket(Group group, double x, double y, int slot, boolean old) {
+        int probeLength = table.getProbeLengthAt(old, slot);
+        Rectangle bucket = new Rectangle(x, y, Constants.HASH_BUCKET_SIZE, Constants.HASH_BUCKET_SIZE);
+        bucket.setFill(getProbeColor(probeLength));
+        bucket.setStroke(Constants.COLOR_EDGE);
+        bucket.setStrokeWidth(1.5);
+        group.getChildren().add(bucket);
+
+        Text keyText = new Text(probeLength == 0 ? "" : String.valueOf(table.getKeyAt(old, slot)));
+        keyText.setFont(Font.font("System", FontWeight.BOLD, Constants.FONT_SIZE_LABEL));
+        keyText.setFill(probeLength == 0 ? Constants.COLOR_TEXT_DARK : Constants.COLOR_TEXT_LIGHT);
+        keyText.setX(x + (Constants.HASH_BUCKET_SIZE - keyText.getBoundsInLocal().getWidth()) / 2);
+        keyText.setY(y + Constants.HASH_BUCKET_SIZE / 2.0 + 4);
+        group.getChildren().add(keyText);
+
+        Text slotText = new Text(String.valueOf(slot));
+        slotText.setFont(Font.font("System", FontWeight.NORMAL, 10));
+        slotText.setFill(Constants.COLOR_TEXT_DARK);
+        slotText.setX(x + (Constants.HASH_BUCKET_SIZE - slotText.getBoundsInLocal().getWidth()) / 2);
+        slotText.setY(y + Constants.HASH_BUCKET_SIZE + 11);
+        labelGroup.getChildren().add(slotText);
+    }
+
+    private void drawLegend(double x, double y) {
+        drawLabel("Probe length:", x, y, FontWeight.BOLD);
+        for (int i = 0; i < PROBE_COLORS.length; i++) {
+            double itemX = x + 100 + i * 60;
+            Rectangle swatch = new Rectangle(itemX, y - 11, 14, 14);
+            swatch.setFill(PROBE_COLORS[i]);
+            labelGroup.getChildren().add(swatch);
+            drawLabel(i == PROBE_COLORS.length - 1 ? (i + 1) + "+" : String.valueOf(i + 1), itemX + 18, y, FontWeight.NORMAL);
+        }
+    }
+
+    private void drawLabel(String text, double x, double y, FontWeight weight) {
+        Text label = new Text(text);
+        label.setFont(Font.font("System", weight, Constants.FONT_SIZE_LABEL));
+        label.setFill(Constants.COLOR_TEXT_DARK);
+        label.setX(x);
+        label.setY(y);
+        labelGroup.getChildren().add(label);
+    }
+
+    /**
+     * Get bucket color for a probe length (0 = empty).
+     */
+    public static Color getProbeColor(int probeLength) {
+        if (probeLength == 0) {
+            return Constants.COLOR_NEUTRAL;
+        }
+        return PROBE_COLORS[Math.min(probeLength, PROBE_COLORS.length) - 1];
+    }
+
+    /**
+     * Outline a bucket of the current (or old) table.
+     */
+    public void highlightBucket(int slot, boolean old, Color color) {
+        Group group = old ? oldBucketGroup : bucketGroup;
+        if (slot < 0 || slot * 2 >= group.getChildren().size()) {
+            return;
+        }
+        Rectangle bucket = (Rectangle) group.getChildren().get(slot * 2);
+        bucket.setStroke(color);
+        bucket.setStrokeWidth(4.0);
+    }
+
+    /**
+     * Get bucket group for animation.
+     */
+    public Group getBucketGroup() {
+        return bucketGroup;
+    }
+}
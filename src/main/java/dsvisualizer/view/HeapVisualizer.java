@@ -0,0 +1,187 @@
+package dsvisualizer.view;
+
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.RenderEvent;
+import dsvisualizer.model.DaryHeap;
+import dsvisualizer.util.Constants;
+import dsvisualizer.util.LayoutUtil;
+
+/**
+ * Visual representation of a d-ary heap, drawn as a tree above its backing array.
+ */
+public class HeapVisualizer {
+    private Pane canvas;
+    private DaryHeap heap;
+    private Group edgeGroup;
+    private Group nodeGroup;
+    private Group arrayGroup;
+
+    public HeapVisualizer(Pane canvas, DaryHeap heap) {
+        this.canvas = canvas;
+        this.heap = heap;
+        this.edgeGroup = new Group();
+        this.nodeGroup = new Group();
+        this.arrayGroup = new Group();
+        canvas.getChildren().addAll(edgeGroup, nodeGroup, arrayGroup);
+    }
+
+    /**
+     * Render the heap visualization.
+     */
+    public void render() {
+        RenderEvent renderEvent = OperationMetrics.beginRender();
+        LayoutUtil.clearGroup(edgeGroup);
+        LayoutUtil.clearGroup(nodeGroup);
+        LayoutUtil.clearGroup(arrayGroup);
+
+        int size = heap.getSize();
+        int treeNodes = Math.min(size, Constants.HEAP_MAX_TREE_NODES);
+        int arity = heap.getArity();
+        double left = 50;
+        double width = Math.max(800, Math.pow(arity, levelOf(treeNodes - 1, arity)) * Constants.TREE_NODE_RADIUS * 2.5);
+        int startY = 50;
+
+        // Nodes are drawn in index order so node i is children (2i, 2i+1) of nodeGroup
+        double[] xs = new double[treeNodes];
+        double[] ys = new double[treeNodes];
+        long levelStart = 0;
+        long levelCapacity = 1;
+        for (int level = 0; levelStart < treeNodes; level++) {
+            for (int k = 0; k < levelCapacity && levelStart + k < treeNodes; k++) {
+                int index = (int) (levelStart + k);
+                xs[index] = left + (k + 0.5) * width / levelCapacity;
+                ys[index] = startY + level * Constants.TREE_LEVEL_HEIGHT;
+                if (index > 0) {
+                    int parent = heap.parentOf(index);
+                    drawEdge(xs[parent], ys[parent], xs[index], ys[index]);
+                }
+                drawNode(xs[index], ys[index], heap.getElementAt(index), index == 0);
+            }
+            levelStart += levelCapacity;
+            levelCapacity *= arity;
+        }
+
+        int arrayY = startY + (treeNodes == 0 ? 0 : levelOf(treeNodes - 1, arity) + 1) * Constants.TREE_LEVEL_HEIGHT + 20;
+        int visible = Math.min(size, Constants.ARRAY_MAX_RENDERED_CELLS);
+        for (int i = 0; i < visible; i++) {
+            drawCell(left + i * (Constants.ARRAY_CELL_WIDTH + Constants.ARRAY_CELL_SPACING), arrayY, i, heap.getElementAt(i));
+        }
+        if (visible < size) {
+            Text moreText = new Text("... " + (size - visible) + " more");
+            moreText.setFont(Font.font("System", FontWeight.NORMAL, Constants.FONT_SIZE_LABEL));
+            moreText.setFill(Constants.COLOR_TEXT_DARK);
+            moreText.setX(left + visible * (Constants.ARRAY_CELL_WIDTH + Constants.ARRAY_CELL_SPACING));
+            moreText.setY(arrayY + Constants.ARRAY_CELL_HEIGHT / 2.0);
+            edgeGroup.getChildren().add(moreText);
+        }
+        OperationMetrics.endRender(renderEvent, this, canvas);
+    }
+
+    /**
+     * Depth of an index in a tree with the given arity.
+     */
+    private static int levelOf(int index, int arity) {
+        int level = 0;
+        long levelEnd = 1;
+        long levelCapacity = 1;
+        while (index >= levelEnd) {
+            levelCapacity *= arity;
+            levelEnd += levelCapacity;
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Draw a tree node circle with value.
+     */
+    private void drawNode(double x, double y, int value, boolean isTop) {
+        Circle circle = new Circle(x, y, Constants.TREE_NODE_RADIUS);
+        circle.setFill(isTop ? Constants.COLOR_SUCCESS : Constants.COLOR_PRIMARY);
+        circle.setStroke(Constants.COLOR_EDGE);
+        circle.setStrokeWidth(2.0);
+        nodeGroup.getChildren().add(circle);
+
+        Text valueText = new Text(String.valueOf(value));
+        valueText.setFont(Font.font("System", FontWeight.BOLD, Constants.FONT_SIZE_VALUE));
+        valueText.setFill(Constants.COLOR_TEXT_LIGHT);
+        valueText.setTextAlignment(TextAlignment.CENTER);
+        valueText.setX(x - valueText.getBoundsInLocal().getWidth() / 2);
+        valueText.setY(y + 5);
+        nodeGroup.getChildren().add(valueText);
+    }
+
+    /**
+     * Draw an edge from a parent to a child.
+     */
+    private void drawEdge(double fromX, double fromY, double toX, double toY) {
+        Line edge = new Line(fromX, fromY + Constants.TREE_NODE_RADIUS, toX, toY - Constants.TREE_NODE_RADIUS);
+        edge.setStrokeWidth(Constants.LINK_STROKE_WIDTH);
+        edge.setStroke(Constants.COLOR_EDGE);
+        edgeGroup.getChildren().add(edge);
+    }
+
+    /**
+     * Draw a backing array cell with its index below.
+     */
+    private void drawCell(double x, double y, int index, int value) {
+        Rectangle cell = new Rectangle(x, y, Constants.ARRAY_CELL_WIDTH, Constants.ARRAY_CELL_HEIGHT);
+        cell.setFill(Constants.COLOR_PRIMARY);
+        cell.setStroke(Constants.COLOR_EDGE);
+        cell.setStrokeWidth(Constants.ARRAY_STROKE_WIDTH);
+        arrayGroup.getChildren().add(cell);
+
+        Text valueText = new Text(String.valueOf(value));
+        valueText.setFont(Font.font("System", FontWeight.BOLD, Constants.FONT_SIZE_VALUE));
+        valueText.setFill(Constants.COLOR_TEXT_LIGHT);
+        valueText.setX(x + (Constants.ARRAY_CELL_WIDTH - valueText.getBoundsInLocal().getWidth()) / 2);
+        valueText.setY(y + Constants.ARRAY_CELL_HEIGHT / 2.0 + 5);
+        arrayGroup.getChildren().add(valueText);
+
+        Text indexText = new Text(String.valueOf(index));
+        indexText.setFont(Font.font("System", FontWeight.NORMAL, Constants.FONT_SIZE_LABEL));
+        indexText.setFill(Constants.COLOR_TEXT_DARK);
+        indexText.setX(x + (Constants.ARRAY_CELL_WIDTH - indexText.getBoundsInLocal().getWidth()) / 2);
+        indexText.setY(y + Constants.ARRAY_CELL_HEIGHT + 18);
+        edgeGroup.getChildren().add(indexText);
+    }
+
+    /**
+     * Highlight an element in both the tree and the array.
+     */
+    public void highlightIndex(int index, Color color) {
+        if (index < 0) {
+            return;
+        }
+        if (index * 2 < nodeGroup.getChildren().size()) {
+            ((Circle) nodeGroup.getChildren().get(index * 2)).setFill(color);
+        }
+        if (index * 2 < arrayGroup.getChildren().size()) {
+            ((Rectangle) arrayGroup.getChildren().get(index * 2)).setFill(color);
+        }
+    }
+
+    /**
+     * Get node group for animation.
+     */
+    public Group getNodeGroup() {
+        return nodeGroup;
+    }
+
+    /**
+     * Get array group for animation.
+     */
+    public Group getArrayGroup() {
+        return arrayGroup;
+    }
+}
@@ -9,6 +9,8 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.RenderEvent;
 import dsvisualizer.model.LinkedList;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.LayoutUtil;
@@ -34,6 +36,7 @@ public class LinkedListVisualizer {
      * Render the linked list visualization.
      */
     public void render() {
+        RenderEvent renderEvent = OperationMetrics.beginRender();
         LayoutUtil.clearGroup(linkGroup);
         LayoutUtil.clearGroup(nodeGroup);
 
@@ -55,6 +58,7 @@ public class LinkedListVisualizer {
             current = current.next;
             index++;
         }
+        OperationMetrics.endRender(renderEvent, this, canvas);
     }
 
     /**
@@ -8,6 +8,8 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.RenderEvent;
 import dsvisualizer.model.Queue;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.LayoutUtil;
@@ -41,6 +43,7 @@ public class QueueVisualizer {
      * Render the queue visualization.
      */
     public void render() {
+        RenderEvent renderEvent = OperationMetrics.beginRender();
         LayoutUtil.clearGroup(elementGroup);
 
         int startX = 100;
@@ -61,6 +64,7 @@ public class QueueVisualizer {
             rearIndicator.setX(startX + lastIndex * (Constants.QUEUE_ELEMENT_WIDTH + 20) - 20);
             rearIndicator.setY(startY + Constants.QUEUE_ELEMENT_HEIGHT + 30);
         }
+        OperationMetrics.endRender(renderEvent, this, canvas);
     }
 
     /**
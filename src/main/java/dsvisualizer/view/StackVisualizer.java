@@ -8,6 +8,8 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.RenderEvent;
 import dsvisualizer.model.Stack;
 import dsvisualizer.util.Constants;
 import dsvisualizer.util.LayoutUtil;
@@ -35,6 +37,7 @@ public class StackVisualizer {
      * Render the stack visualization.
      */
     public void render() {
+        RenderEvent renderEvent = OperationMetrics.beginRender();
         LayoutUtil.clearGroup(elementGroup);
 
         int startX = 200;
@@ -51,6 +54,7 @@ public class StackVisualizer {
             topIndicator.setX(startX - 50);
             topIndicator.setY(startY - (elements.size() - 1) * (Constants.STACK_ELEMENT_HEIGHT + 10) + 20);
         }
+        OperationMetrics.endRender(renderEvent, this, canvas);
     }
 
     /**
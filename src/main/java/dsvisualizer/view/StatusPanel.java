@@ -1,11 +1,22 @@
 package dsvisualizer.view;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.geometry.Insets;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
+import javafx.scene.control.TitledPane;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
+import javafx.util.Duration;
+import dsvisualizer.metrics.LatencyHistogram;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.Phase;
 import dsvisualizer.util.Constants;
 
 /**
@@ -15,6 +26,15 @@ public class StatusPanel extends VBox {
     private Label operationLabel;
     private Label pseudocodeLabel;
     private Label explanationLabel;
+    private Label metricsLabel;
+    private Label costLabel;
+    private Label footprintLabel;
+    private Label latencyLabel;
+    private Button exportMetricsButton;
+    private ToggleButton recordingButton;
+    private Button dumpRecordingButton;
+    private TitledPane latencyPane;
+    private Timeline latencyRefresh;
     private ScrollPane scrollPane;
 
     public StatusPanel() {
@@ -40,9 +60,58 @@ public class StatusPanel extends VBox {
         explanationLabel.setStyle("-fx-text-fill: #212121;");
         explanationLabel.setWrapText(true);
 
+        // Metrics Label (structure statistics, hidden when empty)
+        metricsLabel = new Label("");
+        metricsLabel.setFont(Font.font("System", Constants.FONT_SIZE_LABEL));
+        metricsLabel.setStyle("-fx-text-fill: #555555;");
+        metricsLabel.setWrapText(true);
+
+        // Cost Label (counted model work of the last operation, hidden when empty)
+        costLabel = new Label("");
+        costLabel.setFont(Font.font("System", Constants.FONT_SIZE_LABEL));
+        costLabel.setStyle("-fx-text-fill: #555555;");
+        costLabel.setWrapText(true);
+
+        // Footprint Label (estimated retained bytes of the structure, hidden when empty)
+        footprintLabel = new Label("");
+        footprintLabel.setFont(Font.font("System", Constants.FONT_SIZE_LABEL));
+        footprintLabel.setStyle("-fx-text-fill: #555555;");
+        footprintLabel.setWrapText(true);
+
+        // Latency view (per-operation percentiles, refreshed while expanded)
+        latencyLabel = new Label("No operations measured yet");
+        latencyLabel.setStyle("-fx-text-fill: #212121; -fx-font-family: 'Courier New'; -fx-font-size: 11;");
+        exportMetricsButton = new Button("Export...");
+        exportMetricsButton.setStyle("-fx-font-size: 11;");
+        Button resetMetricsButton = new Button("Reset");
+        resetMetricsButton.setStyle("-fx-font-size: 11;");
+        resetMetricsButton.setOnAction(e -> {
+            OperationMetrics.reset();
+            refreshLatencies();
+        });
+        recordingButton = new ToggleButton("Record JFR");
+        recordingButton.setStyle("-fx-font-size: 11;");
+        dumpRecordingButton = new Button("Dump JFR...");
+        dumpRecordingButton.setStyle("-fx-font-size: 11;");
+        dumpRecordingButton.disableProperty().bind(recordingButton.selectedProperty().not());
+        HBox latencyActions = new HBox(5, exportMetricsButton, resetMetricsButton, recordingButton, dumpRecordingButton);
+        latencyPane = new TitledPane("Performance", new VBox(5, latencyActions, latencyLabel));
+        latencyPane.setExpanded(false);
+        latencyPane.setStyle("-fx-font-size: 11;");
+        latencyRefresh = new Timeline(new KeyFrame(Duration.millis(Constants.METRICS_REFRESH_MS), e -> refreshLatencies()));
+        latencyRefresh.setCycleCount(Animation.INDEFINITE);
+        latencyPane.expandedProperty().addListener((obs, wasExpanded, expanded) -> {
+            if (expanded) {
+                refreshLatencies();
+                latencyRefresh.play();
+            } else {
+                latencyRefresh.stop();
+            }
+        });
+
         // ScrollPane for content
         scrollPane = new ScrollPane();
-        scrollPane.setContent(new VBox(5, pseudocodeLabel, explanationLabel));
+        scrollPane.setContent(new VBox(5, pseudocodeLabel, explanationLabel, metricsLabel, costLabel, footprintLabel, latencyPane));
         scrollPane.setFitToWidth(true);
         scrollPane.setStyle("-fx-control-inner-background: #FAFAFA; -fx-border-color: transparent;");
 
@@ -73,6 +142,69 @@ public class StatusPanel extends VBox {
         explanationLabel.setText(explanation);
     }
 
+    public void setMetrics(String metrics) {
+        metricsLabel.setText(metrics);
+    }
+
+    /**
+     * Show the counted cost of the last operation (empty to hide).
+     */
+    public void setCost(String cost) {
+        costLabel.setText(cost);
+    }
+
+    /**
+     * Show the structure's estimated memory footprint (empty to hide).
+     */
+    public void setFootprint(String footprint) {
+        footprintLabel.setText(footprint);
+    }
+
+    /**
+     * Button in the performance view that exports the latency histograms.
+     */
+    public Button getExportMetricsButton() {
+        return exportMetricsButton;
+    }
+
+    /**
+     * Toggle that starts and stops the built-in flight recording.
+     */
+    public ToggleButton getRecordingButton() {
+        return recordingButton;
+    }
+
+    /**
+     * Button that dumps the running flight recording to a file.
+     */
+    public Button getDumpRecordingButton() {
+        return dumpRecordingButton;
+    }
+
+    /**
+     * Redraw the latency table: p50 / p99 / max and rate per operation and phase.
+     */
+    public void refreshLatencies() {
+        StringBuilder text = new StringBuilder(String.format("%-12s %-22s %-10s %7s %10s %10s %10s %9s",
+            "Structure", "Operation", "Phase", "Count", "p50", "p99", "Max", "Ops/s"));
+        for (OperationMetrics.Entry entry : OperationMetrics.entries()) {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = entry.getHistogram(phase);
+                long count = histogram.getCount();
+                if (count == 0) {
+                    continue;
+                }
+                text.append(String.format("%n%-12s %-22s %-10s %7d %10s %10s %10s %9.2f",
+                    entry.getStructure(), entry.getOperation(), phase.getDisplayName(), count,
+                    OperationMetrics.formatNanos(histogram.getPercentile(50)),
+                    OperationMetrics.formatNanos(histogram.getPercentile(99)),
+                    OperationMetrics.formatNanos(histogram.getMax()),
+                    histogram.getThroughput()));
+            }
+        }
+        latencyLabel.setText(OperationMetrics.entries().isEmpty() ? "No operations measured yet" : text.toString());
+    }
+
     public void clearStatus() {
         operationLabel.setText("Ready");
         pseudocodeLabel.setText("Pseudocode: ");
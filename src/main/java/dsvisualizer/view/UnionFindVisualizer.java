@@ -0,0 +1,180 @@
+package dsvisualizer.view;
+
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import dsvisualizer.metrics.OperationMetrics;
+import dsvisualizer.metrics.RenderEvent;
+import dsvisualizer.model.UnionFind;
+import dsvisualizer.util.Constants;
+import dsvisualizer.util.LayoutUtil;
+
+import java.util.Arrays;
+
+/**
+ * Visual representation of a disjoint-set forest; each tree is drawn with its root on top
+ * and children below, labelled with element rank.
+ */
+public class UnionFindVisualizer {
+    private Pane canvas;
+    private UnionFind forest;
+    private Group edgeGroup;
+    private Group nodeGroup;
+    private Group labelGroup;
+    private Circle[] circles;
+
+    public UnionFindVisualizer(Pane canvas, UnionFind forest) {
+        this.canvas = canvas;
+        this.forest = forest;
+        this.edgeGroup = new Group();
+        this.nodeGroup = new Group();
+        this.labelGroup = new Group();
+        this.circles = new Circle[0];
+        canvas.getChildren().addAll(edgeGroup, nodeGroup, labelGroup);
+    }
+
+    /**
+     * Show a different forest (e.g. after a graph rebuilt its components).
+     */
+    public void setForest(UnionFind forest) {
+        this.forest = forest;
+    }
+
+    /**
+     * Render the forest visualization.
+     */
+    public void render() {
+        RenderEvent renderEvent = OperationMetrics.beginRender();
+        LayoutUtil.clearGroup(edgeGroup);
+        LayoutUtil.clearGroup(nodeGroup);
+        LayoutUtil.clearGroup(labelGroup);
+
+        int size = forest.getSize();
+        int visible = Math.min(size, Constants.UNION_FIND_MAX_RENDERED);
+        circles = new Circle[visible];
+
+        // Child lists over the visible elements; a parent outside the visible range acts as a root
+        int[] firstChild = new int[visible];
+        int[] nextSibling = new int[visible];
+        Arrays.fill(firstChild, -1);
+        for (int e = visible - 1; e >= 0; e--) {
+            int parent = forest.getParent(e);
+            if (parent != e && parent < visible) {
+                nextSibling[e] = firstChild[parent];
+                firstChild[parent] = e;
+            }
+        }
+
+        // Post-order layout: leaves take consecutive slots, parents center over their children
+        double[] xs = new double[visible];
+        int[] depth = new int[visible];
+        int[] stack = new int[visible];
+        int[] cursor = new int[visible];
+        int slot = 0;
+        double left = 50;
+        int startY = 60;
+        for (int root = 0; root < visible; root++) {
+            int parent = forest.getParent(root);
+            if (parent != root && parent < visible) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            cursor[root] = firstChild[root];
+            depth[root] = 0;
+            while (top > 0) {
+                int e = stack[top - 1];
+                if (cursor[e] != -1) {
+                    int child = cursor[e];
+                    cursor[e] = nextSibling[child];
+                    depth[child] = depth[e] + 1;
+                    cursor[child] = firstChild[child];
+                    stack[top++] = child;
+                    continue;
+                }
+                top--;
+                if (firstChild[e] == -1) {
+                    xs[e] = left + (slot++ + 0.5) * Constants.UNION_FIND_SLOT_WIDTH;
+                } else {
+                    double first = xs[firstChild[e]];
+                    double last = first;
+                    for (int c = firstChild[e]; c != -1; c = nextSibling[c]) {
+                        last = xs[c];
+                    }
+                    xs[e] = (first + last) / 2;
+                }
+            }
+        }
+
+        for (int e = 0; e < visible; e++) {
+            int parent = forest.getParent(e);
+            double y = startY + depth[e] * Constants.TREE_LEVEL_HEIGHT * 0.8;
+            if (parent != e && parent < visible) {
+                double parentY = startY + depth[parent] * Constants.TREE_LEVEL_HEIGHT * 0.8;
+                Line edge = new Line(xs[e], y - Constants.TREE_NODE_RADIUS, xs[parent], parentY + Constants.TREE_NODE_RADIUS);
+                edge.setStrokeWidth(Constants.LINK_STROKE_WIDTH);
+                edge.setStroke(Constants.COLOR_EDGE);
+                edgeGroup.getChildren().add(edge);
+            }
+            circles[e] = drawNode(xs[e], y, forest.getLabel(e), forest.getRank(e), parent == e);
+        }
+
+        Text summary = new Text(forest.getSetCount() + " set(s), " + size + " element(s)"
+            + (visible < size ? " - showing first " + visible : ""));
+        summary.setFont(Font.font("System", FontWeight.BOLD, Constants.FONT_SIZE_LABEL));
+        summary.setFill(Constants.COLOR_TEXT_DARK);
+        summary.setX(left);
+        summary.setY(startY - Constants.TREE_NODE_RADIUS - 12);
+        labelGroup.getChildren().add(summary);
+        OperationMetrics.endRender(renderEvent, this, canvas);
+    }
+
+    /**
+     * Draw an element circle with its label inside and rank above.
+     */
+    private Circle drawNode(double x, double y, int label, int rank, boolean isRoot) {
+        Circle circle = new Circle(x, y, Constants.TREE_NODE_RADIUS);
+        circle.setFill(isRoot ? Constants.COLOR_SUCCESS : Constants.COLOR_PRIMARY);
+        circle.setStroke(Constants.COLOR_EDGE);
+        circle.setStrokeWidth(2.0);
+        nodeGroup.getChildren().add(circle);
+
+        Text valueText = new Text(String.valueOf(label));
+        valueText.setFont(Font.font("System", FontWeight.BOLD, Constants.FONT_SIZE_VALUE));
+        valueText.setFill(Constants.COLOR_TEXT_LIGHT);
+        valueText.setX(x - valueText.getBoundsInLocal().getWidth() / 2);
+        valueText.setY(y + 5);
+        labelGroup.getChildren().add(valueText);
+
+        if (isRoot) {
+            Text rankText = new Text("r" + rank);
+            rankText.setFont(Font.font("System", FontWeight.NORMAL, Constants.FONT_SIZE_LABEL));
+            rankText.setFill(Constants.COLOR_TEXT_DARK);
+            rankText.setX(x + Constants.TREE_NODE_RADIUS - 4);
+            rankText.setY(y - Constants.TREE_NODE_RADIUS + 4);
+            labelGroup.getChildren().add(rankText);
+        }
+        return circle;
+    }
+
+    /**
+     * Highlight an element by index.
+     */
+    public void highlightElement(int element, Color color) {
+        if (element >= 0 && element < circles.length) {
+            circles[element].setFill(color);
+        }
+    }
+
+    /**
+     * Get node group for animation.
+     */
+    public Group getNodeGroup() {
+        return nodeGroup;
+    }
+}
@@ -0,0 +1,318 @@
+package dsvisualizer.benchmark;
+
+import dsvisualizer.generator.GraphGenerators;
+import dsvisualizer.model.BinarySearchTree;
+import dsvisualizer.model.CompactGraph;
+import dsvisualizer.model.DynamicArray;
+import dsvisualizer.model.Graph;
+import dsvisualizer.util.Constants;
+import dsvisualizer.view.ArrayVisualizer;
+import dsvisualizer.view.BSTVisualizer;
+import dsvisualizer.view.GraphVisualizer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.layout.Pane;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Headless rendering benchmark for the visualizers. Starts the FX toolkit on Monocle's
+ * headless platform with the software Prism pipeline (no display or GPU needed), then
+ * renders seeded structures of growing size and records per visualizer and size:
+ * render() time, CSS + layout pass time, software rasterization time (a snapshot),
+ * scene-graph node count and heap retained by the rendered scene.
+ *
+ * Arguments are key=value: sizes=10,100,1000,10000 visualizers=array,bst,graph
+ * warmup=3 repeats=7 out=target/render-result.json. Times are medians in milliseconds.
+ */
+public class RenderBenchmark {
+    private static final double WIDTH = Constants.VISUALIZATION_AREA_MIN_WIDTH;
+    private static final double HEIGHT = Constants.VISUALIZATION_AREA_MIN_HEIGHT;
+
+    private int[] sizes = {10, 100, 1000, 10000};
+    private List<String> visualizers = Arrays.asList("array", "bst", "graph");
+    private int warmup = 3;
+    private int repeats = 7;
+    private Path out = Paths.get("target", "render-result.json");
+
+    /**
+     * One measured visualizer and size.
+     */
+    private static class Row {
+        String visualizer;
+        int size;
+        double renderMs;
+        double cssLayoutMs;
+        double rasterMs;
+        int nodes;
+        long retainedBytes;
+    }
+
+    /**
+     * The visualizer under test plus the pane it draws into.
+     */
+    private interface Subject {
+        Pane pane();
+
+        void render();
+    }
+
+    public static void main(String[] args) throws Exception {
+        RenderBenchmark benchmark = new RenderBenchmark();
+        benchmark.parse(args);
+        startToolkit();
+        try {
+            benchmark.run();
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private void parse(String[] args) {
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split < 0) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            String key = arg.substring(0, split);
+            String value = arg.substring(split + 1);
+            switch (key) {
+                case "sizes": sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray(); break;
+                case "visualizers": visualizers = Arrays.asList(value.split(",")); break;
+                case "warmup": warmup = Integer.parseInt(value); break;
+                case "repeats": repeats = Integer.parseInt(value); break;
+                case "out": out = Paths.get(value); break;
+                default: throw new IllegalArgumentException("Unknown option: " + key);
+            }
+        }
+    }
+
+    /**
+     * Select Monocle headless and software rendering unless overridden on the command line,
+     * then start the toolkit without a primary stage.
+     */
+    private static void startToolkit() throws InterruptedException {
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+        setDefault("java.awt.headless", "true");
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        Platform.setImplicitExit(false);
+        started.await();
+    }
+
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    private void run() throws Exception {
+        List<Row> rows = new ArrayList<>();
+        System.out.printf("%-8s %8s %10s %10s %10s %8s %12s%n",
+            "view", "size", "render ms", "css+lay ms", "raster ms", "nodes", "retained KB");
+        for (String visualizer : visualizers) {
+            for (int size : sizes) {
+                Row row = measure(visualizer, size);
+                rows.add(row);
+                System.out.printf("%-8s %8d %10.3f %10.3f %10.3f %8d %12d%n", row.visualizer, row.size,
+                    row.renderMs, row.cssLayoutMs, row.rasterMs, row.nodes, row.retainedBytes / 1024);
+            }
+        }
+        write(rows);
+        System.out.println("Results written to " + out.toAbsolutePath());
+    }
+
+    private Row measure(String visualizer, int size) throws Exception {
+        Object model = buildModel(visualizer, size);
+        long baseline = usedHeapAfterGc();
+        Subject subject = onFx(() -> createSubject(visualizer, model));
+
+        double[] render = new double[repeats];
+        double[] cssLayout = new double[repeats];
+        double[] raster = new double[repeats];
+        for (int i = -warmup; i < repeats; i++) {
+            double[] times = onFx(() -> renderOnce(subject));
+            if (i >= 0) {
+                render[i] = times[0];
+                cssLayout[i] = times[1];
+                raster[i] = times[2];
+            }
+        }
+
+        Row row = new Row();
+        row.visualizer = visualizer;
+        row.size = size;
+        row.renderMs = median(render);
+        row.cssLayoutMs = median(cssLayout);
+        row.rasterMs = median(raster);
+        row.nodes = onFx(() -> countNodes(subject.pane()));
+        // The subject (and through it the scene graph) is still reachable here
+        row.retainedBytes = Math.max(0, usedHeapAfterGc() - baseline);
+        onFx(() -> subject.pane().getChildren().clear());
+        return row;
+    }
+
+    /**
+     * One render on the FX thread: {render(), CSS + layout, software raster} in ms.
+     */
+    private static double[] renderOnce(Subject subject) {
+        Pane pane = subject.pane();
+        long start = System.nanoTime();
+        subject.render();
+        long rendered = System.nanoTime();
+        pane.applyCss();
+        pane.layout();
+        long laidOut = System.nanoTime();
+        pane.snapshot(new SnapshotParameters(), null);
+        long rasterized = System.nanoTime();
+        return new double[]{(rendered - start) / 1e6, (laidOut - rendered) / 1e6, (rasterized - laidOut) / 1e6};
+    }
+
+    private static Object buildModel(String visualizer, int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        switch (visualizer) {
+            case "array": {
+                DynamicArray array = new DynamicArray(size);
+                for (int i = 0; i < size; i++) {
+                    array.insert(i, random.nextInt(1000));
+                }
+                return array;
+            }
+            case "bst": {
+                // Random insertion order gives a tree of logarithmic expected depth
+                int[] keys = new int[size];
+                for (int i = 0; i < size; i++) {
+                    keys[i] = i;
+                }
+                for (int i = size - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    int tmp = keys[i];
+                    keys[i] = keys[j];
+                    keys[j] = tmp;
+                }
+                BinarySearchTree tree = new BinarySearchTree();
+                for (int key : keys) {
+                    tree.insert(key);
+                }
+                return tree;
+            }
+            case "graph": {
+                // Average degree 4, so edges grow linearly with vertices
+                CompactGraph compact = GraphGenerators.erdosRenyi(size, Math.min(1.0, 4.0 / Math.max(1, size - 1)), false, 42);
+                Graph graph = new Graph(false);
+                for (int v = 0; v < size; v++) {
+                    graph.addVertex(v);
+                }
+                for (int v = 0; v < size; v++) {
+                    for (int e = compact.firstEdge(v); e < compact.endEdge(v); e++) {
+                        if (v < compact.target(e)) {
+                            graph.addEdge(v, compact.target(e));
+                        }
+                    }
+                }
+                return graph;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown visualizer: " + visualizer + " (array, bst, graph)");
+        }
+    }
+
+    private static Subject createSubject(String visualizer, Object model) {
+        Pane pane = new Pane();
+        pane.setPrefSize(WIDTH, HEIGHT);
+        pane.resize(WIDTH, HEIGHT);
+        new Scene(pane, WIDTH, HEIGHT);
+        Runnable render;
+        switch (visualizer) {
+            case "array": render = new ArrayVisualizer(pane, (DynamicArray) model)::render; break;
+            case "bst": render = new BSTVisualizer(pane, (BinarySearchTree) model)::render; break;
+            default: render = new GraphVisualizer(pane, (Graph) model)::render;
+        }
+        return new Subject() {
+            public Pane pane() {
+                return pane;
+            }
+
+            public void render() {
+                render.run();
+            }
+        };
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static <T> T onFx(Callable<T> action) throws Exception {
+        FutureTask<T> task = new FutureTask<>(action);
+        Platform.runLater(task);
+        return task.get();
+    }
+
+    private static void onFx(Runnable action) throws Exception {
+        FutureTask<Void> task = new FutureTask<>(action, null);
+        Platform.runLater(task);
+        task.get();
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+    }
+
+    /**
+     * Write rows as a JSON array, one object per line so result files diff cleanly.
+     */
+    private void write(List<Row> rows) throws IOException {
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println("[");
+            for (int i = 0; i < rows.size(); i++) {
+                Row row = rows.get(i);
+                writer.printf(Locale.ROOT,
+                    "  {\"visualizer\": \"%s\", \"size\": %d, \"renderMs\": %.4f, \"cssLayoutMs\": %.4f, "
+                        + "\"rasterMs\": %.4f, \"nodes\": %d, \"retainedBytes\": %d}%s%n",
+                    row.visualizer, row.size, row.renderMs, row.cssLayoutMs, row.rasterMs, row.nodes,
+                    row.retainedBytes, i + 1 < rows.size() ? "," : "");
+            }
+            writer.println("]");
+        }
+    }
+}